@@ -0,0 +1,37 @@
+#!/bin/sh
+# ============================================
+# Code Flow Tracer - CLI 실행 (Linux/macOS)
+# ============================================
+# 사용법: analyze.sh -p <프로젝트경로> [옵션]
+#
+# 예시:
+#   scripts/analyze.sh -p ~/projects/my-app
+#   scripts/analyze.sh -p ~/projects/my-app --excel
+#
+# 첫 실행 시 AppCDS 아카이브(code-flow-tracer.jsa)를 만들어
+# 두 번째 실행부터 시작 시간이 줄어듭니다 (gradlew cdsArchive로 미리 생성 가능)
+# ============================================
+
+cd "$(dirname "$0")/.." || exit 1
+
+# 번들 JDK가 있으면 사용, 없으면 시스템 Java 사용
+if [ -x "jdk/bin/java" ]; then
+    JAVA_CMD=jdk/bin/java
+else
+    JAVA_CMD=java
+fi
+
+JAR_FILE=build/libs/code-flow-tracer.jar
+CDS_ARCHIVE=build/libs/code-flow-tracer.jsa
+
+# AppCDS 아카이브: JAR보다 새로우면 사용, 없거나 오래되었으면 이번 실행에서 다시 생성
+# Java를 바꿨으면 .jsa 파일을 지우면 다음 실행에서 다시 만들어짐
+# (맞지 않는 아카이브는 JVM이 무시하고 평소처럼 실행, 경고는 -Xlog로 숨김)
+if [ -f "$CDS_ARCHIVE" ] && [ "$CDS_ARCHIVE" -nt "$JAR_FILE" ]; then
+    CDS_OPTS="-XX:SharedArchiveFile=$CDS_ARCHIVE -Xshare:auto"
+else
+    rm -f "$CDS_ARCHIVE"
+    CDS_OPTS="-XX:ArchiveClassesAtExit=$CDS_ARCHIVE"
+fi
+
+exec "$JAVA_CMD" $CDS_OPTS -Xlog:cds=off -Xlog:cds+dynamic=off -Dfile.encoding=UTF-8 -jar "$JAR_FILE" "$@"
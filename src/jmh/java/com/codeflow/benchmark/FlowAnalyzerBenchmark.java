@@ -0,0 +1,37 @@
+package com.codeflow.benchmark;
+
+import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.analyzer.FlowResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FlowAnalyzer 벤치마크 - 파싱 결과로부터 호출 흐름 추적 및 테이블 인덱스 생성
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowAnalyzerBenchmark {
+
+    @Benchmark
+    public FlowResult analyze(ProjectState state) {
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSqlInfoMap(state.sqlInfoMap);
+        return analyzer.analyze(state.path, state.parsedClasses);
+    }
+
+    @Benchmark
+    public Map<String, FlowAnalyzer.TableImpact> buildTableIndex(ProjectState state) {
+        return new FlowAnalyzer().buildTableIndex(state.flowResult);
+    }
+}
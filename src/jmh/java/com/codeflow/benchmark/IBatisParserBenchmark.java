@@ -0,0 +1,31 @@
+package com.codeflow.benchmark;
+
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.SqlInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IBatisParser 벤치마크 - 프로젝트 전체 매퍼 XML 파싱 (SAX 빌드 + 쿼리 추출 + 테이블 추출)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IBatisParserBenchmark {
+
+    @Benchmark
+    public Map<String, SqlInfo> parseProject(ProjectState state) throws IOException {
+        return new IBatisParser().parseProject(state.path);
+    }
+}
@@ -0,0 +1,31 @@
+package com.codeflow.benchmark;
+
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ParsedClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JavaSourceParser 벤치마크 - 프로젝트 전체 Java 파싱 (탐색 + AST + 메서드 호출 추출)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JavaSourceParserBenchmark {
+
+    @Benchmark
+    public List<ParsedClass> parseProject(ProjectState state) throws IOException {
+        return new JavaSourceParser().parseProject(state.path);
+    }
+}
@@ -0,0 +1,64 @@
+package com.codeflow.benchmark;
+
+import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.analyzer.FlowResult;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.SqlInfo;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 공통 상태: 분석 대상 프로젝트와 미리 계산된 중간 결과
+ *
+ * 각 벤치마크는 측정 대상 단계만 반복하고, 그 이전 단계 결과는 여기서 한 번만 준비합니다.
+ * 분석 대상은 projectPath 파라미터로 바꿀 수 있습니다 (기본: samples).
+ *
+ * 예: gradlew jmh -PjmhArgs="-p projectPath=build/generated/x10"
+ */
+@State(Scope.Benchmark)
+public class ProjectState {
+
+    @Param({"samples"})
+    public String projectPath;
+
+    public Path path;
+    public List<ParsedClass> parsedClasses;
+    public Map<String, SqlInfo> sqlInfoMap;
+    public FlowResult flowResult;
+    public List<String> queries;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        path = Paths.get(projectPath);
+        if (!Files.isDirectory(path)) {
+            throw new IllegalStateException("분석 대상 경로가 없습니다: " + path.toAbsolutePath());
+        }
+
+        parsedClasses = new JavaSourceParser().parseProject(path);
+        sqlInfoMap = new IBatisParser().parseProject(path);
+
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSqlInfoMap(sqlInfoMap);
+        flowResult = analyzer.analyze(path, parsedClasses);
+
+        queries = new ArrayList<>();
+        for (SqlInfo sqlInfo : sqlInfoMap.values()) {
+            if (sqlInfo.getQuery() != null) {
+                queries.add(sqlInfo.getQuery());
+            }
+        }
+    }
+}
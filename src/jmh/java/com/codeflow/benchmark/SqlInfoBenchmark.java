@@ -0,0 +1,36 @@
+package com.codeflow.benchmark;
+
+import com.codeflow.parser.SqlInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SqlInfo 벤치마크 - 쿼리에서 테이블/파라미터 추출 (setQuery)
+ *
+ * 1 op = 프로젝트의 모든 쿼리를 한 번씩 처리
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlInfoBenchmark {
+
+    @Benchmark
+    public void extractTables(ProjectState state, Blackhole blackhole) {
+        for (String query : state.queries) {
+            SqlInfo sqlInfo = new SqlInfo();
+            sqlInfo.setQuery(query);
+            blackhole.consume(sqlInfo.getTables());
+            blackhole.consume(sqlInfo.getSqlParameters());
+        }
+    }
+}
@@ -1,30 +1,58 @@
 package com.codeflow;
 
+import com.codeflow.analyzer.ChangeImpact;
+import com.codeflow.analyzer.ChangeSet;
+import com.codeflow.analyzer.CrudMatrix;
 import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.analyzer.FlowNode;
 import com.codeflow.analyzer.FlowResult;
+import com.codeflow.batch.BatchContext;
+import com.codeflow.batch.BatchManifest;
+import com.codeflow.batch.BatchRunner;
+import com.codeflow.daemon.DaemonClient;
+import com.codeflow.daemon.DaemonServer;
+import com.codeflow.daemon.ProjectModel;
+import com.codeflow.daemon.ProjectWatcher;
 import com.codeflow.output.ConsoleOutput;
 import com.codeflow.output.ConsoleOutput.OutputStyle;
 import com.codeflow.output.ExcelOutput;
 import com.codeflow.parser.IBatisParser;
 import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ModuleDiscovery;
+import com.codeflow.parser.ModuleParser;
+import com.codeflow.parser.ParseCache;
 import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.ProjectModule;
+import com.codeflow.parser.QuarantinedFile;
+import com.codeflow.parser.SourceArchive;
+import com.codeflow.parser.SqlBranchAnalyzer;
 import com.codeflow.parser.SqlInfo;
+import com.codeflow.perf.JfrEvents;
+import com.codeflow.perf.PerfReport;
+import com.codeflow.pipeline.AnalysisPipeline;
 import com.codeflow.ui.MainFrame;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.Spec;
 
 import java.io.Console;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -51,7 +79,7 @@ public class Main implements Callable<Integer> {
     private static final String DEFAULT_OUTPUT_DIR = "output";
     private static final String DEFAULT_EXCEL_FILENAME = "code-flow-result.xlsx";
 
-    @Option(names = {"-p", "--path"}, description = "분석할 프로젝트 경로 (CLI 모드에서 필수)")
+    @Option(names = {"-p", "--path"}, description = "분석할 프로젝트 경로 또는 소스 아카이브(.jar/.zip/.war) (CLI 모드에서 필수)")
     private Path projectPath;
 
     @Option(names = {"-u", "--url"}, description = "URL 패턴 필터 (예: /api/user/*)")
@@ -84,6 +112,100 @@ public class Main implements Callable<Integer> {
     @Option(names = {"--list-tables"}, description = "테이블 목록 및 영향도 분석 결과 출력")
     private boolean listTables;
 
+    @Option(names = {"--sql-branches"}, description = "동적 SQL 조건 분기별 테이블 분석 (--list-tables에 조건부 접근 표시)")
+    private boolean sqlBranches;
+
+    @Option(names = {"--crud-matrix"}, paramLabel = "<file.csv>",
+        description = "엔드포인트 × 테이블 CRUD 매트릭스를 CSV로 저장 (엑셀 출력에는 'CRUD 매트릭스' 시트로 포함)")
+    private Path crudMatrixOutput;
+
+    @Option(names = {"--changed-files"}, paramLabel = "<파일>", split = ",",
+        description = "변경 영향 분석: 바뀐 파일 (콤마 구분, .txt/.lst는 한 줄에 경로 1개인 목록 파일)")
+    private List<String> changedFiles;
+
+    @Option(names = {"--since"}, paramLabel = "<git-ref>",
+        description = "변경 영향 분석: git ref 이후 바뀐 파일 (작업 트리 변경, 새 파일 포함)")
+    private String sinceRef;
+
+    @Option(names = {"--fast-parse"}, description = "빠른 파싱: 테스트 소스는 건너뛰고 VO/유틸 등은 선언만 파싱")
+    private boolean fastParse;
+
+    @Option(names = {"--max-file-kb"}, paramLabel = "<KB>",
+            description = "파일별 크기 한도, 넘으면 격리 (기본: 2048, 0이면 제한 없음)")
+    private Long maxFileKb;
+
+    @Option(names = {"--max-parse-sec"}, paramLabel = "<초>",
+            description = "파일별 파싱 시간 한도, 넘으면 격리 (기본: 20, 0이면 제한 없음)")
+    private Long maxParseSeconds;
+
+    @Option(names = {"--fallback-charset"}, paramLabel = "<문자셋>",
+            description = "UTF-8/BOM이 아닌 소스의 문자셋 (기본: MS949)")
+    private String fallbackCharset;
+
+    @Option(names = {"--parse-threads"}, paramLabel = "<N>",
+            description = "파이프라인 파싱 스레드 수 (기본: CPU 코어 수 - 1, 0이면 파이프라인 없이 순차 처리)")
+    private Integer parseThreads;
+
+    @Option(names = {"--read-threads"}, paramLabel = "<N>",
+            description = "파이프라인 파일 읽기 스레드 수 (기본: 1)")
+    private Integer readThreads;
+
+    @Option(names = {"--scan-archives"}, description = "프로젝트 폴더 안의 .jar/.zip/.war 안에 있는 .java/매퍼 XML도 분석 (압축 해제 없음)")
+    private boolean scanArchives;
+
+    @Option(names = {"--no-parse-cache"}, description = "파싱 캐시(격리 파일 목록 등)를 읽거나 저장하지 않음")
+    private boolean noParseCache;
+
+    @Option(names = {"--no-modules"}, description = "멀티 모듈 구성(settings.gradle, pom.xml)을 무시하고 프로젝트 전체를 한 모듈로 분석")
+    private boolean noModules;
+
+    @Option(names = {"--perf-report"}, arity = "0..1", fallbackValue = "-", paramLabel = "<file>",
+            description = "단계별 성능 측정 결과를 JSON으로 출력 (파일 미지정 시 콘솔)")
+    private String perfReportOutput;
+
+    @Option(names = {"--jfr"}, arity = "0..1", fallbackValue = "", paramLabel = "<file>",
+            description = "JFR(Flight Recorder) 녹화 파일 저장 (파일 미지정 시 cft-날짜-시간.jfr)")
+    private String jfrOutput;
+
+    @Option(names = {"--callers"}, paramLabel = "<클래스.메서드>",
+            description = "메서드를 호출하는 엔드포인트와 호출 경로 출력 (메서드명만 지정하면 모든 클래스에서 찾음, "
+                + "멀티 모듈은 :모듈/클래스.메서드로 한 모듈만)")
+    private String callersOf;
+
+    @Option(names = {"--daemon"}, description = "데몬 모드: 분석 결과를 메모리에 유지하고 파일 변경을 반영하며 로컬 HTTP로 명령 처리")
+    private boolean daemonMode;
+
+    @Option(names = {"--connect"}, description = "실행 중인 데몬에 명령 전달 (나머지 옵션은 데몬에서 그대로 실행)")
+    private boolean connectMode;
+
+    @Option(names = {"--stop-daemon"}, description = "실행 중인 데몬 종료")
+    private boolean stopDaemon;
+
+    @Option(names = {"--port"}, paramLabel = "<포트>",
+            description = "데몬 포트 (--daemon, --connect, --stop-daemon, 기본: " + DaemonServer.DEFAULT_PORT + ")")
+    private int port = DaemonServer.DEFAULT_PORT;
+
+    @Option(names = {"--batch"}, paramLabel = "<목록 파일>",
+            description = "일괄 분석: 목록 파일의 프로젝트를 한 프로세스에서 분석 (한 줄에 프로젝트 1개의 CLI 옵션, 결과는 -d 폴더/프로젝트 이름/)")
+    private Path batchManifest;
+
+    @Option(names = {"--batch-parallel"}, paramLabel = "<N>",
+            description = "일괄 분석에서 동시에 분석할 프로젝트 수 (기본: " + BatchRunner.DEFAULT_CONCURRENCY + ")")
+    private int batchParallel = BatchRunner.DEFAULT_CONCURRENCY;
+
+    @Spec
+    private CommandSpec spec;
+
+    // 성능 측정 (--perf-report 지정 시에만 활성화)
+    private PerfReport perfReport = PerfReport.none();
+
+    // 출력 대상 (데몬에서 실행하면 요청 응답으로, 일괄 분석이면 프로젝트별 console.txt로 모음)
+    private PrintStream out = System.out;
+    private PrintStream err = System.err;
+
+    // 일괄 분석 공유 자원 (일괄 분석 항목으로 실행할 때만 설정)
+    private BatchContext batchContext;
+
     public static void main(String[] args) {
         // GUI 모드 체크 (--gui 옵션이 있으면 GUI 실행 후 System.exit 호출 안 함)
         boolean isGuiMode = false;
@@ -130,87 +252,615 @@ public class Main implements Callable<Integer> {
 
     @Override
     public Integer call() {
+        // 데몬 클라이언트: 인자를 그대로 데몬에 전달
+        if (stopDaemon) {
+            return new DaemonClient(port).shutdown(out, err);
+        }
+        if (connectMode) {
+            List<String> args = spec != null ? spec.commandLine().getParseResult().originalArgs() : List.of();
+            return new DaemonClient(port).run(args, Paths.get("").toAbsolutePath(), out, err);
+        }
+
+        // JFR 녹화 (GUI 모드는 종료 시 저장)
+        JfrEvents.Session recording = null;
+        if (jfrOutput != null) {
+            recording = startJfrRecording();
+            if (recording == null) {
+                return 1;
+            }
+        }
+
         // GUI 모드
         if (guiMode) {
             MainFrame.launch();
             return 0;
         }
 
+        try {
+            if (batchManifest != null) {
+                return runBatch();
+            }
+            return daemonMode ? runDaemon() : runCli();
+        } finally {
+            if (recording != null) {
+                stopJfrRecording(recording);
+            }
+        }
+    }
+
+    /**
+     * CLI 모드 실행
+     */
+    private Integer runCli() {
+        if (!validateProjectPath()) {
+            return 1;
+        }
+
+        if (perfReportOutput != null && !perfReport.isEnabled()) {
+            perfReport = new PerfReport();
+        }
+
+        try {
+            // 분석 실행
+            FlowResult result = analyzeProject();
+
+            // 결과 출력
+            try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_OUTPUT)) {
+                outputResult(result);
+                phase.addItems(result.getFlows().size());
+            }
+
+            // 성능 리포트 출력 (일괄 분석은 합산 리포트에도 포함)
+            if (perfReport.isEnabled()) {
+                perfReport.finish();
+                if (perfReportOutput != null) {
+                    writePerfReport(perfReport.toJson());
+                }
+            }
+
+            return 0;
+
+        } catch (IOException e) {
+            err.println("오류: 분석 중 문제가 발생했습니다 - " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * 프로젝트 경로 검사 (CLI/데몬 모드 필수)
+     */
+    private boolean validateProjectPath() {
         // CLI 모드에서 경로 필수 검사
         if (projectPath == null) {
-            System.err.println("오류: 프로젝트 경로를 지정하세요. (예: -p /path/to/project)");
-            System.err.println("GUI 모드를 사용하려면: --gui");
-            return 1;
+            err.println("오류: 프로젝트 경로를 지정하세요. (예: -p /path/to/project)");
+            err.println("GUI 모드를 사용하려면: --gui");
+            return false;
         }
 
         // 경로 유효성 검사
         if (!Files.exists(projectPath)) {
-            System.err.println("오류: 경로가 존재하지 않습니다 - " + projectPath);
+            err.println("오류: 경로가 존재하지 않습니다 - " + projectPath);
+            return false;
+        }
+
+        if (!Files.isDirectory(projectPath) && !SourceArchive.isArchive(projectPath)) {
+            err.println("오류: 디렉토리 또는 소스 아카이브(.jar/.zip/.war)가 아닙니다 - " + projectPath);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 데몬 모드 실행 (--daemon)
+     *
+     * 전체 분석 후 --stop-daemon(또는 /shutdown)까지 요청을 처리합니다.
+     * 파싱 옵션(--fast-parse, --fallback-charset 등)은 데몬 시작 시 값으로 고정되고,
+     * 요청마다 바뀌는 옵션(필터, 출력)은 클라이언트가 보낸 값을 사용합니다.
+     */
+    private Integer runDaemon() {
+        if (!validateProjectPath()) {
             return 1;
         }
 
-        if (!Files.isDirectory(projectPath)) {
-            System.err.println("오류: 디렉토리가 아닙니다 - " + projectPath);
+        try {
+            long start = System.currentTimeMillis();
+            ParseCache parseCache = noParseCache ? ParseCache.none() : ParseCache.forProject(projectPath);
+            JavaSourceParser parser = createJavaParser(parseCache);
+            ProjectModel model = new ProjectModel(projectPath, parser, createIBatisParser(parseCache));
+            model.setModulesEnabled(!noModules && !scanArchives);
+            model.load();
+            printParseSummary(parser);
+
+            // 아카이브는 변경 감시 안 함 (파일 자체를 교체하면 데몬을 다시 시작)
+            ProjectWatcher watcher = Files.isDirectory(projectPath) ? new ProjectWatcher(projectPath) : null;
+            try (DaemonServer server = new DaemonServer(model, watcher, Main::runDaemonCommand, port)) {
+                server.start();
+                out.printf("데몬 시작: http://127.0.0.1:%d (클래스 %d개, SQL %d개, 엔드포인트 %d개, %d ms)%n",
+                    server.getPort(), model.getClassCount(), model.getSqlCount(),
+                    model.getResult().getFlows().size(), System.currentTimeMillis() - start);
+                out.println("명령 전달: --connect [옵션...], 종료: --stop-daemon");
+                server.awaitShutdown();
+            }
+            out.println("데몬이 종료되었습니다.");
+            return 0;
+
+        } catch (IOException e) {
+            err.println("오류: 데몬을 시작할 수 없습니다 - " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return 1;
         }
+    }
+
+    /**
+     * 데몬에서 받은 명령 1개 실행 (새 Main 인스턴스에 인자를 파싱하고 메모리의 모델로 분석)
+     */
+    public static int runDaemonCommand(ProjectModel model, List<String> args, Path workingDir, PrintStream output) {
+        Main command = parseForwardedArgs(args, output);
+        if (command == null) {
+            return 2;
+        }
+        if (command.printHelpIfRequested()) {
+            return 0;
+        }
+        if (command.daemonMode || command.guiMode || command.batchManifest != null) {
+            output.println("오류: 데몬에서는 --daemon, --gui, --batch를 사용할 수 없습니다.");
+            return 2;
+        }
+        return command.runOnModel(model, workingDir);
+    }
 
+    /**
+     * 전달받은 인자(데몬 요청, 일괄 분석 목록)로 명령 인스턴스 생성 - 출력은 output으로, 인자 오류면 출력 후 null
+     */
+    private static Main parseForwardedArgs(List<String> args, PrintStream output) {
+        Main command = new Main();
+        CommandLine commandLine = new CommandLine(command);
+        commandLine.setOut(new PrintWriter(output, true));
+        commandLine.setErr(new PrintWriter(output, true));
         try {
-            // 분석 실행
-            FlowResult result = analyzeProject();
+            commandLine.parseArgs(args.toArray(new String[0]));
+        } catch (CommandLine.ParameterException e) {
+            output.println("오류: " + e.getMessage());
+            return null;
+        }
+        command.out = output;
+        command.err = output;
+        return command;
+    }
 
-            // 결과 출력
-            outputResult(result);
+    /**
+     * --help/--version이면 출력하고 true
+     */
+    private boolean printHelpIfRequested() {
+        CommandLine commandLine = spec.commandLine();
+        if (commandLine.isUsageHelpRequested()) {
+            commandLine.usage(out);
+            return true;
+        }
+        if (commandLine.isVersionHelpRequested()) {
+            commandLine.printVersionHelp(out);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 일괄 분석 실행 (--batch)
+     *
+     * 목록의 프로젝트를 한 JVM에서 --batch-parallel개씩 동시에 분석합니다.
+     * --perf-report는 프로젝트별 리포트를 합친 JSON으로 출력합니다.
+     */
+    private Integer runBatch() {
+        try {
+            BatchManifest manifest = BatchManifest.load(batchManifest);
+            if (manifest.isEmpty()) {
+                err.println("오류: 목록 파일에 프로젝트가 없습니다 - " + batchManifest);
+                return 1;
+            }
+
+            int concurrency = Math.max(1, Math.min(batchParallel, manifest.size()));
+            int threads = parseThreads != null ? parseThreads : AnalysisPipeline.defaultParseThreads() / concurrency;
+            ParseCache archiveCache = noParseCache ? ParseCache.none() : ParseCache.shared();
+            BatchContext context = new BatchContext(archiveCache, threads);
+            Path batchOutputDir = outputDir != null ? outputDir : Paths.get(DEFAULT_OUTPUT_DIR);
+
+            BatchRunner runner = new BatchRunner(context, Main::runBatchEntry, batchOutputDir);
+            runner.setConcurrency(concurrency);
+            runner.setPerfEnabled(perfReportOutput != null);
+            runner.setProgress(out);
+
+            out.printf("일괄 분석 시작: 프로젝트 %d개, 동시 %d개, 프로젝트별 파싱 스레드 %d개%n",
+                manifest.size(), concurrency, context.getParseThreads());
+            BatchRunner.BatchResult result = runner.run(manifest);
+            out.printf("일괄 분석 완료: 성공 %d개, 실패 %d개, %,d ms (프로젝트별 결과: %s)%n",
+                result.getProjects().size() - result.getFailureCount(), result.getFailureCount(),
+                result.getWallMillis(), batchOutputDir.toAbsolutePath());
+
+            if (perfReportOutput != null) {
+                writePerfReport(result.toPerfJson());
+            }
+            return result.getFailureCount() == 0 ? 0 : 1;
+
+        } catch (IOException e) {
+            err.println("오류: 일괄 분석 중 문제가 발생했습니다 - " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    /**
+     * 일괄 분석 항목 1개 실행 (목록 줄의 옵션으로 일반 CLI 분석, 상대 경로는 목록 파일 폴더 기준)
+     */
+    public static int runBatchEntry(BatchManifest.Entry entry, BatchContext context, Path outputDir,
+                                    PrintStream output, PerfReport perfReport) {
+        Main command = parseForwardedArgs(entry.getArgs(), output);
+        if (command == null) {
+            return 2;
+        }
+        if (command.daemonMode || command.guiMode || command.connectMode || command.stopDaemon
+                || command.batchManifest != null) {
+            output.println("오류: 일괄 분석 목록에서는 --daemon, --gui, --connect, --stop-daemon, --batch를 사용할 수 없습니다.");
+            return 2;
+        }
+        command.batchContext = context;
+        command.perfReport = perfReport;
+        if (command.projectPath != null) {
+            command.projectPath = entry.getWorkingDir().resolve(command.projectPath);
+        }
+        if (command.outputDir == null) {
+            command.outputDir = outputDir;
+        }
+        command.resolvePaths(entry.getWorkingDir());
+        return command.runCli();
+    }
+
+    /**
+     * 메모리의 모델로 필터/출력 실행 (데몬 요청)
+     */
+    private int runOnModel(ProjectModel model, Path workingDir) {
+        if (projectPath != null && !projectPath.isAbsolute()) {
+            projectPath = workingDir.resolve(projectPath);
+        }
+        Path modelPath = model.getProjectPath().toAbsolutePath().normalize();
+        if (projectPath != null && !projectPath.toAbsolutePath().normalize().equals(modelPath)) {
+            err.println("오류: 데몬이 분석 중인 프로젝트와 다릅니다 - " + modelPath);
+            return 1;
+        }
+        projectPath = model.getProjectPath();
+        resolvePaths(workingDir);
+        if (perfReportOutput != null) {
+            perfReport = new PerfReport();
+        }
 
+        try {
+            FlowAnalyzer analyzer = model.getAnalyzer();
+            boolean impactMode = changedFiles != null || sinceRef != null;
+            FlowResult result = applyFilters(analyzer, impactMode ? analyzeChangeImpact(analyzer) : model.getResult());
+
+            try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_OUTPUT)) {
+                outputResult(result);
+                phase.addItems(result.getFlows().size());
+            }
+            if (perfReport.isEnabled()) {
+                perfReport.finish();
+                writePerfReport(perfReport.toJson());
+            }
             return 0;
 
         } catch (IOException e) {
-            System.err.println("오류: 분석 중 문제가 발생했습니다 - " + e.getMessage());
+            err.println("오류: 분석 중 문제가 발생했습니다 - " + e.getMessage());
             return 1;
         }
     }
 
+    /**
+     * 출력/입력 파일의 상대 경로를 클라이언트 작업 디렉토리 기준으로 변경 (데몬 요청)
+     */
+    private void resolvePaths(Path workingDir) {
+        if (outputPath != null) {
+            outputPath = workingDir.resolve(outputPath);
+        }
+        outputDir = workingDir.resolve(outputDir != null ? outputDir : Paths.get(DEFAULT_OUTPUT_DIR));
+        if (crudMatrixOutput != null) {
+            crudMatrixOutput = workingDir.resolve(crudMatrixOutput);
+        }
+        if (perfReportOutput != null && !"-".equals(perfReportOutput)) {
+            perfReportOutput = workingDir.resolve(perfReportOutput).toString();
+        }
+        if (changedFiles != null) {
+            List<String> resolved = new ArrayList<>();
+            for (String file : changedFiles) {
+                Path path = workingDir.resolve(file.trim());
+                // 작업 디렉토리에 없는 상대 경로는 프로젝트 기준 경로로 그대로 전달
+                resolved.add(Files.exists(path) ? path.toString() : file);
+            }
+            changedFiles = resolved;
+        }
+    }
+
+    /**
+     * JFR 녹화 시작 (--jfr)
+     *
+     * @return 시작된 녹화, 실패 시 null
+     */
+    private JfrEvents.Session startJfrRecording() {
+        Path jfrPath = jfrOutput.isEmpty()
+            ? Paths.get("cft-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr")
+            : Paths.get(jfrOutput);
+        try {
+            if (jfrPath.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(jfrPath.toAbsolutePath().getParent());
+            }
+            JfrEvents.Session recording = JfrEvents.startSession(jfrPath);
+            out.println("JFR 녹화 시작: " + jfrPath);
+            return recording;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            err.println("오류: JFR 녹화를 시작할 수 없습니다 - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * JFR 녹화 종료 및 파일 저장
+     */
+    private void stopJfrRecording(JfrEvents.Session recording) {
+        Path destination = recording.getDestination();
+        recording.close();
+        out.println("JFR 녹화 파일이 저장되었습니다: " + destination);
+    }
+
+    /**
+     * 격리된 파일 목록 출력 (파일별 크기/시간 한도 초과)
+     */
+    private void printQuarantinedFiles(List<QuarantinedFile> quarantinedFiles) {
+        if (quarantinedFiles.isEmpty()) {
+            return;
+        }
+        out.printf("격리된 파일 %d개 (파일별 한도 초과, 다음 실행부터는 다시 시도하지 않음):%n",
+            quarantinedFiles.size());
+        for (QuarantinedFile file : quarantinedFiles) {
+            out.println("  - " + file);
+        }
+    }
+
+    /**
+     * 파싱 결과 요약 출력 (빠른 파싱 분류, 격리 파일, 인코딩 오류)
+     */
+    private void printParseSummary(JavaSourceParser parser) {
+        if (fastParse) {
+            out.printf("빠른 파싱: 전체 %d개, 선언만 %d개, 건너뜀 %d개%n",
+                parser.getFullParseCount(), parser.getLightParseCount(), parser.getSkippedFileCount());
+        }
+        printQuarantinedFiles(parser.getQuarantinedFiles());
+        if (!parser.getDecodeFailedFiles().isEmpty()) {
+            out.printf("인코딩 오류 파일 %d개 (잘못된 바이트는 대체 문자로 처리):%n", parser.getDecodeFailedFiles().size());
+            parser.getDecodeFailedFiles().forEach(file -> out.println("  - " + file));
+        }
+    }
+
     /**
      * 프로젝트 분석 실행
      */
     private FlowResult analyzeProject() throws IOException {
         // 1. 소스 코드 파싱
-        JavaSourceParser parser = new JavaSourceParser();
-        List<ParsedClass> parsedClasses = parser.parseProject(projectPath);
-
-        // 2. iBatis/MyBatis XML 파싱
-        IBatisParser ibatisParser = new IBatisParser();
-        Map<String, SqlInfo> sqlInfoMap = ibatisParser.parseProject(projectPath);
+        ParseCache parseCache = noParseCache ? ParseCache.none() : ParseCache.forProject(projectPath);
+        JavaSourceParser parser = createJavaParser(parseCache);
+        IBatisParser ibatisParser = createIBatisParser(parseCache);
 
-        // 3. 호출 흐름 분석
         FlowAnalyzer analyzer = new FlowAnalyzer();
-        analyzer.setSqlInfoMap(sqlInfoMap);  // SQL 정보 연동
+        analyzer.setPerfReport(perfReport);
+        analyzer.setSymbolPool(parser.getSymbolPool());  // FlowNode도 파싱 모델과 같은 문자열 공유
+
+        // 변경 영향 분석 모드 (--changed-files / --since)
+        boolean impactMode = changedFiles != null || sinceRef != null;
+
+        // 멀티 모듈 프로젝트: 모듈별 병렬 파싱 + 모듈 단위 캐시 (아카이브 스캔은 기존 방식)
+        List<ProjectModule> modules = !noModules && !scanArchives && Files.isDirectory(projectPath)
+            ? ModuleDiscovery.discover(projectPath) : List.of();
 
         FlowResult result;
-        if (urlPattern != null && !urlPattern.isEmpty()) {
-            // URL 패턴 필터링
-            result = analyzer.analyzeByUrl(projectPath, parsedClasses, urlPattern);
+        if (modules.size() > 1) {
+            ModuleParser moduleParser = new ModuleParser(parser, parseCache);
+            moduleParser.setPerfReport(perfReport);
+            if (parseThreads != null) {
+                moduleParser.setThreads(parseThreads);
+            } else if (batchContext != null) {
+                moduleParser.setThreads(batchContext.getParseThreads());
+            } else {
+                moduleParser.setThreads(AnalysisPipeline.defaultParseThreads());
+            }
+            List<ParsedClass> parsedClasses = moduleParser.parse(projectPath, modules);
+            out.printf("모듈 %d개: 캐시 사용 %d개, 파싱 %d개%n",
+                modules.size(), moduleParser.getCachedModuleCount(), moduleParser.getParsedModuleCount());
+            printParseSummary(parser);
+            analyzer.setSqlInfoMap(ibatisParser.parseProject(projectPath));
+            analyzer.setModules(modules);
+            if (impactMode) {
+                analyzer.beginIndex();
+                parsedClasses.forEach(analyzer::indexClass);
+                result = analyzeChangeImpact(analyzer);
+            } else {
+                result = analyzer.analyze(projectPath, parsedClasses);
+            }
+        } else if (parseThreads != null && parseThreads == 0) {
+            // 순차 처리: 소스 파싱 → XML 파싱 → 호출 흐름 분석
+            List<ParsedClass> parsedClasses = parser.parseProject(projectPath);
+            printParseSummary(parser);
+            analyzer.setSqlInfoMap(ibatisParser.parseProject(projectPath));  // SQL 정보 연동
+            if (impactMode) {
+                analyzer.beginIndex();
+                parsedClasses.forEach(analyzer::indexClass);
+                result = analyzeChangeImpact(analyzer);
+            } else {
+                result = analyzer.analyze(projectPath, parsedClasses);
+            }
         } else {
-            // 전체 분석
-            result = analyzer.analyze(projectPath, parsedClasses);
+            // 파이프라인: 탐색 → 읽기 → 파싱 → 인덱싱, XML 파싱(SQL 정보)은 동시에 진행
+            AnalysisPipeline pipeline = new AnalysisPipeline(parser, ibatisParser, analyzer);
+            pipeline.setPerfReport(perfReport);
+            if (parseThreads != null) {
+                pipeline.setParseThreads(parseThreads);
+            } else if (batchContext != null) {
+                pipeline.setParseThreads(batchContext.getParseThreads());
+            }
+            if (readThreads != null) {
+                pipeline.setReadThreads(readThreads);
+            }
+            pipeline.run(projectPath);
+            printParseSummary(parser);
+            result = impactMode ? analyzeChangeImpact(analyzer) : analyzer.analyzeIndexed(projectPath);
         }
 
-        // SQL 타입(CRUD) 필터링
-        if (sqlTypeFilter != null && !sqlTypeFilter.isEmpty()) {
-            result = analyzer.filterBySqlType(result, sqlTypeFilter);
+        return applyFilters(analyzer, result);
+    }
+
+    /**
+     * Java 파서 생성 (파싱 옵션 적용)
+     */
+    private JavaSourceParser createJavaParser(ParseCache parseCache) {
+        // 일괄 분석: 작업 스레드의 파서를 재사용하고 식별자 풀/아카이브 항목 캐시는 프로젝트끼리 공유
+        JavaSourceParser parser = batchContext != null ? batchContext.parserForCurrentThread() : new JavaSourceParser();
+        parser.setFastMode(fastParse);
+        parser.setPerfReport(perfReport);
+        if (maxFileKb != null) {
+            parser.setMaxFileBytes(maxFileKb * 1024);
+        }
+        if (maxParseSeconds != null) {
+            parser.setMaxParseMillis(maxParseSeconds * 1000);
+        }
+        parser.setParseCache(parseCache);
+        parser.setScanArchives(scanArchives);
+        if (fallbackCharset != null) {
+            parser.setFallbackCharset(Charset.forName(fallbackCharset));
         }
+        if (batchContext != null) {
+            parser.setSymbolPool(batchContext.getSymbolPool());
+            parser.setArchiveThreads(batchContext.getParseThreads());
+            parseCache.setArchiveCache(batchContext.getArchiveCache());
+        }
+        return parser;
+    }
+
+    /**
+     * 매퍼 XML 파서 생성
+     */
+    private IBatisParser createIBatisParser(ParseCache parseCache) {
+        IBatisParser ibatisParser = new IBatisParser();
+        ibatisParser.setPerfReport(perfReport);
+        ibatisParser.setParseCache(parseCache);
+        ibatisParser.setScanArchives(scanArchives);
+        return ibatisParser;
+    }
 
-        // 테이블 필터링
-        if (tableFilter != null && !tableFilter.isEmpty()) {
-            result = analyzer.filterByTable(result, tableFilter);
+    /**
+     * URL/SQL 타입/테이블 필터 적용 (각 필터는 새 결과를 만듦)
+     */
+    private FlowResult applyFilters(FlowAnalyzer analyzer, FlowResult result) {
+        try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_FILTERING)) {
+            // URL 패턴 필터링
+            if (urlPattern != null && !urlPattern.isEmpty()) {
+                result = analyzer.filterByUrl(result, urlPattern);
+            }
+
+            // SQL 타입(CRUD) 필터링
+            if (sqlTypeFilter != null && !sqlTypeFilter.isEmpty()) {
+                result = analyzer.filterBySqlType(result, sqlTypeFilter);
+            }
+
+            // 테이블 필터링
+            if (tableFilter != null && !tableFilter.isEmpty()) {
+                result = analyzer.filterByTable(result, tableFilter);
+            }
+            phase.addItems(result.getFlows().size());
         }
 
         return result;
     }
 
+    /**
+     * 변경 영향 분석 (--changed-files / --since)
+     *
+     * 영향받는 엔드포인트/테이블을 출력하고, 영향받는 엔드포인트의 흐름만 담은 결과를 반환합니다
+     * (이후 필터/출력 옵션은 이 결과에 적용).
+     */
+    private FlowResult analyzeChangeImpact(FlowAnalyzer analyzer) throws IOException {
+        ChangeSet changes = new ChangeSet();
+        if (sinceRef != null) {
+            changes = ChangeSet.fromGit(projectPath, sinceRef);
+        }
+        if (changedFiles != null) {
+            ChangeSet listed = ChangeSet.fromPaths(projectPath, changedFiles);
+            for (String file : listed.getFiles()) {
+                changes.addFile(file);
+            }
+        }
+
+        ChangeImpact impact = analyzer.analyzeChangeImpact(projectPath, changes);
+
+        out.println();
+        out.println("=== 변경 영향 분석 ===");
+        out.printf("변경 파일 %d개 → 바뀐 메서드 %d개, SQL %d개%n",
+            changes.size(), impact.getChangedMethods().size(), impact.getChangedSqlIds().size());
+        if (!impact.getUnmatchedFiles().isEmpty()) {
+            out.printf("분석 대상이 아닌 파일 %d개: %s%n",
+                impact.getUnmatchedFiles().size(), String.join(", ", impact.getUnmatchedFiles()));
+        }
+        out.println();
+
+        out.printf("영향받는 엔드포인트 (%d개)%n", impact.getEndpoints().size());
+        for (ChangeImpact.AffectedEndpoint endpoint : impact.getEndpoints()) {
+            out.printf("  %-40s %s%n", endpoint.getName(),
+                endpoint.getDistance() == 0 ? "(엔드포인트 변경)" : "← " + endpoint.getCause());
+        }
+        out.println();
+
+        out.printf("영향받는 테이블 (%d개)%n", impact.getTables().size());
+        if (!impact.getTables().isEmpty()) {
+            out.println("  " + String.join(", ", impact.getTables()));
+        }
+        out.println();
+
+        return impact.getFlowResult();
+    }
+
+    /**
+     * 성능 리포트 출력 (--perf-report)
+     *
+     * 파일 경로를 지정하지 않으면("-") 콘솔에 JSON 출력
+     */
+    private void writePerfReport(String json) throws IOException {
+        if ("-".equals(perfReportOutput)) {
+            out.println(json);
+            return;
+        }
+
+        Path reportPath = Paths.get(perfReportOutput);
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        Files.writeString(reportPath, json, StandardCharsets.UTF_8);
+        out.println("성능 리포트가 저장되었습니다: " + reportPath);
+    }
+
     /**
      * 분석 결과 출력
      */
     private void outputResult(FlowResult result) throws IOException {
+        // --crud-matrix 옵션: CRUD 매트릭스 CSV 저장 (다른 출력과 함께 사용 가능)
+        if (crudMatrixOutput != null) {
+            writeCrudMatrix(result);
+        }
+
+        // --callers 옵션: 메서드를 호출하는 엔드포인트와 호출 경로
+        if (callersOf != null) {
+            outputCallers(result);
+            return;
+        }
+
         // --list-tables 옵션: 테이블 영향도 분석 결과 출력
         if (listTables) {
             outputTableImpact(result);
@@ -250,7 +900,7 @@ public class Main implements Callable<Integer> {
 
                 ExcelOutput excelOutputHandler = new ExcelOutput();
                 excelOutputHandler.export(result, finalOutputPath);
-                System.out.println("엑셀 파일이 저장되었습니다: " + finalOutputPath);
+                out.println("엑셀 파일이 저장되었습니다: " + finalOutputPath);
             }
             // 텍스트 파일 출력
             else {
@@ -262,7 +912,7 @@ public class Main implements Callable<Integer> {
                     ConsoleOutput output = new ConsoleOutput(fileOut, false, outputStyle);
                     output.print(result);
 
-                    System.out.println("결과가 저장되었습니다: " + finalOutputPath);
+                    out.println("결과가 저장되었습니다: " + finalOutputPath);
                 }
             }
         } else {
@@ -270,7 +920,10 @@ public class Main implements Callable<Integer> {
             boolean useColors = !noColor;
             ConsoleOutput output;
 
-            if (useColors) {
+            if (out != System.out) {
+                // 데몬 응답: 색상 코드는 클라이언트 콘솔이 그대로 출력
+                output = new ConsoleOutput(out, useColors, outputStyle);
+            } else if (useColors) {
                 switch (outputStyle) {
                     case COMPACT:
                         output = ConsoleOutput.compact();
@@ -290,6 +943,22 @@ public class Main implements Callable<Integer> {
         }
     }
 
+    /**
+     * CRUD 매트릭스 CSV 저장 (--crud-matrix, 엑셀에서 바로 열 수 있도록 UTF-8 BOM 포함)
+     */
+    private void writeCrudMatrix(FlowResult result) throws IOException {
+        if (crudMatrixOutput.getParent() != null) {
+            Files.createDirectories(crudMatrixOutput.getParent());
+        }
+        CrudMatrix matrix = result.getCrudMatrix();
+        try (Writer writer = Files.newBufferedWriter(crudMatrixOutput, StandardCharsets.UTF_8)) {
+            writer.write('\uFEFF');
+            matrix.writeCsv(writer);
+        }
+        out.printf("CRUD 매트릭스가 저장되었습니다: %s (엔드포인트 %d × 테이블 %d, 셀 %d개)%n",
+            crudMatrixOutput, matrix.sortedEndpointIds().length, matrix.getTableCount(), matrix.getCellCount());
+    }
+
     /**
      * 파일이 이미 존재하면 (1), (2) 등을 붙여 고유한 파일 경로 반환
      */
@@ -330,10 +999,13 @@ public class Main implements Callable<Integer> {
      */
     private void outputTableImpact(FlowResult result) {
         FlowAnalyzer analyzer = new FlowAnalyzer();
+        if (sqlBranches) {
+            analyzer.setSqlBranchAnalyzer(new SqlBranchAnalyzer());
+        }
         Map<String, FlowAnalyzer.TableImpact> tableIndex = analyzer.buildTableIndex(result);
 
         if (tableIndex.isEmpty()) {
-            System.out.println("테이블 접근 정보가 없습니다.");
+            out.println("테이블 접근 정보가 없습니다.");
             return;
         }
 
@@ -341,10 +1013,10 @@ public class Main implements Callable<Integer> {
         List<String> sortedTables = new ArrayList<>(tableIndex.keySet());
         java.util.Collections.sort(sortedTables);
 
-        System.out.println();
-        System.out.println("=== 테이블 영향도 분석 ===");
-        System.out.println(String.format("총 %d개 테이블 발견", sortedTables.size()));
-        System.out.println();
+        out.println();
+        out.println("=== 테이블 영향도 분석 ===");
+        out.println(String.format("총 %d개 테이블 발견", sortedTables.size()));
+        out.println();
 
         for (String tableName : sortedTables) {
             FlowAnalyzer.TableImpact impact = tableIndex.get(tableName);
@@ -366,22 +1038,86 @@ public class Main implements Callable<Integer> {
                     parts.add("D:" + crudCounts.get(SqlInfo.SqlType.DELETE));
                 stats.append(String.join(", ", parts));
             }
-            System.out.println(stats);
+            long conditionalCount = impact.getAccesses().stream().filter(FlowAnalyzer.TableAccess::isConditional).count();
+            if (conditionalCount > 0) {
+                stats.append(String.format(" (조건부 %d건)", conditionalCount));
+            }
+            out.println(stats);
 
             // 접근 상세 정보 (상세 모드일 때만)
             if ("detailed".equalsIgnoreCase(style)) {
                 for (FlowAnalyzer.TableAccess access : impact.getAccesses()) {
-                    System.out.println(String.format("   └─ [%s] %s %s → %s.%s()",
+                    out.println(String.format("   └─ [%s] %s %s → %s.%s()",
                         access.getSqlType(),
                         access.getHttpMethod() != null ? access.getHttpMethod() : "-",
                         access.getUrl() != null ? access.getUrl() : "-",
                         access.getClassName(),
                         access.getMethodName()));
+                    if (access.isConditional()) {
+                        out.println("      조건: " + access.getCondition());
+                    }
                 }
             }
         }
 
-        System.out.println();
+        out.println();
+    }
+
+    /**
+     * 호출 경로 출력 (--callers)
+     *
+     * 흐름 트리에서 대상 메서드까지의 경로를 엔드포인트별로 출력합니다.
+     * "클래스.메서드"면 정확히, 메서드명만 주면 모든 클래스에서 같은 이름을 찾습니다.
+     * 멀티 모듈이면 경로에 모듈을 함께 출력하고, "모듈/클래스.메서드"로 한 모듈의 클래스만 지정할 수 있습니다.
+     */
+    private void outputCallers(FlowResult result) {
+        Map<String, List<String>> pathsByEndpoint = new LinkedHashMap<>();
+        for (FlowNode flow : result.getFlows()) {
+            List<String> paths = new ArrayList<>();
+            collectCallPaths(flow, new ArrayList<>(), paths);
+            if (!paths.isEmpty()) {
+                pathsByEndpoint.put(CrudMatrix.endpointName(flow.getHttpMethod(), flow.getUrlMapping()), paths);
+            }
+        }
+
+        out.println();
+        out.println("=== 호출 경로: " + callersOf + " ===");
+        if (pathsByEndpoint.isEmpty()) {
+            out.println("호출하는 엔드포인트가 없습니다.");
+            out.println();
+            return;
+        }
+        out.printf("호출하는 엔드포인트 %d개%n", pathsByEndpoint.size());
+        out.println();
+        for (Map.Entry<String, List<String>> entry : pathsByEndpoint.entrySet()) {
+            out.println(entry.getKey());
+            for (String path : entry.getValue()) {
+                out.println("  " + path);
+            }
+        }
+        out.println();
+    }
+
+    private void collectCallPaths(FlowNode node, List<String> stack, List<String> paths) {
+        String signature = node.getClassName() + "." + node.getMethodName();
+        String moduleSignature = node.getModuleName() != null ? node.getModuleName() + "/" + signature : signature;
+        stack.add(moduleSignature);
+        boolean matches;
+        if (callersOf.contains("/")) {
+            matches = callersOf.equals(moduleSignature);
+        } else if (callersOf.contains(".")) {
+            matches = callersOf.equals(signature);
+        } else {
+            matches = callersOf.equals(node.getMethodName());
+        }
+        if (matches) {
+            paths.add(String.join(" → ", stack));
+        } else {
+            for (FlowNode child : node.getChildren()) {
+                collectCallPaths(child, stack, paths);
+            }
+        }
+        stack.remove(stack.size() - 1);
     }
 
     /**
@@ -0,0 +1,80 @@
+package com.codeflow.analyzer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 변경 영향 분석 결과 (변경 파일 → 영향받는 엔드포인트/테이블)
+ *
+ * FlowAnalyzer.analyzeChangeImpact()가 생성합니다.
+ * flowResult에는 영향받는 엔드포인트의 호출 흐름만 들어 있습니다 (다른 엔드포인트는 추적하지 않음).
+ */
+public class ChangeImpact {
+
+    private final List<String> changedMethods = new ArrayList<>();     // 바뀐 메서드 (클래스명.메서드명)
+    private final List<String> changedSqlIds = new ArrayList<>();      // 바뀐 SQL (namespace.id)
+    private final List<String> unmatchedFiles = new ArrayList<>();     // 클래스/SQL에 연결되지 않은 변경 파일
+    private final List<AffectedEndpoint> endpoints = new ArrayList<>();
+    private final Set<String> tables = new TreeSet<>();
+    private FlowResult flowResult;
+
+    public List<String> getChangedMethods() { return changedMethods; }
+    public List<String> getChangedSqlIds() { return changedSqlIds; }
+    public List<String> getUnmatchedFiles() { return unmatchedFiles; }
+    public List<AffectedEndpoint> getEndpoints() { return endpoints; }
+    public Set<String> getTables() { return tables; }
+    public FlowResult getFlowResult() { return flowResult; }
+
+    void setFlowResult(FlowResult flowResult) {
+        this.flowResult = flowResult;
+    }
+
+    public boolean hasImpact() {
+        return !endpoints.isEmpty() || !tables.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ChangeImpact[메서드 %d, SQL %d → 엔드포인트 %d, 테이블 %d]",
+            changedMethods.size(), changedSqlIds.size(), endpoints.size(), tables.size());
+    }
+
+    /**
+     * 영향받는 엔드포인트 1개
+     */
+    public static class AffectedEndpoint {
+        private final String httpMethod;
+        private final String url;
+        private final String handler;     // Controller 메서드 (클래스명.메서드명)
+        private final String cause;       // 가장 가까운 바뀐 메서드 (클래스명.메서드명)
+        private final int distance;       // 엔드포인트에서 바뀐 메서드까지 호출 단계 수 (0이면 엔드포인트 자체)
+
+        public AffectedEndpoint(String httpMethod, String url, String handler, String cause, int distance) {
+            this.httpMethod = httpMethod;
+            this.url = url;
+            this.handler = handler;
+            this.cause = cause;
+            this.distance = distance;
+        }
+
+        public String getHttpMethod() { return httpMethod; }
+        public String getUrl() { return url; }
+        public String getHandler() { return handler; }
+        public String getCause() { return cause; }
+        public int getDistance() { return distance; }
+
+        /**
+         * 표시 이름 (HTTP 메서드 + URL, CrudMatrix 엔드포인트 이름과 같음)
+         */
+        public String getName() {
+            return CrudMatrix.endpointName(httpMethod, url);
+        }
+
+        @Override
+        public String toString() {
+            return getName() + " ← " + cause;
+        }
+    }
+}
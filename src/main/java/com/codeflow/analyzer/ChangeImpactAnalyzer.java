@@ -0,0 +1,466 @@
+package com.codeflow.analyzer;
+
+import com.codeflow.parser.ClassType;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.MethodCall;
+import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.ParsedMethod;
+import com.codeflow.parser.SqlInfo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 변경 영향 분석 (변경 파일 → 바뀐 메서드/SQL → 영향받는 엔드포인트/테이블)
+ *
+ * 인덱싱된 클래스로 호출 그래프(호출하는 쪽 ← 호출되는 쪽)를 만들고,
+ * 바뀐 메서드에서 거꾸로 따라가 엔드포인트를 찾습니다. 흐름 트리는 만들지 않습니다.
+ *
+ * 설계 결정:
+ * - 호출 해석은 FlowAnalyzer와 같은 규칙 (scope → 클래스, 인터페이스 → 구현체, 같은 이름 메서드는 첫 번째,
+ *   멀티 모듈이면 호출하는 클래스의 모듈에서 보이는 클래스) → 역추적 결과 = 전체 추적 결과
+ * - 그래프 노드는 "모듈/전체 클래스명.메서드명" (다른 모듈의 같은 이름 클래스를 구분),
+ *   결과에는 "클래스명.메서드명"으로 출력 (멀티 모듈이면 "모듈/클래스명.메서드명")
+ * - 바뀐 메서드 전체에서 한 번에 너비 우선 탐색 (노드마다 가장 가까운 바뀐 메서드 기록)
+ *   → 바뀐 메서드 수와 관계없이 그래프 크기에 비례
+ * - 흐름 트리 최대 깊이까지만 탐색 (트리에 나타나지 않는 먼 호출은 영향 없음)
+ * - Java는 줄 범위가 겹치는 메서드만, 메서드 밖(필드, import 등)이 바뀌면 클래스 전체
+ * - 매퍼 XML은 줄 범위가 겹치는 SQL만, &lt;sql&gt; 조각이나 SQL 밖이 바뀌면 파일 전체
+ */
+class ChangeImpactAnalyzer {
+
+    // SQL 문장/조각 시작 태그 (id 속성이 같은 태그 안에 있는 경우)
+    private static final Pattern STATEMENT_TAG = Pattern.compile(
+        "<(select|insert|update|delete|statement|procedure|sql)\\b[^>]*?\\bid\\s*=\\s*[\"']([^\"']+)[\"']",
+        Pattern.CASE_INSENSITIVE);
+
+    private final FlowAnalyzer analyzer;
+    private final Path projectPath;
+    private final int maxDistance;
+
+    // 호출 그래프 (ParsedClass.getQualifiedName() + "." + 메서드명)
+    private final Map<String, List<String>> callers = new HashMap<>();
+    private final Map<String, List<String>> callees = new HashMap<>();
+    private final Map<String, ParsedMethod> methodsBySignature = new HashMap<>();
+    private final Map<String, ParsedClass> classesBySignature = new HashMap<>();
+    private final Map<String, String> labels = new HashMap<>();   // 그래프 노드 → 출력용 이름
+
+    // 바뀐 메서드 (엔드포인트는 같은 이름 메서드가 여러 개일 수 있어 객체로 구분)
+    private final Set<ParsedMethod> changedMethods = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<String> changedSignatures = new TreeSet<>();
+    private final Set<SqlInfo> changedSql = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<ParsedMethod> affectedEndpointMethods = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    ChangeImpactAnalyzer(FlowAnalyzer analyzer, Path projectPath, int maxDistance) {
+        this.analyzer = analyzer;
+        this.projectPath = projectPath;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * 영향받는 엔드포인트 Controller 메서드 (analyze() 후, 이 메서드만 추적)
+     */
+    Set<ParsedMethod> getAffectedEndpointMethods() {
+        return affectedEndpointMethods;
+    }
+
+    ChangeImpact analyze(ChangeSet changes) throws IOException {
+        ChangeImpact impact = new ChangeImpact();
+        buildCallGraph();
+        mapChangedFiles(changes, impact);
+
+        // 바뀐 메서드에서 호출하는 쪽으로 너비 우선 탐색
+        Map<String, Integer> distance = new HashMap<>();
+        Map<String, String> cause = new HashMap<>();
+        ArrayDeque<String> queue = new ArrayDeque<>();
+        for (String signature : changedSignatures) {
+            distance.put(signature, 0);
+            cause.put(signature, signature);
+            queue.add(signature);
+        }
+        while (!queue.isEmpty()) {
+            String signature = queue.poll();
+            int next = distance.get(signature) + 1;
+            if (next > maxDistance) {
+                continue;
+            }
+            for (String caller : callers.getOrDefault(signature, Collections.emptyList())) {
+                if (!distance.containsKey(caller)) {
+                    distance.put(caller, next);
+                    cause.put(caller, cause.get(signature));
+                    queue.add(caller);
+                }
+            }
+        }
+
+        collectEndpoints(distance, cause, impact);
+        collectTables(impact);
+
+        impact.getChangedMethods().addAll(labels(changedSignatures));
+        for (SqlInfo sqlInfo : changedSql) {
+            impact.getChangedSqlIds().add(sqlInfo.getFullSqlId());
+        }
+        Collections.sort(impact.getChangedSqlIds());
+        return impact;
+    }
+
+    // ========== 호출 그래프 ==========
+
+    /**
+     * 흐름 트리에서 펼쳐지는 메서드(클래스명으로 찾은 클래스의 같은 이름 첫 메서드)마다 호출 간선 생성
+     */
+    private void buildCallGraph() {
+        for (ParsedClass clazz : analyzer.getIndexedClasses()) {
+            if (analyzer.findIndexedClass(clazz.getClassName(), clazz.getModuleName()) != clazz) {
+                continue;   // 같은 모듈의 같은 이름 클래스가 덮어씀 (흐름 트리에서 펼쳐지지 않음)
+            }
+            for (ParsedMethod method : clazz.getMethods()) {
+                String signature = signature(clazz, method.getMethodName());
+                if (methodsBySignature.putIfAbsent(signature, method) != null) {
+                    continue;
+                }
+                classesBySignature.put(signature, clazz);
+                List<String> targets = resolveCalls(clazz, method);
+                if (!targets.isEmpty()) {
+                    callees.put(signature, targets);
+                }
+                for (String target : targets) {
+                    callers.computeIfAbsent(target, key -> new ArrayList<>()).add(signature);
+                }
+            }
+        }
+    }
+
+    private List<String> resolveCalls(ParsedClass caller, ParsedMethod method) {
+        List<String> targets = new ArrayList<>();
+        for (MethodCall call : method.getMethodCalls()) {
+            ParsedClass targetClass = analyzer.resolveCallTarget(call, caller);
+            if (targetClass == null) {
+                continue;
+            }
+            String target = signature(targetClass, call.getMethodName());
+            if (!targets.contains(target)) {
+                targets.add(target);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * 그래프 노드 이름 (출력용 이름도 함께 기록)
+     */
+    private String signature(ParsedClass clazz, String methodName) {
+        String signature = clazz.getQualifiedName() + "." + methodName;
+        if (!labels.containsKey(signature)) {
+            String label = clazz.getClassName() + "." + methodName;
+            labels.put(signature, clazz.getModuleName() != null ? clazz.getModuleName() + "/" + label : label);
+        }
+        return signature;
+    }
+
+    private String label(String signature) {
+        return labels.getOrDefault(signature, signature);
+    }
+
+    private Set<String> labels(Set<String> signatures) {
+        Set<String> result = new TreeSet<>();
+        for (String signature : signatures) {
+            result.add(label(signature));
+        }
+        return result;
+    }
+
+    // ========== 변경 파일 → 메서드/SQL ==========
+
+    private void mapChangedFiles(ChangeSet changes, ChangeImpact impact) throws IOException {
+        Set<String> matched = new HashSet<>();
+
+        for (ParsedClass clazz : analyzer.getIndexedClasses()) {
+            String file = changes.match(clazz.getFilePath());
+            if (file != null) {
+                matched.add(file);
+                addChangedClass(clazz, changes, file);
+            }
+        }
+
+        for (String file : changes.getFiles()) {
+            if (file.toLowerCase().endsWith(".xml") && addChangedMapper(changes, file)) {
+                matched.add(file);
+            }
+        }
+        addDaoMethodsForChangedSql();
+
+        for (String file : changes.getFiles()) {
+            if (!matched.contains(file)) {
+                impact.getUnmatchedFiles().add(file);
+            }
+        }
+    }
+
+    private void addChangedClass(ParsedClass clazz, ChangeSet changes, String file) {
+        List<ParsedMethod> touched = new ArrayList<>();
+        boolean wholeClass = changes.isWholeFile(file);
+        if (!wholeClass) {
+            for (ParsedMethod method : clazz.getMethods()) {
+                if (!method.hasLineRange()) {
+                    wholeClass = true;   // 줄 정보가 없는 예전 파싱 결과 → 클래스 전체
+                    break;
+                }
+                if (changes.touches(file, method.getBeginLine(), method.getEndLine())) {
+                    touched.add(method);
+                }
+            }
+            if (!wholeClass && !insideMethods(changes.getLineRanges(file), clazz.getMethods())) {
+                wholeClass = true;       // 메서드 밖(필드, import, 어노테이션 등) 변경
+            }
+        }
+        for (ParsedMethod method : wholeClass ? clazz.getMethods() : touched) {
+            addChangedMethod(clazz, method);
+        }
+
+        // 인터페이스 변경 → 호출은 구현체로 해석되므로 구현체의 같은 이름 메서드도 변경으로 봄
+        if (clazz.isInterface()) {
+            String impl = analyzer.resolveImplementation(clazz.getClassName());
+            ParsedClass implClass = analyzer.findIndexedClass(impl, clazz.getModuleName());
+            if (implClass != null && implClass != clazz) {
+                for (ParsedMethod method : wholeClass ? clazz.getMethods() : touched) {
+                    ParsedMethod implMethod = methodsBySignature.get(signature(implClass, method.getMethodName()));
+                    if (implMethod != null) {
+                        addChangedMethod(implClass, implMethod);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 바뀐 줄 범위가 모두 어떤 메서드와 겹치는지
+     */
+    private static boolean insideMethods(List<int[]> ranges, List<ParsedMethod> methods) {
+        for (int[] range : ranges) {
+            boolean inside = false;
+            for (ParsedMethod method : methods) {
+                if (range[0] <= method.getEndLine() && range[1] >= method.getBeginLine()) {
+                    inside = true;
+                    break;
+                }
+            }
+            if (!inside) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addChangedMethod(ParsedClass clazz, ParsedMethod method) {
+        changedMethods.add(method);
+        changedSignatures.add(signature(clazz, method.getMethodName()));
+    }
+
+    /**
+     * 매퍼 XML에서 바뀐 SQL 찾기 (연결된 SQL이 있으면 true)
+     *
+     * 매퍼는 파싱한 경로로 비교 (다른 폴더의 같은 이름 매퍼는 제외), 경로가 없는 예전 캐시 결과만 파일 이름으로 비교
+     */
+    private boolean addChangedMapper(ChangeSet changes, String file) throws IOException {
+        String fileName = Paths.get(file).getFileName().toString();
+        List<SqlInfo> statements = new ArrayList<>();
+        Set<SqlInfo> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (SqlInfo sqlInfo : analyzer.getSqlInfoMap().values()) {
+            boolean sameFile = sqlInfo.getFilePath() != null
+                ? changes.matches(sqlInfo.getFilePath(), file)
+                : fileName.equals(sqlInfo.getFileName());
+            if (sameFile && seen.add(sqlInfo)) {
+                statements.add(sqlInfo);
+            }
+        }
+        if (statements.isEmpty()) {
+            return false;
+        }
+
+        Set<String> touchedIds = changes.isWholeFile(file) ? null : findTouchedStatements(changes, file);
+        for (SqlInfo sqlInfo : statements) {
+            if (touchedIds == null || touchedIds.contains(sqlInfo.getSqlId())) {
+                changedSql.add(sqlInfo);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 바뀐 줄이 걸친 SQL 문장 id (조각/문장 밖 변경이거나 파일을 못 읽으면 null = 파일 전체)
+     */
+    private Set<String> findTouchedStatements(ChangeSet changes, String file) throws IOException {
+        Path path = projectPath.resolve(file);
+        if (!Files.isRegularFile(path)) {
+            path = Paths.get(file);
+            if (!Files.isRegularFile(path)) {
+                return null;   // 삭제된 파일
+            }
+        }
+        // 태그/id/줄바꿈(ASCII)만 필요 → ISO-8859-1로 읽으면 EUC-KR/MS949 매퍼도 디코딩 오류 없음
+        String text = Files.readString(path, StandardCharsets.ISO_8859_1);
+
+        // 태그 시작 줄 → 다음 태그 직전 줄까지를 그 문장의 범위로 봄
+        List<Integer> starts = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        List<Boolean> fragments = new ArrayList<>();
+        Matcher matcher = STATEMENT_TAG.matcher(text);
+        int line = 1;
+        int position = 0;
+        while (matcher.find()) {
+            for (; position < matcher.start(); position++) {
+                if (text.charAt(position) == '\n') {
+                    line++;
+                }
+            }
+            starts.add(line);
+            ids.add(matcher.group(2));
+            fragments.add(matcher.group(1).equalsIgnoreCase("sql"));
+        }
+        if (starts.isEmpty()) {
+            return null;
+        }
+
+        Set<String> touched = new HashSet<>();
+        if (changes.touches(file, 1, starts.get(0) - 1)) {
+            return null;       // 첫 문장 앞 (namespace, typeAlias 등)
+        }
+        for (int i = 0; i < starts.size(); i++) {
+            int begin = starts.get(i);
+            int end = i + 1 < starts.size() ? starts.get(i + 1) - 1 : Integer.MAX_VALUE;
+            if (changes.touches(file, begin, Math.max(begin, end))) {
+                if (fragments.get(i)) {
+                    return null;   // 조각은 어느 문장에 포함되는지 여기서 모름
+                }
+                touched.add(ids.get(i));
+            }
+        }
+        return touched;
+    }
+
+    /**
+     * 바뀐 SQL을 실행하는 DAO 메서드를 바뀐 메서드로 추가
+     */
+    private void addDaoMethodsForChangedSql() {
+        if (changedSql.isEmpty()) {
+            return;
+        }
+        // findBySqlId의 전체 검색은 바뀐 SQL id와 끝부분이 같은 경우에만
+        Set<String> candidates = new HashSet<>();
+        for (SqlInfo sqlInfo : changedSql) {
+            candidates.add(sqlInfo.getSqlId());
+        }
+        Map<String, SqlInfo> sqlInfoMap = analyzer.getSqlInfoMap();
+
+        for (Map.Entry<String, ParsedMethod> entry : methodsBySignature.entrySet()) {
+            ParsedMethod method = entry.getValue();
+            for (String sqlId : method.getSqlIds()) {
+                SqlInfo sqlInfo = sqlInfoMap.get(sqlId);
+                if (sqlInfo == null && candidates.contains(lastSegment(sqlId))) {
+                    sqlInfo = IBatisParser.findBySqlId(sqlInfoMap, sqlId);
+                }
+                if (sqlInfo != null && changedSql.contains(sqlInfo)) {
+                    changedMethods.add(method);
+                    changedSignatures.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+    }
+
+    private static String lastSegment(String sqlId) {
+        int dot = sqlId.lastIndexOf('.');
+        return dot >= 0 ? sqlId.substring(dot + 1) : sqlId;
+    }
+
+    // ========== 결과 ==========
+
+    /**
+     * 엔드포인트마다 자기 메서드가 바뀌었거나, 직접 호출하는 메서드에서 바뀐 메서드까지 닿는지 확인
+     */
+    private void collectEndpoints(Map<String, Integer> distance, Map<String, String> cause, ChangeImpact impact) {
+        for (ParsedClass clazz : analyzer.getIndexedClasses()) {
+            if (clazz.getClassType() != ClassType.CONTROLLER) {
+                continue;
+            }
+            for (ParsedMethod method : clazz.getMethods()) {
+                if (!method.isEndpoint()) {
+                    continue;
+                }
+                String handler = signature(clazz, method.getMethodName());
+                int best = Integer.MAX_VALUE;
+                String bestCause = null;
+                if (changedMethods.contains(method)) {
+                    best = 0;
+                    bestCause = handler;
+                } else {
+                    for (String target : resolveCalls(clazz, method)) {
+                        Integer d = distance.get(target);
+                        if (d != null && d + 1 < best) {
+                            best = d + 1;
+                            bestCause = cause.get(target);
+                        }
+                    }
+                }
+                if (bestCause != null) {
+                    affectedEndpointMethods.add(method);
+                    impact.getEndpoints().add(new ChangeImpact.AffectedEndpoint(
+                        method.getHttpMethod(), method.getUrlMapping(), label(handler), label(bestCause), best));
+                }
+            }
+        }
+        impact.getEndpoints().sort(Comparator
+            .comparing((ChangeImpact.AffectedEndpoint endpoint) -> String.valueOf(endpoint.getUrl()))
+            .thenComparing(endpoint -> String.valueOf(endpoint.getHttpMethod())));
+    }
+
+    /**
+     * 바뀐 SQL의 테이블 + 바뀐 메서드에서 호출하는 DAO의 테이블
+     */
+    private void collectTables(ChangeImpact impact) {
+        for (SqlInfo sqlInfo : changedSql) {
+            addTables(sqlInfo, impact);
+        }
+        Set<String> visited = new HashSet<>(changedSignatures);
+        ArrayDeque<String> queue = new ArrayDeque<>(changedSignatures);
+        while (!queue.isEmpty()) {
+            String signature = queue.poll();
+            ParsedMethod method = methodsBySignature.get(signature);
+            ParsedClass clazz = classesBySignature.get(signature);
+            if (method != null && clazz != null && clazz.getClassType() == ClassType.DAO && method.hasSqlIds()) {
+                // 흐름 트리와 같이 첫 번째 SQL ID 사용
+                addTables(IBatisParser.findBySqlId(analyzer.getSqlInfoMap(), method.getSqlIds().get(0)), impact);
+            }
+            for (String callee : callees.getOrDefault(signature, Collections.emptyList())) {
+                if (visited.add(callee)) {
+                    queue.add(callee);
+                }
+            }
+        }
+    }
+
+    private static void addTables(SqlInfo sqlInfo, ChangeImpact impact) {
+        if (sqlInfo != null && sqlInfo.getTables() != null) {
+            for (String table : sqlInfo.getTables()) {
+                impact.getTables().add(table.toUpperCase());
+            }
+        }
+    }
+}
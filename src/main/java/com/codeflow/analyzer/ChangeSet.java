@@ -0,0 +1,334 @@
+package com.codeflow.analyzer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 변경 파일 목록 (변경 영향 분석 입력)
+ *
+ * 파일마다 바뀐 줄 범위(변경 후 기준)를 보관합니다. 줄 범위가 없으면 파일 전체가 바뀐 것으로 봅니다.
+ *
+ * 사용 예:
+ * <pre>
+ * ChangeSet changes = ChangeSet.fromGit(projectPath, "origin/main");          // git diff 기준
+ * ChangeSet changes = ChangeSet.fromPaths(projectPath, List.of("changes.txt")); // 목록 파일
+ * </pre>
+ *
+ * 설계 결정:
+ * - git은 로컬 명령으로 실행 (diff -U0 --relative) → 프로젝트 폴더 기준 경로 + 줄 범위, JGit 의존성 없음
+ * - 추적되지 않는 새 파일(ls-files --others)도 파일 전체 변경으로 포함
+ * - core.quotepath=off로 실행 (한글 경로를 그대로 받음), 그래도 따옴표로 감싼 경로(공백/따옴표/제어 문자)는 C 이스케이프 해제
+ * - git 출력은 임시 파일로 받음 (출력이 많아도 파이프가 차서 멈추지 않고 시간 제한이 항상 적용됨)
+ * - 경로는 '/' 구분 상대 경로로 통일하고, 파싱된 클래스 경로와는 접미사로 비교 (절대/상대/아카이브 경로 모두 대응)
+ */
+public class ChangeSet {
+
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+    private static final long GIT_TIMEOUT_SECONDS = 120;
+
+    // 상대 경로 → 바뀐 줄 범위 목록 ({시작, 끝}, 비어 있으면 파일 전체)
+    private final Map<String, List<int[]>> files = new LinkedHashMap<>();
+
+    /**
+     * 로컬 git으로 변경 목록 생성 (ref와 작업 트리 비교 + 추적되지 않는 새 파일)
+     *
+     * @param projectPath 프로젝트 경로 (git 저장소 안)
+     * @param ref 비교 기준 (커밋, 브랜치, 태그 등)
+     */
+    public static ChangeSet fromGit(Path projectPath, String ref) throws IOException {
+        ChangeSet changes = parseDiff(runGit(projectPath,
+            "diff", "-U0", "--no-color", "--no-ext-diff", "--relative", ref, "--"));
+        for (String line : runGit(projectPath, "ls-files", "--others", "--exclude-standard").split("\n")) {
+            if (!line.isBlank()) {
+                String path = line.trim();
+                changes.addFile(path.startsWith("\"") ? unquote(path) : path);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * 경로 목록으로 생성 (파일 전체 변경)
+     *
+     * .txt/.lst 파일은 목록 파일로 보고 한 줄에 경로 1개씩 읽습니다 (# 주석, 빈 줄 무시).
+     *
+     * @param projectPath 프로젝트 경로 (절대 경로를 상대 경로로 바꿀 때 사용)
+     * @param entries 변경 파일 경로 또는 목록 파일 경로
+     */
+    public static ChangeSet fromPaths(Path projectPath, List<String> entries) throws IOException {
+        ChangeSet changes = new ChangeSet();
+        for (String entry : entries) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            Path path = Paths.get(trimmed);
+            if (isListFile(path)) {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    String listed = line.trim();
+                    if (!listed.isEmpty() && !listed.startsWith("#")) {
+                        changes.addFile(relativize(projectPath, listed));
+                    }
+                }
+            } else {
+                changes.addFile(relativize(projectPath, trimmed));
+            }
+        }
+        return changes;
+    }
+
+    private static boolean isListFile(Path path) {
+        String name = path.getFileName() != null ? path.getFileName().toString().toLowerCase() : "";
+        return (name.endsWith(".txt") || name.endsWith(".lst")) && Files.isRegularFile(path);
+    }
+
+    private static String relativize(Path projectPath, String path) {
+        Path candidate = Paths.get(path);
+        if (candidate.isAbsolute()) {
+            Path root = projectPath.toAbsolutePath().normalize();
+            Path normalized = candidate.normalize();
+            if (normalized.startsWith(root)) {
+                candidate = root.relativize(normalized);
+            }
+        }
+        return candidate.toString();
+    }
+
+    /**
+     * git diff -U0 출력 파싱 (파일별 변경 후 줄 범위)
+     */
+    static ChangeSet parseDiff(String diff) {
+        ChangeSet changes = new ChangeSet();
+        String current = null;
+        for (String line : diff.split("\n")) {
+            if (line.startsWith("diff --git ")) {
+                current = newPath(line);
+                if (current != null) {
+                    changes.addFile(current);
+                }
+            } else if (current != null && line.startsWith("@@")) {
+                Matcher matcher = HUNK.matcher(line);
+                if (matcher.find()) {
+                    int start = Integer.parseInt(matcher.group(1));
+                    int count = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 1;
+                    // 삭제만 있는 hunk(count 0)는 start 줄 다음에서 지워짐 → 앞뒤 줄을 변경으로 봄
+                    changes.addLines(current, Math.max(start, 1), count > 0 ? start + count - 1 : start + 1);
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * "diff --git a/... b/..." 줄에서 변경 후 경로 (따옴표로 감싼 경로 포함, 찾지 못하면 null)
+     */
+    private static String newPath(String header) {
+        String paths = header.substring("diff --git ".length()).trim();
+        if (paths.endsWith("\"")) {
+            int index = paths.lastIndexOf(" \"b/");
+            return index >= 0 ? unquote(paths.substring(index + 1)).substring(2) : null;
+        }
+        // 이름이 바뀌지 않았으면 "a/X b/X" → 경로에 " b/"가 있어도 반으로 나눠 찾음
+        int half = (paths.length() - 1) / 2;
+        if (paths.length() % 2 == 1 && paths.startsWith("a/") && paths.startsWith(" b/", half)
+                && paths.regionMatches(2, paths, half + 3, half - 2)) {
+            return paths.substring(half + 3);
+        }
+        int index = paths.lastIndexOf(" b/");
+        return index >= 0 ? paths.substring(index + 3) : null;
+    }
+
+    /**
+     * git이 따옴표로 감싼 경로 해제 ("..." 안의 \t, \n, \", \\, \ooo(8진수 UTF-8 바이트) 등)
+     */
+    static String unquote(String quoted) {
+        String text = quoted.trim();
+        if (text.length() < 2 || !text.startsWith("\"") || !text.endsWith("\"")) {
+            return text;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int end = text.length() - 1;
+        for (int i = 1; i < end; i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 >= end) {
+                byte[] encoded = String.valueOf(c).getBytes(StandardCharsets.UTF_8);
+                if (Character.isHighSurrogate(c) && i + 1 < end) {
+                    encoded = text.substring(i, i + 2).getBytes(StandardCharsets.UTF_8);
+                    i++;
+                }
+                bytes.writeBytes(encoded);
+                continue;
+            }
+            char next = text.charAt(++i);
+            switch (next) {
+                case 'a': bytes.write(7); break;
+                case 'b': bytes.write('\b'); break;
+                case 't': bytes.write('\t'); break;
+                case 'n': bytes.write('\n'); break;
+                case 'v': bytes.write(11); break;
+                case 'f': bytes.write('\f'); break;
+                case 'r': bytes.write('\r'); break;
+                default:
+                    if (next >= '0' && next <= '7') {
+                        int value = 0;
+                        int digits = 0;
+                        for (; digits < 3 && i < end && text.charAt(i) >= '0' && text.charAt(i) <= '7'; digits++, i++) {
+                            value = value * 8 + (text.charAt(i) - '0');
+                        }
+                        i--;
+                        bytes.write(value);
+                    } else {
+                        bytes.write(next);   // \" \\ 등
+                    }
+            }
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String runGit(Path projectPath, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.add("-C");
+        command.add(projectPath.toAbsolutePath().toString());
+        command.add("-c");
+        command.add("core.quotepath=off");
+        Collections.addAll(command, args);
+
+        Path outputFile = Files.createTempFile("cft-git-", ".out");
+        Path errorFile = Files.createTempFile("cft-git-", ".err");
+        try {
+            Process process = new ProcessBuilder(command)
+                .redirectOutput(outputFile.toFile())
+                .redirectError(errorFile.toFile())
+                .start();
+            if (!process.waitFor(GIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("git " + args[0] + " 시간 초과");
+            }
+            if (process.exitValue() != 0) {
+                String error = Files.readString(errorFile, StandardCharsets.UTF_8).trim();
+                throw new IOException("git " + args[0] + " 실패 (exit " + process.exitValue() + "): " + error);
+            }
+            return Files.readString(outputFile, StandardCharsets.UTF_8);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("git " + args[0] + " 중단됨", e);
+        } finally {
+            Files.deleteIfExists(outputFile);
+            Files.deleteIfExists(errorFile);
+        }
+    }
+
+    // ========== 구성 / 조회 ==========
+
+    /**
+     * 파일 전체 변경으로 추가 (이미 줄 범위가 있으면 유지)
+     */
+    public void addFile(String path) {
+        files.computeIfAbsent(normalize(path), key -> new ArrayList<>());
+    }
+
+    /**
+     * 바뀐 줄 범위 추가 (1부터, 양끝 포함)
+     */
+    public void addLines(String path, int beginLine, int endLine) {
+        files.computeIfAbsent(normalize(path), key -> new ArrayList<>()).add(new int[]{beginLine, endLine});
+    }
+
+    private static String normalize(String path) {
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        return normalized;
+    }
+
+    public Set<String> getFiles() {
+        return Collections.unmodifiableSet(files.keySet());
+    }
+
+    public int size() {
+        return files.size();
+    }
+
+    public boolean isEmpty() {
+        return files.isEmpty();
+    }
+
+    /**
+     * 파일 전체가 바뀐 것으로 봐야 하는지 (줄 범위 없음)
+     */
+    public boolean isWholeFile(String path) {
+        List<int[]> ranges = files.get(path);
+        return ranges != null && ranges.isEmpty();
+    }
+
+    /**
+     * 줄 범위 [beginLine, endLine]에 바뀐 줄이 있는지 (파일 전체 변경이면 항상 true)
+     */
+    public boolean touches(String path, int beginLine, int endLine) {
+        List<int[]> ranges = files.get(path);
+        if (ranges == null) {
+            return false;
+        }
+        if (ranges.isEmpty()) {
+            return true;
+        }
+        for (int[] range : ranges) {
+            if (range[0] <= endLine && range[1] >= beginLine) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 바뀐 줄 범위 (파일 전체 변경이면 빈 목록)
+     */
+    public List<int[]> getLineRanges(String path) {
+        List<int[]> ranges = files.get(path);
+        return ranges != null ? Collections.unmodifiableList(ranges) : Collections.emptyList();
+    }
+
+    /**
+     * 경로가 변경 파일 중 하나를 가리키면 그 변경 파일 경로 (접미사 비교, 없으면 null)
+     */
+    public String match(Path path) {
+        if (path == null) {
+            return null;
+        }
+        String normalized = normalize(path.toString());
+        for (String file : files.keySet()) {
+            if (matches(normalized, file)) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 경로가 변경 파일 file을 가리키는지 (접미사 비교)
+     */
+    public boolean matches(String path, String file) {
+        String normalized = normalize(path);
+        return normalized.equals(file) || normalized.endsWith("/" + file);
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeSet" + files.keySet();
+    }
+}
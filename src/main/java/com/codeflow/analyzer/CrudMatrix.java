@@ -0,0 +1,411 @@
+package com.codeflow.analyzer;
+
+import com.codeflow.parser.ClassType;
+import com.codeflow.parser.SqlInfo;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CRUD 매트릭스 (엔드포인트 × 테이블)
+ *
+ * 셀 값은 C/R/U/D 4비트 마스크입니다 (INSERT=C, SELECT=R, UPDATE=U, DELETE=D).
+ * 엔드포인트와 테이블은 등록 순서대로 정수 ID를 받고, 행(엔드포인트)과 열(테이블)을 각각 희소 맵으로 보관합니다.
+ *
+ * 사용 예:
+ * <pre>
+ * CrudMatrix matrix = result.getCrudMatrix();
+ * int mask = matrix.get("GET /api/user/list", "TB_USER");   // CrudMatrix.READ
+ * String crud = CrudMatrix.format(mask);                     // "R"
+ * matrix.writeCsv(writer);
+ * </pre>
+ *
+ * 설계 결정:
+ * - FlowAnalyzer가 추적 중 DAO 노드에 SQL을 연결할 때 바로 기록 → TableImpact 목록을 다시 만들 필요 없음
+ * - 행/열은 int[] 오픈 어드레싱 맵 (항목 1개 = (ID + 1) &lt;&lt; 4 | 마스크, 4바이트)
+ *   → 셀 조회 O(1), 행/열 전체 마스크는 별도 배열로 O(1), 박싱/항목 객체 없음
+ *   → 50,000 × 3,000 매트릭스에 셀 100만 개면 행 + 열 맵 합계 약 20~30MB (셀당 4비트 밀집 배열도 75MB)
+ * - 셀이 없는 행/열은 맵을 만들지 않음
+ * - 세션에는 저장하지 않고(FlowResult에서 transient) 필요하면 흐름 트리에서 다시 생성
+ */
+public class CrudMatrix {
+
+    public static final int CREATE = 1;
+    public static final int READ = 2;
+    public static final int UPDATE = 4;
+    public static final int DELETE = 8;
+
+    private static final char[] LETTERS = {'C', 'R', 'U', 'D'};
+
+    private final List<String> endpoints = new ArrayList<>();
+    private final Map<String, Integer> endpointIds = new HashMap<>();
+    private final List<String> tables = new ArrayList<>();
+    private final Map<String, Integer> tableIds = new HashMap<>();
+
+    private MaskMap[] rows = new MaskMap[16];      // 엔드포인트 ID → (테이블 ID → 마스크)
+    private MaskMap[] columns = new MaskMap[16];   // 테이블 ID → (엔드포인트 ID → 마스크)
+    private int[] rowMasks = new int[16];          // 엔드포인트가 접근하는 모든 테이블의 마스크 합
+    private int[] columnMasks = new int[16];       // 테이블에 대한 모든 엔드포인트의 마스크 합
+    private int cellCount;
+
+    /**
+     * SQL 타입 → CRUD 마스크 (UNKNOWN/null이면 0)
+     */
+    public static int maskOf(SqlInfo.SqlType type) {
+        if (type == null) {
+            return 0;
+        }
+        switch (type) {
+            case INSERT: return CREATE;
+            case SELECT: return READ;
+            case UPDATE: return UPDATE;
+            case DELETE: return DELETE;
+            default: return 0;
+        }
+    }
+
+    /**
+     * 마스크 → "CRUD" 문자열 (예: READ | UPDATE → "RU", 0 → "")
+     */
+    public static String format(int mask) {
+        StringBuilder sb = new StringBuilder(4);
+        for (int bit = 0; bit < LETTERS.length; bit++) {
+            if ((mask & (1 << bit)) != 0) {
+                sb.append(LETTERS[bit]);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 엔드포인트 표시 이름 (HTTP 메서드 + URL)
+     */
+    public static String endpointName(String httpMethod, String url) {
+        String path = url != null ? url : "-";
+        return httpMethod != null && !httpMethod.isEmpty() ? httpMethod + " " + path : path;
+    }
+
+    /**
+     * 분석 결과의 흐름 트리에서 생성 (세션에서 불러온 결과, 필터링된 결과 등)
+     */
+    public static CrudMatrix fromFlows(List<FlowNode> flows) {
+        CrudMatrix matrix = new CrudMatrix();
+        for (FlowNode flow : flows) {
+            int endpointId = matrix.addEndpoint(endpointName(flow.getHttpMethod(), flow.getUrlMapping()));
+            matrix.addNode(endpointId, flow);
+        }
+        return matrix;
+    }
+
+    private void addNode(int endpointId, FlowNode node) {
+        if (node.getClassType() == ClassType.DAO && node.hasSqlInfo()) {
+            add(endpointId, node.getSqlInfo());
+        }
+        for (FlowNode child : node.getChildren()) {
+            addNode(endpointId, child);
+        }
+    }
+
+    /**
+     * 엔드포인트 등록 (이미 있으면 기존 ID)
+     */
+    public int addEndpoint(String endpoint) {
+        Integer id = endpointIds.get(endpoint);
+        if (id != null) {
+            return id;
+        }
+        id = endpoints.size();
+        endpoints.add(endpoint);
+        endpointIds.put(endpoint, id);
+        if (id == rows.length) {
+            rows = Arrays.copyOf(rows, id * 2);
+            rowMasks = Arrays.copyOf(rowMasks, id * 2);
+        }
+        return id;
+    }
+
+    private int addTable(String table) {
+        Integer id = tableIds.get(table);
+        if (id != null) {
+            return id;
+        }
+        id = tables.size();
+        tables.add(table);
+        tableIds.put(table, id);
+        if (id == columns.length) {
+            columns = Arrays.copyOf(columns, id * 2);
+            columnMasks = Arrays.copyOf(columnMasks, id * 2);
+        }
+        return id;
+    }
+
+    /**
+     * 엔드포인트가 실행하는 SQL 1개 기록 (테이블별 CRUD, 판단하지 못한 테이블은 SQL 타입 마스크)
+     *
+     * INSERT INTO TB_HIST SELECT ... FROM TB_USER → TB_HIST는 C, TB_USER는 R
+     * (SqlInfo.getTableCrud 비트는 이 클래스의 CREATE~DELETE와 같은 값)
+     */
+    public void add(int endpointId, SqlInfo sqlInfo) {
+        int statementMask = maskOf(sqlInfo.getType());
+        for (String table : sqlInfo.getTables()) {
+            int mask = sqlInfo.getTableCrud(table);
+            add(endpointId, table, mask != 0 ? mask : statementMask);
+        }
+    }
+
+    public void add(int endpointId, String table, int mask) {
+        if (mask == 0 || table == null || table.isEmpty()) {
+            return;
+        }
+        int tableId = addTable(table.toUpperCase());
+        if (rows[endpointId] == null) {
+            rows[endpointId] = new MaskMap();
+        }
+        if (columns[tableId] == null) {
+            columns[tableId] = new MaskMap();
+        }
+        if (rows[endpointId].or(tableId, mask)) {
+            cellCount++;
+        }
+        columns[tableId].or(endpointId, mask);
+        rowMasks[endpointId] |= mask;
+        columnMasks[tableId] |= mask;
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 셀 마스크 (없으면 0)
+     */
+    public int get(int endpointId, int tableId) {
+        MaskMap row = endpointId < endpoints.size() ? rows[endpointId] : null;
+        return row != null ? row.get(tableId) : 0;
+    }
+
+    public int get(String endpoint, String table) {
+        int endpointId = getEndpointId(endpoint);
+        int tableId = getTableId(table);
+        return endpointId < 0 || tableId < 0 ? 0 : get(endpointId, tableId);
+    }
+
+    /**
+     * 엔드포인트가 접근하는 모든 테이블의 마스크 합
+     */
+    public int getRowMask(int endpointId) {
+        return rowMasks[endpointId];
+    }
+
+    /**
+     * 테이블에 접근하는 모든 엔드포인트의 마스크 합
+     */
+    public int getColumnMask(int tableId) {
+        return columnMasks[tableId];
+    }
+
+    /**
+     * 엔드포인트가 접근하는 테이블 수
+     */
+    public int getRowSize(int endpointId) {
+        return rows[endpointId] != null ? rows[endpointId].size : 0;
+    }
+
+    /**
+     * 테이블에 접근하는 엔드포인트 수
+     */
+    public int getColumnSize(int tableId) {
+        return columns[tableId] != null ? columns[tableId].size : 0;
+    }
+
+    /**
+     * 행의 셀 순회 (테이블 ID, 마스크 - 순서 없음)
+     */
+    public void forEachInRow(int endpointId, CellConsumer consumer) {
+        if (rows[endpointId] != null) {
+            rows[endpointId].forEach(consumer);
+        }
+    }
+
+    /**
+     * 열의 셀 순회 (엔드포인트 ID, 마스크 - 순서 없음)
+     */
+    public void forEachInColumn(int tableId, CellConsumer consumer) {
+        if (columns[tableId] != null) {
+            columns[tableId].forEach(consumer);
+        }
+    }
+
+    public int getEndpointId(String endpoint) {
+        Integer id = endpointIds.get(endpoint);
+        return id != null ? id : -1;
+    }
+
+    public int getTableId(String table) {
+        Integer id = table != null ? tableIds.get(table.toUpperCase()) : null;
+        return id != null ? id : -1;
+    }
+
+    public String getEndpoint(int endpointId) { return endpoints.get(endpointId); }
+    public String getTable(int tableId) { return tables.get(tableId); }
+    public int getEndpointCount() { return endpoints.size(); }
+    public int getTableCount() { return tables.size(); }
+    public int getCellCount() { return cellCount; }
+
+    /**
+     * 셀이 있는 엔드포인트 ID (이름순)
+     */
+    public int[] sortedEndpointIds() {
+        return sortedIds(endpoints, rowMasks);
+    }
+
+    /**
+     * 셀이 있는 테이블 ID (이름순)
+     */
+    public int[] sortedTableIds() {
+        return sortedIds(tables, columnMasks);
+    }
+
+    private static int[] sortedIds(List<String> names, int[] masks) {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < names.size(); id++) {
+            if (masks[id] != 0) {
+                ids.add(id);
+            }
+        }
+        ids.sort((a, b) -> names.get(a).compareTo(names.get(b)));
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 행/열 맵의 대략적인 크기 (바이트, 이름 문자열 제외)
+     */
+    public long estimatedBytes() {
+        long bytes = 4L * (rows.length + columns.length + rowMasks.length + columnMasks.length);
+        for (MaskMap row : rows) {
+            bytes += row != null ? row.bytes() : 0;
+        }
+        for (MaskMap column : columns) {
+            bytes += column != null ? column.bytes() : 0;
+        }
+        return bytes;
+    }
+
+    // ========== 내보내기 ==========
+
+    /**
+     * CSV 출력 (1행: 엔드포인트, 테이블명..., 이후 엔드포인트별 CRUD 문자열, 셀이 없으면 빈 값)
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        int[] tableOrder = sortedTableIds();
+        writer.write("엔드포인트");
+        for (int tableId : tableOrder) {
+            writer.write(',');
+            writer.write(csvValue(tables.get(tableId)));
+        }
+        writer.write("\r\n");
+
+        for (int endpointId : sortedEndpointIds()) {
+            writer.write(csvValue(endpoints.get(endpointId)));
+            MaskMap row = rows[endpointId];
+            for (int tableId : tableOrder) {
+                writer.write(',');
+                int mask = row.get(tableId);
+                if (mask != 0) {
+                    writer.write(format(mask));
+                }
+            }
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    private static String csvValue(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CrudMatrix[엔드포인트 %,d × 테이블 %,d, 셀 %,d]",
+            endpoints.size(), tables.size(), cellCount);
+    }
+
+    /**
+     * 셀 순회 콜백
+     */
+    @FunctionalInterface
+    public interface CellConsumer {
+        void accept(int id, int mask);
+    }
+
+    /**
+     * ID → 4비트 마스크 오픈 어드레싱 맵 (항목 = (ID + 1) &lt;&lt; 4 | 마스크, 0은 빈 칸)
+     */
+    static final class MaskMap {
+        private int[] slots = new int[4];
+        private int size;
+
+        /**
+         * 마스크 OR (새 항목이면 true)
+         */
+        boolean or(int id, int mask) {
+            int key = (id + 1) << 4;
+            int index = indexOf(slots, key);
+            if (slots[index] != 0) {
+                slots[index] |= mask;
+                return false;
+            }
+            slots[index] = key | mask;
+            if (++size * 2 > slots.length) {
+                grow();
+            }
+            return true;
+        }
+
+        int get(int id) {
+            int slot = slots[indexOf(slots, (id + 1) << 4)];
+            return slot & 0xF;
+        }
+
+        void forEach(CellConsumer consumer) {
+            for (int slot : slots) {
+                if (slot != 0) {
+                    consumer.accept((slot >>> 4) - 1, slot & 0xF);
+                }
+            }
+        }
+
+        long bytes() {
+            return 16 + 16 + 4L * slots.length;
+        }
+
+        private void grow() {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            for (int slot : old) {
+                if (slot != 0) {
+                    slots[indexOf(slots, slot & ~0xF)] = slot;
+                }
+            }
+        }
+
+        /**
+         * 키가 있는 칸 또는 비어 있는 칸 (선형 탐사)
+         */
+        private static int indexOf(int[] slots, int key) {
+            int mask = slots.length - 1;
+            int hash = key * 0x9E3779B9;
+            int index = (hash ^ (hash >>> 16)) & mask;
+            while (slots[index] != 0 && (slots[index] & ~0xF) != key) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.codeflow.analyzer;
 
 import com.codeflow.parser.*;
+import com.codeflow.perf.JfrEvents;
+import com.codeflow.perf.PerfReport;
+import com.codeflow.util.CancellationToken;
+import com.codeflow.util.ProgressListener;
+import com.codeflow.util.SymbolPool;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
 
@@ -12,12 +18,28 @@ import java.util.*;
  * - 파싱된 클래스들을 인덱싱
  * - 인터페이스 → 구현체 매핑
  * - 메서드 호출을 따라가며 트리 구조 생성
+ *
+ * 멀티 모듈 프로젝트 (setModules):
+ * - 같은 이름의 클래스가 여러 모듈에 있으면 호출하는 클래스의 모듈 → 직접 의존 모듈 → 간접 의존 모듈 순으로 찾음
+ * - 모듈 정보가 없는 클래스(단일 모듈 프로젝트)는 이름 하나로 조회 (같은 이름은 나중 클래스)
  */
 public class FlowAnalyzer {
 
+    // 흐름 트리 최대 깊이 (이 깊이의 노드까지 하위 호출을 펼침, 무한 루프 방지)
+    static final int MAX_DEPTH = 10;
+
     // 클래스명 → ParsedClass 매핑 (빠른 조회용)
     private final Map<String, ParsedClass> classIndex = new HashMap<>();
 
+    // "모듈/클래스명" → ParsedClass (모듈 정보가 있는 클래스만)
+    private final Map<String, ParsedClass> moduleClassIndex = new HashMap<>();
+
+    // 모듈 이름 → 클래스를 찾을 모듈 순서 (자기 자신, 직접 의존, 간접 의존 - setModules)
+    private final Map<String, List<String>> moduleSearchOrder = new HashMap<>();
+
+    // 인덱싱한 클래스 (입력 순서 유지 - 구현체 선택, Controller 추적 순서가 입력 순서를 따름)
+    private final List<ParsedClass> indexedClasses = new ArrayList<>();
+
     // 인터페이스명 → 구현체 클래스명 매핑
     private final Map<String, String> interfaceToImpl = new HashMap<>();
 
@@ -36,9 +58,86 @@ public class FlowAnalyzer {
     // 매핑되지 않은 호출 카운트
     private int unmappedCallCount = 0;
 
+    // 취소/진행 상황 (GUI에서 설정, 기본값은 취소 없음/통지 없음)
+    private CancellationToken cancellationToken = CancellationToken.none();
+    private ProgressListener progressListener = ProgressListener.NONE;
+    private PerfReport perfReport = PerfReport.none();
+
+    // 식별자 문자열 공유 풀 (파서와 같은 풀을 설정하면 FlowNode가 파싱 모델과 같은 인스턴스 사용)
+    private SymbolPool symbolPool = new SymbolPool();
+
+    // 동적 SQL 분기 분석 (설정 시 테이블 접근에 조건 표시, null이면 분석 안 함)
+    private SqlBranchAnalyzer sqlBranchAnalyzer;
+
+    // CRUD 매트릭스 (추적 중 DAO 노드에 SQL을 연결할 때 기록, 지금 추적 중인 엔드포인트 행)
+    private CrudMatrix crudMatrix = new CrudMatrix();
+    private int currentEndpointId = -1;
+
+    // 엔드포인트 진행 카운트 (analyze 1회 기준)
+    private int analyzedEndpointCount = 0;
+    private int totalEndpointCount = 0;
+
     public FlowAnalyzer() {
     }
 
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public void setPerfReport(PerfReport perfReport) {
+        this.perfReport = perfReport;
+    }
+
+    public void setSymbolPool(SymbolPool symbolPool) {
+        this.symbolPool = symbolPool;
+    }
+
+    /**
+     * 동적 SQL 분기 분석기 설정 (buildTableIndex에서 일부 분기에서만 접근하는 테이블에 조건 표시, CRUD는 테이블별)
+     */
+    public void setSqlBranchAnalyzer(SqlBranchAnalyzer sqlBranchAnalyzer) {
+        this.sqlBranchAnalyzer = sqlBranchAnalyzer;
+    }
+
+    public SymbolPool getSymbolPool() {
+        return symbolPool;
+    }
+
+    /**
+     * 멀티 모듈 구성 설정 (모듈 간 같은 이름 클래스를 의존 관계로 구분, null/빈 목록이면 이름으로만 조회)
+     *
+     * 모듈별 탐색 순서는 너비 우선: 자기 모듈, 빌드 파일에 선언한 순서의 직접 의존, 그다음 간접 의존.
+     */
+    public void setModules(List<ProjectModule> modules) {
+        moduleSearchOrder.clear();
+        if (modules == null) {
+            return;
+        }
+        Map<String, ProjectModule> byName = new HashMap<>();
+        modules.forEach(module -> byName.put(module.getName(), module));
+        for (ProjectModule module : modules) {
+            List<String> order = new ArrayList<>();
+            Deque<String> queue = new ArrayDeque<>();
+            queue.add(module.getName());
+            while (!queue.isEmpty()) {
+                String name = queue.poll();
+                if (order.contains(name)) {
+                    continue;
+                }
+                order.add(name);
+                ProjectModule dependency = byName.get(name);
+                if (dependency != null) {
+                    queue.addAll(dependency.getDependencies());
+                }
+            }
+            moduleSearchOrder.put(module.getName(), order);
+        }
+    }
+
     /**
      * SQL 정보 매핑 설정 (IBatisParser 연동용)
      */
@@ -56,25 +155,133 @@ public class FlowAnalyzer {
     public FlowResult analyze(Path projectPath, List<ParsedClass> parsedClasses) {
         FlowResult result = new FlowResult(projectPath.toString());
 
-        // 1. 클래스 인덱싱
-        indexClasses(parsedClasses);
+        try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_INDEXING)) {
+            // 1. 클래스 인덱싱
+            beginIndex();
+            for (ParsedClass clazz : parsedClasses) {
+                indexClass(clazz);
+            }
 
-        // 2. 인터페이스 → 구현체 매핑 생성
-        buildInterfaceMapping(parsedClasses);
+            // 2. 인터페이스 → 구현체 매핑 + 통계
+            completeIndex(result);
+            phase.addItems(parsedClasses.size());
+        }
 
-        // 3. 통계 정보 수집
-        collectStatistics(result, parsedClasses);
+        return traceIndexed(result, null);
+    }
 
-        // 4. Controller 엔드포인트에서 시작하여 호출 흐름 분석
-        for (ParsedClass clazz : parsedClasses) {
-            if (clazz.getClassType() == ClassType.CONTROLLER) {
-                analyzeController(result, clazz);
+    /**
+     * 점진적 인덱싱 시작 (파이프라인용: beginIndex → indexClass 반복 → analyzeIndexed)
+     */
+    public void beginIndex() {
+        classIndex.clear();
+        moduleClassIndex.clear();
+        scopeToClassName.clear();
+        indexedClasses.clear();
+    }
+
+    /**
+     * 클래스 1개 인덱싱 - 빠른 조회를 위해 Map에 추가
+     *
+     * 같은 이름은 나중 클래스가 덮어쓰므로 parseProject와 같은 순서(경로순)로 호출해야 결과가 같습니다.
+     */
+    public void indexClass(ParsedClass clazz) {
+        indexedClasses.add(clazz);
+
+        String className = clazz.getClassName();
+        classIndex.put(className, clazz);
+        if (clazz.getModuleName() != null) {
+            moduleClassIndex.put(clazz.getModuleName() + "/" + className, clazz);
+        }
+
+        // scope 매핑 생성 (userService → UserService, userDAO → UserDAO)
+        String scopeName = symbolPool.intern(toLowerCamelCase(className));
+        scopeToClassName.put(scopeName, className);
+
+        // 일반적인 변수명 패턴도 추가
+        // UserServiceImpl → userService (Impl 제거)
+        if (className.endsWith("Impl")) {
+            String baseName = className.substring(0, className.length() - 4);
+            scopeToClassName.put(symbolPool.intern(toLowerCamelCase(baseName)), className);
+        }
+    }
+
+    /**
+     * indexClass()로 인덱싱한 클래스로 분석 실행 (인터페이스 매핑 → 호출 흐름 추적)
+     */
+    public FlowResult analyzeIndexed(Path projectPath) {
+        FlowResult result = new FlowResult(projectPath.toString());
+        try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_INDEXING)) {
+            completeIndex(result);
+            phase.addItems(indexedClasses.size());
+        }
+        return traceIndexed(result, null);
+    }
+
+    /**
+     * indexClass()로 인덱싱한 클래스로 변경 영향 분석 (바뀐 메서드/SQL → 영향받는 엔드포인트/테이블)
+     *
+     * 호출 그래프를 거꾸로 따라가 엔드포인트를 찾고, 영향받는 엔드포인트만 추적합니다.
+     * 결과의 flowResult에는 그 엔드포인트의 흐름만 들어 있습니다.
+     *
+     * @param projectPath 프로젝트 경로 (매퍼 XML의 바뀐 줄을 찾을 때 사용)
+     * @param changes 변경 파일 목록
+     */
+    public ChangeImpact analyzeChangeImpact(Path projectPath, ChangeSet changes) throws IOException {
+        FlowResult result = new FlowResult(projectPath.toString());
+        try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_INDEXING)) {
+            completeIndex(result);
+            phase.addItems(indexedClasses.size());
+        }
+
+        ChangeImpactAnalyzer impactAnalyzer = new ChangeImpactAnalyzer(this, projectPath, MAX_DEPTH);
+        ChangeImpact impact;
+        try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_CHANGE_IMPACT)) {
+            impact = impactAnalyzer.analyze(changes);
+            phase.addItems(changes.size());
+        }
+        perfReport.addCounter(PerfReport.COUNTER_IMPACT_CHANGED_METHODS, impact.getChangedMethods().size());
+        perfReport.addCounter(PerfReport.COUNTER_IMPACT_ENDPOINTS, impact.getEndpoints().size());
+
+        impact.setFlowResult(traceIndexed(result, impactAnalyzer.getAffectedEndpointMethods()));
+        return impact;
+    }
+
+    /**
+     * 인덱싱 마무리: 인터페이스 → 구현체 매핑 생성 + 통계 정보 수집
+     */
+    private void completeIndex(FlowResult result) {
+        buildInterfaceMapping(indexedClasses);
+        collectStatistics(result, indexedClasses);
+    }
+
+    /**
+     * Controller 엔드포인트에서 시작하여 호출 흐름 분석
+     *
+     * @param endpoints 추적할 엔드포인트 메서드 (null이면 전체)
+     */
+    private FlowResult traceIndexed(FlowResult result, Set<ParsedMethod> endpoints) {
+        try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_TRACING)) {
+            // 같은 분석기로 여러 번 추적해도 (데몬 요청마다 변경 영향 분석 등) 이번 추적만 집계
+            analyzedEndpointCount = 0;
+            unmappedCallCount = 0;
+            totalEndpointCount = endpoints != null ? endpoints.size() : countEndpoints(indexedClasses);
+            crudMatrix = new CrudMatrix();
+            for (ParsedClass clazz : indexedClasses) {
+                if (clazz.getClassType() == ClassType.CONTROLLER) {
+                    analyzeController(result, clazz, endpoints);
+                }
             }
+            phase.addItems(analyzedEndpointCount);
         }
 
         result.setUnmappedCallCount(unmappedCallCount);
+        result.setCrudMatrix(crudMatrix);
+        perfReport.addCounter(PerfReport.COUNTER_CRUD_MATRIX_CELLS, crudMatrix.getCellCount());
+        perfReport.addCounter(PerfReport.COUNTER_SYMBOL_POOL_SIZE, symbolPool.size());
+        perfReport.addCounter(PerfReport.COUNTER_SYMBOL_POOL_HITS, symbolPool.getHitCount());
 
-        // 5. 다중 구현체 경고 설정
+        // 다중 구현체 경고 설정
         if (!multipleImplWarnings.isEmpty()) {
             result.setMultipleImplWarnings(getMultipleImplWarnings());
         }
@@ -92,10 +299,14 @@ public class FlowAnalyzer {
      * - 부분 매칭: "user" (URL에 포함되면 매칭)
      */
     public FlowResult analyzeByUrl(Path projectPath, List<ParsedClass> parsedClasses, String urlPattern) {
-        FlowResult fullResult = analyze(projectPath, parsedClasses);
+        return filterByUrl(analyze(projectPath, parsedClasses), urlPattern);
+    }
 
-        // URL 패턴 필터링
-        FlowResult filtered = new FlowResult(projectPath.toString());
+    /**
+     * 분석 결과를 URL 패턴으로 필터링 (패턴은 analyzeByUrl과 동일)
+     */
+    public FlowResult filterByUrl(FlowResult fullResult, String urlPattern) {
+        FlowResult filtered = new FlowResult(fullResult.getProjectPath());
         filtered.setTotalClasses(fullResult.getTotalClasses());
         filtered.setControllerCount(fullResult.getControllerCount());
         filtered.setServiceCount(fullResult.getServiceCount());
@@ -211,30 +422,6 @@ public class FlowAnalyzer {
         return null;
     }
 
-    /**
-     * 클래스 인덱싱 - 빠른 조회를 위해 Map 생성
-     */
-    private void indexClasses(List<ParsedClass> parsedClasses) {
-        classIndex.clear();
-        scopeToClassName.clear();
-
-        for (ParsedClass clazz : parsedClasses) {
-            String className = clazz.getClassName();
-            classIndex.put(className, clazz);
-
-            // scope 매핑 생성 (userService → UserService, userDAO → UserDAO)
-            String scopeName = toLowerCamelCase(className);
-            scopeToClassName.put(scopeName, className);
-
-            // 일반적인 변수명 패턴도 추가
-            // UserServiceImpl → userService (Impl 제거)
-            if (className.endsWith("Impl")) {
-                String baseName = className.substring(0, className.length() - 4);
-                scopeToClassName.put(toLowerCamelCase(baseName), className);
-            }
-        }
-    }
-
     /**
      * 인터페이스 → 구현체 매핑 생성
      *
@@ -264,8 +451,11 @@ public class FlowAnalyzer {
 
             // 이 클래스가 구현한 인터페이스들에 대해 매핑
             for (String interfaceName : clazz.getImplementedInterfaces()) {
-                interfaceToAllImpls.computeIfAbsent(interfaceName, k -> new ArrayList<>())
-                    .add(clazz.getClassName());
+                List<String> impls = interfaceToAllImpls.computeIfAbsent(interfaceName, k -> new ArrayList<>());
+                // 다른 모듈의 같은 이름 구현체는 1개로 (어느 모듈 것인지는 추적할 때 호출하는 모듈로 결정)
+                if (clazz.getModuleName() == null || !impls.contains(clazz.getClassName())) {
+                    impls.add(clazz.getClassName());
+                }
             }
         }
 
@@ -343,17 +533,80 @@ public class FlowAnalyzer {
     /**
      * Controller 클래스 분석
      */
-    private void analyzeController(FlowResult result, ParsedClass controller) {
+    private void analyzeController(FlowResult result, ParsedClass controller, Set<ParsedMethod> endpoints) {
         for (ParsedMethod method : controller.getMethods()) {
             // 엔드포인트 메서드만 분석 (URL 매핑이 있는 메서드)
-            if (method.isEndpoint()) {
+            if (method.isEndpoint() && (endpoints == null || endpoints.contains(method))) {
+                cancellationToken.throwIfCancelled();
+
+                JfrEvents.EndpointTraceEvent event = JfrEvents.isEnabled() ? new JfrEvents.EndpointTraceEvent() : null;
+                if (event != null) {
+                    event.begin();
+                }
                 visitedMethods.clear();  // 각 엔드포인트마다 방문 기록 초기화
+                currentEndpointId = crudMatrix.addEndpoint(
+                    CrudMatrix.endpointName(method.getHttpMethod(), method.getUrlMapping()));
                 FlowNode flowNode = buildFlowTree(controller, method, 0);
+                currentEndpointId = -1;
                 result.addFlow(flowNode);
+
+                if (event != null) {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.url = method.getUrlMapping();
+                        event.controller = controller.getClassName();
+                        event.nodeCount = countNodes(flowNode);
+                        event.maxDepth = maxDepth(flowNode);
+                        event.commit();
+                    }
+                }
+
+                analyzedEndpointCount++;
+                progressListener.onProgress(ProgressListener.Phase.FLOW_ANALYSIS,
+                    analyzedEndpointCount, totalEndpointCount);
             }
         }
     }
 
+    /**
+     * 호출 트리의 노드 수 (JFR 이벤트용)
+     */
+    private static int countNodes(FlowNode node) {
+        int count = 1;
+        for (FlowNode child : node.getChildren()) {
+            count += countNodes(child);
+        }
+        return count;
+    }
+
+    /**
+     * 호출 트리의 최대 깊이 (JFR 이벤트용, 루트 = 0)
+     */
+    private static int maxDepth(FlowNode node) {
+        int max = node.getDepth();
+        for (FlowNode child : node.getChildren()) {
+            max = Math.max(max, maxDepth(child));
+        }
+        return max;
+    }
+
+    /**
+     * 분석 대상 엔드포인트 수 (진행률 표시용)
+     */
+    private int countEndpoints(List<ParsedClass> parsedClasses) {
+        int count = 0;
+        for (ParsedClass clazz : parsedClasses) {
+            if (clazz.getClassType() == ClassType.CONTROLLER) {
+                for (ParsedMethod method : clazz.getMethods()) {
+                    if (method.isEndpoint()) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
     /**
      * 호출 흐름 트리 생성 (재귀)
      *
@@ -362,11 +615,14 @@ public class FlowAnalyzer {
      * - 다른 경로(A→B, A→C)에서 같은 메서드를 호출하는 건 OK
      */
     private FlowNode buildFlowTree(ParsedClass clazz, ParsedMethod method, int depth) {
-        String signature = clazz.getClassName() + "." + method.getMethodName();
+        String signature = clazz.getModuleName() != null
+            ? clazz.getModuleName() + "/" + clazz.getClassName() + "." + method.getMethodName()
+            : clazz.getClassName() + "." + method.getMethodName();
 
         // 현재 호출 스택에 이미 있으면 = 진짜 순환 참조 (A→B→A)
         if (visitedMethods.contains(signature)) {
             FlowNode cycleNode = new FlowNode(clazz.getClassName(), method.getMethodName(), clazz.getClassType());
+            cycleNode.setModuleName(clazz.getModuleName());
             cycleNode.setDepth(depth);
             return cycleNode;  // 라벨 없이 그냥 반환 (무한 루프만 방지)
         }
@@ -376,8 +632,9 @@ public class FlowAnalyzer {
 
         // 현재 노드 생성
         FlowNode node = new FlowNode(clazz.getClassName(), method.getMethodName(), clazz.getClassType());
+        node.setModuleName(clazz.getModuleName());
         node.setDepth(depth);
-        node.setFilePath(clazz.getFilePath() != null ? clazz.getFilePath().toString() : null);
+        node.setFilePath(clazz.getFilePath() != null ? symbolPool.intern(clazz.getFilePath().toString()) : null);
         node.setUrlMapping(method.getUrlMapping());
         node.setClassUrlMapping(clazz.getBaseUrlMapping());      // 클래스 레벨 URL
         node.setMethodUrlMapping(method.getMethodUrlOnly());     // 메서드 레벨 URL
@@ -391,14 +648,14 @@ public class FlowAnalyzer {
         }
 
         // 최대 깊이 제한 (무한 루프 방지)
-        if (depth > 10) {
+        if (depth > MAX_DEPTH) {
             visitedMethods.remove(signature);  // 스택에서 제거
             return node;
         }
 
         // 메서드 호출 분석
         for (MethodCall call : method.getMethodCalls()) {
-            FlowNode childNode = traceMethodCall(call, depth + 1);
+            FlowNode childNode = traceMethodCall(call, clazz, depth + 1);
             if (childNode != null) {
                 node.addChild(childNode);
             }
@@ -412,8 +669,10 @@ public class FlowAnalyzer {
 
     /**
      * 메서드 호출 추적
+     *
+     * @param caller 호출하는 클래스 (멀티 모듈이면 이 클래스의 모듈 기준으로 대상 클래스를 찾음)
      */
-    private FlowNode traceMethodCall(MethodCall call, int depth) {
+    private FlowNode traceMethodCall(MethodCall call, ParsedClass caller, int depth) {
         // Service/DAO 호출이 아니면 스킵 (유틸리티, 로깅 등 제외)
         if (!call.isServiceOrDaoCall()) {
             return null;
@@ -430,7 +689,7 @@ public class FlowAnalyzer {
         }
 
         // 클래스 조회
-        ParsedClass targetClass = classIndex.get(className);
+        ParsedClass targetClass = findClass(className, caller.getModuleName());
         if (targetClass == null) {
             unmappedCallCount++;
             return null;
@@ -441,6 +700,7 @@ public class FlowAnalyzer {
         if (targetMethod == null) {
             // 메서드가 없으면 노드만 생성 (호출은 있지만 구현이 없는 경우)
             FlowNode unresolvedNode = new FlowNode(className, methodName, targetClass.getClassType());
+            unresolvedNode.setModuleName(targetClass.getModuleName());
             unresolvedNode.setDepth(depth);
             // 호출 인자 설정
             if (call.hasArguments()) {
@@ -458,6 +718,43 @@ public class FlowAnalyzer {
         return node;
     }
 
+    /**
+     * 호출 대상 클래스 (traceMethodCall과 같은 규칙, 추적하지 않는 호출이면 null)
+     *
+     * @param caller 호출하는 클래스 (멀티 모듈이면 이 클래스의 모듈 기준으로 찾음)
+     */
+    ParsedClass resolveCallTarget(MethodCall call, ParsedClass caller) {
+        if (!call.isServiceOrDaoCall()) {
+            return null;
+        }
+        String className = resolveClassName(call.getScope());
+        if (className == null) {
+            return null;
+        }
+        return findClass(className, caller.getModuleName());
+    }
+
+    /**
+     * 클래스 조회 (모듈 정보가 있으면 그 모듈에서 보이는 클래스 우선, 없으면 이름으로)
+     */
+    private ParsedClass findClass(String className, String fromModule) {
+        if (fromModule != null && !moduleClassIndex.isEmpty()) {
+            for (String module : moduleSearchOrder.getOrDefault(fromModule, List.of(fromModule))) {
+                ParsedClass clazz = moduleClassIndex.get(module + "/" + className);
+                if (clazz != null) {
+                    return clazz;
+                }
+            }
+        }
+        return classIndex.get(className);
+    }
+
+    // 변경 영향 분석(ChangeImpactAnalyzer)용 인덱스 조회
+    List<ParsedClass> getIndexedClasses() { return indexedClasses; }
+    ParsedClass findIndexedClass(String className, String fromModule) { return findClass(className, fromModule); }
+    Map<String, SqlInfo> getSqlInfoMap() { return sqlInfoMap; }
+    String resolveImplementation(String className) { return resolveToImplementation(className); }
+
     /**
      * scope(변수명)에서 클래스명 추정
      */
@@ -529,7 +826,9 @@ public class FlowAnalyzer {
             SqlInfo sqlInfo = IBatisParser.findBySqlId(sqlInfoMap, sqlId);
             if (sqlInfo != null) {
                 node.setSqlInfo(sqlInfo);
-                node.setSqlQuery(sqlInfo.getQuery());
+                if (currentEndpointId >= 0) {
+                    crudMatrix.add(currentEndpointId, sqlInfo);
+                }
             }
         }
     }
@@ -608,6 +907,8 @@ public class FlowAnalyzer {
         private final String sqlId;         // SQL ID
         private final String xmlFileName;   // XML 파일명
         private final String query;         // SQL 쿼리
+        private final SqlInfo sqlInfo;      // 쿼리를 읽을 SqlInfo (query가 null일 때, 화면에 표시할 때 읽음)
+        private final String condition;     // 동적 SQL 조건 (일부 분기에서만 접근할 때, 항상 접근하면 null)
 
         public TableAccess(String url, String httpMethod, String className,
                           String methodName, SqlInfo.SqlType sqlType, String sqlId,
@@ -620,6 +921,35 @@ public class FlowAnalyzer {
             this.sqlId = sqlId;
             this.xmlFileName = xmlFileName;
             this.query = query;
+            this.sqlInfo = null;
+            this.condition = null;
+        }
+
+        public TableAccess(String url, String httpMethod, String className,
+                          String methodName, SqlInfo sqlInfo) {
+            this(url, httpMethod, className, methodName, sqlInfo, null);
+        }
+
+        public TableAccess(String url, String httpMethod, String className,
+                          String methodName, SqlInfo sqlInfo, String condition) {
+            this(url, httpMethod, className, methodName, sqlInfo, condition, sqlInfo.getType());
+        }
+
+        /**
+         * @param sqlType 이 테이블 기준 CRUD 타입 (동적 SQL 분석 시 테이블별, 아니면 문장 타입)
+         */
+        public TableAccess(String url, String httpMethod, String className,
+                          String methodName, SqlInfo sqlInfo, String condition, SqlInfo.SqlType sqlType) {
+            this.url = url;
+            this.httpMethod = httpMethod;
+            this.className = className;
+            this.methodName = methodName;
+            this.sqlType = sqlType;
+            this.sqlId = sqlInfo.getSqlId();
+            this.xmlFileName = sqlInfo.getFileName();
+            this.query = null;
+            this.sqlInfo = sqlInfo;
+            this.condition = condition;
         }
 
         public String getUrl() { return url; }
@@ -629,7 +959,9 @@ public class FlowAnalyzer {
         public SqlInfo.SqlType getSqlType() { return sqlType; }
         public String getSqlId() { return sqlId; }
         public String getXmlFileName() { return xmlFileName; }
-        public String getQuery() { return query; }
+        public String getQuery() { return query != null || sqlInfo == null ? query : sqlInfo.getQuery(); }
+        public String getCondition() { return condition; }
+        public boolean isConditional() { return condition != null; }
     }
 
     /**
@@ -659,6 +991,8 @@ public class FlowAnalyzer {
         if (node.getClassType() == ClassType.DAO && node.hasSqlInfo()) {
             SqlInfo sqlInfo = node.getSqlInfo();
             List<String> tables = sqlInfo.getTables();
+            SqlBranchAnalyzer.SqlBranches branches =
+                sqlBranchAnalyzer != null ? sqlBranchAnalyzer.analyze(sqlInfo) : null;
 
             for (String tableName : tables) {
                 TableImpact impact = tableIndex.computeIfAbsent(
@@ -669,10 +1003,9 @@ public class FlowAnalyzer {
                     httpMethod,
                     node.getClassName(),
                     node.getMethodName(),
-                    sqlInfo.getType(),
-                    sqlInfo.getSqlId(),
-                    sqlInfo.getFileName(),
-                    sqlInfo.getQuery()
+                    sqlInfo,
+                    branches != null ? branches.getCondition(tableName) : null,
+                    branches != null ? branches.getSqlType(tableName) : sqlInfo.getType()
                 ));
             }
         }
@@ -3,6 +3,7 @@ package com.codeflow.analyzer;
 import com.codeflow.parser.ClassType;
 import com.codeflow.parser.ParameterInfo;
 import com.codeflow.parser.SqlInfo;
+import com.codeflow.util.SymbolPool;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +17,7 @@ import java.util.List;
 public class FlowNode {
 
     private String className;       // 클래스명
+    private String moduleName;      // 소속 모듈 (멀티 모듈 프로젝트, 단일 모듈이면 null)
     private String methodName;      // 메서드명
     private ClassType classType;    // 클래스 타입 (CONTROLLER, SERVICE, DAO 등)
     private String filePath;        // 소스 파일 경로 (엑셀 출력용)
@@ -50,6 +52,14 @@ public class FlowNode {
         this.className = className;
     }
 
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    public void setModuleName(String moduleName) {
+        this.moduleName = moduleName;
+    }
+
     public String getMethodName() {
         return methodName;
     }
@@ -128,7 +138,13 @@ public class FlowNode {
         this.sqlId = sqlId;
     }
 
+    /**
+     * SQL 쿼리 (SqlInfo가 있으면 SqlInfo에서 읽음 - 노드마다 쿼리 텍스트를 따로 들고 있지 않음)
+     */
     public String getSqlQuery() {
+        if (sqlQuery == null && sqlInfo != null) {
+            return sqlInfo.getQuery();
+        }
         return sqlQuery;
     }
 
@@ -237,6 +253,7 @@ public class FlowNode {
     public FlowNode copy() {
         FlowNode copy = new FlowNode();
         copy.className = this.className;
+        copy.moduleName = this.moduleName;
         copy.methodName = this.methodName;
         copy.classType = this.classType;
         copy.filePath = this.filePath;
@@ -255,6 +272,33 @@ public class FlowNode {
         return copy;
     }
 
+    /**
+     * 식별자/경로/SQL 문자열을 공유 인스턴스로 교체 (자식 노드 포함)
+     *
+     * 세션 JSON에서 불러온 트리는 노드마다 문자열이 따로 만들어지므로 불러온 직후 적용합니다.
+     * (분석기가 만든 트리는 파싱 모델의 문자열을 그대로 참조하므로 필요 없음)
+     */
+    public void internSymbols(SymbolPool pool) {
+        className = pool.intern(className);
+        moduleName = pool.intern(moduleName);
+        methodName = pool.intern(methodName);
+        filePath = pool.intern(filePath);
+        urlMapping = pool.intern(urlMapping);
+        classUrlMapping = pool.intern(classUrlMapping);
+        methodUrlMapping = pool.intern(methodUrlMapping);
+        httpMethod = pool.intern(httpMethod);
+        sqlId = pool.intern(sqlId);
+        sqlQuery = pool.intern(sqlQuery);
+        pool.internAll(implementedInterfaces);
+        pool.internAll(callArguments);
+        for (ParameterInfo parameter : parameters) {
+            parameter.internSymbols(pool);
+        }
+        for (FlowNode child : children) {
+            child.internSymbols(pool);
+        }
+    }
+
     /**
      * 엔드포인트(Controller 메서드)인지 확인
      */
@@ -34,6 +34,9 @@ public class FlowResult {
     // 다중 구현체 경고: 인터페이스명 → 모든 구현체 목록
     private Map<String, List<String>> multipleImplWarnings = new HashMap<>();
 
+    // CRUD 매트릭스 (세션에 저장하지 않음 - 없으면 flows에서 생성)
+    private transient CrudMatrix crudMatrix;
+
     public FlowResult() {
         this.analyzedAt = LocalDateTime.now();
     }
@@ -66,10 +69,26 @@ public class FlowResult {
 
     public void setFlows(List<FlowNode> flows) {
         this.flows = flows;
+        this.crudMatrix = null;
     }
 
     public void addFlow(FlowNode flow) {
         this.flows.add(flow);
+        this.crudMatrix = null;
+    }
+
+    /**
+     * 엔드포인트 × 테이블 CRUD 매트릭스 (분석 중 만든 것, 없으면 flows에서 1번 생성)
+     */
+    public CrudMatrix getCrudMatrix() {
+        if (crudMatrix == null) {
+            crudMatrix = CrudMatrix.fromFlows(flows);
+        }
+        return crudMatrix;
+    }
+
+    public void setCrudMatrix(CrudMatrix crudMatrix) {
+        this.crudMatrix = crudMatrix;
     }
 
     public int getTotalClasses() {
@@ -0,0 +1,78 @@
+package com.codeflow.batch;
+
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ParseCache;
+import com.codeflow.util.SymbolPool;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일괄 분석에서 프로젝트끼리 공유하는 자원
+ *
+ * - 식별자 풀: 형제 프로젝트는 공통 패키지/클래스/메서드 이름이 많음 → 문자열 인스턴스 1개로 공유
+ * - 아카이브 항목 캐시: 여러 프로젝트가 같은 공통 라이브러리 아카이브를 쓰면 한 번만 파싱 (내용 해시가 키)
+ * - Java 파서: 작업 스레드마다 1개를 reset()해서 재사용 (JavaParser, 소스 버퍼 재사용)
+ * - 프로젝트별 파싱 스레드 수: CPU 코어를 동시에 분석하는 프로젝트 수로 나눔 (스레드 과다 생성 방지)
+ *
+ * 설계 결정:
+ * - 식별자 풀은 일괄 분석이 끝날 때까지 유지 (프로젝트 결과는 버려도 문자열만 남음, 문자열 수 ≪ 노드 수)
+ */
+public class BatchContext {
+
+    private final SymbolPool symbolPool = new SymbolPool();
+    private final ParseCache archiveCache;
+    private final int parseThreads;
+    private final ThreadLocal<JavaSourceParser> parsers = new ThreadLocal<>();
+    private final AtomicInteger reusedParserCount = new AtomicInteger();
+
+    /**
+     * @param archiveCache 아카이브 항목 공용 캐시 (ParseCache.shared() 또는 저장하지 않는 none())
+     * @param parseThreads 프로젝트별 파싱 스레드 수
+     */
+    public BatchContext(ParseCache archiveCache, int parseThreads) {
+        this.archiveCache = archiveCache;
+        this.parseThreads = Math.max(1, parseThreads);
+    }
+
+    /**
+     * 현재 스레드의 Java 파서 (처음이면 새로 만들고, 이후에는 reset 후 재사용)
+     */
+    public JavaSourceParser parserForCurrentThread() {
+        JavaSourceParser parser = parsers.get();
+        if (parser == null) {
+            parser = new JavaSourceParser();
+            parsers.set(parser);
+            return parser;
+        }
+        reusedParserCount.incrementAndGet();
+        return parser.reset();
+    }
+
+    public SymbolPool getSymbolPool() {
+        return symbolPool;
+    }
+
+    public ParseCache getArchiveCache() {
+        return archiveCache;
+    }
+
+    public int getParseThreads() {
+        return parseThreads;
+    }
+
+    public int getReusedParserCount() {
+        return reusedParserCount.get();
+    }
+
+    /**
+     * 공용 캐시 저장 (일괄 분석 종료 시)
+     */
+    public void save() {
+        try {
+            archiveCache.save();
+        } catch (IOException e) {
+            System.err.println("공용 파싱 캐시 저장 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.codeflow.batch;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일괄 분석 목록 파일 (--batch)
+ *
+ * 한 줄에 프로젝트 1개의 CLI 옵션을 씁니다 (# 주석, 빈 줄 무시). 공백이 있는 값은 따옴표로 감쌉니다.
+ * <pre>
+ * # 야간 분석
+ * -p ../order-api -u "/api/order/*" --excel
+ * -p ../user-api --list-tables --crud-matrix user-crud.csv
+ * -p "../legacy admin" --fast-parse --perf-report=perf/admin.json
+ * </pre>
+ *
+ * 설계 결정:
+ * - 옵션은 CLI와 같은 형식 → 한 번 실행해 본 명령을 그대로 옮겨 적으면 됨
+ * - 상대 경로는 목록 파일이 있는 폴더 기준 (어디서 실행해도 같은 결과)
+ * - 프로젝트 이름은 -p 경로의 마지막 폴더명 (출력 폴더 이름, 중복이면 -2, -3 …)
+ */
+public class BatchManifest {
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * 목록 파일 읽기
+     */
+    public static BatchManifest load(Path manifestPath) throws IOException {
+        Path baseDir = manifestPath.toAbsolutePath().normalize().getParent();
+        return parse(Files.readAllLines(manifestPath, StandardCharsets.UTF_8), baseDir);
+    }
+
+    /**
+     * 목록 줄 파싱
+     *
+     * @param baseDir 상대 경로 기준 폴더
+     * @throws IOException 닫히지 않은 따옴표
+     */
+    static BatchManifest parse(List<String> lines, Path baseDir) throws IOException {
+        BatchManifest manifest = new BatchManifest();
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            List<String> args = tokenize(line, i + 1);
+            String name = uniqueName(baseName(args, manifest.entries.size() + 1, baseDir), names);
+            manifest.entries.add(new Entry(name, args, baseDir, i + 1));
+        }
+        return manifest;
+    }
+
+    /**
+     * 공백으로 나누고 따옴표("", '') 안의 공백은 유지
+     */
+    static List<String> tokenize(String line, int lineNumber) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inToken = false;
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                inToken = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                current.append(c);
+                inToken = true;
+            }
+        }
+        if (quote != 0) {
+            throw new IOException("목록 " + lineNumber + "번째 줄: 따옴표가 닫히지 않았습니다");
+        }
+        if (inToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * 출력 폴더 이름 (프로젝트 경로의 마지막 폴더, 상대 경로는 실행 때처럼 목록 폴더 기준 - "." 이면 목록 폴더 이름)
+     */
+    private static String baseName(List<String> args, int index, Path baseDir) {
+        String path = null;
+        for (int i = 0; i < args.size(); i++) {
+            String arg = args.get(i);
+            if ((arg.equals("-p") || arg.equals("--path")) && i + 1 < args.size()) {
+                path = args.get(i + 1);
+            } else if (arg.startsWith("--path=")) {
+                path = arg.substring("--path=".length());
+            }
+        }
+        Path fileName = path != null ? baseDir.resolve(path).toAbsolutePath().normalize().getFileName() : null;
+        String name = fileName != null ? fileName.toString() : "project-" + index;
+        // 출력 폴더 이름으로 쓸 수 없는 문자는 '_'로
+        return name.replaceAll("[\\\\/:*?\"<>|\\s]", "_");
+    }
+
+    private static String uniqueName(String name, Set<String> names) {
+        String unique = name;
+        for (int suffix = 2; !names.add(unique.toLowerCase()); suffix++) {
+            unique = name + "-" + suffix;
+        }
+        return unique;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 목록의 프로젝트 1개
+     */
+    public static class Entry {
+        private final String name;          // 출력 폴더 이름 (목록 안에서 고유)
+        private final List<String> args;    // CLI 옵션
+        private final Path workingDir;      // 상대 경로 기준 (목록 파일 폴더)
+        private final int lineNumber;
+
+        public Entry(String name, List<String> args, Path workingDir, int lineNumber) {
+            this.name = name;
+            this.args = Collections.unmodifiableList(new ArrayList<>(args));
+            this.workingDir = workingDir;
+            this.lineNumber = lineNumber;
+        }
+
+        public String getName() { return name; }
+        public List<String> getArgs() { return args; }
+        public Path getWorkingDir() { return workingDir; }
+        public int getLineNumber() { return lineNumber; }
+
+        @Override
+        public String toString() {
+            return name + " " + String.join(" ", args);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.codeflow.batch;
+
+import com.codeflow.perf.PerfReport;
+import com.google.gson.GsonBuilder;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일괄 분석 실행기 (--batch)
+ *
+ * 목록의 프로젝트를 한 JVM에서 정해진 수만큼 동시에 분석합니다.
+ * 프로젝트마다 출력 폴더(출력 디렉토리/프로젝트 이름/)를 만들고 콘솔 출력은 console.txt에 저장합니다.
+ *
+ * 설계 결정:
+ * - 고정 크기 스레드 풀 1개 (동시 프로젝트 수) → JIT 컴파일 결과, 파서, 식별자 풀을 프로젝트끼리 재사용
+ * - 프로젝트 1개가 실패해도 나머지는 계속 (예외는 그 프로젝트의 console.txt와 결과에 기록)
+ * - 성능 리포트는 프로젝트별 PerfReport를 모아 하나의 JSON으로 합침 (최대 힙은 동시 실행 프로젝트와 겹치므로 근사치)
+ */
+public class BatchRunner {
+
+    public static final int DEFAULT_CONCURRENCY = 2;
+    static final String CONSOLE_FILE = "console.txt";
+
+    /**
+     * 프로젝트 1개 분석 (Main이 구현)
+     */
+    @FunctionalInterface
+    public interface ProjectRunner {
+        /**
+         * @param entry 목록의 프로젝트
+         * @param context 공유 자원
+         * @param outputDir 이 프로젝트의 출력 폴더 (기본 엑셀 저장 위치)
+         * @param out 콘솔 출력 (console.txt)
+         * @param perfReport 성능 리포트 (비활성이면 PerfReport.none())
+         * @return 종료 코드
+         */
+        int run(BatchManifest.Entry entry, BatchContext context, Path outputDir, PrintStream out, PerfReport perfReport);
+    }
+
+    private final BatchContext context;
+    private final ProjectRunner runner;
+    private int concurrency = DEFAULT_CONCURRENCY;
+    private final Path outputDir;
+    private boolean perfEnabled;
+    private PrintStream progress = System.out;
+
+    public BatchRunner(BatchContext context, ProjectRunner runner, Path outputDir) {
+        this.context = context;
+        this.runner = runner;
+        this.outputDir = outputDir;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    public void setPerfEnabled(boolean perfEnabled) {
+        this.perfEnabled = perfEnabled;
+    }
+
+    /**
+     * 진행 상황 출력 (프로젝트가 끝날 때마다 1줄)
+     */
+    public void setProgress(PrintStream progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * 목록 전체 분석 (결과는 목록 순서)
+     */
+    public BatchResult run(BatchManifest manifest) throws InterruptedException {
+        List<BatchManifest.Entry> entries = manifest.getEntries();
+        ProjectResult[] results = new ProjectResult[entries.size()];
+        AtomicInteger completed = new AtomicInteger();
+        long start = System.currentTimeMillis();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, Math.max(1, entries.size())),
+            new ThreadFactoryImpl());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    results[index] = runProject(entries.get(index));
+                    ProjectResult result = results[index];
+                    synchronized (progress) {
+                        progress.printf("[%d/%d] %s - %s (%,d ms)%n", completed.incrementAndGet(), entries.size(),
+                            result.getName(), result.isSuccess() ? "완료" : "실패 (exit " + result.getExitCode() + ")",
+                            result.getWallMillis());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // runProject가 예외를 결과로 바꾸므로 여기까지 오지 않음
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+            context.save();
+        }
+        return new BatchResult(List.of(results), System.currentTimeMillis() - start);
+    }
+
+    private ProjectResult runProject(BatchManifest.Entry entry) {
+        Path projectDir = outputDir.resolve(entry.getName()).toAbsolutePath().normalize();
+        Path consoleFile = projectDir.resolve(CONSOLE_FILE);
+        PerfReport perfReport = perfEnabled ? new PerfReport() : PerfReport.none();
+        long start = System.currentTimeMillis();
+        int exitCode;
+        try {
+            Files.createDirectories(projectDir);
+            try (PrintStream out = new PrintStream(new FileOutputStream(consoleFile.toFile()), true, StandardCharsets.UTF_8)) {
+                try {
+                    exitCode = runner.run(entry, context, projectDir, out, perfReport);
+                } catch (RuntimeException e) {
+                    out.println("오류: 분석 중 예외가 발생했습니다 - " + e);
+                    exitCode = 1;
+                }
+            }
+        } catch (IOException e) {
+            progress.println("오류: 출력 폴더를 만들 수 없습니다 - " + projectDir + " (" + e.getMessage() + ")");
+            exitCode = 1;
+        }
+        return new ProjectResult(entry, exitCode, System.currentTimeMillis() - start, consoleFile,
+            perfEnabled ? perfReport : null);
+    }
+
+    /**
+     * 작업 스레드 이름: cft-batch-N
+     */
+    private static class ThreadFactoryImpl implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "cft-batch-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * 일괄 분석 결과
+     */
+    public class BatchResult {
+        private final List<ProjectResult> projects;
+        private final long wallMillis;
+
+        BatchResult(List<ProjectResult> projects, long wallMillis) {
+            this.projects = projects;
+            this.wallMillis = wallMillis;
+        }
+
+        public List<ProjectResult> getProjects() { return projects; }
+        public long getWallMillis() { return wallMillis; }
+
+        public long getFailureCount() {
+            return projects.stream().filter(project -> !project.isSuccess()).count();
+        }
+
+        /**
+         * 합산 성능 리포트 (JSON): 전체 시간, 공유 자원 통계, 프로젝트별 리포트
+         */
+        public String toPerfJson() {
+            Map<String, Object> root = new LinkedHashMap<>();
+            root.put("totalWallMillis", wallMillis);
+            root.put("projectCount", projects.size());
+            root.put("failureCount", getFailureCount());
+            root.put("concurrency", concurrency);
+            root.put("parseThreadsPerProject", context.getParseThreads());
+            root.put("reusedParsers", context.getReusedParserCount());
+            root.put("symbolPoolSize", context.getSymbolPool().size());
+            root.put("symbolPoolHits", context.getSymbolPool().getHitCount());
+            List<Map<String, Object>> list = new ArrayList<>();
+            for (ProjectResult project : projects) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("name", project.getName());
+                item.put("args", project.getEntry().getArgs());
+                item.put("exitCode", project.getExitCode());
+                item.put("wallMillis", project.getWallMillis());
+                item.put("console", project.getConsoleFile().toString());
+                if (project.getPerfReport() != null) {
+                    item.put("report", project.getPerfReport().toMap());
+                }
+                list.add(item);
+            }
+            root.put("projects", list);
+            return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+        }
+    }
+
+    /**
+     * 프로젝트 1개의 결과
+     */
+    public static class ProjectResult {
+        private final BatchManifest.Entry entry;
+        private final int exitCode;
+        private final long wallMillis;
+        private final Path consoleFile;
+        private final PerfReport perfReport;    // 성능 측정을 안 했으면 null
+
+        ProjectResult(BatchManifest.Entry entry, int exitCode, long wallMillis, Path consoleFile, PerfReport perfReport) {
+            this.entry = entry;
+            this.exitCode = exitCode;
+            this.wallMillis = wallMillis;
+            this.consoleFile = consoleFile;
+            this.perfReport = perfReport;
+        }
+
+        public BatchManifest.Entry getEntry() { return entry; }
+        public String getName() { return entry.getName(); }
+        public int getExitCode() { return exitCode; }
+        public long getWallMillis() { return wallMillis; }
+        public Path getConsoleFile() { return consoleFile; }
+        public PerfReport getPerfReport() { return perfReport; }
+
+        public boolean isSuccess() {
+            return exitCode == 0;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.codeflow.daemon;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 데몬 클라이언트 (--connect, --stop-daemon)
+ *
+ * CLI 인자를 그대로 데몬에 보내고, 받은 출력을 콘솔에 씁니다. 종료 코드도 데몬 실행 결과를 따릅니다.
+ */
+public class DaemonClient {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 2_000;
+    private static final int READ_TIMEOUT_MILLIS = 30 * 60 * 1000;   // 큰 프로젝트 엑셀 내보내기 대비
+
+    private final int port;
+
+    public DaemonClient(int port) {
+        this.port = port;
+    }
+
+    /**
+     * 명령 전달 (POST /run)
+     *
+     * @return 데몬의 종료 코드 (연결 실패 시 1)
+     */
+    public int run(List<String> args, Path workingDir, PrintStream out, PrintStream err) {
+        JsonObject body = new JsonObject();
+        JsonArray array = new JsonArray();
+        args.forEach(array::add);
+        body.add("args", array);
+        body.addProperty("cwd", workingDir.toAbsolutePath().toString());
+        return request("POST", "/run", body.toString(), out, err);
+    }
+
+    /**
+     * 데몬 상태 조회 (GET /status, JSON)
+     */
+    public int status(PrintStream out, PrintStream err) {
+        return request("GET", "/status", null, out, err);
+    }
+
+    /**
+     * 데몬 종료 (POST /shutdown)
+     */
+    public int shutdown(PrintStream out, PrintStream err) {
+        return request("POST", "/shutdown", "", out, err);
+    }
+
+    private int request(String method, String path, String body, PrintStream out, PrintStream err) {
+        String token;
+        try {
+            token = Files.readString(DaemonServer.tokenFile(port), StandardCharsets.UTF_8).trim();
+        } catch (NoSuchFileException e) {
+            err.println("오류: 포트 " + port + "에 실행 중인 데몬이 없습니다. (먼저 --daemon으로 실행하세요)");
+            return 1;
+        } catch (IOException e) {
+            err.println("오류: 데몬 토큰을 읽을 수 없습니다 - " + e.getMessage());
+            return 1;
+        }
+
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL("http://127.0.0.1:" + port + path).openConnection();
+            connection.setRequestMethod(method);
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+            connection.setRequestProperty(DaemonServer.TOKEN_HEADER, token);
+            if (body != null) {
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/json; charset=UTF-8");
+                try (OutputStream requestBody = connection.getOutputStream()) {
+                    requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+
+            int status = connection.getResponseCode();
+            InputStream stream = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+            String response = stream != null
+                ? new String(stream.readAllBytes(), StandardCharsets.UTF_8) : "";
+            if (status >= 400) {
+                err.print("오류: 데몬 응답 " + status + " - " + response);
+                return 1;
+            }
+            out.print(response);
+            out.flush();
+            String exitCode = connection.getHeaderField(DaemonServer.EXIT_CODE_HEADER);
+            return exitCode != null ? Integer.parseInt(exitCode) : 0;
+
+        } catch (ConnectException e) {
+            err.println("오류: 포트 " + port + "의 데몬에 연결할 수 없습니다. (먼저 --daemon으로 실행하세요)");
+            return 1;
+        } catch (IOException | NumberFormatException e) {
+            err.println("오류: 데몬 요청 실패 - " + e.getMessage());
+            return 1;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.codeflow.daemon;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 데몬 HTTP 서버 (127.0.0.1 전용)
+ *
+ * 메모리에 유지한 ProjectModel로 CLI 명령을 실행하고 출력을 응답으로 돌려줍니다.
+ *
+ * API:
+ * <pre>
+ * POST /run       {"args": ["-u", "/api/user/*"], "cwd": "/work"} → CLI 출력 (text/plain), 종료 코드는 X-Exit-Code 헤더
+ * GET  /status    → 프로젝트, 클래스/SQL/엔드포인트 수, 모델 세대, 마지막 새로 고침 시간 (JSON)
+ * POST /shutdown  → 데몬 종료
+ * </pre>
+ * 흐름(-u, --table, --sql-type), 테이블(--list-tables), 호출 경로(--callers), 내보내기(--excel, -o, --crud-matrix),
+ * 변경 영향(--changed-files, --since)은 모두 /run에 CLI 옵션 그대로 전달합니다.
+ *
+ * 설계 결정:
+ * - JDK 내장 HttpServer 사용 (추가 의존성 없음), 루프백 주소에만 바인딩
+ * - 요청마다 X-CFT-Token 헤더 확인 → 토큰은 ~/.code-flow-tracer/daemon-포트.token (소유자만 읽기), 같은 사용자의 클라이언트만 접근
+ * - 요청은 스레드 1개에서 순서대로 처리 → 새로 고침과 명령 실행이 겹치지 않음
+ * - 명령 실행 전 감시 스레드가 모은 변경 파일을 모델에 반영 → 항상 최신 소스 기준으로 응답
+ */
+public class DaemonServer implements Closeable {
+
+    public static final int DEFAULT_PORT = 7455;
+    static final String TOKEN_HEADER = "X-CFT-Token";
+    static final String EXIT_CODE_HEADER = "X-Exit-Code";
+
+    private static final Path TOKEN_DIR = Paths.get(System.getProperty("user.home"), ".code-flow-tracer");
+
+    /**
+     * 데몬에서 CLI 명령 실행 (Main이 구현)
+     */
+    @FunctionalInterface
+    public interface CommandHandler {
+        /**
+         * @param model 메모리의 프로젝트 모델 (변경 반영 후)
+         * @param args CLI 인자 (클라이언트에서 받은 그대로)
+         * @param workingDir 클라이언트 작업 디렉토리 (상대 경로 해석용)
+         * @param out 출력 (응답 본문)
+         * @return 종료 코드
+         */
+        int run(ProjectModel model, List<String> args, Path workingDir, PrintStream out);
+    }
+
+    private final ProjectModel model;
+    private final ProjectWatcher watcher;       // null이면 변경 감시 안 함 (아카이브 등)
+    private final CommandHandler handler;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String token;
+    private final Path tokenFile;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final long startedAt = System.currentTimeMillis();
+    private long requestCount;
+
+    /**
+     * @param port 포트 (0이면 빈 포트 자동 선택)
+     */
+    public DaemonServer(ProjectModel model, ProjectWatcher watcher, CommandHandler handler, int port) throws IOException {
+        this.model = model;
+        this.watcher = watcher;
+        this.handler = handler;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cft-daemon");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(executor);
+        this.server.createContext("/run", this::handleRun);
+        this.server.createContext("/status", this::handleStatus);
+        this.server.createContext("/shutdown", this::handleShutdown);
+
+        byte[] random = new byte[24];
+        new SecureRandom().nextBytes(random);
+        this.token = HexFormat.of().formatHex(random);
+        this.tokenFile = tokenFile(getPort());
+    }
+
+    /**
+     * 포트별 토큰 파일 경로
+     */
+    static Path tokenFile(int port) {
+        return TOKEN_DIR.resolve("daemon-" + port + ".token");
+    }
+
+    /**
+     * 토큰 파일 저장 후 요청 받기 시작
+     */
+    public void start() throws IOException {
+        Files.createDirectories(tokenFile.getParent());
+        Files.deleteIfExists(tokenFile);
+        Files.createFile(tokenFile);
+        try {
+            Files.setPosixFilePermissions(tokenFile, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // Windows: 사용자 홈 폴더 권한에 맡김
+        }
+        Files.writeString(tokenFile, token, StandardCharsets.UTF_8);
+        server.start();
+    }
+
+    /**
+     * /shutdown 요청 또는 close()까지 대기
+     */
+    public void awaitShutdown() throws InterruptedException {
+        stopped.await();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.stop(0);
+        executor.shutdownNow();
+        Files.deleteIfExists(tokenFile);
+        if (watcher != null) {
+            watcher.close();
+        }
+        stopped.countDown();
+    }
+
+    // ========== 요청 처리 ==========
+
+    private void handleRun(HttpExchange exchange) throws IOException {
+        if (!accept(exchange, "POST")) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        Path workingDir;
+        try {
+            JsonObject body = JsonParser.parseString(
+                new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)).getAsJsonObject();
+            JsonArray array = body.has("args") ? body.getAsJsonArray("args") : new JsonArray();
+            for (JsonElement element : array) {
+                args.add(element.getAsString());
+            }
+            workingDir = body.has("cwd") ? Paths.get(body.get("cwd").getAsString()) : Paths.get("").toAbsolutePath();
+        } catch (RuntimeException e) {
+            send(exchange, 400, "text/plain", "잘못된 요청: " + e.getMessage(), -1);
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        int exitCode;
+        try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+            try {
+                refreshModel();
+                exitCode = handler.run(model, args, workingDir, out);
+            } catch (IOException | RuntimeException e) {
+                out.println("오류: 데몬에서 명령 실행 중 문제가 발생했습니다 - " + e.getMessage());
+                exitCode = 1;
+            }
+        }
+        requestCount++;
+        send(exchange, 200, "text/plain", buffer.toString(StandardCharsets.UTF_8), exitCode);
+    }
+
+    private void handleStatus(HttpExchange exchange) throws IOException {
+        if (!accept(exchange, "GET")) {
+            return;
+        }
+        refreshModel();
+        JsonObject status = new JsonObject();
+        status.addProperty("project", model.getProjectPath().toAbsolutePath().toString());
+        status.addProperty("classes", model.getClassCount());
+        status.addProperty("sqls", model.getSqlCount());
+        status.addProperty("endpoints", model.getResult().getFlows().size());
+        status.addProperty("generation", model.getGeneration());
+        status.addProperty("lastRefreshMs", model.getLastRefreshMillis());
+        status.addProperty("requests", requestCount);
+        status.addProperty("uptimeMs", System.currentTimeMillis() - startedAt);
+        send(exchange, 200, "application/json", status.toString(), 0);
+    }
+
+    private void handleShutdown(HttpExchange exchange) throws IOException {
+        if (!accept(exchange, "POST")) {
+            return;
+        }
+        send(exchange, 200, "text/plain", "데몬을 종료합니다.\n", 0);
+        // 응답을 보낸 뒤 다른 스레드에서 종료 (요청 처리 스레드에서 server.stop을 부르면 대기함)
+        Thread stopper = new Thread(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                System.err.println("데몬 종료 중 오류: " + e.getMessage());
+            }
+        }, "cft-daemon-stop");
+        stopper.start();
+    }
+
+    /**
+     * HTTP 메서드와 토큰 확인 (실패하면 응답까지 보내고 false)
+     */
+    private boolean accept(HttpExchange exchange, String method) throws IOException {
+        String received = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+        if (received == null || !MessageDigest.isEqual(
+                received.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            send(exchange, 403, "text/plain", "토큰이 없거나 맞지 않습니다.\n", -1);
+            return false;
+        }
+        if (!method.equals(exchange.getRequestMethod())) {
+            send(exchange, 405, "text/plain", method + " 요청만 지원합니다.\n", -1);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 감시 스레드가 모은 변경을 모델에 반영 (이벤트 유실 시 전체 다시 읽기)
+     */
+    private void refreshModel() throws IOException {
+        if (watcher == null) {
+            return;
+        }
+        if (watcher.drainOverflow()) {
+            watcher.drainChanges();
+            model.load();
+            return;
+        }
+        Set<Path> changes = watcher.drainChanges();
+        if (!changes.isEmpty()) {
+            model.refresh(changes);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body, int exitCode)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=UTF-8");
+        if (exitCode >= 0) {
+            exchange.getResponseHeaders().set(EXIT_CODE_HEADER, String.valueOf(exitCode));
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
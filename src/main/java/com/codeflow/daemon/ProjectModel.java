@@ -0,0 +1,221 @@
+package com.codeflow.daemon;
+
+import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.analyzer.FlowResult;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ModuleDiscovery;
+import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.ProjectModule;
+import com.codeflow.parser.SqlInfo;
+import com.codeflow.util.SymbolPool;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 데몬이 메모리에 유지하는 프로젝트 모델 (파싱 결과, SQL 정보, 호출 흐름)
+ *
+ * 처음 한 번 전체 파싱/추적하고, 이후에는 바뀐 파일만 다시 파싱한 뒤 흐름을 다시 추적합니다.
+ *
+ * 사용 예:
+ * <pre>
+ * ProjectModel model = new ProjectModel(projectPath, parser, ibatisParser);
+ * model.load();                                  // 전체 파싱 + 추적
+ * model.refresh(List.of(changedFile));           // 바뀐 파일만 다시 파싱 + 재추적
+ * FlowResult result = model.getResult();
+ * </pre>
+ *
+ * 설계 결정:
+ * - 클래스는 파일 경로(절대 경로) → ParsedClass 맵으로 보관 → 바뀐 .java 파일만 교체/삭제
+ * - 매퍼 XML이 하나라도 바뀌면 SQL 정보 전체를 다시 파싱 (<sql>/<include> 조각이 파일을 넘나들 수 있음)
+ * - 호출 흐름은 바뀐 파일이 있으면 새 FlowAnalyzer로 전체 재추적 (파싱이 대부분의 시간, 추적은 수십~수백 ms)
+ * - 멀티 모듈 프로젝트는 클래스마다 모듈 이름을 기록 (빌드 파일이 바뀌면 모듈 구성을 다시 읽고 전체 재지정)
+ * - 식별자 풀(SymbolPool)은 재추적마다 지금 있는 클래스로 새로 만듦 (분석 1회 = 수명)
+ *   → 삭제/이름이 바뀐 코드의 식별자가 데몬 수명 동안 풀에 쌓이지 않음, 다시 파싱하는 파일도 새 풀 사용
+ * - 모든 메서드는 synchronized → 요청 처리와 새로 고침이 겹치지 않음 (결과 객체는 요청마다 필터가 새로 만듦)
+ */
+public class ProjectModel {
+
+    private final Path projectPath;
+    private final JavaSourceParser parser;
+    private final IBatisParser ibatisParser;
+
+    // 파일 경로(절대, 정규화) → 파싱된 클래스 (경로순 → 전체 파싱과 같은 순서)
+    private final Map<Path, ParsedClass> classesByFile = new TreeMap<>();
+    private Map<String, SqlInfo> sqlInfoMap;
+    private FlowAnalyzer analyzer;
+    private FlowResult result;
+
+    // 멀티 모듈 구성 (모듈이 2개 이상일 때만, 아니면 빈 목록)
+    private boolean modulesEnabled = true;
+    private List<ProjectModule> modules = List.of();
+
+    private long generation;           // 모델을 다시 만든 횟수 (load 1회 + 새로 고침 횟수)
+    private long lastRefreshMillis;    // 마지막 load/refresh 소요 시간
+
+    public ProjectModel(Path projectPath, JavaSourceParser parser, IBatisParser ibatisParser) {
+        this.projectPath = projectPath;
+        this.parser = parser;
+        this.ibatisParser = ibatisParser;
+    }
+
+    /**
+     * 멀티 모듈 구성 사용 여부 (--no-modules, --scan-archives면 끔, load 전에 설정)
+     */
+    public synchronized void setModulesEnabled(boolean modulesEnabled) {
+        this.modulesEnabled = modulesEnabled;
+    }
+
+    /**
+     * 전체 파싱 + 추적
+     */
+    public synchronized void load() throws IOException {
+        long start = System.currentTimeMillis();
+        classesByFile.clear();
+        for (ParsedClass clazz : parser.parseProject(projectPath)) {
+            classesByFile.put(key(clazz.getFilePath()), clazz);
+        }
+        discoverModules();
+        sqlInfoMap = ibatisParser.parseProject(projectPath);
+        retrace();
+        lastRefreshMillis = System.currentTimeMillis() - start;
+    }
+
+    /**
+     * 바뀐 파일 반영 (.java는 파일별로 다시 파싱/삭제, 매퍼 XML은 SQL 정보 전체 재파싱)
+     *
+     * @param changedPaths 바뀐(생성/수정/삭제) 파일 경로
+     * @return 모델이 바뀌었으면 true (분석 대상 파일이 없으면 false)
+     */
+    public synchronized boolean refresh(Collection<Path> changedPaths) throws IOException {
+        long start = System.currentTimeMillis();
+        boolean javaChanged = false;
+        boolean xmlChanged = false;
+
+        // 빌드 파일이 바뀌면 모듈 구성부터 다시 읽음 (아래에서 다시 파싱하는 클래스가 새 구성을 쓰도록)
+        if (modulesEnabled && changedPaths.stream().anyMatch(ModuleDiscovery::isBuildFile)) {
+            discoverModules();
+            javaChanged = true;
+        }
+
+        for (Path path : changedPaths) {
+            String name = path.getFileName() != null ? path.getFileName().toString().toLowerCase() : "";
+            if (name.endsWith(".java")) {
+                Path key = key(path);
+                ParsedClass clazz = Files.isRegularFile(path) ? parser.parseFile(path) : null;
+                if (clazz != null) {
+                    assignModule(clazz);
+                    classesByFile.put(key, clazz);
+                } else {
+                    classesByFile.remove(key);   // 삭제되었거나 파싱 오류 → 이전 클래스도 제외
+                }
+                javaChanged = true;
+            } else if (name.endsWith(".xml")) {
+                xmlChanged = true;
+            } else if (!Files.exists(path)) {
+                // 폴더 삭제 → 그 아래 클래스 모두 제외 (매퍼 XML이 있었을 수도 있으므로 SQL도 다시 파싱)
+                Path prefix = key(path);
+                javaChanged |= classesByFile.keySet().removeIf(file -> file.startsWith(prefix));
+                xmlChanged = true;
+            }
+        }
+
+        if (xmlChanged) {
+            sqlInfoMap = ibatisParser.parseProject(projectPath);
+        }
+        if (!javaChanged && !xmlChanged) {
+            return false;
+        }
+        retrace();
+        lastRefreshMillis = System.currentTimeMillis() - start;
+        return true;
+    }
+
+    /**
+     * 모듈 구성을 읽고 모든 클래스에 모듈 이름 지정 (단일 모듈이면 모듈 정보 없음)
+     */
+    private void discoverModules() {
+        List<ProjectModule> discovered = modulesEnabled && Files.isDirectory(projectPath)
+            ? ModuleDiscovery.discover(projectPath) : List.of();
+        modules = discovered.size() > 1 ? discovered : List.of();
+        classesByFile.values().forEach(this::assignModule);
+    }
+
+    private void assignModule(ParsedClass clazz) {
+        ProjectModule module = modules.isEmpty() ? null : ModuleDiscovery.findModule(modules, clazz.getFilePath());
+        clazz.setModuleName(module != null ? module.getName() : null);
+    }
+
+    private void retrace() {
+        analyzer = new FlowAnalyzer();
+        analyzer.setSymbolPool(rebuildSymbolPool());
+        analyzer.setSqlInfoMap(sqlInfoMap);
+        analyzer.setModules(modules);
+        result = analyzer.analyze(projectPath, new ArrayList<>(classesByFile.values()));
+        generation++;
+    }
+
+    /**
+     * 지금 모델에 있는 클래스만으로 식별자 풀을 새로 만들어 파서에도 지정 (공유하지 않는 풀이면 그대로)
+     */
+    private SymbolPool rebuildSymbolPool() {
+        if (!parser.getSymbolPool().isEnabled()) {
+            return parser.getSymbolPool();
+        }
+        SymbolPool pool = new SymbolPool();
+        for (ParsedClass clazz : classesByFile.values()) {
+            clazz.internSymbols(pool);
+        }
+        parser.setSymbolPool(pool);
+        return pool;
+    }
+
+    private static Path key(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    public Path getProjectPath() {
+        return projectPath;
+    }
+
+    /**
+     * 현재 분석 결과 (필터는 새 결과를 만들므로 그대로 넘겨도 됨)
+     */
+    public synchronized FlowResult getResult() {
+        return result;
+    }
+
+    /**
+     * 현재 모델로 인덱싱된 분석기 (필터, 변경 영향 분석용)
+     */
+    public synchronized FlowAnalyzer getAnalyzer() {
+        return analyzer;
+    }
+
+    public synchronized int getModuleCount() {
+        return modules.size();
+    }
+
+    public synchronized int getClassCount() {
+        return classesByFile.size();
+    }
+
+    public synchronized int getSqlCount() {
+        return sqlInfoMap != null ? sqlInfoMap.size() : 0;
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    public synchronized long getLastRefreshMillis() {
+        return lastRefreshMillis;
+    }
+}
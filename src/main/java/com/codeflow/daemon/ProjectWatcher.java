@@ -0,0 +1,140 @@
+package com.codeflow.daemon;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 프로젝트 폴더 변경 감시 (데몬 모드)
+ *
+ * 백그라운드 스레드가 WatchService 이벤트를 모아 두고, 요청이 올 때 drainChanges()로 가져갑니다.
+ *
+ * 설계 결정:
+ * - 하위 폴더마다 등록 (WatchService는 재귀 감시를 지원하지 않음), 새 폴더가 생기면 그 안의 파일도 변경으로 기록
+ * - '.'으로 시작하는 폴더(.git, .idea 등)는 감시하지 않음
+ * - 이벤트 유실(OVERFLOW)이면 전체 다시 읽기가 필요하다고 표시 → 모델이 load()로 처리
+ */
+public class ProjectWatcher implements Closeable {
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final Set<Path> changes = new LinkedHashSet<>();
+    private boolean overflow;
+    private final Thread thread;
+
+    public ProjectWatcher(Path projectPath) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        registerTree(projectPath.toAbsolutePath().normalize());
+        this.thread = new Thread(this::watchLoop, "cft-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void registerTree(Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(root) && dir.getFileName().toString().startsWith(".")) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                synchronized (directories) {
+                    directories.put(key, dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path dir;
+                synchronized (directories) {
+                    dir = directories.get(key);
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        synchronized (this) {
+                            overflow = true;
+                        }
+                        continue;
+                    }
+                    if (dir != null) {
+                        onEvent(event.kind(), dir.resolve((Path) event.context()));
+                    }
+                }
+                if (!key.reset()) {
+                    synchronized (directories) {
+                        directories.remove(key);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 종료
+        }
+    }
+
+    private void onEvent(WatchEvent.Kind<?> kind, Path path) {
+        if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+            try {
+                registerTree(path);
+                try (Stream<Path> files = Files.walk(path)) {
+                    List<Path> created = files.filter(Files::isRegularFile).collect(Collectors.toList());
+                    synchronized (this) {
+                        changes.addAll(created);
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("폴더 감시 등록 실패: " + path + " - " + e.getMessage());
+            }
+            return;
+        }
+        synchronized (this) {
+            changes.add(path);
+        }
+    }
+
+    /**
+     * 지금까지 모인 변경 파일을 가져가고 비움
+     */
+    public synchronized Set<Path> drainChanges() {
+        Set<Path> drained = new LinkedHashSet<>(changes);
+        changes.clear();
+        return drained;
+    }
+
+    /**
+     * 이벤트 유실 여부를 가져가고 초기화 (true면 전체 다시 읽어야 함)
+     */
+    public synchronized boolean drainOverflow() {
+        boolean result = overflow;
+        overflow = false;
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+}
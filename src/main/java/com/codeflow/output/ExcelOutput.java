@@ -1,9 +1,11 @@
 package com.codeflow.output;
 
+import com.codeflow.analyzer.CrudMatrix;
 import com.codeflow.analyzer.FlowAnalyzer;
 import com.codeflow.analyzer.FlowNode;
 import com.codeflow.analyzer.FlowResult;
 import com.codeflow.parser.SqlInfo;
+import com.codeflow.perf.JfrEvents;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
@@ -29,11 +31,16 @@ import java.util.HashSet;
  * 1. 요약 (Summary): 프로젝트 정보, 분석 통계
  * 2. 호출 흐름 (Call Flow): 평면 테이블 형식 (레이어별 컬럼 분리)
  * 3. SQL 목록 (SQL List): SQL 정보 목록
+ * 4. 테이블 영향도 (Table Impact): 테이블별 접근 URL/CRUD
+ * 5. CRUD 매트릭스 (CRUD Matrix): 엔드포인트(행) × 테이블(열), 셀은 C/R/U/D 조합
  */
 public class ExcelOutput {
 
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    // 엑셀 시트 최대 열 수 (XLSX 16,384열 - 엔드포인트 열 1개)
+    private static final int MAX_MATRIX_TABLES = 16_383;
+
     // 스타일
     private CellStyle headerStyle;
     private CellStyle titleStyle;
@@ -61,11 +68,12 @@ public class ExcelOutput {
                 warningInterfaces.addAll(result.getMultipleImplWarnings().keySet());
             }
 
-            // 시트 생성
-            createSummarySheet(workbook, result);
-            createCallFlowSheet(workbook, result);
-            createSqlListSheet(workbook, result);
-            createTableImpactSheet(workbook, result);  // 테이블 영향도 시트
+            // 시트 생성 (시트마다 JFR 이벤트 기록)
+            createSheet(workbook, () -> createSummarySheet(workbook, result));
+            createSheet(workbook, () -> createCallFlowSheet(workbook, result));
+            createSheet(workbook, () -> createSqlListSheet(workbook, result));
+            createSheet(workbook, () -> createTableImpactSheet(workbook, result));  // 테이블 영향도 시트
+            createSheet(workbook, () -> createCrudMatrixSheet(workbook, result));   // CRUD 매트릭스 시트
 
             // 파일 저장
             try (FileOutputStream fos = new FileOutputStream(outputPath.toFile())) {
@@ -74,6 +82,26 @@ public class ExcelOutput {
         }
     }
 
+    /**
+     * 시트 생성 + JFR 시트 이벤트 기록 (녹화 중일 때만 시트명/행 수 기록)
+     */
+    private void createSheet(Workbook workbook, Runnable sheetCreator) {
+        if (!JfrEvents.isEnabled()) {
+            sheetCreator.run();
+            return;
+        }
+        JfrEvents.ExportSheetEvent event = new JfrEvents.ExportSheetEvent();
+        event.begin();
+        sheetCreator.run();
+        event.end();
+        if (event.shouldCommit()) {
+            Sheet sheet = workbook.getSheetAt(workbook.getNumberOfSheets() - 1);
+            event.sheet = sheet.getSheetName();
+            event.rows = sheet.getLastRowNum() + 1;
+            event.commit();
+        }
+    }
+
     /**
      * 셀 스타일 초기화
      */
@@ -579,6 +607,58 @@ public class ExcelOutput {
         }
     }
 
+    /**
+     * CRUD 매트릭스 시트 생성 (엔드포인트 × 테이블, 셀이 없는 칸은 비워 둠)
+     */
+    private void createCrudMatrixSheet(Workbook workbook, FlowResult result) {
+        Sheet sheet = workbook.createSheet("CRUD 매트릭스");
+
+        CrudMatrix matrix = result.getCrudMatrix();
+        int[] endpointIds = matrix.sortedEndpointIds();
+        int[] tableIds = matrix.sortedTableIds();
+        if (endpointIds.length == 0) {
+            Row row = sheet.createRow(0);
+            row.createCell(0).setCellValue("테이블 접근 정보가 없습니다.");
+            return;
+        }
+        if (tableIds.length > MAX_MATRIX_TABLES) {
+            System.err.printf("CRUD 매트릭스 테이블 %d개 중 %d개만 엑셀에 출력 (전체는 --crud-matrix CSV 사용)%n",
+                tableIds.length, MAX_MATRIX_TABLES);
+            tableIds = java.util.Arrays.copyOf(tableIds, MAX_MATRIX_TABLES);
+        }
+
+        // 헤더 (테이블 ID → 열 번호)
+        Map<Integer, Integer> columnOf = new java.util.HashMap<>();
+        Row headerRow = sheet.createRow(0);
+        createCell(headerRow, 0, "엔드포인트", headerStyle);
+        for (int i = 0; i < tableIds.length; i++) {
+            createCell(headerRow, i + 1, matrix.getTable(tableIds[i]), headerStyle);
+            columnOf.put(tableIds[i], i + 1);
+        }
+
+        // 행마다 셀이 있는 칸만 생성 (빈 칸은 만들지 않음 → 큰 매트릭스도 셀 수만큼만)
+        int rowNum = 1;
+        for (int endpointId : endpointIds) {
+            Row row = sheet.createRow(rowNum);
+            CellStyle rowStyle = (rowNum % 2 == 1) ? normalStyle : alternateStyle;
+            createCell(row, 0, matrix.getEndpoint(endpointId), rowStyle);
+            matrix.forEachInRow(endpointId, (tableId, mask) -> {
+                Integer column = columnOf.get(tableId);
+                if (column != null) {
+                    createCell(row, column, CrudMatrix.format(mask), rowStyle);
+                }
+            });
+            rowNum++;
+        }
+
+        // 열 너비 조정, 첫 행/열 고정
+        sheet.setColumnWidth(0, 35 * 256);
+        for (int i = 1; i <= tableIds.length; i++) {
+            sheet.setColumnWidth(i, 12 * 256);
+        }
+        sheet.createFreezePane(1, 1);
+    }
+
     private void createCell(Row row, int column, String value, CellStyle style) {
         Cell cell = row.createCell(column);
         cell.setCellValue(value != null ? value : "");
@@ -1,5 +1,11 @@
 package com.codeflow.parser;
 
+import com.codeflow.perf.JfrEvents;
+import com.codeflow.perf.PerfReport;
+import com.codeflow.util.CancellationToken;
+import com.codeflow.util.ParallelRunner;
+import com.codeflow.util.ProgressListener;
+
 import org.jdom2.Attribute;
 import org.jdom2.Content;
 import org.jdom2.Document;
@@ -8,12 +14,16 @@ import org.jdom2.Text;
 import org.jdom2.input.SAXBuilder;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -25,6 +35,12 @@ import java.util.stream.Stream;
  * 지원 형식:
  * - iBatis: sqlMap (namespace 속성)
  * - MyBatis: mapper (namespace 속성)
+ *
+ * 소스 아카이브(-sources.jar, .war 등)의 매퍼 XML 항목도 압축을 풀지 않고 병렬로 파싱합니다.
+ * (JavaSourceParser와 같은 규칙: 프로젝트 경로가 아카이브면 항상, 폴더 안의 아카이브는 setScanArchives(true)일 때)
+ *
+ * SQL 조각(&lt;sql&gt;)은 파일별로 1번 추출해 등록하고, 모든 파일을 읽은 뒤 &lt;include refid&gt;를 해석합니다
+ * (다른 파일/namespace의 조각 포함, SqlFragments 참고).
  */
 public class IBatisParser {
 
@@ -38,38 +54,271 @@ public class IBatisParser {
         "resultMap"         // 둘 다 사용
     );
 
+    // 취소/진행 상황 (GUI에서 설정, 기본값은 취소 없음/통지 없음)
+    private CancellationToken cancellationToken = CancellationToken.none();
+    private ProgressListener progressListener = ProgressListener.NONE;
+    private PerfReport perfReport = PerfReport.none();
+
+    // 소스 아카이브 (항목 파싱 결과는 파싱 캐시에 아카이브 해시 + 항목 이름으로 저장)
+    private ParseCache parseCache = ParseCache.none();
+    private boolean scanArchives = false;
+    private int archiveThreads = Runtime.getRuntime().availableProcessors();
+
+    // SQL 조각 (parseProject마다 새로 만듦)
+    private SqlFragments fragments = new SqlFragments();
+
+    // 파싱 후 쿼리 텍스트를 임시 파일로 옮길지 여부 (SqlTextStore)
+    private boolean lazySqlText = true;
+
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public void setPerfReport(PerfReport perfReport) {
+        this.perfReport = perfReport;
+    }
+
+    public void setParseCache(ParseCache parseCache) {
+        this.parseCache = parseCache;
+    }
+
+    /**
+     * 프로젝트 폴더 안의 아카이브(.jar/.zip/.war)도 파싱할지 여부 (프로젝트 경로 자체가 아카이브면 항상 파싱)
+     */
+    public void setScanArchives(boolean scanArchives) {
+        this.scanArchives = scanArchives;
+    }
+
+    /**
+     * 아카이브 항목 병렬 파싱 스레드 수 (기본: CPU 코어 수)
+     */
+    public void setArchiveThreads(int archiveThreads) {
+        this.archiveThreads = Math.max(1, archiveThreads);
+    }
+
+    /**
+     * 파싱이 끝난 쿼리 텍스트를 임시 파일로 옮기고 필요할 때 읽을지 여부 (기본: true)
+     */
+    public void setLazySqlText(boolean lazySqlText) {
+        this.lazySqlText = lazySqlText;
+    }
+
     /**
      * 프로젝트 내 모든 SQL 매퍼 XML 파싱
      *
      * @param projectPath 프로젝트 루트 경로
      * @return SQL ID → SqlInfo 매핑
+     * @throws java.util.concurrent.CancellationException 취소 토큰이 취소된 경우
      */
     public Map<String, SqlInfo> parseProject(Path projectPath) throws IOException {
         Map<String, SqlInfo> sqlMap = new HashMap<>();
+        List<SourceArchive> archives = new ArrayList<>();
+        fragments = new SqlFragments();
+
+        try {
+            // XML 파일 찾기 (폴더 → 아카이브 순)
+            List<Path> xmlFiles;
+            List<List<Path>> archiveEntries = new ArrayList<>();
+            int total;
+            try (PerfReport.PhaseTimer discovery = perfReport.startPhase(PerfReport.PHASE_XML_DISCOVERY)) {
+                xmlFiles = SourceArchive.isArchive(projectPath) ? new ArrayList<>() : findXmlFiles(projectPath);
+                total = xmlFiles.size();
+                for (Path archivePath : SourceArchive.findSourceArchives(projectPath, scanArchives)) {
+                    try {
+                        SourceArchive archive = SourceArchive.open(archivePath);
+                        archives.add(archive);
+                        List<Path> entries = archive.findEntries(".xml");
+                        archiveEntries.add(entries);
+                        total += entries.size();
+                    } catch (IOException e) {
+                        if (archivePath.equals(projectPath)) {
+                            throw e;
+                        }
+                        System.err.println("아카이브 열기 실패 (건너뜀): " + archivePath + " - " + e.getMessage());
+                    }
+                }
+                discovery.addItems(total);
+            }
 
-        // XML 파일 찾기
-        List<Path> xmlFiles = findXmlFiles(projectPath);
+            try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_XML_PARSE)) {
+                for (int i = 0; i < xmlFiles.size(); i++) {
+                    cancellationToken.throwIfCancelled();
 
-        for (Path xmlFile : xmlFiles) {
-            try {
-                Map<String, SqlInfo> fileSqlMap = parseFile(xmlFile);
-                sqlMap.putAll(fileSqlMap);
-            } catch (Exception e) {
-                // 파싱 실패한 파일은 건너뛰기 (SQL 매퍼가 아닌 XML일 수 있음)
+                    MapperFile mapper = parseRecorded(phase, xmlFiles.get(i), xmlFiles.get(i));
+                    if (mapper != null) {
+                        mapper.addTo(sqlMap, fragments);
+                    }
+                    progressListener.onProgress(ProgressListener.Phase.XML_PARSE, i + 1, total);
+                }
+
+                AtomicInteger completed = new AtomicInteger(xmlFiles.size());
+                for (int a = 0; a < archives.size(); a++) {
+                    for (MapperFile mapper
+                            : parseArchiveEntries(phase, archives.get(a), archiveEntries.get(a), completed, total)) {
+                        mapper.addTo(sqlMap, fragments);
+                    }
+                }
+
+                resolveIncludes(sqlMap);
+                if (lazySqlText) {
+                    moveQueriesToStore(sqlMap);
+                }
+            }
+        } finally {
+            for (SourceArchive archive : archives) {
+                archive.close();
             }
         }
 
+        try {
+            parseCache.save();
+        } catch (IOException e) {
+            System.err.println("파싱 캐시 저장 실패: " + e.getMessage());
+        }
         return sqlMap;
     }
 
+    /**
+     * 아카이브 매퍼 항목 병렬 파싱 (캐시에 있으면 파싱하지 않음, 결과는 항목 순서 유지)
+     */
+    private List<MapperFile> parseArchiveEntries(PerfReport.PhaseTimer phase, SourceArchive archive,
+                                                 List<Path> entries, AtomicInteger completed, int total)
+            throws IOException {
+        String archiveHash = archive.getHash();
+        List<MapperFile> results = new ArrayList<>(Collections.nCopies(entries.size(), null));
+
+        ParallelRunner.run("cft-archive", entries.size(), archiveThreads, () -> this, (parser, i) -> {
+            cancellationToken.throwIfCancelled();
+            Path entry = entries.get(i);
+            String entryName = archive.entryName(entry);
+
+            // 캐시에는 include 해석 전 결과 저장 (다른 파일의 조각에 따라 해석 결과가 달라짐)
+            MapperFile mapper = parseCache.findArchiveEntry(archiveHash, entryName, MapperFile.class);
+            if (mapper != null) {
+                perfReport.addCounter(PerfReport.COUNTER_ARCHIVE_CACHE_HIT, 1);
+            } else {
+                mapper = parseRecorded(phase, entry, archive.displayPath(entry));
+                if (mapper != null) {
+                    parseCache.putArchiveEntry(archiveHash, entryName, mapper);
+                }
+            }
+            synchronized (results) {
+                results.set(i, mapper);
+            }
+            progressListener.onProgress(ProgressListener.Phase.XML_PARSE, completed.incrementAndGet(), total);
+        });
+
+        List<MapperFile> parsed = new ArrayList<>();
+        for (MapperFile result : results) {
+            if (result != null) {
+                parsed.add(result);
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * 쿼리 텍스트를 임시 파일로 옮김 (테이블/파라미터는 이미 추출됨, 텍스트는 엑셀/쿼리 상세에서 읽을 때 로드)
+     * 임시 파일을 만들 수 없으면 텍스트를 그대로 보관
+     */
+    private void moveQueriesToStore(Map<String, SqlInfo> sqlMap) {
+        if (sqlMap.isEmpty()) {
+            return;
+        }
+        try {
+            SqlTextStore store = SqlTextStore.createTemp();
+            for (SqlInfo sqlInfo : sqlMap.values()) {
+                sqlInfo.moveQueryTo(store);
+            }
+            perfReport.addCounter(PerfReport.COUNTER_SQL_TEXT_BYTES, store.getSize());
+        } catch (IOException e) {
+            System.err.println("SQL 텍스트 임시 파일 생성 실패 (메모리에 보관): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 매퍼를 읽은 뒤 include 해석 (조각은 처음 참조될 때 1번만 펼침)
+     */
+    private void resolveIncludes(Map<String, SqlInfo> sqlMap) {
+        if (fragments.size() == 0) {
+            return;
+        }
+        fragments.resolve(sqlMap.values());
+        for (String cycle : fragments.getCycles()) {
+            System.err.println("SQL 조각 순환 참조 (펼치지 않음): " + cycle);
+        }
+        perfReport.addCounter(PerfReport.COUNTER_SQL_FRAGMENTS, fragments.size());
+        perfReport.addCounter(PerfReport.COUNTER_SQL_INCLUDE_RESOLVED, fragments.getResolvedIncludeCount());
+        perfReport.addCounter(PerfReport.COUNTER_SQL_INCLUDE_UNRESOLVED, fragments.getUnresolvedIncludeCount());
+    }
+
+    /**
+     * XML 파일 1개 파싱 + JFR 이벤트/성능 리포트 기록
+     *
+     * @param displayPath 이벤트/리포트에 기록할 경로 (아카이브 항목은 "아카이브!/항목")
+     * @return 문장 + SQL 조각 (파싱 실패 시 null - SQL 매퍼가 아닌 XML일 수 있음)
+     */
+    private MapperFile parseRecorded(PerfReport.PhaseTimer phase, Path xmlFile, Path displayPath) {
+        long fileStart = System.nanoTime();
+        JfrEvents.MapperParseEvent event = JfrEvents.isEnabled() ? new JfrEvents.MapperParseEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        MapperFile mapper = null;
+        try {
+            mapper = parseMapper(xmlFile);
+        } catch (Exception e) {
+            // 파싱 실패한 파일은 건너뛰기 (SQL 매퍼가 아닌 XML일 수 있음)
+        }
+        boolean success = mapper != null;
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = displayPath.toString();
+                event.bytes = fileSize(xmlFile);
+                event.sqlCount = success ? mapper.statements.size() : 0;
+                event.success = success;
+                event.commit();
+            }
+        }
+        if (perfReport.isEnabled()) {
+            perfReport.recordFile(phase, displayPath, fileSize(xmlFile), System.nanoTime() - fileStart, success);
+        }
+        return mapper;
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
     /**
      * 단일 XML 파일 파싱
      *
+     * 파일 안의 SQL 조각은 등록만 하고 include는 해석하지 않습니다 (다른 파일의 조각을 참조할 수 있으므로 parseProject에서 해석).
+     *
      * @param xmlFile XML 파일 경로
      * @return SQL ID → SqlInfo 매핑
      */
     public Map<String, SqlInfo> parseFile(Path xmlFile) throws Exception {
         Map<String, SqlInfo> sqlMap = new HashMap<>();
+        parseMapper(xmlFile).addTo(sqlMap, fragments);
+        return sqlMap;
+    }
+
+    /**
+     * XML 파일 1개에서 SQL 문장과 SQL 조각 추출
+     */
+    private MapperFile parseMapper(Path xmlFile) throws Exception {
+        MapperFile mapper = new MapperFile();
 
         // DTD 검증 비활성화 (외부 네트워크 연결 방지)
         SAXBuilder builder = new SAXBuilder();
@@ -77,19 +326,28 @@ public class IBatisParser {
         builder.setFeature("http://xml.org/sax/features/external-general-entities", false);
         builder.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
 
-        Document document = builder.build(xmlFile.toFile());
+        Document document;
+        if (xmlFile.getFileSystem() == FileSystems.getDefault()) {
+            document = builder.build(xmlFile.toFile());
+        } else {
+            // 아카이브 항목 (zip 파일 시스템): File로 변환할 수 없으므로 스트림으로 읽음
+            try (InputStream in = Files.newInputStream(xmlFile)) {
+                document = builder.build(in);
+            }
+        }
         Element root = document.getRootElement();
 
         // 루트 요소 확인 (sqlMap 또는 mapper)
         String rootName = root.getName().toLowerCase();
         if (!rootName.equals("sqlmap") && !rootName.equals("mapper")) {
             // SQL 매퍼 XML이 아님
-            return sqlMap;
+            return mapper;
         }
 
         // namespace 추출
         String namespace = root.getAttributeValue("namespace");
         String fileName = xmlFile.getFileName().toString();
+        String filePath = xmlFile.toString();
 
         // SQL 태그 파싱
         for (String tagName : SQL_TAGS) {
@@ -97,12 +355,21 @@ public class IBatisParser {
             for (Element element : elements) {
                 SqlInfo sqlInfo = parseElement(element, fileName, namespace, tagName);
                 if (sqlInfo != null) {
-                    sqlMap.put(sqlInfo.getFullSqlId(), sqlInfo);
+                    sqlInfo.setFilePath(filePath);
+                    mapper.statements.add(sqlInfo);
                 }
             }
         }
 
-        return sqlMap;
+        // SQL 조각 (<sql id="...">) - 텍스트만 1번 추출, include 해석은 나중에
+        for (Element element : root.getChildren("sql")) {
+            String id = element.getAttributeValue("id");
+            if (id != null && !id.isEmpty()) {
+                mapper.fragments.add(new SqlFragments.Fragment(namespace, id, extractQuery(element)));
+            }
+        }
+
+        return mapper;
     }
 
     /**
@@ -292,6 +559,7 @@ public class IBatisParser {
                 .filter(Files::isRegularFile)
                 .filter(p -> p.toString().toLowerCase().endsWith(".xml"))
                 .filter(this::isSqlMapperXml)
+                .sorted()
                 .collect(Collectors.toList());
         }
     }
@@ -346,4 +614,19 @@ public class IBatisParser {
 
         return null;
     }
+
+    /**
+     * 매퍼 파일 1개의 파싱 결과 (아카이브 항목은 이 형태로 파싱 캐시에 저장)
+     */
+    private static class MapperFile {
+        private final List<SqlInfo> statements = new ArrayList<>();
+        private final List<SqlFragments.Fragment> fragments = new ArrayList<>();
+
+        void addTo(Map<String, SqlInfo> sqlMap, SqlFragments registry) {
+            for (SqlInfo sqlInfo : statements) {
+                sqlMap.put(sqlInfo.getFullSqlId(), sqlInfo);
+            }
+            registry.register(fragments);
+        }
+    }
 }
@@ -0,0 +1,226 @@
+package com.codeflow.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * 빠른 파싱 모드용 Java 파일 사전 분류기
+ *
+ * AST 파싱 전에 파일 바이트를 훑어서, 호출 흐름 분석에 필요한 만큼만 파싱하도록 분류합니다.
+ * - FULL: Controller/Service/DAO 관련 표식이 있는 파일 → 전체 파싱
+ * - LIGHT: 표식이 없는 파일 (VO, 유틸, 상수 등) → 메서드 본문을 비우고 선언만 파싱
+ * - SKIP: 테스트 소스, package-info/module-info → 파싱하지 않음
+ *
+ * 설계 결정:
+ * - 표식은 ASCII 문자열이므로 디코딩 없이 바이트에서 직접 검색 (UTF-8/MS949 모두 ASCII 호환)
+ * - 주석/문자열 안의 표식도 FULL로 분류 (보수적: 잘못 FULL이 되어도 결과는 같고 느려질 뿐)
+ * - LIGHT 파일도 클래스/메서드 선언은 남기므로 클래스 인덱스와 호출 대상 해석은 그대로 동작
+ *   (메서드 안의 호출만 빠짐 - 유틸 → 유틸 호출 노드는 흐름에 나타나지 않음)
+ */
+public final class JavaFilePreScanner {
+
+    /**
+     * 파일 분류 결과
+     */
+    public enum Category {
+        FULL, LIGHT, SKIP
+    }
+
+    // 하나라도 있으면 전체 파싱 (ClassType 판별, URL 매핑, 의존성 주입, SQL 호출 관련)
+    private static final byte[][] FULL_PARSE_MARKERS = toBytes(
+        "Controller", "Service", "Repository", "Component", "Mapping",
+        "Dao", "DAO", "Mapper", "SqlMap", "SqlSession", "sqlSession",
+        "@Resource", "@Autowired", "@Inject"
+    );
+
+    // 테스트 코드 표식 (src/test 밖에 있는 테스트 클래스용, static import 포함)
+    private static final byte[][] TEST_MARKERS = toBytes(" org.junit.", " org.testng.");
+
+    private JavaFilePreScanner() {
+    }
+
+    /**
+     * 파일 분류
+     *
+     * @param relativePath 프로젝트 기준 상대 경로 (프로젝트가 test 폴더 아래 있어도 오분류하지 않도록)
+     * @param content 파일 내용 (바이트)
+     */
+    public static Category classify(Path relativePath, byte[] content) {
+        return classify(relativePath, ByteBuffer.wrap(content));
+    }
+
+    /**
+     * 파일 분류 (SourceLoader의 재사용 버퍼를 복사 없이 검사)
+     *
+     * @param content 파일 내용 (position 0 ~ limit)
+     */
+    public static Category classify(Path relativePath, ByteBuffer content) {
+        String fileName = relativePath.getFileName() == null ? "" : relativePath.getFileName().toString();
+        if (fileName.equals("package-info.java") || fileName.equals("module-info.java")) {
+            return Category.SKIP;
+        }
+        String normalized = "/" + relativePath.toString().replace('\\', '/');
+        if (normalized.contains("/src/test/") || containsAny(content, TEST_MARKERS)) {
+            return Category.SKIP;
+        }
+        return containsAny(content, FULL_PARSE_MARKERS) ? Category.FULL : Category.LIGHT;
+    }
+
+    /**
+     * 메서드/초기화 블록 본문 비우기 (LIGHT 파싱용)
+     *
+     * 타입 본문(중괄호 깊이 1) 안쪽의 중괄호 블록 내용을 제거하여 "void save() {}" 형태로 만듭니다.
+     * 줄 번호가 유지되도록 제거한 구간의 줄바꿈은 남깁니다.
+     * 문자열/문자/텍스트 블록/주석 안의 중괄호는 세지 않습니다.
+     */
+    public static String stripMethodBodies(CharSequence source) {
+        StringBuilder sb = new StringBuilder(source.length());
+        int length = source.length();
+        int depth = 0;
+        int i = 0;
+
+        while (i < length) {
+            int end = skipLiteralOrComment(source, i);
+            if (end > i) {
+                if (depth < 2) {
+                    sb.append(source, i, end);
+                } else {
+                    appendNewlines(sb, source, i, end);
+                }
+                i = end;
+                continue;
+            }
+
+            char c = source.charAt(i);
+            if (c == '{') {
+                depth++;
+                if (depth <= 2) {
+                    sb.append(c);
+                }
+            } else if (c == '}') {
+                if (depth <= 2) {
+                    sb.append(c);
+                }
+                depth--;
+            } else if (depth < 2 || c == '\n') {
+                sb.append(c);
+            }
+            i++;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * i 위치가 문자열/문자/텍스트 블록/주석의 시작이면 끝 다음 위치, 아니면 i 반환
+     */
+    private static int skipLiteralOrComment(CharSequence s, int i) {
+        char c = s.charAt(i);
+        char next = i + 1 < s.length() ? s.charAt(i + 1) : 0;
+
+        if (c == '/' && next == '/') {
+            int end = indexOf(s, "\n", i);
+            return end < 0 ? s.length() : end;
+        }
+        if (c == '/' && next == '*') {
+            int end = indexOf(s, "*/", i + 2);
+            return end < 0 ? s.length() : end + 2;
+        }
+        if (c == '"' && startsWith(s, "\"\"\"", i)) {
+            return skipQuoted(s, i + 3, "\"\"\"", false);
+        }
+        if (c == '"') {
+            return skipQuoted(s, i + 1, "\"", true);
+        }
+        if (c == '\'') {
+            return skipQuoted(s, i + 1, "'", true);
+        }
+        return i;
+    }
+
+    /**
+     * 닫는 따옴표까지 건너뛰기 (역슬래시 이스케이프 처리, 한 줄 리터럴은 줄바꿈에서 중단)
+     */
+    private static int skipQuoted(CharSequence s, int from, String close, boolean singleLine) {
+        int i = from;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (singleLine && c == '\n') {
+                return i;
+            }
+            if (startsWith(s, close, i)) {
+                return i + close.length();
+            }
+            i++;
+        }
+        return s.length();
+    }
+
+    private static void appendNewlines(StringBuilder sb, CharSequence s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == '\n') {
+                sb.append('\n');
+            }
+        }
+    }
+
+    private static boolean startsWith(CharSequence s, String prefix, int from) {
+        if (from + prefix.length() > s.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (s.charAt(from + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(CharSequence s, String target, int from) {
+        for (int i = from; i <= s.length() - target.length(); i++) {
+            if (startsWith(s, target, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static boolean containsAny(ByteBuffer content, byte[][] markers) {
+        for (byte[] marker : markers) {
+            if (indexOf(content, marker) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(ByteBuffer content, byte[] marker) {
+        byte first = marker[0];
+        int last = content.limit() - marker.length;
+        outer:
+        for (int i = 0; i <= last; i++) {
+            if (content.get(i) != first) {
+                continue;
+            }
+            for (int j = 1; j < marker.length; j++) {
+                if (content.get(i + j) != marker[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static byte[][] toBytes(String... markers) {
+        byte[][] result = new byte[markers.length][];
+        for (int i = 0; i < markers.length; i++) {
+            result[i] = markers[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        return result;
+    }
+}
@@ -1,27 +1,56 @@
 package com.codeflow.parser;
 
+import com.codeflow.perf.JfrEvents;
+import com.codeflow.perf.PerfReport;
+import com.codeflow.util.CancellationToken;
+import com.codeflow.util.ParallelRunner;
+import com.codeflow.util.ProgressListener;
+import com.codeflow.util.SymbolPool;
 import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParseStart;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.Providers;
 import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.body.Parameter;
 import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.ArrayInitializerExpr;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.LiteralStringValueExpr;
+import com.github.javaparser.ast.expr.LongLiteralExpr;
 import com.github.javaparser.ast.expr.MemberValuePair;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.NormalAnnotationExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
 import com.github.javaparser.ast.expr.SingleMemberAnnotationExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.ThisExpr;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 /**
@@ -32,50 +61,768 @@ import java.util.stream.Stream;
  * - Service 클래스 탐지 (@Service)
  * - DAO/Repository 클래스 탐지 (@Repository)
  * - 메서드 호출 관계 추출
+ *
+ * 빠른 파싱 모드 (setFastMode, 기본 꺼짐):
+ * - 토큰 저장/주석 연결/언어 수준 검증을 끈 ParserConfiguration 사용
+ * - JavaFilePreScanner로 파일을 먼저 분류하여 테스트 소스는 건너뛰고,
+ *   Controller/Service/DAO 표식이 없는 파일(VO, 유틸 등)은 메서드 본문을 비우고 선언만 파싱
+ * - 분류별 파일 수는 getter와 PerfReport 카운터로 확인
+ *
+ * 소스 읽기는 SourceLoader 사용: 파일별 문자셋 감지(BOM → UTF-8 → MS949), 재사용 버퍼에서 복사 없이 파싱
+ *
+ * 소스 아카이브 (-sources.jar, .zip, .war):
+ * - 프로젝트 경로가 아카이브면 압축을 풀지 않고 안의 .java 항목을 파싱
+ * - setScanArchives(true)면 프로젝트 폴더 안의 아카이브 항목도 함께 파싱
+ * - 항목은 여러 스레드로 병렬 파싱하고, 결과는 ParseCache에 아카이브 해시 + 항목 이름으로 저장
+ *
+ * 파싱 결과(캐시에서 가져온 결과 포함)의 식별자 문자열은 SymbolPool로 공유 (setSymbolPool로 분석기와 같은 풀 지정)
+ *
+ * 파일별 한도 (parseProject에만 적용):
+ * - 크기(setMaxFileBytes) 또는 파싱 시간(setMaxParseMillis)을 넘은 파일은 격리하고 나머지 분석은 계속
+ * - 격리된 파일은 선언만 파싱하거나 건너뛰고, ParseCache에 기록하여 다음 실행에서 다시 시도하지 않음
  */
 public class JavaSourceParser {
 
-    private final JavaParser javaParser;
+    private JavaParser javaParser;
+    private boolean fastMode = false;
+
+    // 취소/진행 상황 (GUI에서 설정, 기본값은 취소 없음/통지 없음)
+    private CancellationToken cancellationToken = CancellationToken.none();
+    private ProgressListener progressListener = ProgressListener.NONE;
+    private PerfReport perfReport = PerfReport.none();
+
+    // iBatis/MyBatis DAO 메서드 패턴 (첫 인자가 SQL ID, 호출마다 목록을 만들지 않도록 상수)
+    private static final Set<String> SQL_METHODS = Set.of(
+        "list", "selectList", "queryForList",
+        "select", "selectOne", "queryForObject",
+        "insert",
+        "update",
+        "delete"
+    );
+
+    // 구문 오류로 파싱하지 못한 파일 수 (성능 리포트의 실패 수 집계용)
+    private int parseErrorCount = 0;
+
+    // 파일별 한도 (0 이하면 제한 없음) - 한도를 넘은 파일은 격리 (QuarantinedFile)
+    public static final long DEFAULT_MAX_FILE_BYTES = 2L * 1024 * 1024;
+    public static final long DEFAULT_MAX_PARSE_MILLIS = 20_000;
+    private long maxFileBytes = DEFAULT_MAX_FILE_BYTES;
+    private long maxParseMillis = DEFAULT_MAX_PARSE_MILLIS;
+
+    // 격리 목록 등 실행 간 유지되는 정보 (기본값은 저장하지 않음)
+    private ParseCache parseCache = ParseCache.none();
+    private final List<QuarantinedFile> quarantinedFiles = new ArrayList<>();
+
+    // 소스 로딩 (문자셋 감지, 버퍼 재사용) + 디코딩 실패 파일
+    private final SourceLoader sourceLoader = new SourceLoader();
+    private final List<Path> decodeFailedFiles = new ArrayList<>();
+
+    // 소스 아카이브: 열린 아카이브 (zip 파일 시스템 → 아카이브, 작업용 파서와 공유)
+    private boolean scanArchives = false;
+    private int archiveThreads = Runtime.getRuntime().availableProcessors();
+    private Map<FileSystem, SourceArchive> openArchives = new ConcurrentHashMap<>();
+
+    // 식별자 문자열 공유 풀 (작업용 파서와 공유, 파서가 버려지면 함께 버려짐)
+    private SymbolPool symbolPool = new SymbolPool();
+
+    // 빠른 파싱 모드 분류별 파일 수
+    private int fullParseCount = 0;
+    private int lightParseCount = 0;
+    private int skippedFileCount = 0;
 
     public JavaSourceParser() {
         this.javaParser = new JavaParser();
     }
 
+    /**
+     * 빠른 파싱 모드 설정
+     *
+     * 설계 결정:
+     * - 추출기는 토큰/주석/검증 결과를 쓰지 않으므로 모두 끔
+     * - 언어 수준은 RAW로 고정 (검증기/후처리기 없음, 최신 문법도 오류 없이 파싱)
+     * - 기본값은 꺼짐: LIGHT 파일 안의 호출은 추출하지 않으므로 결과가 달라질 수 있음
+     */
+    public void setFastMode(boolean fastMode) {
+        if (fastMode == this.fastMode) {
+            return;   // 같은 설정이면 JavaParser 재사용 (reset 후 다시 설정하는 경우)
+        }
+        this.fastMode = fastMode;
+        this.javaParser = fastMode ? new JavaParser(fastParserConfiguration()) : new JavaParser();
+    }
+
+    public boolean isFastMode() {
+        return fastMode;
+    }
+
+    private static ParserConfiguration fastParserConfiguration() {
+        return new ParserConfiguration()
+            .setStoreTokens(false)
+            .setAttributeComments(false)
+            .setLanguageLevel(ParserConfiguration.LanguageLevel.RAW);
+    }
+
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public void setPerfReport(PerfReport perfReport) {
+        this.perfReport = perfReport;
+    }
+
+    public void setMaxFileBytes(long maxFileBytes) {
+        this.maxFileBytes = maxFileBytes;
+    }
+
+    public void setMaxParseMillis(long maxParseMillis) {
+        this.maxParseMillis = maxParseMillis;
+    }
+
+    public void setParseCache(ParseCache parseCache) {
+        this.parseCache = parseCache;
+    }
+
+    public void setSymbolPool(SymbolPool symbolPool) {
+        this.symbolPool = symbolPool;
+    }
+
+    public SymbolPool getSymbolPool() {
+        return symbolPool;
+    }
+
+    /**
+     * 이번 파싱에서 격리된 파일 (이전 실행에서 격리되어 다시 시도하지 않은 파일 포함)
+     */
+    public List<QuarantinedFile> getQuarantinedFiles() {
+        return new ArrayList<>(quarantinedFiles);
+    }
+
+    /**
+     * UTF-8/BOM이 아닌 파일에 사용할 문자셋 (기본 MS949)
+     */
+    public void setFallbackCharset(Charset fallbackCharset) {
+        sourceLoader.setFallbackCharset(fallbackCharset);
+    }
+
+    /**
+     * 감지한 문자셋으로도 디코딩하지 못한 파일 (대체 문자로 바꿔 파싱함)
+     */
+    public List<Path> getDecodeFailedFiles() {
+        return new ArrayList<>(decodeFailedFiles);
+    }
+
+    /**
+     * 프로젝트 폴더 안의 아카이브(.jar/.zip/.war)도 파싱할지 여부 (프로젝트 경로 자체가 아카이브면 항상 파싱)
+     */
+    public void setScanArchives(boolean scanArchives) {
+        this.scanArchives = scanArchives;
+    }
+
+    /**
+     * 아카이브 항목 병렬 파싱 스레드 수 (기본: CPU 코어 수)
+     */
+    public void setArchiveThreads(int archiveThreads) {
+        this.archiveThreads = Math.max(1, archiveThreads);
+    }
+
+    /**
+     * 파싱 결과에 영향을 주는 설정 (모듈 캐시 지문에 포함 → 설정이 바뀌면 다시 파싱)
+     */
+    public String getSettingsKey() {
+        return (fastMode ? "fast" : "full") + ";" + maxFileBytes + ";" + maxParseMillis + ";"
+            + sourceLoader.getFallbackCharset().name();
+    }
+
+    /**
+     * 지금까지 문제가 생긴 파일 수 (구문 오류 + 격리 + 디코딩 실패, 모듈 결과를 캐시해도 되는지 판단)
+     */
+    synchronized int problemCount() {
+        return parseErrorCount + quarantinedFiles.size() + decodeFailedFiles.size();
+    }
+
+    public int getFullParseCount() {
+        return fullParseCount;
+    }
+
+    public int getLightParseCount() {
+        return lightParseCount;
+    }
+
+    public int getSkippedFileCount() {
+        return skippedFileCount;
+    }
+
     /**
      * 프로젝트 경로에서 모든 Java 파일을 찾아 파싱합니다.
+     *
+     * 파일 목록을 먼저 수집하여 전체 개수를 알고, 파일마다 취소 여부를 확인합니다.
+     * 파일 순서는 경로순으로 정렬 (OS별 Files.walk 순서 차이로 결과가 달라지지 않도록)
+     *
+     * @throws java.util.concurrent.CancellationException 취소 토큰이 취소된 경우
      */
     public List<ParsedClass> parseProject(Path projectPath) throws IOException {
         List<ParsedClass> parsedClasses = new ArrayList<>();
 
-        try (Stream<Path> paths = Files.walk(projectPath)) {
-            paths.filter(path -> path.toString().endsWith(".java"))
-                 .forEach(path -> {
-                     try {
-                         ParsedClass parsed = parseFile(path);
-                         if (parsed != null) {
-                             parsedClasses.add(parsed);
-                         }
-                     } catch (IOException e) {
-                         System.err.println("파싱 실패: " + path + " - " + e.getMessage());
-                     }
-                 });
-        }
+        try {
+            List<Path> javaFiles;
+            try (PerfReport.PhaseTimer discovery = perfReport.startPhase(PerfReport.PHASE_JAVA_DISCOVERY)) {
+                javaFiles = findJavaFiles(projectPath);
+                discovery.addItems(javaFiles.size());
+            }
+
+            try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_JAVA_PARSE)) {
+                // 폴더의 파일은 순서대로, 뒤에 오는 아카이브 항목은 병렬로
+                int total = javaFiles.size();
+                int firstEntry = 0;
+                while (firstEntry < total && !openArchives.containsKey(javaFiles.get(firstEntry).getFileSystem())) {
+                    firstEntry++;
+                }
+
+                for (int i = 0; i < firstEntry; i++) {
+                    cancellationToken.throwIfCancelled();
+
+                    long fileStart = System.nanoTime();
+                    LoadedFile file = readFile(projectPath, javaFiles.get(i));
+                    ParsedClass parsed = parseRecorded(phase, file, fileStart);
+                    if (parsed != null) {
+                        parsedClasses.add(parsed);
+                    }
+                    progressListener.onProgress(ProgressListener.Phase.JAVA_PARSE, i + 1, total);
+                }
 
+                if (firstEntry < total) {
+                    parsedClasses.addAll(parseArchiveEntries(phase, projectPath, javaFiles.subList(firstEntry, total), total));
+                }
+            }
+
+            finishProject();
+        } finally {
+            closeArchives();
+        }
         return parsedClasses;
     }
 
+    /**
+     * 아카이브 항목 병렬 파싱 (스레드마다 작업용 파서, 결과는 항목 순서 유지)
+     */
+    private List<ParsedClass> parseArchiveEntries(PerfReport.PhaseTimer phase, Path projectPath,
+                                                  List<Path> entries, int total) {
+        ParsedClass[] results = new ParsedClass[entries.size()];
+        AtomicInteger completed = new AtomicInteger(total - entries.size());
+
+        List<JavaSourceParser> workers = ParallelRunner.run("cft-archive", entries.size(), archiveThreads, this::newWorker,
+            (worker, i) -> {
+                cancellationToken.throwIfCancelled();
+                phase.runOnWorker(() -> {
+                    long fileStart = System.nanoTime();
+                    results[i] = worker.parseRecorded(phase, worker.readFile(projectPath, entries.get(i)), fileStart);
+                });
+                progressListener.onProgress(ProgressListener.Phase.JAVA_PARSE, completed.incrementAndGet(), total);
+            });
+        workers.forEach(this::mergeWorker);
+
+        List<ParsedClass> parsed = new ArrayList<>();
+        for (ParsedClass result : results) {
+            if (result != null) {
+                parsed.add(result);
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * 프로젝트 파싱 마무리 (파싱 캐시 저장, 빠른 파싱 분류 카운터 기록, 아카이브 닫기)
+     *
+     * parseProject()가 호출하며, 파이프라인처럼 readFile/parseRecorded를 직접 쓰는 경우 마지막에 호출합니다.
+     */
+    public void finishProject() {
+        try {
+            parseCache.save();
+        } catch (IOException e) {
+            System.err.println("파싱 캐시 저장 실패: " + e.getMessage());
+        }
+
+        if (fastMode) {
+            perfReport.addCounter(PerfReport.COUNTER_JAVA_FULL_PARSE, fullParseCount);
+            perfReport.addCounter(PerfReport.COUNTER_JAVA_LIGHT_PARSE, lightParseCount);
+            perfReport.addCounter(PerfReport.COUNTER_JAVA_SKIPPED, skippedFileCount);
+        }
+        closeArchives();
+    }
+
+    /**
+     * findJavaFiles()가 연 아카이브 닫기 (오류/취소로 finishProject까지 가지 못한 경우에도 호출)
+     */
+    public void closeArchives() {
+        for (SourceArchive archive : openArchives.values()) {
+            try {
+                archive.close();
+            } catch (IOException e) {
+                System.err.println("아카이브 닫기 실패: " + archive.getArchivePath() + " - " + e.getMessage());
+            }
+        }
+        openArchives.clear();
+    }
+
+    // ===== 파이프라인 지원 (읽기/파싱 단계 분리) =====
+
+    /**
+     * 다른 프로젝트에 다시 쓰기 위해 설정과 집계를 기본값으로 초기화 (일괄 분석)
+     *
+     * JavaParser 인스턴스(같은 모드일 때)와 SourceLoader 버퍼는 유지하므로, 새 파서보다 첫 파일부터 할당이 적습니다.
+     * 식별자 풀은 그대로 두고, 호출하는 쪽이 필요한 설정을 다시 지정합니다.
+     */
+    public JavaSourceParser reset() {
+        cancellationToken = CancellationToken.none();
+        progressListener = ProgressListener.NONE;
+        perfReport = PerfReport.none();
+        parseErrorCount = 0;
+        maxFileBytes = DEFAULT_MAX_FILE_BYTES;
+        maxParseMillis = DEFAULT_MAX_PARSE_MILLIS;
+        parseCache = ParseCache.none();
+        quarantinedFiles.clear();
+        sourceLoader.setFallbackCharset(SourceLoader.DEFAULT_FALLBACK);
+        decodeFailedFiles.clear();
+        scanArchives = false;
+        archiveThreads = Runtime.getRuntime().availableProcessors();
+        openArchives = new ConcurrentHashMap<>();
+        fullParseCount = 0;
+        lightParseCount = 0;
+        skippedFileCount = 0;
+        return this;
+    }
+
+    /**
+     * 같은 설정의 작업용 파서 (파이프라인 스레드마다 1개)
+     *
+     * JavaParser와 SourceLoader 버퍼는 스레드 간에 공유할 수 없으므로 새로 만들고,
+     * 파싱 캐시/성능 리포트/취소 토큰은 공유합니다 (모두 스레드 안전).
+     * 읽기 결과가 큐를 거쳐 다른 스레드로 넘어가므로 SourceLoader 버퍼는 재사용하지 않습니다.
+     * 작업이 끝나면 mergeWorker()로 집계를 합칩니다.
+     */
+    public JavaSourceParser newWorker() {
+        JavaSourceParser worker = new JavaSourceParser();
+        worker.setFastMode(fastMode);
+        worker.cancellationToken = cancellationToken;
+        worker.perfReport = perfReport;
+        worker.maxFileBytes = maxFileBytes;
+        worker.maxParseMillis = maxParseMillis;
+        worker.parseCache = parseCache;
+        worker.symbolPool = symbolPool;
+        worker.openArchives = openArchives;
+        worker.sourceLoader.setFallbackCharset(sourceLoader.getFallbackCharset());
+        worker.sourceLoader.setReuseBuffers(false);
+        return worker;
+    }
+
+    /**
+     * 작업용 파서의 집계(오류/격리/디코딩 실패/분류별 파일 수)를 합침
+     */
+    public synchronized void mergeWorker(JavaSourceParser worker) {
+        parseErrorCount += worker.parseErrorCount;
+        quarantinedFiles.addAll(worker.quarantinedFiles);
+        decodeFailedFiles.addAll(worker.decodeFailedFiles);
+        fullParseCount += worker.fullParseCount;
+        lightParseCount += worker.lightParseCount;
+        skippedFileCount += worker.skippedFileCount;
+    }
+
+    /**
+     * 읽기 단계: 파일 정보 확인 + 소스 로드 (예외는 결과에 담아 파싱 단계에서 보고)
+     *
+     * 이전 실행에서 격리되어 건너뛰기로 한 파일과 크기 한도를 넘은 파일은 읽지 않습니다.
+     */
+    public LoadedFile readFile(Path projectPath, Path filePath) {
+        SourceArchive archive = openArchives.get(filePath.getFileSystem());
+        if (archive != null) {
+            return readArchiveEntry(archive, filePath);
+        }
+        try {
+            Path relative = projectPath.relativize(filePath);
+            long size = Files.size(filePath);
+            long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+            QuarantinedFile known = parseCache.findQuarantined(
+                relative.toString().replace('\\', '/'), size, lastModified);
+
+            SourceLoader.Source source = isSkipped(known) || exceedsSizeLimit(size)
+                ? null
+                : loadSource(filePath, filePath);
+            return new LoadedFile(filePath, relative, size, lastModified, known, source, null);
+        } catch (IOException e) {
+            return new LoadedFile(filePath, null, 0, 0, null, null, e);
+        }
+    }
+
+    /**
+     * 아카이브 항목 읽기 (파싱 캐시에 같은 아카이브 해시 + 항목 이름의 결과가 있으면 읽지 않음)
+     *
+     * 결과/메시지에는 "아카이브!/항목" 경로를 사용하고, 빠른 파싱 결과는 항목 이름에 "#fast"를 붙여 따로 저장합니다.
+     */
+    private LoadedFile readArchiveEntry(SourceArchive archive, Path entry) {
+        Path displayPath = archive.displayPath(entry);
+        try {
+            String entryName = archive.entryName(entry);
+            String cacheKey = fastMode ? entryName + "#fast" : entryName;
+            long size = Files.size(entry);
+
+            ParsedClass cached = parseCache.findArchiveEntry(archive.getHash(), cacheKey, ParsedClass.class);
+            if (cached != null) {
+                cached.setFilePath(displayPath);
+            }
+
+            long lastModified = Files.getLastModifiedTime(entry).toMillis();
+            Path relative = Paths.get(archive.getArchivePath().getFileName() + "!", entryName);
+            QuarantinedFile known = cached != null ? null : parseCache.findQuarantined(
+                relative.toString().replace('\\', '/'), size, lastModified);
+            SourceLoader.Source source = cached != null || isSkipped(known) || exceedsSizeLimit(size)
+                ? null
+                : loadSource(entry, displayPath);
+
+            LoadedFile file = new LoadedFile(displayPath, relative, size, lastModified, known, source, null);
+            file.archiveHash = archive.getHash();
+            file.cacheKey = cacheKey;
+            file.cached = cached;
+            return file;
+        } catch (IOException e) {
+            return new LoadedFile(displayPath, null, 0, 0, null, null, e);
+        }
+    }
+
+    private static boolean isSkipped(QuarantinedFile known) {
+        return known != null && known.getAction() == QuarantinedFile.Action.SKIPPED;
+    }
+
+    private boolean exceedsSizeLimit(long size) {
+        return maxFileBytes > 0 && size > maxFileBytes;
+    }
+
+    /**
+     * 파싱 단계: 파일 1개 파싱 + JFR 이벤트/성능 리포트 기록
+     *
+     * @param phase 파일별 기록을 더할 단계 (java-parse)
+     * @param startNanos 파일 처리 시작 시각 (처리 시간 기록용)
+     * @return 파싱 결과 (건너뛰었거나 실패하면 null)
+     */
+    public ParsedClass parseRecorded(PerfReport.PhaseTimer phase, LoadedFile file, long startNanos) {
+        JfrEvents.JavaFileParseEvent event = JfrEvents.isEnabled() ? new JfrEvents.JavaFileParseEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        int errorsBefore = parseErrorCount;
+        ParsedClass parsed = null;
+        boolean success = false;
+        if (file.readError != null) {
+            System.err.println("파싱 실패: " + file.path + " - " + file.readError.getMessage());
+        } else if (file.cached != null) {
+            parsed = file.cached;
+            success = true;
+            perfReport.addCounter(PerfReport.COUNTER_ARCHIVE_CACHE_HIT, 1);
+        } else {
+            int quarantinedBefore = quarantinedFiles.size();
+            parsed = parseLoaded(file);
+            success = parseErrorCount == errorsBefore && (file.source == null || !file.source.isDecodeFailed());
+            // 아카이브 항목은 정상 파싱 결과만 캐시 (격리된 항목은 격리 목록으로 관리)
+            if (file.cacheKey != null && parsed != null && quarantinedFiles.size() == quarantinedBefore) {
+                parseCache.putArchiveEntry(file.archiveHash, file.cacheKey, parsed);
+            }
+        }
+
+        if (parsed != null) {
+            parsed.internSymbols(symbolPool);
+        }
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = file.path.toString();
+                event.bytes = file.size;
+                event.success = success;
+                event.commit();
+            }
+        }
+        if (perfReport.isEnabled()) {
+            perfReport.recordFile(phase, file.path, file.size, System.nanoTime() - startNanos, success);
+        }
+        return parsed;
+    }
+
+    /**
+     * 읽은 파일 파싱 (파일별 한도, 격리, 빠른 파싱 분류 적용)
+     *
+     * 처리 순서:
+     * 1. 이전 실행에서 격리된 파일이면 (크기/수정 시각 동일) 다시 시도하지 않고 기록된 방식으로 처리
+     * 2. 크기 한도 초과 → 격리 (읽기 단계에서 읽지 않았으므로 건너뜀)
+     * 3. 빠른 파싱 모드면 사전 분류 (SKIP → 건너뜀, LIGHT → 선언만 파싱)
+     * 4. 시간 한도 초과 → 격리 (선언만 파싱, 그것도 안 되면 건너뜀)
+     */
+    private ParsedClass parseLoaded(LoadedFile file) {
+        Path filePath = file.path;
+        String relativePath = file.getRelativePath();
+
+        if (file.knownQuarantine != null) {
+            recordQuarantine(filePath, file.knownQuarantine);
+            if (file.source == null) {
+                return null;
+            }
+            ParseAttempt light = parseWithBudget(JavaFilePreScanner.stripMethodBodies(file.source.getText()));
+            return light.isSuccessful() ? toParsedClass(filePath, light.result) : null;
+        }
+        // 격리 후 파일이 바뀌었으면 다시 시도 (결과에 따라 다시 격리될 수 있음)
+        parseCache.removeQuarantined(relativePath);
+
+        if (exceedsSizeLimit(file.size)) {
+            return quarantine(file, null, QuarantinedFile.Reason.TOO_LARGE);
+        }
+
+        CharSequence content = file.source.getText();
+        if (fastMode) {
+            JavaFilePreScanner.Category category = JavaFilePreScanner.classify(file.relative, file.source.getBytes());
+            if (category == JavaFilePreScanner.Category.SKIP) {
+                skippedFileCount++;
+                return null;
+            }
+
+            if (category == JavaFilePreScanner.Category.LIGHT) {
+                ParseAttempt light = parseWithBudget(JavaFilePreScanner.stripMethodBodies(content));
+                if (light.timedOut) {
+                    return quarantine(file, null, QuarantinedFile.Reason.TIMEOUT);
+                }
+                if (light.isSuccessful()) {
+                    lightParseCount++;
+                    return toParsedClass(filePath, light.result);
+                }
+                // 본문을 비운 소스가 파싱되지 않으면 (분류기가 예상하지 못한 문법) 원본으로 다시 파싱
+            }
+        }
+
+        if (fastMode) {
+            fullParseCount++;
+        }
+        ParseAttempt attempt = parseWithBudget(content);
+        if (attempt.timedOut) {
+            return quarantine(file, content, QuarantinedFile.Reason.TIMEOUT);
+        }
+        if (!attempt.isSuccessful()) {
+            System.err.println("파싱 오류: " + filePath);
+            parseErrorCount++;
+            return null;
+        }
+        return toParsedClass(filePath, attempt.result);
+    }
+
+    /**
+     * 읽기 단계 결과 (파이프라인에서는 큐를 통해 파싱 단계로 전달)
+     */
+    public static class LoadedFile {
+        private final Path path;
+        private final Path relative;                  // 프로젝트 기준 상대 경로
+        private final long size;
+        private final long lastModified;
+        private final QuarantinedFile knownQuarantine;  // 이전 실행에서 격리된 파일이면 not null
+        private final SourceLoader.Source source;      // 격리되어 건너뛸 파일이거나 읽기 실패면 null
+        private final IOException readError;
+
+        // 아카이브 항목만: 파싱 캐시 키 + 캐시된 결과 (있으면 source 없음)
+        private String archiveHash;
+        private String cacheKey;
+        private ParsedClass cached;
+
+        LoadedFile(Path path, Path relative, long size, long lastModified,
+                   QuarantinedFile knownQuarantine, SourceLoader.Source source, IOException readError) {
+            this.path = path;
+            this.relative = relative;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.knownQuarantine = knownQuarantine;
+            this.source = source;
+            this.readError = readError;
+        }
+
+        public Path getPath() { return path; }
+        public long getSize() { return size; }
+        public boolean isFailed() { return readError != null; }
+
+        String getRelativePath() {
+            return relative.toString().replace('\\', '/');
+        }
+    }
+
+    /**
+     * Java 파일 목록 수집 (경로순 정렬, 아카이브 항목은 폴더 파일 뒤에 아카이브별로)
+     *
+     * 아카이브 항목을 찾으면 아카이브를 열어 둡니다 (finishProject 또는 closeArchives에서 닫음).
+     */
+    public List<Path> findJavaFiles(Path projectPath) throws IOException {
+        List<Path> javaFiles = new ArrayList<>();
+        if (!SourceArchive.isArchive(projectPath)) {
+            try (Stream<Path> paths = Files.walk(projectPath)) {
+                paths.filter(path -> path.toString().endsWith(".java"))
+                     .sorted()
+                     .forEach(javaFiles::add);
+            }
+        }
+
+        for (Path archivePath : SourceArchive.findSourceArchives(projectPath, scanArchives)) {
+            try {
+                SourceArchive archive = SourceArchive.open(archivePath);
+                openArchives.put(archive.getFileSystem(), archive);
+                javaFiles.addAll(archive.findEntries(".java"));
+            } catch (IOException e) {
+                if (archivePath.equals(projectPath)) {
+                    throw e;
+                }
+                System.err.println("아카이브 열기 실패 (건너뜀): " + archivePath + " - " + e.getMessage());
+            }
+        }
+        return javaFiles;
+    }
+
     /**
      * 단일 Java 파일을 파싱합니다.
      */
     public ParsedClass parseFile(Path filePath) throws IOException {
-        String content = Files.readString(filePath);
-        ParseResult<CompilationUnit> parseResult = javaParser.parse(content);
+        SourceLoader.Source source = loadSource(filePath, filePath);
+        ParseResult<CompilationUnit> parseResult = javaParser.parse(ParseStart.COMPILATION_UNIT,
+            Providers.provider(new DeadlineReader(source.getText(), 0)));
 
         if (!parseResult.isSuccessful()) {
             System.err.println("파싱 오류: " + filePath);
+            parseErrorCount++;
             return null;
         }
 
+        return toParsedClass(filePath, parseResult);
+    }
+
+    /**
+     * 소스 로드 + 문자셋 집계, 디코딩 실패는 파일별로 기록 (대체 문자로 바꾼 내용으로 계속 파싱)
+     */
+    private SourceLoader.Source loadSource(Path filePath, Path displayPath) throws IOException {
+        SourceLoader.Source source = sourceLoader.load(filePath);
+        perfReport.addCounter(PerfReport.COUNTER_JAVA_CHARSET_PREFIX + source.getCharset().name(), 1);
+        if (source.isDecodeFailed()) {
+            decodeFailedFiles.add(displayPath);
+            perfReport.addCounter(PerfReport.COUNTER_JAVA_DECODE_FAILED, 1);
+            System.err.println("인코딩 오류: " + displayPath + " (" + source.getCharset().name()
+                + "로 해석, 잘못된 바이트는 대체 문자로 처리)");
+        }
+        return source;
+    }
+
+    /**
+     * 파일 격리:선언만 파싱을 시도하고, 안 되면 건너뜀. 결과는 파싱 캐시와 리포트에 기록
+     *
+     * @param content 원본 소스 (null이면 선언만 파싱도 시도하지 않음)
+     */
+    private ParsedClass quarantine(LoadedFile file, CharSequence content, QuarantinedFile.Reason reason) {
+        ParseAttempt light = content != null
+            ? parseWithBudget(JavaFilePreScanner.stripMethodBodies(content))
+            : null;
+        boolean lightParsed = light != null && light.isSuccessful();
+
+        QuarantinedFile entry = new QuarantinedFile(file.getRelativePath(), file.size, file.lastModified, reason,
+            lightParsed ? QuarantinedFile.Action.LIGHT : QuarantinedFile.Action.SKIPPED);
+        parseCache.putQuarantined(entry);
+        recordQuarantine(file.path, entry);
+        System.err.println("파싱 격리: " + file.path + " (" + reason.getDescription() + ", "
+            + entry.getAction().getDescription() + ")");
+
+        return lightParsed ? toParsedClass(file.path, light.result) : null;
+    }
+
+    private void recordQuarantine(Path filePath, QuarantinedFile entry) {
+        quarantinedFiles.add(entry);
+        perfReport.recordQuarantinedFile(filePath.toString(), entry.getBytes(),
+            entry.getReason().getDescription(), entry.getAction().getDescription());
+    }
+
+    /**
+     * 시간 한도 안에서 파싱
+     *
+     * JavaParser는 중단할 수 없으므로, 소스를 읽어 가는 Reader에서 한도를 확인하고
+     * 넘으면 예외를 던져 파싱을 멈춥니다 (JavaParser는 예외를 파싱 실패로 처리).
+     */
+    private ParseAttempt parseWithBudget(CharSequence source) {
+        long deadlineNanos = maxParseMillis > 0 ? System.nanoTime() + maxParseMillis * 1_000_000L : 0;
+        DeadlineReader reader = new DeadlineReader(source, deadlineNanos);
+        ParseResult<CompilationUnit> result = javaParser.parse(ParseStart.COMPILATION_UNIT, Providers.provider(reader));
+        return new ParseAttempt(result, reader.expired);
+    }
+
+    /**
+     * 파싱 결과 + 시간 초과 여부
+     */
+    private static class ParseAttempt {
+        final ParseResult<CompilationUnit> result;
+        final boolean timedOut;
+
+        ParseAttempt(ParseResult<CompilationUnit> result, boolean timedOut) {
+            this.result = result;
+            this.timedOut = timedOut;
+        }
+
+        boolean isSuccessful() {
+            return !timedOut && result.isSuccessful();
+        }
+    }
+
+    /**
+     * 소스를 복사 없이 파서에 넘기고, 읽을 때마다 시간 한도를 확인하는 Reader
+     *
+     * JavaParser는 소스를 버퍼 단위로 읽으면서 파싱하므로, 큰 파일일수록 자주 확인됩니다.
+     * SourceLoader의 재사용 CharBuffer를 그대로 읽습니다 (String 변환 없음).
+     */
+    private static class DeadlineReader extends Reader {
+        private final CharBuffer source;
+        private final long deadlineNanos;  // 0이면 제한 없음
+        private boolean expired = false;
+
+        DeadlineReader(CharSequence source, long deadlineNanos) {
+            this.source = source instanceof CharBuffer
+                ? ((CharBuffer) source).duplicate()
+                : CharBuffer.wrap(source);
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (!source.hasRemaining()) {
+                return -1;
+            }
+            if (deadlineNanos != 0 && System.nanoTime() > deadlineNanos) {
+                expired = true;
+                throw new ParseTimeoutException();
+            }
+            int count = Math.min(length, source.remaining());
+            source.get(buffer, offset, count);
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * 시간 한도 초과 (IOException이면 JavaParser 렉서가 파일 끝으로 처리하므로 unchecked)
+     */
+    private static class ParseTimeoutException extends RuntimeException {
+        ParseTimeoutException() {
+            super("파싱 시간 한도 초과", null, false, false);
+        }
+    }
+
+    /**
+     * AST → ParsedClass 변환 (첫 번째 클래스/인터페이스 선언 기준)
+     */
+    private ParsedClass toParsedClass(Path filePath, ParseResult<CompilationUnit> parseResult) {
         CompilationUnit cu = parseResult.getResult().orElse(null);
         if (cu == null) {
             return null;
@@ -172,6 +919,9 @@ public class JavaSourceParser {
     /**
      * 메서드 정보를 추출합니다.
      *
+     * 어노테이션(URL 매핑)과 파라미터 선언을 읽은 뒤, 메서드 AST를 한 번만 순회하면서
+     * 메서드 호출, SQL ID, 파라미터 사용 필드를 함께 수집합니다 (MethodScan).
+     *
      * @param method 메서드 선언
      * @param baseUrl 클래스 레벨 URL (있으면 조합)
      */
@@ -179,6 +929,7 @@ public class JavaSourceParser {
         ParsedMethod parsedMethod = new ParsedMethod();
         parsedMethod.setMethodName(method.getNameAsString());
         parsedMethod.setReturnType(method.getTypeAsString());
+        method.getRange().ifPresent(range -> parsedMethod.setLineRange(range.begin.line, range.end.line));
 
         // @RequestMapping 등 URL 매핑 정보 추출
         for (AnnotationExpr annotation : method.getAnnotations()) {
@@ -193,14 +944,60 @@ public class JavaSourceParser {
             }
         }
 
-        // 메서드 파라미터 추출 및 사용 분석
-        extractParameters(method, parsedMethod);
+        // 메서드 파라미터 추출 (@RequestParam/@PathVariable)
+        MethodScan scan = new MethodScan(parsedMethod);
+        extractParameters(method, scan);
+
+        // 메서드 내 호출 + SQL ID + 파라미터 사용 필드를 한 번의 순회로 수집
+        scan.scan(method);
+
+        return parsedMethod;
+    }
+
+    /**
+     * 메서드 1개에 대한 단일 순회 수집기
+     *
+     * 설계 결정:
+     * - 소스 순서 전위 순회 (getChildNodes 순서 = 기존 findAll 순서와 동일)
+     *   JavaParser의 생성된 Visitor는 속성을 알파벳 순(예: else → then)으로 방문하므로
+     *   흐름 트리의 호출 순서가 바뀌지 않도록 직접 순회
+     * - 재귀 대신 명시적 스택 (깊게 중첩된 식/람다/빌더 체인에서도 스레드 스택을 쓰지 않음)
+     * - 파라미터 이름 → ParameterInfo 맵으로 호출마다 바로 사용 필드 분석
+     *   (파라미터 수 × 호출 수 반복 제거)
+     * - scope/인자 문자열은 describe()로 직접 조립 (PrettyPrinter 호출 최소화)
+     */
+    private class MethodScan {
+        private final ParsedMethod parsedMethod;
+        private final Map<String, ParameterInfo> parametersByName = new HashMap<>();
+
+        MethodScan(ParsedMethod parsedMethod) {
+            this.parsedMethod = parsedMethod;
+        }
+
+        void addParameter(ParameterInfo paramInfo) {
+            parametersByName.put(paramInfo.getName(), paramInfo);
+        }
+
+        void scan(Node root) {
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                if (node instanceof MethodCallExpr) {
+                    onMethodCall((MethodCallExpr) node);
+                }
+                // 자식을 역순으로 쌓아야 소스 순서대로 꺼냄
+                List<Node> children = node.getChildNodes();
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    stack.push(children.get(i));
+                }
+            }
+        }
 
-        // 메서드 내 호출되는 다른 메서드들 추출
-        List<MethodCallExpr> methodCalls = method.findAll(MethodCallExpr.class);
-        for (MethodCallExpr call : methodCalls) {
+        private void onMethodCall(MethodCallExpr call) {
             String calledMethod = call.getNameAsString();
-            String scope = call.getScope().map(Object::toString).orElse("");
+            Expression scopeExpr = call.getScope().orElse(null);
+            String scope = scopeExpr == null ? "" : describe(scopeExpr);
 
             // 호출 인자 추출
             List<String> arguments = extractCallArguments(call);
@@ -211,9 +1008,15 @@ public class JavaSourceParser {
             if (sqlId != null) {
                 parsedMethod.addSqlId(sqlId);
             }
-        }
 
-        return parsedMethod;
+            // 파라미터에 대한 호출이면 사용 필드 분석 (userVO.getName(), params.get("key"))
+            if (!parametersByName.isEmpty() && scopeExpr instanceof NameExpr) {
+                ParameterInfo paramInfo = parametersByName.get(scope);
+                if (paramInfo != null) {
+                    analyzeParameterUsage(call, paramInfo);
+                }
+            }
+        }
     }
 
     /**
@@ -232,16 +1035,7 @@ public class JavaSourceParser {
     private String extractSqlId(MethodCallExpr call) {
         String methodName = call.getNameAsString();
 
-        // iBatis/MyBatis DAO 메서드 패턴
-        List<String> sqlMethods = List.of(
-            "list", "selectList", "queryForList",
-            "select", "selectOne", "queryForObject",
-            "insert",
-            "update",
-            "delete"
-        );
-
-        if (!sqlMethods.contains(methodName)) {
+        if (!SQL_METHODS.contains(methodName)) {
             return null;
         }
 
@@ -291,7 +1085,7 @@ public class JavaSourceParser {
         // 메서드 호출: item.getProductId() → item.getProductId()
         if (arg instanceof MethodCallExpr) {
             MethodCallExpr methodCall = (MethodCallExpr) arg;
-            String scope = methodCall.getScope().map(Object::toString).orElse("");
+            String scope = methodCall.getScope().map(this::describe).orElse("");
             String method = methodCall.getNameAsString();
 
             // getter 메서드면 필드명으로 변환: getProductId() → productId
@@ -322,19 +1116,101 @@ public class JavaSourceParser {
         // 필드 접근: this.orderId → orderId
         if (arg instanceof FieldAccessExpr) {
             FieldAccessExpr fieldAccess = (FieldAccessExpr) arg;
-            return fieldAccess.getScope() + "." + fieldAccess.getNameAsString();
+            return describe(fieldAccess.getScope()) + "." + fieldAccess.getNameAsString();
         }
 
         // 기타: 원본 그대로 반환
-        return arg.toString();
+        return describe(arg);
     }
 
     /**
-     * 메서드 파라미터를 추출하고 사용된 필드/키를 분석합니다.
+     * 표현식을 소스 형태 문자열로 변환합니다 (Expression.toString()과 같은 결과).
+     *
+     * 호출 scope/인자에 자주 나오는 이름, this, 필드 접근, 메서드 호출, 리터럴은 직접 조립하고,
+     * 그 외 표현식만 PrettyPrinter(toString)를 사용합니다.
+     * 파일마다 수천 번 호출되는 경로라 PrettyPrinter 생성 비용을 피하기 위함입니다.
      */
-    private void extractParameters(MethodDeclaration method, ParsedMethod parsedMethod) {
-        List<MethodCallExpr> allCalls = method.findAll(MethodCallExpr.class);
+    private String describe(Expression expr) {
+        StringBuilder sb = new StringBuilder();
+        if (appendSimple(expr, sb)) {
+            return sb.toString();
+        }
+        return expr.toString();
+    }
 
+    /**
+     * 단순 표현식이면 sb에 추가하고 true, 아니면 false (sb 내용은 호출 측에서 버림)
+     */
+    private boolean appendSimple(Expression expr, StringBuilder sb) {
+        if (expr.getComment().isPresent() || !expr.getOrphanComments().isEmpty()) {
+            return false;  // 주석 출력 형식은 PrettyPrinter에 맡김
+        }
+        if (expr instanceof NameExpr) {
+            sb.append(((NameExpr) expr).getNameAsString());
+            return true;
+        }
+        if (expr instanceof ThisExpr) {
+            if (((ThisExpr) expr).getTypeName().isPresent()) {
+                return false;
+            }
+            sb.append("this");
+            return true;
+        }
+        if (expr instanceof StringLiteralExpr) {
+            sb.append('"').append(((StringLiteralExpr) expr).getValue()).append('"');
+            return true;
+        }
+        if (expr instanceof IntegerLiteralExpr || expr instanceof LongLiteralExpr) {
+            sb.append(((LiteralStringValueExpr) expr).getValue());
+            return true;
+        }
+        if (expr instanceof BooleanLiteralExpr) {
+            sb.append(((BooleanLiteralExpr) expr).getValue());
+            return true;
+        }
+        if (expr instanceof NullLiteralExpr) {
+            sb.append("null");
+            return true;
+        }
+        if (expr instanceof FieldAccessExpr) {
+            FieldAccessExpr fieldAccess = (FieldAccessExpr) expr;
+            if (fieldAccess.getTypeArguments().isPresent() || !appendSimple(fieldAccess.getScope(), sb)) {
+                return false;
+            }
+            sb.append('.').append(fieldAccess.getNameAsString());
+            return true;
+        }
+        if (expr instanceof MethodCallExpr) {
+            MethodCallExpr call = (MethodCallExpr) expr;
+            if (call.getTypeArguments().isPresent()) {
+                return false;
+            }
+            if (call.getScope().isPresent()) {
+                if (!appendSimple(call.getScope().get(), sb)) {
+                    return false;
+                }
+                sb.append('.');
+            }
+            sb.append(call.getNameAsString()).append('(');
+            for (int i = 0; i < call.getArguments().size(); i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                if (!appendSimple(call.getArgument(i), sb)) {
+                    return false;
+                }
+            }
+            sb.append(')');
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 메서드 파라미터를 추출합니다.
+     * 사용된 필드/키 분석은 MethodScan 순회 중에 함께 수행됩니다.
+     */
+    private void extractParameters(MethodDeclaration method, MethodScan scan) {
         for (Parameter param : method.getParameters()) {
             ParameterInfo paramInfo = new ParameterInfo(
                 param.getNameAsString(),
@@ -344,10 +1220,8 @@ public class JavaSourceParser {
             // @RequestParam 어노테이션에서 실제 파라미터 이름 추출
             extractRequestParamAnnotation(param, paramInfo);
 
-            // VO/Map 타입인 경우 메서드 바디에서 사용된 필드/키 분석
-            analyzeParameterUsage(param.getNameAsString(), paramInfo, allCalls);
-
-            parsedMethod.addParameter(paramInfo);
+            scan.addParameter(paramInfo);
+            scan.parsedMethod.addParameter(paramInfo);
         }
     }
 
@@ -383,12 +1257,12 @@ public class JavaSourceParser {
     private String extractAnnotationValue(AnnotationExpr annotation) {
         if (annotation instanceof SingleMemberAnnotationExpr) {
             SingleMemberAnnotationExpr single = (SingleMemberAnnotationExpr) annotation;
-            return cleanUrlValue(single.getMemberValue().toString());
+            return annotationValueText(single.getMemberValue());
         } else if (annotation instanceof NormalAnnotationExpr) {
             NormalAnnotationExpr normal = (NormalAnnotationExpr) annotation;
             for (MemberValuePair pair : normal.getPairs()) {
                 if (pair.getNameAsString().equals("value") || pair.getNameAsString().equals("name")) {
-                    return cleanUrlValue(pair.getValue().toString());
+                    return annotationValueText(pair.getValue());
                 }
             }
         }
@@ -397,39 +1271,31 @@ public class JavaSourceParser {
 
     /**
      * 파라미터가 메서드 바디에서 어떻게 사용되는지 분석합니다.
+     * (파라미터를 scope로 하는 호출 1건에 대해 호출됨)
      *
      * VO/DTO 타입: userVO.getName() -> "name" 추출
      * Map 타입: params.get("userId") -> "userId" 추출
      */
-    private void analyzeParameterUsage(String paramName, ParameterInfo paramInfo, List<MethodCallExpr> allCalls) {
-        for (MethodCallExpr call : allCalls) {
-            String scope = call.getScope().map(Object::toString).orElse("");
-
-            // 해당 파라미터에 대한 호출인지 확인
-            if (!scope.equals(paramName)) {
-                continue;
-            }
-
-            String methodName = call.getNameAsString();
+    private void analyzeParameterUsage(MethodCallExpr call, ParameterInfo paramInfo) {
+        String methodName = call.getNameAsString();
 
-            if (paramInfo.isMapType()) {
-                // Map.get("key") 패턴 분석
-                if (methodName.equals("get") && !call.getArguments().isEmpty()) {
-                    Expression arg = call.getArgument(0);
-                    if (arg instanceof StringLiteralExpr) {
-                        String key = ((StringLiteralExpr) arg).getValue();
-                        paramInfo.addUsedField(key);
-                    }
-                }
-            } else if (paramInfo.isVoType()) {
-                // VO.getXxx() 패턴 분석
-                if (methodName.startsWith("get") && methodName.length() > 3) {
-                    // getName -> name 으로 변환
-                    String fieldName = methodName.substring(3, 4).toLowerCase()
-                                     + methodName.substring(4);
-                    paramInfo.addUsedField(fieldName);
+        if (paramInfo.isMapType()) {
+            // Map.get("key") 패턴 분석
+            if (methodName.equals("get") && !call.getArguments().isEmpty()) {
+                Expression arg = call.getArgument(0);
+                if (arg instanceof StringLiteralExpr) {
+                    String key = ((StringLiteralExpr) arg).getValue();
+                    paramInfo.addUsedField(key);
                 }
             }
+        } else if (paramInfo.isVoType()) {
+            // VO.getXxx() 패턴 분석
+            if (methodName.startsWith("get") && methodName.length() > 3) {
+                // getName -> name 으로 변환
+                String fieldName = methodName.substring(3, 4).toLowerCase()
+                                 + methodName.substring(4);
+                paramInfo.addUsedField(fieldName);
+            }
         }
     }
 
@@ -446,8 +1312,7 @@ public class JavaSourceParser {
         // 1. SingleMemberAnnotationExpr: @GetMapping("/list.do")
         if (annotation instanceof SingleMemberAnnotationExpr) {
             SingleMemberAnnotationExpr singleMember = (SingleMemberAnnotationExpr) annotation;
-            String value = singleMember.getMemberValue().toString();
-            return cleanUrlValue(value);
+            return annotationValueText(singleMember.getMemberValue());
         }
 
         // 2. NormalAnnotationExpr: @RequestMapping(value = "/list.do", method = GET)
@@ -457,8 +1322,7 @@ public class JavaSourceParser {
                 String name = pair.getNameAsString();
                 // value 또는 path 속성에서 URL 추출
                 if (name.equals("value") || name.equals("path")) {
-                    String value = pair.getValue().toString();
-                    return cleanUrlValue(value);
+                    return annotationValueText(pair.getValue());
                 }
             }
         }
@@ -467,6 +1331,28 @@ public class JavaSourceParser {
         return "";
     }
 
+    /**
+     * 어노테이션 값 표현식을 문자열로 변환합니다.
+     *
+     * 문자열 리터럴("/list.do")과 문자열 배열({"/a", "/b"} → 첫 번째 값)은 바로 읽고,
+     * 상수 참조 등 그 외 표현식은 소스 문자열로 변환하여 정리합니다.
+     */
+    private String annotationValueText(Expression value) {
+        if (value instanceof StringLiteralExpr) {
+            return cleanUrlValue(((StringLiteralExpr) value).getValue());
+        }
+        if (value instanceof ArrayInitializerExpr) {
+            List<Expression> values = ((ArrayInitializerExpr) value).getValues();
+            if (values.isEmpty()) {
+                return "";
+            }
+            if (values.get(0) instanceof StringLiteralExpr) {
+                return cleanUrlValue(((StringLiteralExpr) values.get(0)).getValue());
+            }
+        }
+        return cleanUrlValue(value.toString());
+    }
+
     /**
      * URL 값에서 따옴표 및 불필요한 문자를 제거합니다.
      */
@@ -1,5 +1,7 @@
 package com.codeflow.parser;
 
+import com.codeflow.util.SymbolPool;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -62,6 +64,19 @@ public class MethodCall {
                lowerScope.contains("mapper");
     }
 
+    /**
+     * 식별자 문자열이 공유 인스턴스인 호출 정보 (필드가 final이므로 새 객체, 이미 공유 중이면 자신)
+     */
+    public MethodCall internSymbols(SymbolPool pool) {
+        pool.internAll(arguments);
+        String pooledScope = pool.intern(scope);
+        String pooledMethodName = pool.intern(methodName);
+        if (pooledScope == scope && pooledMethodName == methodName) {
+            return this;
+        }
+        return new MethodCall(pooledScope, pooledMethodName, arguments);
+    }
+
     @Override
     public String toString() {
         if (scope == null || scope.isEmpty()) {
@@ -0,0 +1,277 @@
+package com.codeflow.parser;
+
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.Namespace;
+import org.jdom2.input.SAXBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 멀티 모듈 프로젝트의 모듈 탐색 (settings.gradle / pom.xml)
+ *
+ * - Gradle: settings.gradle(.kts)의 include와 project(':x').projectDir 지정,
+ *   모듈 build.gradle(.kts)의 project(':y') 참조를 의존으로 봄
+ * - Maven: pom.xml의 &lt;modules&gt;를 따라 내려가며 탐색, &lt;dependency&gt;의 artifactId가 다른 모듈이면 의존
+ *
+ * 설계 결정:
+ * - 빌드 스크립트는 실행하지 않고 선언만 읽음 (빌드 도구/네트워크 없이 동작, 코드로 계산한 include는 인식 못 함)
+ * - 루트도 모듈로 포함 (루트 src/와 어느 모듈에도 속하지 않는 파일 담당)
+ * - 모듈 목록은 폴더 경로순 → 파싱 결과 순서가 실행마다 같음
+ * - settings.gradle과 pom.xml이 모두 있으면 Gradle 우선, 빌드 파일을 읽지 못하면 단일 모듈로 분석
+ */
+public final class ModuleDiscovery {
+
+    private static final List<String> GRADLE_SETTINGS = List.of("settings.gradle", "settings.gradle.kts");
+    private static final List<String> GRADLE_BUILD = List.of("build.gradle", "build.gradle.kts");
+    private static final String MAVEN_POM = "pom.xml";
+    private static final String GRADLE_ROOT = ":";
+
+    // include ':a', ':b:c'  /  include(":a", ":b") - 여러 줄에 걸쳐도 됨
+    private static final Pattern INCLUDE = Pattern.compile("\\binclude\\s*\\(?((?:\\s*['\"][^'\"]+['\"]\\s*,?)+)");
+    private static final Pattern QUOTED = Pattern.compile("['\"]([^'\"]+)['\"]");
+    // project(':a').projectDir = file('modules/a')  /  = new File(settingsDir, 'modules/a')
+    private static final Pattern PROJECT_DIR = Pattern.compile("project\\(\\s*['\"]([^'\"]+)['\"]\\s*\\)\\.projectDir\\s*=\\s*"
+        + "(?:file\\(|new\\s+File\\(\\s*(?:settingsDir|rootDir)\\s*,)\\s*['\"]([^'\"]+)['\"]");
+    // project(':core')  /  project(path: ':core')  /  project(path = ":core")
+    private static final Pattern PROJECT_REFERENCE = Pattern.compile("project\\(\\s*(?:path\\s*[:=]\\s*)?['\"](:[^'\"]*)['\"]");
+    private static final Pattern COMMENT = Pattern.compile("//[^\\n]*|/\\*.*?\\*/", Pattern.DOTALL);
+
+    private ModuleDiscovery() {
+    }
+
+    /**
+     * 모듈 탐색 (빌드 파일이 없거나 모듈 선언이 없으면 루트 1개)
+     *
+     * @param projectPath 프로젝트 루트
+     * @return 폴더 경로순 모듈 목록 (항상 루트 포함)
+     */
+    public static List<ProjectModule> discover(Path projectPath) {
+        Path root = projectPath.toAbsolutePath().normalize();
+        List<ProjectModule> modules;
+        try {
+            Path settings = firstExisting(root, GRADLE_SETTINGS);
+            if (settings != null) {
+                modules = discoverGradle(root, settings);
+            } else if (Files.isRegularFile(root.resolve(MAVEN_POM))) {
+                modules = discoverMaven(root);
+            } else {
+                modules = List.of(new ProjectModule(rootName(root), root, List.of()));
+            }
+        } catch (IOException | JDOMException e) {
+            System.err.println("모듈 탐색 실패 (단일 모듈로 분석): " + root + " - " + e.getMessage());
+            modules = List.of(new ProjectModule(rootName(root), root, List.of()));
+        }
+        List<ProjectModule> sorted = new ArrayList<>(modules);
+        sorted.sort(Comparator.comparing(ProjectModule::getDirectory));
+        return sorted;
+    }
+
+    /**
+     * 파일이 속한 모듈 (가장 깊은 모듈 폴더, 어느 모듈에도 없으면 null)
+     */
+    public static ProjectModule findModule(List<ProjectModule> modules, Path file) {
+        Path normalized = file.toAbsolutePath().normalize();
+        ProjectModule found = null;
+        for (ProjectModule module : modules) {
+            if (normalized.startsWith(module.getDirectory())
+                    && (found == null || module.getDirectory().getNameCount() > found.getDirectory().getNameCount())) {
+                found = module;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 모듈 구성에 영향을 주는 빌드 파일인지 (데몬 변경 감시용)
+     */
+    public static boolean isBuildFile(Path file) {
+        String name = file.getFileName() != null ? file.getFileName().toString() : "";
+        return GRADLE_SETTINGS.contains(name) || GRADLE_BUILD.contains(name) || name.equals(MAVEN_POM);
+    }
+
+    // ===== Gradle =====
+
+    private static List<ProjectModule> discoverGradle(Path root, Path settings) throws IOException {
+        String text = readScript(settings);
+        Map<String, Path> directories = new LinkedHashMap<>();
+        directories.put(GRADLE_ROOT, root);
+
+        Matcher include = INCLUDE.matcher(text);
+        while (include.find()) {
+            Matcher quoted = QUOTED.matcher(include.group(1));
+            while (quoted.find()) {
+                String name = gradlePath(quoted.group(1));
+                // :a:b를 포함하면 :a도 프로젝트 (Gradle 규칙)
+                for (int i = name.indexOf(':', 1); i > 0; i = name.indexOf(':', i + 1)) {
+                    directories.putIfAbsent(name.substring(0, i), defaultDirectory(root, name.substring(0, i)));
+                }
+                directories.putIfAbsent(name, defaultDirectory(root, name));
+            }
+        }
+        Matcher projectDir = PROJECT_DIR.matcher(text);
+        while (projectDir.find()) {
+            String name = gradlePath(projectDir.group(1));
+            if (directories.containsKey(name)) {
+                directories.put(name, root.resolve(projectDir.group(2)).normalize());
+            }
+        }
+
+        List<ProjectModule> modules = new ArrayList<>();
+        for (Map.Entry<String, Path> entry : directories.entrySet()) {
+            if (Files.isDirectory(entry.getValue())) {
+                modules.add(new ProjectModule(entry.getKey(), entry.getValue(),
+                    gradleDependencies(entry.getKey(), entry.getValue(), directories)));
+            }
+        }
+        return modules;
+    }
+
+    private static List<String> gradleDependencies(String name, Path directory, Map<String, Path> known)
+            throws IOException {
+        Path buildFile = firstExisting(directory, GRADLE_BUILD);
+        List<String> dependencies = new ArrayList<>();
+        if (buildFile == null) {
+            return dependencies;
+        }
+        Matcher reference = PROJECT_REFERENCE.matcher(readScript(buildFile));
+        while (reference.find()) {
+            String dependency = gradlePath(reference.group(1));
+            if (!dependency.equals(name) && known.containsKey(dependency) && !dependencies.contains(dependency)) {
+                dependencies.add(dependency);
+            }
+        }
+        return dependencies;
+    }
+
+    private static String gradlePath(String name) {
+        return name.startsWith(":") ? name : ":" + name;
+    }
+
+    private static Path defaultDirectory(Path root, String gradlePath) {
+        return root.resolve(gradlePath.substring(1).replace(':', '/')).normalize();
+    }
+
+    private static String readScript(Path file) throws IOException {
+        return COMMENT.matcher(Files.readString(file, StandardCharsets.UTF_8)).replaceAll("");
+    }
+
+    // ===== Maven =====
+
+    private static List<ProjectModule> discoverMaven(Path root) throws IOException, JDOMException {
+        Map<Path, MavenPom> poms = new LinkedHashMap<>();
+        collectMaven(root, poms);
+
+        Map<String, Path> names = new LinkedHashMap<>();
+        for (Map.Entry<Path, MavenPom> entry : poms.entrySet()) {
+            String name = entry.getValue().artifactId;
+            if (name == null || names.containsKey(name)) {
+                name = root.equals(entry.getKey()) ? rootName(root) : root.relativize(entry.getKey()).toString().replace('\\', '/');
+            }
+            entry.getValue().name = name;
+            names.put(name, entry.getKey());
+        }
+
+        List<ProjectModule> modules = new ArrayList<>();
+        for (Map.Entry<Path, MavenPom> entry : poms.entrySet()) {
+            MavenPom pom = entry.getValue();
+            List<String> dependencies = new ArrayList<>();
+            for (String artifactId : pom.dependencies) {
+                if (names.containsKey(artifactId) && !artifactId.equals(pom.name) && !dependencies.contains(artifactId)) {
+                    dependencies.add(artifactId);
+                }
+            }
+            modules.add(new ProjectModule(pom.name, entry.getKey(), dependencies));
+        }
+        return modules;
+    }
+
+    private static void collectMaven(Path directory, Map<Path, MavenPom> poms) throws IOException, JDOMException {
+        Path pomFile = directory.resolve(MAVEN_POM);
+        if (poms.containsKey(directory) || !Files.isRegularFile(pomFile)) {
+            return;
+        }
+        MavenPom pom = parsePom(pomFile);
+        poms.put(directory, pom);
+        for (String module : pom.modules) {
+            collectMaven(directory.resolve(module).normalize(), poms);
+        }
+    }
+
+    private static MavenPom parsePom(Path pomFile) throws IOException, JDOMException {
+        SAXBuilder builder = new SAXBuilder();
+        builder.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        builder.setFeature("http://xml.org/sax/features/external-general-entities", false);
+        builder.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        Document document = builder.build(pomFile.toFile());
+
+        Element project = document.getRootElement();
+        Namespace ns = project.getNamespace();
+        MavenPom pom = new MavenPom();
+        pom.artifactId = trimToNull(project.getChildText("artifactId", ns));
+        Element modules = project.getChild("modules", ns);
+        if (modules != null) {
+            for (Element module : modules.getChildren("module", ns)) {
+                String path = trimToNull(module.getText());
+                if (path != null) {
+                    pom.modules.add(path);
+                }
+            }
+        }
+        Element dependencies = project.getChild("dependencies", ns);
+        if (dependencies != null) {
+            for (Element dependency : dependencies.getChildren("dependency", ns)) {
+                String artifactId = trimToNull(dependency.getChildText("artifactId", ns));
+                if (artifactId != null) {
+                    pom.dependencies.add(artifactId);
+                }
+            }
+        }
+        return pom;
+    }
+
+    /**
+     * pom.xml에서 읽은 값
+     */
+    private static class MavenPom {
+        String artifactId;
+        String name;    // 모듈 이름 (artifactId, 없거나 중복이면 루트 기준 상대 경로)
+        final List<String> modules = new ArrayList<>();
+        final List<String> dependencies = new ArrayList<>();
+    }
+
+    // ===== 공통 =====
+
+    private static Path firstExisting(Path directory, List<String> names) {
+        for (String name : names) {
+            Path file = directory.resolve(name);
+            if (Files.isRegularFile(file)) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    private static String rootName(Path root) {
+        return root.getFileName() != null ? root.getFileName().toString() : GRADLE_ROOT;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,215 @@
+package com.codeflow.parser;
+
+import com.codeflow.perf.PerfReport;
+import com.codeflow.util.ParallelRunner;
+import com.codeflow.util.ProgressListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 멀티 모듈 프로젝트 파싱 (모듈별 병렬 파싱 + 모듈 단위 캐시)
+ *
+ * 모듈마다 파일 지문(상대 경로 + 크기 + 수정 시각)을 계산해 이전 실행과 같으면 파싱 캐시의 결과를 쓰고,
+ * 바뀐 모듈만 다시 파싱합니다. 파싱한 클래스에는 모듈 이름을 기록합니다 (ParsedClass.getQualifiedName).
+ *
+ * 설계 결정:
+ * - 모듈 1개 = 작업 1개 (작업용 파서가 모듈 전체를 파싱 → 문제 파일 유무를 모듈 단위로 판단)
+ * - 구문 오류/격리/디코딩 실패가 있던 모듈은 캐시하지 않음 (다음 실행에서도 같은 오류를 보고)
+ * - 하위 모듈 폴더의 파일은 하위 모듈에만 포함 (모듈 폴더가 겹쳐도 파일은 한 번만 파싱)
+ * - 결과 순서는 모듈 순서 → 모듈 안 파일 경로순 (스레드 수와 무관하게 같은 결과)
+ * - 지문에 파서 설정(빠른 파싱, 한도, 대체 문자셋)과 입력 경로 포함 → 설정이 바뀌면 다시 파싱
+ * - 취소는 파서의 취소 토큰으로 파일마다 확인 (parseProject와 같은 단위)
+ * - 아카이브 항목은 다루지 않음 (--scan-archives는 기존 parseProject 사용)
+ */
+public class ModuleParser {
+
+    private static final String FORMAT_VERSION = "1";
+
+    private final JavaSourceParser parser;
+    private final ParseCache parseCache;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private ProgressListener progressListener = ProgressListener.NONE;
+    private PerfReport perfReport = PerfReport.none();
+
+    // 마지막 parse() 집계
+    private int cachedModuleCount = 0;
+    private int parsedModuleCount = 0;
+
+    /**
+     * @param parser 파서 (설정과 집계를 작업용 파서와 공유, 보통 parseCache가 설정된 파서)
+     * @param parseCache 모듈 결과를 저장할 캐시
+     */
+    public ModuleParser(JavaSourceParser parser, ParseCache parseCache) {
+        this.parser = parser;
+        this.parseCache = parseCache;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public void setPerfReport(PerfReport perfReport) {
+        this.perfReport = perfReport;
+    }
+
+    public int getCachedModuleCount() {
+        return cachedModuleCount;
+    }
+
+    public int getParsedModuleCount() {
+        return parsedModuleCount;
+    }
+
+    /**
+     * 모듈별 파싱 (바뀌지 않은 모듈은 캐시 사용)
+     *
+     * @param projectPath 프로젝트 루트 (ModuleDiscovery.discover에 넘긴 경로)
+     * @param modules 모듈 목록 (어느 모듈에도 속하지 않는 파일은 제외)
+     * @return 모듈 순서 → 파일 경로순 파싱 결과
+     */
+    public List<ParsedClass> parse(Path projectPath, List<ProjectModule> modules) throws IOException {
+        cachedModuleCount = 0;
+        parsedModuleCount = 0;
+
+        Map<ProjectModule, List<Path>> filesByModule;
+        List<String> fingerprints = new ArrayList<>();
+        int total = 0;
+        try (PerfReport.PhaseTimer discovery = perfReport.startPhase(PerfReport.PHASE_JAVA_DISCOVERY)) {
+            filesByModule = findJavaFiles(projectPath, modules);
+            for (ProjectModule module : modules) {
+                List<Path> files = filesByModule.get(module);
+                fingerprints.add(fingerprint(projectPath, files));
+                total += files.size();
+            }
+            discovery.addItems(total);
+        }
+
+        // 바뀌지 않은 모듈은 캐시에서
+        ParsedClass[][] results = new ParsedClass[modules.size()][];
+        List<Integer> changed = new ArrayList<>();
+        int cachedFiles = 0;
+        for (int i = 0; i < modules.size(); i++) {
+            ProjectModule module = modules.get(i);
+            List<Path> files = filesByModule.get(module);
+            if (files.isEmpty()) {
+                results[i] = new ParsedClass[0];
+                continue;
+            }
+            ParsedClass[] cached = parseCache.findModule(module.getName(), fingerprints.get(i), ParsedClass[].class);
+            if (cached == null) {
+                changed.add(i);
+                continue;
+            }
+            for (ParsedClass clazz : cached) {
+                clazz.internSymbols(parser.getSymbolPool());
+                clazz.setModuleName(module.getName());
+            }
+            results[i] = cached;
+            cachedModuleCount++;
+            cachedFiles += files.size();
+        }
+        if (cachedFiles > 0) {
+            progressListener.onProgress(ProgressListener.Phase.JAVA_PARSE, cachedFiles, total);
+        }
+
+        // 바뀐 모듈은 병렬로 파싱 (모듈 1개 = 작업 1개)
+        int fileTotal = total;
+        try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_JAVA_PARSE)) {
+            AtomicInteger completed = new AtomicInteger(cachedFiles);
+            List<JavaSourceParser> workers = ParallelRunner.run("cft-module", changed.size(), threads, parser::newWorker,
+                (worker, index) -> {
+                    int moduleIndex = changed.get(index);
+                    ProjectModule module = modules.get(moduleIndex);
+                    int problemsBefore = worker.problemCount();
+                    List<ParsedClass> parsed = new ArrayList<>();
+                    for (Path file : filesByModule.get(module)) {
+                        worker.getCancellationToken().throwIfCancelled();
+                        phase.runOnWorker(() -> {
+                            long fileStart = System.nanoTime();
+                            ParsedClass clazz = worker.parseRecorded(phase, worker.readFile(projectPath, file), fileStart);
+                            if (clazz != null) {
+                                clazz.setModuleName(module.getName());
+                                parsed.add(clazz);
+                            }
+                        });
+                        progressListener.onProgress(ProgressListener.Phase.JAVA_PARSE, completed.incrementAndGet(), fileTotal);
+                    }
+                    results[moduleIndex] = parsed.toArray(new ParsedClass[0]);
+                    if (worker.problemCount() == problemsBefore) {
+                        parseCache.putModule(module.getName(), fingerprints.get(moduleIndex), results[moduleIndex]);
+                    }
+                });
+            workers.forEach(parser::mergeWorker);
+            parsedModuleCount = changed.size();
+        }
+        parser.finishProject();
+        parseCache.save();
+
+        perfReport.addCounter(PerfReport.COUNTER_MODULES, modules.size());
+        perfReport.addCounter(PerfReport.COUNTER_MODULE_CACHE_HIT, cachedModuleCount);
+        perfReport.addCounter(PerfReport.COUNTER_MODULE_PARSED, parsedModuleCount);
+
+        List<ParsedClass> parsedClasses = new ArrayList<>();
+        for (ParsedClass[] moduleClasses : results) {
+            parsedClasses.addAll(Arrays.asList(moduleClasses));
+        }
+        return parsedClasses;
+    }
+
+    /**
+     * 모듈별 Java 파일 (경로순, 파일은 가장 깊은 모듈에 속함)
+     */
+    static Map<ProjectModule, List<Path>> findJavaFiles(Path projectPath, List<ProjectModule> modules) throws IOException {
+        Map<ProjectModule, List<Path>> filesByModule = new LinkedHashMap<>();
+        modules.forEach(module -> filesByModule.put(module, new ArrayList<>()));
+        try (Stream<Path> paths = Files.walk(projectPath)) {
+            paths.filter(path -> path.toString().endsWith(".java"))
+                 .sorted()
+                 .forEach(path -> {
+                     ProjectModule module = ModuleDiscovery.findModule(modules, path);
+                     if (module != null) {
+                         filesByModule.get(module).add(path);
+                     }
+                 });
+        }
+        return filesByModule;
+    }
+
+    /**
+     * 모듈 파일 지문 (파일이 추가/삭제/수정되거나 파서 설정이 바뀌면 달라짐)
+     */
+    private String fingerprint(Path projectPath, List<Path> files) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT_VERSION).append('\n')
+          .append(projectPath).append('\n')
+          .append(parser.getSettingsKey()).append('\n');
+        for (Path file : files) {
+            long size = -1;
+            long lastModified = -1;
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                size = attributes.size();
+                lastModified = attributes.lastModifiedTime().toMillis();
+            } catch (IOException e) {
+                // 읽을 수 없는 파일 → 지문이 달라져 다시 파싱 (오류는 파싱 단계에서 보고)
+            }
+            sb.append(projectPath.relativize(file).toString().replace('\\', '/'))
+              .append('\t').append(size).append('\t').append(lastModified).append('\n');
+        }
+        return ParseCache.sha1Prefix(sb.toString());
+    }
+}
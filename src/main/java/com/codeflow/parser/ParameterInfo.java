@@ -1,5 +1,7 @@
 package com.codeflow.parser;
 
+import com.codeflow.util.SymbolPool;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -147,6 +149,16 @@ public class ParameterInfo {
             || simpleType.equals("OutputStream") || simpleType.equals("Writer");
     }
 
+    /**
+     * 식별자 문자열을 공유 인스턴스로 교체
+     */
+    public void internSymbols(SymbolPool pool) {
+        name = pool.intern(name);
+        type = pool.intern(type);
+        simpleType = pool.intern(simpleType);
+        pool.internAll(usedFields);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
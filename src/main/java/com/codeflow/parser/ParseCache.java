@@ -0,0 +1,413 @@
+package com.codeflow.parser;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 프로젝트별 파싱 캐시
+ *
+ * 실행 간에 유지해야 하는 파싱 정보를 프로젝트별 폴더에 JSON으로 저장합니다.
+ * - 격리 파일 목록 (quarantine.json): 한도를 넘은 파일을 다음 실행에서 다시 시도하지 않음
+ * - 아카이브 항목 파싱 결과 (archives/<아카이브 해시>-v<형식 버전>.json): 같은 아카이브의 항목을 다시 파싱하지 않음
+ * - 모듈 파싱 결과 (modules/<모듈 이름>-<해시>.json): 파일이 바뀌지 않은 모듈을 다시 파싱하지 않음
+ *
+ * 기본 위치: ~/.code-flow-tracer/cache/<프로젝트 경로 해시>/
+ *
+ * 설계 결정:
+ * - 파일 변경 여부는 크기 + 수정 시각으로 판단 (내용 해시는 읽기 비용이 커서 사용 안 함)
+ * - 캐시 파일이 없거나 깨져 있으면 빈 캐시로 시작 (캐시 때문에 분석이 실패하지 않도록)
+ * - 변경이 있을 때만 저장, 임시 파일에 쓴 뒤 교체 (도중에 종료되어도 기존 캐시 유지)
+ * - none()은 아무것도 저장하지 않는 캐시 (파서 기본값, 테스트가 사용자 폴더를 건드리지 않도록)
+ * - 아카이브 항목은 내용 해시가 키라서 변경 여부를 따로 확인하지 않음 (아카이브가 바뀌면 해시가 바뀜)
+ * - 아카이브 캐시 파일 이름에 FORMAT_VERSION 포함, 읽을 때 version도 확인 → 형식이 바뀐 이전 캐시는 없는 것으로 봄
+ * - 아카이브 항목은 JSON 트리로 보관하고 조회할 때 타입으로 변환 (ParsedClass, SqlInfo 목록 등 호출하는 쪽이 결정)
+ * - Gson은 캐시 파일을 실제로 읽거나 쓸 때 생성 → 캐시할 것이 없는 실행(콘솔 출력만)은 Gson 클래스를 읽지 않아 시작이 빠름
+ * - 모듈 결과는 호출하는 쪽이 계산한 지문(파일 목록 + 크기 + 수정 시각)과 함께 저장, 지문이나 형식 버전이 다르면 없는 것으로 봄
+ * - 일괄 분석은 setArchiveCache로 아카이브 항목만 공용 캐시(shared())에 위임 → 여러 프로젝트가 쓰는 공통 라이브러리는 한 번만 파싱
+ */
+public class ParseCache {
+
+    private static final Path DEFAULT_CACHE_ROOT = Paths.get(
+            System.getProperty("user.home"), ".code-flow-tracer", "cache");
+    private static final String QUARANTINE_FILE = "quarantine.json";
+    private static final String ARCHIVE_DIR = "archives";
+    private static final String MODULE_DIR = "modules";
+    private static final String SHARED_DIR = "shared";
+
+    // 캐시 파일 형식 버전 (저장 형식이나 캐시하는 클래스 구조가 바뀌면 올림)
+    static final int FORMAT_VERSION = 1;
+
+    private final Path cacheDir;
+    private Gson gson;    // 캐시 파일을 처음 읽거나 쓸 때 생성 (gson())
+    private final Map<String, QuarantinedFile> quarantined = new LinkedHashMap<>();
+    private boolean dirty = false;
+
+    // 아카이브 해시 → (항목 이름 → 파싱 결과 JSON), 아카이브 단위로 불러오고 저장
+    private final Map<String, Map<String, JsonElement>> archiveEntries = new LinkedHashMap<>();
+    private final Set<String> dirtyArchives = new HashSet<>();
+
+    // 모듈 이름 → 저장된 결과 (지문 포함), 모듈 단위로 불러오고 저장
+    private final Map<String, ModuleData> modules = new LinkedHashMap<>();
+    private final Set<String> dirtyModules = new HashSet<>();
+
+    // 아카이브 항목을 대신 보관하는 공용 캐시 (일괄 분석, null이면 이 캐시에 보관)
+    private ParseCache archiveCache;
+
+    /**
+     * @param cacheDir 캐시 폴더 (null이면 저장하지 않음)
+     */
+    public ParseCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+        load();
+    }
+
+    /**
+     * 저장하지 않는 캐시 (파서 기본값)
+     */
+    public static ParseCache none() {
+        return new ParseCache(null);
+    }
+
+    /**
+     * 프로젝트 기본 캐시 (~/.code-flow-tracer/cache/<해시>/)
+     */
+    public static ParseCache forProject(Path projectPath) {
+        return new ParseCache(DEFAULT_CACHE_ROOT.resolve(projectKey(projectPath)));
+    }
+
+    /**
+     * 프로젝트 간 공용 캐시 (~/.code-flow-tracer/cache/shared/, 아카이브 항목 전용)
+     */
+    public static ParseCache shared() {
+        return new ParseCache(DEFAULT_CACHE_ROOT.resolve(SHARED_DIR));
+    }
+
+    public Path getCacheDir() {
+        return cacheDir;
+    }
+
+    /**
+     * 아카이브 항목 조회/저장을 공용 캐시에 위임 (공용 캐시 저장은 만든 쪽에서 호출)
+     */
+    public synchronized void setArchiveCache(ParseCache archiveCache) {
+        this.archiveCache = archiveCache;
+    }
+
+    // ===== 격리 파일 =====
+
+    /**
+     * 이전 실행에서 격리된 파일 조회 (파일이 바뀌었으면 null)
+     */
+    public synchronized QuarantinedFile findQuarantined(String relativePath, long bytes, long lastModified) {
+        QuarantinedFile entry = quarantined.get(relativePath);
+        return entry != null && entry.matches(bytes, lastModified) ? entry : null;
+    }
+
+    public synchronized void putQuarantined(QuarantinedFile entry) {
+        quarantined.put(entry.getRelativePath(), entry);
+        dirty = true;
+    }
+
+    /**
+     * 격리 해제 (파일이 바뀌어 정상 파싱된 경우)
+     */
+    public synchronized void removeQuarantined(String relativePath) {
+        if (quarantined.remove(relativePath) != null) {
+            dirty = true;
+        }
+    }
+
+    public synchronized List<QuarantinedFile> getQuarantinedFiles() {
+        return new ArrayList<>(quarantined.values());
+    }
+
+    // ===== 아카이브 항목 =====
+
+    /**
+     * 아카이브 항목 파싱 결과 조회 (없으면 null)
+     *
+     * @param archiveHash 아카이브 내용 해시 (SourceArchive.getHash)
+     * @param entryName 항목 이름 (파싱 방식이 여러 개면 호출하는 쪽에서 구분자 추가)
+     * @param type 결과 타입
+     */
+    public synchronized <T> T findArchiveEntry(String archiveHash, String entryName, Type type) {
+        if (archiveCache != null) {
+            return archiveCache.findArchiveEntry(archiveHash, entryName, type);
+        }
+        JsonElement element = loadArchive(archiveHash).get(entryName);
+        if (element == null) {
+            return null;
+        }
+        try {
+            return gson().fromJson(element, type);
+        } catch (RuntimeException e) {
+            return null;  // 형식이 바뀐 이전 캐시 → 다시 파싱
+        }
+    }
+
+    public synchronized void putArchiveEntry(String archiveHash, String entryName, Object value) {
+        if (archiveCache != null) {
+            archiveCache.putArchiveEntry(archiveHash, entryName, value);
+            return;
+        }
+        loadArchive(archiveHash).put(entryName, gson().toJsonTree(value));
+        dirtyArchives.add(archiveHash);
+    }
+
+    private Map<String, JsonElement> loadArchive(String archiveHash) {
+        Map<String, JsonElement> entries = archiveEntries.get(archiveHash);
+        if (entries != null) {
+            return entries;
+        }
+        entries = new LinkedHashMap<>();
+        archiveEntries.put(archiveHash, entries);
+        if (cacheDir == null) {
+            return entries;
+        }
+
+        Path file = archiveFile(archiveHash);
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                ArchiveData data = gson().fromJson(reader, ArchiveData.class);
+                if (data != null && data.version == FORMAT_VERSION && data.entries != null) {
+                    entries.putAll(data.entries);
+                }
+            } catch (Exception e) {
+                System.err.println("파싱 캐시 읽기 실패 (무시): " + file + " - " + e.getMessage());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 아카이브 해시 → 캐시 파일 (형식 버전 포함 → 버전이 바뀌면 이전 파일을 읽지 않음)
+     */
+    private Path archiveFile(String archiveHash) {
+        return cacheDir.resolve(ARCHIVE_DIR).resolve(archiveHash + "-v" + FORMAT_VERSION + ".json");
+    }
+
+    // ===== 모듈 =====
+
+    /**
+     * 모듈 파싱 결과 조회 (없거나 지문/형식 버전이 다르면 null)
+     *
+     * @param moduleName 모듈 이름 (ProjectModule.getName)
+     * @param fingerprint 모듈 파일 지문 (바뀌면 이전 결과를 쓰지 않음)
+     * @param type 결과 타입
+     */
+    public synchronized <T> T findModule(String moduleName, String fingerprint, Type type) {
+        ModuleData data = loadModule(moduleName);
+        if (data == null || data.version != FORMAT_VERSION || data.value == null || !fingerprint.equals(data.fingerprint)) {
+            return null;
+        }
+        try {
+            return gson().fromJson(data.value, type);
+        } catch (RuntimeException e) {
+            return null;  // 형식이 바뀐 이전 캐시 → 다시 파싱
+        }
+    }
+
+    public synchronized void putModule(String moduleName, String fingerprint, Object value) {
+        ModuleData data = new ModuleData();
+        data.module = moduleName;
+        data.fingerprint = fingerprint;
+        data.value = gson().toJsonTree(value);
+        modules.put(moduleName, data);
+        dirtyModules.add(moduleName);
+    }
+
+    private ModuleData loadModule(String moduleName) {
+        if (modules.containsKey(moduleName)) {
+            return modules.get(moduleName);
+        }
+        ModuleData data = null;
+        Path file = cacheDir != null ? moduleFile(moduleName) : null;
+        if (file != null && Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                data = gson().fromJson(reader, ModuleData.class);
+            } catch (Exception e) {
+                System.err.println("파싱 캐시 읽기 실패 (무시): " + file + " - " + e.getMessage());
+            }
+        }
+        modules.put(moduleName, data);
+        return data;
+    }
+
+    /**
+     * 모듈 이름 → 캐시 파일 (파일 이름에 쓸 수 없는 문자는 '_', 이름이 겹치지 않도록 해시 추가)
+     */
+    private Path moduleFile(String moduleName) {
+        String safe = moduleName.replaceAll("[^A-Za-z0-9._-]", "_");
+        return cacheDir.resolve(MODULE_DIR).resolve(safe + "-" + sha1Prefix(moduleName) + ".json");
+    }
+
+    // ===== 저장/불러오기 =====
+
+    /**
+     * 변경 사항 저장 (변경이 없거나 none()이면 아무것도 하지 않음)
+     */
+    public synchronized void save() throws IOException {
+        if (cacheDir == null) {
+            return;
+        }
+        if (dirty) {
+            QuarantineData data = new QuarantineData();
+            data.files = new ArrayList<>(quarantined.values());
+            writeJson(cacheDir.resolve(QUARANTINE_FILE), data);
+            dirty = false;
+        }
+        for (String archiveHash : dirtyArchives) {
+            ArchiveData data = new ArchiveData();
+            data.entries = archiveEntries.get(archiveHash);
+            writeJson(archiveFile(archiveHash), data);
+        }
+        dirtyArchives.clear();
+        for (String moduleName : dirtyModules) {
+            writeJson(moduleFile(moduleName), modules.get(moduleName));
+        }
+        dirtyModules.clear();
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체
+     */
+    private void writeJson(Path target, Object data) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            gson().toJson(data, writer);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void load() {
+        if (cacheDir == null) {
+            return;
+        }
+        Path file = cacheDir.resolve(QUARANTINE_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            QuarantineData data = gson().fromJson(reader, QuarantineData.class);
+            if (data != null && data.files != null) {
+                for (QuarantinedFile entry : data.files) {
+                    if (entry.getRelativePath() != null && entry.getReason() != null && entry.getAction() != null) {
+                        quarantined.put(entry.getRelativePath(), entry);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("파싱 캐시 읽기 실패 (무시): " + file + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * 프로젝트 경로 → 캐시 폴더 이름 (절대 경로 SHA-1 앞 16자리)
+     */
+    static String projectKey(Path projectPath) {
+        return sha1Prefix(projectPath.toAbsolutePath().normalize().toString());
+    }
+
+    /**
+     * 문자열 SHA-1 앞 16자리
+     */
+    static String sha1Prefix(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                sb.append(String.format("%02x", hash[i]));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(text.hashCode());
+        }
+    }
+
+    /**
+     * JSON 변환기 (처음 사용할 때 생성)
+     */
+    private synchronized Gson gson() {
+        if (gson == null) {
+            gson = new GsonBuilder()
+                    .setPrettyPrinting()
+                    .registerTypeHierarchyAdapter(Path.class, new PathAdapter())
+                    .create();
+        }
+        return gson;
+    }
+
+    /**
+     * quarantine.json 형식
+     */
+    private static class QuarantineData {
+        int version = 1;
+        List<QuarantinedFile> files;
+    }
+
+    /**
+     * archives/<해시>-v<형식 버전>.json 형식
+     */
+    private static class ArchiveData {
+        int version = FORMAT_VERSION;
+        Map<String, JsonElement> entries;
+    }
+
+    /**
+     * modules/<이름>-<해시>.json 형식
+     */
+    private static class ModuleData {
+        int version = FORMAT_VERSION;
+        String module;
+        String fingerprint;
+        JsonElement value;
+    }
+
+    /**
+     * Path ↔ 문자열 (ParsedClass.filePath 등)
+     */
+    private static class PathAdapter extends TypeAdapter<Path> {
+        @Override
+        public void write(JsonWriter out, Path value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else {
+                out.value(value.toString());
+            }
+        }
+
+        @Override
+        public Path read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return Paths.get(in.nextString());
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.codeflow.parser;
 
+import com.codeflow.util.SymbolPool;
+
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 파싱된 Java 클래스 정보
+ *
+ * 멀티 모듈 프로젝트(ModuleDiscovery)에서는 모듈 이름을 함께 가지며,
+ * 클래스 식별자는 모듈 + 전체 클래스명(getQualifiedName)입니다. 단일 모듈이면 모듈 이름은 null.
  */
 public class ParsedClass {
 
     private Path filePath;
+    private String moduleName;    // 소속 모듈 (ProjectModule.getName, 단일 모듈이면 null)
     private String packageName;
     private String className;
     private ClassType classType;
@@ -27,6 +33,14 @@ public class ParsedClass {
         this.filePath = filePath;
     }
 
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    public void setModuleName(String moduleName) {
+        this.moduleName = moduleName;
+    }
+
     public String getPackageName() {
         return packageName;
     }
@@ -91,6 +105,20 @@ public class ParsedClass {
         this.baseUrlMapping = baseUrlMapping;
     }
 
+    /**
+     * 식별자 문자열을 공유 인스턴스로 교체 (메서드/파라미터/호출 포함)
+     */
+    public void internSymbols(SymbolPool pool) {
+        moduleName = pool.intern(moduleName);
+        packageName = pool.intern(packageName);
+        className = pool.intern(className);
+        baseUrlMapping = pool.intern(baseUrlMapping);
+        pool.internAll(implementedInterfaces);
+        for (ParsedMethod method : methods) {
+            method.internSymbols(pool);
+        }
+    }
+
     /**
      * 전체 클래스명 (패키지 포함)
      */
@@ -101,6 +129,16 @@ public class ParsedClass {
         return packageName + "." + className;
     }
 
+    /**
+     * 모듈을 포함한 클래스 식별자 (모듈/패키지.클래스, 단일 모듈이면 전체 클래스명)
+     */
+    public String getQualifiedName() {
+        if (moduleName == null) {
+            return getFullClassName();
+        }
+        return moduleName + "/" + getFullClassName();
+    }
+
     @Override
     public String toString() {
         return String.format("[%s] %s (%d methods)",
@@ -1,5 +1,7 @@
 package com.codeflow.parser;
 
+import com.codeflow.util.SymbolPool;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,6 +18,8 @@ public class ParsedMethod {
     private List<MethodCall> methodCalls = new ArrayList<>();
     private List<ParameterInfo> parameters = new ArrayList<>();  // 메서드 파라미터 정보
     private List<String> sqlIds = new ArrayList<>();  // DAO 메서드에서 호출하는 SQL ID 목록
+    private int beginLine;           // 소스 시작 줄 (1부터, 0이면 모름 - 변경 영향 분석용)
+    private int endLine;             // 소스 끝 줄
 
     // Getters and Setters
     public String getMethodName() {
@@ -110,6 +114,26 @@ public class ParsedMethod {
         return sqlIds != null && !sqlIds.isEmpty();
     }
 
+    public int getBeginLine() {
+        return beginLine;
+    }
+
+    public int getEndLine() {
+        return endLine;
+    }
+
+    public void setLineRange(int beginLine, int endLine) {
+        this.beginLine = beginLine;
+        this.endLine = endLine;
+    }
+
+    /**
+     * 소스 줄 범위를 아는지 확인 (캐시에서 불러온 예전 결과 등은 모름)
+     */
+    public boolean hasLineRange() {
+        return beginLine > 0 && endLine >= beginLine;
+    }
+
     /**
      * URL 매핑이 있는 엔드포인트 메서드인지 확인
      */
@@ -117,6 +141,22 @@ public class ParsedMethod {
         return urlMapping != null && !urlMapping.isEmpty();
     }
 
+    /**
+     * 식별자 문자열을 공유 인스턴스로 교체 (메서드 호출은 공유 인스턴스를 쓰는 새 객체로 교체)
+     */
+    public void internSymbols(SymbolPool pool) {
+        methodName = pool.intern(methodName);
+        returnType = pool.intern(returnType);
+        urlMapping = pool.intern(urlMapping);
+        methodUrlOnly = pool.intern(methodUrlOnly);
+        httpMethod = pool.intern(httpMethod);
+        pool.internAll(sqlIds);
+        methodCalls.replaceAll(call -> call.internSymbols(pool));
+        for (ParameterInfo parameter : parameters) {
+            parameter.internSymbols(pool);
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
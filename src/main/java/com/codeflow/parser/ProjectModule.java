@@ -0,0 +1,40 @@
+package com.codeflow.parser;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 빌드 모듈 1개 (Gradle 서브프로젝트, Maven 모듈)
+ *
+ * 이름은 빌드 도구의 표기를 따릅니다: Gradle은 프로젝트 경로(:order:api, 루트는 :), Maven은 artifactId.
+ */
+public class ProjectModule {
+
+    private final String name;
+    private final Path directory;               // 절대 경로, 정규화
+    private final List<String> dependencies;    // 의존하는 모듈 이름 (빌드 파일 선언 순서)
+
+    public ProjectModule(String name, Path directory, List<String> dependencies) {
+        this.name = name;
+        this.directory = directory.toAbsolutePath().normalize();
+        this.dependencies = Collections.unmodifiableList(new ArrayList<>(dependencies));
+    }
+
+    public String getName() { return name; }
+    public Path getDirectory() { return directory; }
+    public List<String> getDependencies() { return dependencies; }
+
+    /**
+     * 파일이 이 모듈 폴더 아래에 있는지 (하위 모듈 폴더 포함 - 가장 깊은 모듈은 ModuleDiscovery.findModule로 찾음)
+     */
+    public boolean contains(Path file) {
+        return file.toAbsolutePath().normalize().startsWith(directory);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + directory + ")";
+    }
+}
@@ -0,0 +1,78 @@
+package com.codeflow.parser;
+
+/**
+ * 파일별 한도(크기/시간)를 넘어서 격리된 Java 파일
+ *
+ * 생성된 대형 소스처럼 파싱에 수 분, 수 GB가 걸리는 파일을 전체 분석에서 분리합니다.
+ * ParseCache에 저장되어, 파일이 바뀌지 않았으면 다음 실행에서 다시 시도하지 않습니다.
+ */
+public class QuarantinedFile {
+
+    /**
+     * 격리 사유
+     */
+    public enum Reason {
+        TOO_LARGE("크기 초과"),
+        TIMEOUT("시간 초과");
+
+        private final String description;
+
+        Reason(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * 격리 후 처리 방식
+     */
+    public enum Action {
+        LIGHT("선언만 파싱"),
+        SKIPPED("건너뜀");
+
+        private final String description;
+
+        Action(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final String relativePath;  // 프로젝트 기준 상대 경로 ('/' 구분)
+    private final long bytes;
+    private final long lastModified;    // 파일 변경 여부 판단용 (bytes와 함께 비교)
+    private final Reason reason;
+    private final Action action;
+
+    public QuarantinedFile(String relativePath, long bytes, long lastModified, Reason reason, Action action) {
+        this.relativePath = relativePath;
+        this.bytes = bytes;
+        this.lastModified = lastModified;
+        this.reason = reason;
+        this.action = action;
+    }
+
+    /**
+     * 격리 당시와 같은 파일인지 확인 (크기 + 수정 시각)
+     */
+    public boolean matches(long bytes, long lastModified) {
+        return this.bytes == bytes && this.lastModified == lastModified;
+    }
+
+    public String getRelativePath() { return relativePath; }
+    public long getBytes() { return bytes; }
+    public long getLastModified() { return lastModified; }
+    public Reason getReason() { return reason; }
+    public Action getAction() { return action; }
+
+    @Override
+    public String toString() {
+        return relativePath + " (" + reason.getDescription() + ", " + action.getDescription() + ")";
+    }
+}
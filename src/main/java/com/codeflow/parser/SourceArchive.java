@@ -0,0 +1,153 @@
+package com.codeflow.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 소스 아카이브 (-sources.jar, .zip, .war)
+ *
+ * 압축을 풀지 않고 zip 파일 시스템으로 .java/.xml 항목을 읽습니다.
+ * 항목 Path는 zip 파일 시스템의 경로이므로, 화면/결과에는 displayPath()("a-sources.jar!/com/A.java")를 사용합니다.
+ *
+ * 설계 결정:
+ * - 항목 파싱 결과는 ParseCache에 "아카이브 내용 해시 + 항목 이름"으로 저장 (아카이브가 그대로면 다시 파싱하지 않음)
+ * - 해시는 처음 필요할 때 계산 (의존성 jar처럼 소스가 없는 아카이브는 해시 비용 없음)
+ * - 아카이브 안의 아카이브(.war 안의 WEB-INF/lib/*.jar)는 열지 않음
+ * - 항목은 서로 독립적이므로 ParallelRunner로 여러 스레드에서 파싱 (스레드 이름 cft-archive-N)
+ */
+public class SourceArchive implements Closeable {
+
+    private static final List<String> ARCHIVE_EXTENSIONS = List.of(".jar", ".zip", ".war");
+
+    private final Path archivePath;
+    private final FileSystem fileSystem;
+    private String hash;
+
+    private SourceArchive(Path archivePath, FileSystem fileSystem) {
+        this.archivePath = archivePath;
+        this.fileSystem = fileSystem;
+    }
+
+    /**
+     * 아카이브 파일인지 확인 (확장자 기준)
+     */
+    public static boolean isArchive(Path path) {
+        if (path == null || path.getFileName() == null || !Files.isRegularFile(path)) {
+            return false;
+        }
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return ARCHIVE_EXTENSIONS.stream().anyMatch(name::endsWith);
+    }
+
+    /**
+     * 폴더 안의 아카이브 목록 (경로순)
+     */
+    public static List<Path> findArchives(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(SourceArchive::isArchive)
+                        .sorted()
+                        .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 분석할 아카이브 목록
+     *
+     * @param projectPath 프로젝트 경로 (아카이브 파일이면 그 아카이브만)
+     * @param includeNested 프로젝트 폴더 안의 아카이브도 포함할지 여부
+     */
+    public static List<Path> findSourceArchives(Path projectPath, boolean includeNested) throws IOException {
+        if (isArchive(projectPath)) {
+            return List.of(projectPath);
+        }
+        return includeNested ? findArchives(projectPath) : new ArrayList<>();
+    }
+
+    public static SourceArchive open(Path archivePath) throws IOException {
+        return new SourceArchive(archivePath, FileSystems.newFileSystem(archivePath, (ClassLoader) null));
+    }
+
+    public Path getArchivePath() {
+        return archivePath;
+    }
+
+    public FileSystem getFileSystem() {
+        return fileSystem;
+    }
+
+    /**
+     * 확장자가 suffix인 항목 목록 (경로순)
+     */
+    public List<Path> findEntries(String suffix) throws IOException {
+        String lowerSuffix = suffix.toLowerCase(Locale.ROOT);
+        List<Path> entries = new ArrayList<>();
+        for (Path root : fileSystem.getRootDirectories()) {
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.filter(Files::isRegularFile)
+                     .filter(p -> p.toString().toLowerCase(Locale.ROOT).endsWith(lowerSuffix))
+                     .forEach(entries::add);
+            }
+        }
+        entries.sort(null);
+        return entries;
+    }
+
+    /**
+     * 항목 이름 (앞의 '/' 제외, 예: com/example/UserController.java)
+     */
+    public String entryName(Path entry) {
+        String name = entry.toString();
+        return name.startsWith("/") ? name.substring(1) : name;
+    }
+
+    /**
+     * 화면/결과용 경로 (예: /libs/user-sources.jar!/com/example/UserController.java)
+     */
+    public Path displayPath(Path entry) {
+        return Paths.get(archivePath + "!/" + entryName(entry));
+    }
+
+    /**
+     * 아카이브 내용 해시 (SHA-1, 처음 호출할 때 계산)
+     */
+    public synchronized String getHash() throws IOException {
+        if (hash == null) {
+            try (InputStream in = Files.newInputStream(archivePath)) {
+                MessageDigest digest = MessageDigest.getInstance("SHA-1");
+                byte[] buffer = new byte[64 * 1024];
+                for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                    digest.update(buffer, 0, read);
+                }
+                StringBuilder sb = new StringBuilder();
+                for (byte b : digest.digest()) {
+                    sb.append(String.format("%02x", b));
+                }
+                hash = sb.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IOException(e);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileSystem.close();
+    }
+}
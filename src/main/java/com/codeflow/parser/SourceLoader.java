@@ -0,0 +1,249 @@
+package com.codeflow.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Java 소스 파일 로더 (문자셋 감지 + 버퍼 재사용)
+ *
+ * 레거시 전자정부 프로젝트는 UTF-8과 EUC-KR/MS949 소스가 섞여 있는 경우가 많아서,
+ * Files.readString(UTF-8 고정)으로는 예외가 나거나 한글이 깨집니다.
+ * 파일마다 문자셋을 감지하여 디코딩하고, 결과는 재사용 버퍼에 담아 String 복사 없이 파서에 넘깁니다.
+ *
+ * 문자셋 감지 순서:
+ * 1. BOM (UTF-8, UTF-16 BE/LE)
+ * 2. UTF-8 유효성 검사 (ASCII만 있으면 UTF-8)
+ * 3. 대체 문자셋 (기본 MS949, setFallbackCharset으로 변경)
+ * 4. 대체 문자셋으로도 디코딩되지 않으면 잘못된 바이트를 대체 문자(U+FFFD)로 바꾸고 디코딩 실패로 표시
+ *
+ * 설계 결정:
+ * - 파일은 크기와 관계없이 재사용 힙 ByteBuffer로 읽음 (아카이브 항목 포함)
+ *   메모리 매핑은 쓰지 않음: 매핑 버퍼는 GC가 수거할 때까지 풀리지 않아 Windows에서 파일이 잠기므로,
+ *   데몬/GUI가 트리를 감시하는 동안 편집기 저장이나 git checkout이 실패할 수 있음
+ * - 디코딩 결과 CharBuffer도 재사용 (가장 큰 파일 크기만큼만 유지)
+ * - 따라서 load() 결과는 다음 load() 호출 전까지만 유효하며, 인스턴스는 스레드 하나에서만 사용
+ * - 결과를 다른 스레드로 넘기는 경우(파이프라인 읽기 단계)는 setReuseBuffers(false)로 파일마다 새 버퍼 사용
+ */
+public class SourceLoader {
+
+    static final Charset DEFAULT_FALLBACK = Charset.isSupported("MS949")
+        ? Charset.forName("MS949") : Charset.forName("EUC-KR");
+
+    private Charset fallbackCharset = DEFAULT_FALLBACK;
+    private boolean reuseBuffers = true;
+
+    private ByteBuffer byteBuffer = ByteBuffer.allocate(16 * 1024);
+    private CharBuffer charBuffer = CharBuffer.allocate(16 * 1024);
+    private final Map<Charset, CharsetDecoder> decoders = new HashMap<>();
+
+    public void setFallbackCharset(Charset fallbackCharset) {
+        this.fallbackCharset = fallbackCharset;
+    }
+
+    public Charset getFallbackCharset() {
+        return fallbackCharset;
+    }
+
+    /**
+     * 버퍼 재사용 여부 (false면 load() 결과가 다음 load() 이후에도 유효)
+     */
+    public void setReuseBuffers(boolean reuseBuffers) {
+        this.reuseBuffers = reuseBuffers;
+    }
+
+    /**
+     * 파일 읽기 + 문자셋 감지 + 디코딩
+     *
+     * @return 로드 결과 (다음 load() 호출 전까지 유효)
+     */
+    public Source load(Path file) throws IOException {
+        ByteBuffer bytes = readBytes(file);
+
+        int bomLength = 0;
+        Charset charset;
+        if (startsWith(bytes, 0xEF, 0xBB, 0xBF)) {
+            charset = StandardCharsets.UTF_8;
+            bomLength = 3;
+        } else if (startsWith(bytes, 0xFE, 0xFF)) {
+            charset = StandardCharsets.UTF_16BE;
+            bomLength = 2;
+        } else if (startsWith(bytes, 0xFF, 0xFE)) {
+            charset = StandardCharsets.UTF_16LE;
+            bomLength = 2;
+        } else if (isValidUtf8(bytes)) {
+            charset = StandardCharsets.UTF_8;
+        } else {
+            charset = fallbackCharset;
+        }
+
+        ByteBuffer content = bytes.duplicate();
+        content.position(bomLength);
+        boolean decodeFailed = !decode(content, charset, CodingErrorAction.REPORT);
+        if (decodeFailed) {
+            content.position(bomLength);
+            decode(content, charset, CodingErrorAction.REPLACE);
+        }
+        return new Source(file, bytes.asReadOnlyBuffer(), charBuffer, charset, bomLength > 0, decodeFailed);
+    }
+
+    /**
+     * 파일 전체를 ByteBuffer로 (position 0 ~ limit = 파일 크기)
+     */
+    private ByteBuffer readBytes(Path file) throws IOException {
+        // 아카이브 항목(zip 파일 시스템)은 압축을 풀면서 읽음, 채널을 닫으면 파일 핸들도 바로 해제
+        try (SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.READ)) {
+            return readFully(channel, channel.size());
+        }
+    }
+
+    /**
+     * 채널 전체를 재사용 버퍼로 읽기
+     */
+    private ByteBuffer readFully(ReadableByteChannel channel, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("파일이 너무 큼: " + size + " bytes");
+        }
+        if (!reuseBuffers || byteBuffer.capacity() < size) {
+            byteBuffer = ByteBuffer.allocate((int) size);
+        }
+        byteBuffer.clear();
+        byteBuffer.limit((int) size);
+        while (byteBuffer.hasRemaining() && channel.read(byteBuffer) >= 0) {
+            // 끝까지 읽기
+        }
+        byteBuffer.flip();
+        return byteBuffer;
+    }
+
+    /**
+     * 재사용 CharBuffer로 디코딩
+     *
+     * @return 잘못된 바이트 없이 디코딩했으면 true (REPLACE는 항상 true)
+     */
+    private boolean decode(ByteBuffer in, Charset charset, CodingErrorAction errorAction) {
+        CharsetDecoder decoder = decoders.computeIfAbsent(charset, Charset::newDecoder);
+        decoder.reset()
+               .onMalformedInput(errorAction)
+               .onUnmappableCharacter(errorAction);
+
+        int needed = (int) Math.ceil(in.remaining() * (double) decoder.maxCharsPerByte()) + 1;
+        if (!reuseBuffers || charBuffer.capacity() < needed) {
+            charBuffer = CharBuffer.allocate(needed);
+        }
+        charBuffer.clear();
+
+        CoderResult result = decoder.decode(in, charBuffer, true);
+        if (result.isError()) {
+            return false;
+        }
+        decoder.flush(charBuffer);
+        charBuffer.flip();
+        return true;
+    }
+
+    private static boolean startsWith(ByteBuffer bytes, int... prefix) {
+        if (bytes.limit() < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes.get(i) & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * UTF-8 유효성 검사 (과잉 표현, 서로게이트 범위 제외)
+     *
+     * MS949 한글(리드 바이트 0x81~0xFE + 트레일 바이트)은 대부분 첫 글자에서 실패하므로 빠르게 끝납니다.
+     */
+    static boolean isValidUtf8(ByteBuffer bytes) {
+        int limit = bytes.limit();
+        int i = 0;
+        while (i < limit) {
+            int b = bytes.get(i) & 0xFF;
+            if (b < 0x80) {
+                i++;
+                continue;
+            }
+
+            int continuation;
+            int secondMin = 0x80;
+            int secondMax = 0xBF;
+            if (b >= 0xC2 && b <= 0xDF) {
+                continuation = 1;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                continuation = 2;
+                if (b == 0xE0) secondMin = 0xA0;
+                if (b == 0xED) secondMax = 0x9F;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                continuation = 3;
+                if (b == 0xF0) secondMin = 0x90;
+                if (b == 0xF4) secondMax = 0x8F;
+            } else {
+                return false;
+            }
+
+            if (i + continuation >= limit) {
+                return false;
+            }
+            int second = bytes.get(i + 1) & 0xFF;
+            if (second < secondMin || second > secondMax) {
+                return false;
+            }
+            for (int j = 2; j <= continuation; j++) {
+                int next = bytes.get(i + j) & 0xFF;
+                if (next < 0x80 || next > 0xBF) {
+                    return false;
+                }
+            }
+            i += continuation + 1;
+        }
+        return true;
+    }
+
+    /**
+     * 로드 결과
+     *
+     * getBytes()/getText()는 로더의 재사용 버퍼를 가리키므로 다음 load() 전까지만 유효합니다.
+     */
+    public static class Source {
+        private final Path path;
+        private final ByteBuffer bytes;
+        private final CharBuffer text;
+        private final Charset charset;
+        private final boolean bom;
+        private final boolean decodeFailed;
+
+        Source(Path path, ByteBuffer bytes, CharBuffer text, Charset charset, boolean bom, boolean decodeFailed) {
+            this.path = path;
+            this.bytes = bytes;
+            this.text = text;
+            this.charset = charset;
+            this.bom = bom;
+            this.decodeFailed = decodeFailed;
+        }
+
+        public Path getPath() { return path; }
+        public ByteBuffer getBytes() { return bytes.duplicate(); }
+        public CharSequence getText() { return text; }
+        public Charset getCharset() { return charset; }
+        public boolean hasBom() { return bom; }
+        public boolean isDecodeFailed() { return decodeFailed; }
+        public long getSize() { return bytes.limit(); }
+    }
+}
@@ -0,0 +1,609 @@
+package com.codeflow.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동적 SQL 분기 분석기
+ *
+ * iBatis(&lt;isNotEmpty&gt;, &lt;isEqual&gt; 등)와 MyBatis(&lt;if&gt;, &lt;choose&gt;/&lt;when&gt;/&lt;otherwise&gt;) 조건 태그를
+ * 분기로 보고, 분기마다 쿼리를 펼쳐서 접근하는 테이블과 테이블별 CRUD를 추출합니다.
+ * 모든 분기에 나오는 테이블은 "항상", 일부 분기에만 나오는 테이블은 "조건부" 접근입니다.
+ *
+ * 예: UPDATE TB_USER ... &lt;isEqual property="audit" compareValue="Y"&gt;; INSERT INTO TB_AUDIT ...&lt;/isEqual&gt;
+ *   → TB_USER 항상, TB_AUDIT는 isEqual(audit, Y)일 때만
+ *
+ * 설계 결정:
+ * - 분기 수는 조건 태그 수에 지수로 늘어나므로 예산(setMaxBranches, 기본 64)을 둠
+ *   → 예산을 넘으면 전체 조합 대신 "모든 조건 포함" + "모든 조건 제외" + "조건 1개씩만 뒤집은" 분기만 분석 (조건 수에 선형)
+ * - 반복(&lt;iterate&gt;, &lt;foreach&gt;)과 &lt;dynamic&gt;/&lt;where&gt;/&lt;set&gt;/&lt;trim&gt;은 분기가 아니라 본문 1번 포함
+ * - 결과는 문장(SqlInfo)별로 캐시 (WeakHashMap - 분석 결과를 버리면 캐시 항목도 GC 대상)
+ *   → 테이블 영향도 화면을 다시 그려도 쿼리 텍스트를 다시 읽거나 펼치지 않음
+ * - CRUD는 테이블마다 앞 키워드로 판단 (SqlLexer: INSERT INTO → C, UPDATE/MERGE INTO → U, DELETE FROM → D, 그 외 R)
+ *   → UPDATE 문장의 한 분기에서 INSERT INTO TB_AUDIT 하면 TB_AUDIT는 C
+ * - 분기는 테이블 + CRUD 구성이 같으면 합침
+ */
+public class SqlBranchAnalyzer {
+
+    private static final int DEFAULT_MAX_BRANCHES = 64;
+
+    // 조건 태그 (본문이 포함될 수도, 안 될 수도 있음)
+    private static final Set<String> CONDITION_TAGS = Set.of(
+        "isNotEmpty", "isEmpty", "isNull", "isNotNull", "isEqual", "isNotEqual",
+        "isGreaterThan", "isGreaterEqual", "isLessThan", "isLessEqual",
+        "isPropertyAvailable", "isNotPropertyAvailable", "isParameterPresent", "isNotParameterPresent",
+        "if"
+    );
+    private static final String CHOOSE_TAG = "choose";
+    private static final Set<String> CHOOSE_OPTION_TAGS = Set.of("when", "otherwise");
+    // 본문을 그대로 1번 포함하는 태그
+    private static final Set<String> CONTAINER_TAGS = Set.of(
+        "dynamic", "iterate", "foreach", "where", "set", "trim", "bind", "include"
+    );
+
+    private int maxBranches = DEFAULT_MAX_BRANCHES;
+    private final Map<SqlInfo, SqlBranches> cache = Collections.synchronizedMap(new WeakHashMap<>());
+    private final AtomicInteger cacheHitCount = new AtomicInteger();
+
+    /**
+     * 문장별 최대 분기 수 (넘으면 조건을 1개씩만 뒤집은 분기로 분석)
+     */
+    public void setMaxBranches(int maxBranches) {
+        this.maxBranches = Math.max(1, maxBranches);
+    }
+
+    public long getCacheHitCount() {
+        return cacheHitCount.get();
+    }
+
+    /**
+     * 문장의 분기별 테이블 (같은 문장은 캐시에서)
+     */
+    public SqlBranches analyze(SqlInfo sqlInfo) {
+        SqlBranches cached = cache.get(sqlInfo);
+        if (cached != null) {
+            cacheHitCount.incrementAndGet();
+            return cached;
+        }
+        SqlBranches branches = analyze(sqlInfo.getQuery(), sqlInfo.getType());
+        cache.put(sqlInfo, branches);
+        return branches;
+    }
+
+    /**
+     * 쿼리 텍스트의 분기별 테이블 (캐시 없음)
+     */
+    public SqlBranches analyze(String query, SqlInfo.SqlType type) {
+        Node root = parse(query != null ? query : "");
+        List<Variant> variants;
+        boolean truncated = false;
+        try {
+            variants = enumerate(root.children);
+        } catch (BudgetExceededException e) {
+            variants = linearVariants(root);
+            truncated = true;
+        }
+
+        // 테이블 + CRUD 구성이 같은 분기는 합치고, 합친 분기 모두에 공통인 조건만 남김
+        Map<Map<String, Integer>, Branch> distinct = new LinkedHashMap<>();
+        for (Variant variant : variants) {
+            SqlLexer lexer = new SqlLexer(variant.text).scan();
+            List<String> tables = lexer.getTables();
+            Map<String, Integer> crud = new LinkedHashMap<>();
+            for (String table : tables) {
+                crud.put(table, lexer.getCrud(table));
+            }
+            Branch branch = distinct.get(crud);
+            if (branch == null) {
+                distinct.put(crud, new Branch(new ArrayList<>(variant.conditions), tables, crud));
+            } else {
+                branch.conditions.retainAll(variant.conditions);
+                branch.variantCount++;
+            }
+        }
+        return new SqlBranches(type, new ArrayList<>(distinct.values()), variants.size(), truncated);
+    }
+
+    // ========== 전체 조합 ==========
+
+    private List<Variant> enumerate(List<Object> children) {
+        List<Variant> result = List.of(Variant.EMPTY);
+        for (Object child : children) {
+            List<Variant> childVariants = child instanceof Node
+                ? enumerate((Node) child)
+                : List.of(new Variant((String) child, List.of()));
+            if (childVariants.size() == 1) {
+                Variant only = childVariants.get(0);
+                List<Variant> appended = new ArrayList<>(result.size());
+                for (Variant variant : result) {
+                    appended.add(variant.append(only));
+                }
+                result = appended;
+                continue;
+            }
+            if ((long) result.size() * childVariants.size() > maxBranches) {
+                throw new BudgetExceededException();
+            }
+            List<Variant> product = new ArrayList<>(result.size() * childVariants.size());
+            for (Variant variant : result) {
+                for (Variant childVariant : childVariants) {
+                    product.add(variant.append(childVariant));
+                }
+            }
+            result = product;
+        }
+        return result;
+    }
+
+    private List<Variant> enumerate(Node node) {
+        if (node.kind == Kind.CONDITION) {
+            List<Variant> variants = new ArrayList<>();
+            for (Variant body : enumerate(node.children)) {
+                variants.add(body.withCondition(node.label));
+            }
+            variants.add(new Variant("", List.of("NOT " + node.label)));
+            return variants;
+        }
+        if (node.kind == Kind.CHOOSE) {
+            List<Variant> variants = new ArrayList<>();
+            for (Node option : node.options()) {
+                for (Variant body : enumerate(option.children)) {
+                    variants.add(body.withCondition(option.label));
+                }
+            }
+            if (!node.hasOtherwise()) {
+                variants.add(new Variant("", List.of("NOT " + node.label)));
+            }
+            return variants;
+        }
+        return enumerate(node.children);
+    }
+
+    // ========== 예산 초과 시: 조건 1개씩 ==========
+
+    private List<Variant> linearVariants(Node root) {
+        List<Node> choices = new ArrayList<>();
+        collectChoices(root, choices);
+
+        List<Variant> variants = new ArrayList<>();
+        variants.add(new Variant(render(root, Map.of(), true), List.of("(모든 조건 포함)")));
+        variants.add(new Variant(render(root, Map.of(), false), List.of("(모든 조건 제외)")));
+        for (Node choice : choices) {
+            int optionCount = choice.kind == Kind.CHOOSE ? choice.optionCount() : 2;
+            for (int option = 1; option < optionCount && variants.size() < maxBranches; option++) {
+                Map<Node, Integer> flipped = new IdentityHashMap<>();
+                flipped.put(choice, option);
+                variants.add(new Variant(render(root, flipped, true), List.of(choice.optionLabel(option))));
+            }
+        }
+        return variants;
+    }
+
+    private static void collectChoices(Node node, List<Node> choices) {
+        if (node.kind == Kind.CONDITION || node.kind == Kind.CHOOSE) {
+            choices.add(node);
+        }
+        for (Object child : node.children) {
+            if (child instanceof Node) {
+                collectChoices((Node) child, choices);
+            }
+        }
+    }
+
+    /**
+     * 선택한 옵션으로 텍스트 만들기 (지정하지 않은 조건은 includeAll이면 포함, 아니면 제외)
+     * 옵션 번호: 조건 태그 0=포함 1=제외, choose는 when/otherwise 순서 (마지막 = 해당 없음)
+     */
+    private static String render(Node node, Map<Node, Integer> selected, boolean includeAll) {
+        StringBuilder sb = new StringBuilder();
+        renderChildren(node.children, selected, includeAll, sb);
+        return sb.toString();
+    }
+
+    private static void renderChildren(List<Object> children, Map<Node, Integer> selected, boolean includeAll,
+                                       StringBuilder sb) {
+        for (Object child : children) {
+            if (!(child instanceof Node)) {
+                sb.append((String) child);
+                continue;
+            }
+            Node node = (Node) child;
+            int option = selected.getOrDefault(node, includeAll ? 0 : node.defaultExcludedOption());
+            sb.append(' ');
+            if (node.kind == Kind.CONDITION) {
+                if (option == 0) {
+                    renderChildren(node.children, selected, includeAll, sb);
+                }
+            } else if (node.kind == Kind.CHOOSE) {
+                List<Node> options = node.options();
+                if (option < options.size()) {
+                    renderChildren(options.get(option).children, selected, includeAll, sb);
+                }
+            } else {
+                renderChildren(node.children, selected, includeAll, sb);
+            }
+            sb.append(' ');
+        }
+    }
+
+    // ========== 태그 구조 파싱 ==========
+
+    /**
+     * 쿼리 텍스트의 동적 태그 트리 (알려진 태그만, 그 외 '<'는 텍스트 - 비교 연산자 등)
+     */
+    static Node parse(String text) {
+        Node root = new Node(Kind.CONTAINER, "", "");
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        int copied = 0;
+        int i = text.indexOf('<');
+        while (i >= 0) {
+            boolean closing = i + 1 < text.length() && text.charAt(i + 1) == '/';
+            int nameStart = closing ? i + 2 : i + 1;
+            int nameEnd = nameStart;
+            while (nameEnd < text.length() && Character.isLetterOrDigit(text.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            String name = text.substring(nameStart, nameEnd);
+            Kind kind = kindOf(name);
+            if (kind == null) {
+                i = text.indexOf('<', i + 1);
+                continue;
+            }
+            int tagEnd = tagEnd(text, nameEnd);
+            Node current = stack.get(stack.size() - 1);
+            if (i > copied) {
+                current.children.add(text.substring(copied, i));
+            }
+            copied = tagEnd;
+
+            if (closing) {
+                // 가장 가까운 같은 이름의 열린 태그까지 닫음
+                for (int s = stack.size() - 1; s > 0; s--) {
+                    if (stack.get(s).name.equals(name)) {
+                        stack.subList(s, stack.size()).clear();
+                        break;
+                    }
+                }
+            } else {
+                Node node = new Node(kind, name, label(name, text.substring(nameEnd, tagEnd)));
+                current.children.add(node);
+                if (text.charAt(tagEnd - 2) != '/') {
+                    stack.add(node);
+                }
+            }
+            i = text.indexOf('<', tagEnd);
+        }
+        if (copied < text.length()) {
+            stack.get(stack.size() - 1).children.add(text.substring(copied));
+        }
+        return root;
+    }
+
+    /**
+     * iBatis/MyBatis 동적 태그 이름인지 (SqlLexer가 태그와 비교 연산자 '&lt;'를 구분할 때 사용)
+     */
+    static boolean isDynamicTag(String name) {
+        return kindOf(name) != null;
+    }
+
+    private static Kind kindOf(String name) {
+        if (CONDITION_TAGS.contains(name)) return Kind.CONDITION;
+        if (CHOOSE_TAG.equals(name)) return Kind.CHOOSE;
+        if (CHOOSE_OPTION_TAGS.contains(name)) return Kind.OPTION;
+        if (CONTAINER_TAGS.contains(name)) return Kind.CONTAINER;
+        return null;
+    }
+
+    /**
+     * 태그 끝 다음 위치 (속성값 안의 '>'는 무시 - test="count > 0")
+     */
+    private static int tagEnd(String text, int from) {
+        char quote = 0;
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == quote) quote = 0;
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i + 1;
+            }
+        }
+        return text.length();
+    }
+
+    /**
+     * 조건 표시 이름: isEqual(property, compareValue), if(test), when(test), otherwise
+     */
+    private static String label(String name, String attributes) {
+        String test = attribute(attributes, "test");
+        if (test != null) {
+            return name + "(" + test + ")";
+        }
+        String property = attribute(attributes, "property");
+        if (property == null) {
+            return name;
+        }
+        String compare = attribute(attributes, "compareValue");
+        if (compare == null) {
+            compare = attribute(attributes, "compareProperty");
+        }
+        return name + "(" + property + (compare != null ? ", " + compare : "") + ")";
+    }
+
+    private static String attribute(String attributes, String name) {
+        int start = attributes.indexOf(name + "=\"");
+        if (start < 0 || (start > 0 && Character.isLetterOrDigit(attributes.charAt(start - 1)))) {
+            return null;
+        }
+        start += name.length() + 2;
+        int end = attributes.indexOf('"', start);
+        return end < 0 ? null : attributes.substring(start, end).trim();
+    }
+
+    /**
+     * SQL 타입 → CRUD 비트 (UNKNOWN/null이면 0)
+     */
+    private static int maskOf(SqlInfo.SqlType type) {
+        if (type == null) {
+            return 0;
+        }
+        switch (type) {
+            case INSERT: return SqlLexer.CRUD_CREATE;
+            case SELECT: return SqlLexer.CRUD_READ;
+            case UPDATE: return SqlLexer.CRUD_UPDATE;
+            case DELETE: return SqlLexer.CRUD_DELETE;
+            default: return 0;
+        }
+    }
+
+    /**
+     * CRUD 비트 → "CRUD" 순서 문자열
+     */
+    private static String formatCrud(int mask) {
+        StringBuilder sb = new StringBuilder(4);
+        if ((mask & SqlLexer.CRUD_CREATE) != 0) sb.append('C');
+        if ((mask & SqlLexer.CRUD_READ) != 0) sb.append('R');
+        if ((mask & SqlLexer.CRUD_UPDATE) != 0) sb.append('U');
+        if ((mask & SqlLexer.CRUD_DELETE) != 0) sb.append('D');
+        return sb.toString();
+    }
+
+    // ========== 모델 ==========
+
+    private enum Kind { CONDITION, CHOOSE, OPTION, CONTAINER }
+
+    static final class Node {
+        private final Kind kind;
+        private final String name;
+        private final String label;
+        private final List<Object> children = new ArrayList<>();  // String 또는 Node
+
+        Node(Kind kind, String name, String label) {
+            this.kind = kind;
+            this.name = name;
+            this.label = label;
+        }
+
+        List<Node> options() {
+            List<Node> options = new ArrayList<>();
+            for (Object child : children) {
+                if (child instanceof Node && ((Node) child).kind == Kind.OPTION) {
+                    options.add((Node) child);
+                }
+            }
+            return options;
+        }
+
+        boolean hasOtherwise() {
+            return options().stream().anyMatch(option -> option.name.equals("otherwise"));
+        }
+
+        /**
+         * choose의 옵션 수 (otherwise가 없으면 "해당 없음" 포함)
+         */
+        int optionCount() {
+            return options().size() + (hasOtherwise() ? 0 : 1);
+        }
+
+        int defaultExcludedOption() {
+            if (kind == Kind.CHOOSE) {
+                List<Node> options = options();
+                return hasOtherwise() ? options.size() - 1 : options.size();
+            }
+            return 1;
+        }
+
+        String optionLabel(int option) {
+            if (kind == Kind.CHOOSE) {
+                List<Node> options = options();
+                return option < options.size() ? options.get(option).label : "NOT " + label;
+            }
+            return option == 0 ? label : "NOT " + label;
+        }
+    }
+
+    private static final class Variant {
+        static final Variant EMPTY = new Variant("", List.of());
+
+        private final String text;
+        private final List<String> conditions;
+
+        Variant(String text, List<String> conditions) {
+            this.text = text;
+            this.conditions = conditions;
+        }
+
+        Variant append(Variant other) {
+            List<String> merged = conditions;
+            if (!other.conditions.isEmpty()) {
+                merged = new ArrayList<>(conditions);
+                merged.addAll(other.conditions);
+            }
+            return new Variant(text + ' ' + other.text, merged);
+        }
+
+        Variant withCondition(String condition) {
+            List<String> merged = new ArrayList<>(conditions.size() + 1);
+            merged.add(condition);
+            merged.addAll(conditions);
+            return new Variant(text, merged);
+        }
+    }
+
+    private static final class BudgetExceededException extends RuntimeException {
+        BudgetExceededException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * 문장 1개의 분기 분석 결과
+     */
+    public static class SqlBranches {
+        private final SqlInfo.SqlType sqlType;
+        private final List<Branch> branches;    // 테이블 구성이 다른 분기만
+        private final int variantCount;         // 펼친 분기 수 (합치기 전)
+        private final boolean truncated;        // 예산 초과로 조건 1개씩만 분석
+
+        SqlBranches(SqlInfo.SqlType sqlType, List<Branch> branches, int variantCount, boolean truncated) {
+            this.sqlType = sqlType;
+            this.branches = branches;
+            this.variantCount = variantCount;
+            this.truncated = truncated;
+        }
+
+        public SqlInfo.SqlType getSqlType() { return sqlType; }
+        public List<Branch> getBranches() { return branches; }
+        public int getVariantCount() { return variantCount; }
+        public boolean isTruncated() { return truncated; }
+
+        /**
+         * 조건 태그가 테이블 구성을 바꾸는지 여부
+         */
+        public boolean hasConditionalTables() {
+            return branches.size() > 1;
+        }
+
+        /**
+         * 모든 분기에서 접근하는 테이블
+         */
+        public List<String> getAlwaysTables() {
+            List<String> always = new ArrayList<>(branches.get(0).tables);
+            for (Branch branch : branches) {
+                always.retainAll(branch.tables);
+            }
+            return always;
+        }
+
+        /**
+         * 일부 분기에서만 접근하는 테이블
+         */
+        public List<String> getConditionalTables() {
+            Set<String> all = new LinkedHashSet<>();
+            for (Branch branch : branches) {
+                all.addAll(branch.tables);
+            }
+            all.removeAll(getAlwaysTables());
+            return new ArrayList<>(all);
+        }
+
+        public boolean isConditional(String table) {
+            return getConditionalTables().contains(table);
+        }
+
+        /**
+         * 테이블의 CRUD (모든 분기의 합, 예: "CR", 분기에 없는 테이블이면 "")
+         */
+        public String getCrud(String table) {
+            return formatCrud(crudMask(table));
+        }
+
+        /**
+         * 테이블 기준 SQL 타입 (CRUD에 문장 타입이 있으면 문장 타입, 아니면 쓰기(C → U → D) 우선, 분기에 없는 테이블이면 문장 타입)
+         *
+         * 예: UPDATE 문장의 INSERT INTO TB_AUDIT → TB_AUDIT는 INSERT
+         */
+        public SqlInfo.SqlType getSqlType(String table) {
+            int mask = crudMask(table);
+            int own = maskOf(sqlType);
+            if (mask == 0 || (own & mask) != 0) {
+                return sqlType;
+            }
+            if ((mask & SqlLexer.CRUD_CREATE) != 0) return SqlInfo.SqlType.INSERT;
+            if ((mask & SqlLexer.CRUD_UPDATE) != 0) return SqlInfo.SqlType.UPDATE;
+            if ((mask & SqlLexer.CRUD_DELETE) != 0) return SqlInfo.SqlType.DELETE;
+            return SqlInfo.SqlType.SELECT;
+        }
+
+        private int crudMask(String table) {
+            int mask = 0;
+            for (Branch branch : branches) {
+                mask |= branch.crud.getOrDefault(table, 0);
+            }
+            return mask;
+        }
+
+        /**
+         * 테이블에 접근하는 분기의 조건 (항상 접근하거나 분기에 없는 테이블이면 null)
+         */
+        public String getCondition(String table) {
+            if (!isConditional(table)) {
+                return null;
+            }
+            List<String> conditions = new ArrayList<>();
+            for (Branch branch : branches) {
+                if (branch.tables.contains(table)) {
+                    conditions.add(branch.getConditionText());
+                }
+            }
+            return String.join(" | ", conditions);
+        }
+    }
+
+    /**
+     * 분기 1개: 조건 + 접근 테이블
+     */
+    public static class Branch {
+        private final List<String> conditions;
+        private final List<String> tables;
+        private final Map<String, Integer> crud;  // 테이블 → CRUD 비트 (SqlLexer.CRUD_*)
+        private int variantCount = 1;           // 같은 테이블/CRUD 구성으로 합쳐진 분기 수
+
+        Branch(List<String> conditions, List<String> tables, Map<String, Integer> crud) {
+            this.conditions = conditions;
+            this.tables = tables;
+            this.crud = crud;
+        }
+
+        public List<String> getConditions() { return conditions; }
+        public List<String> getTables() { return tables; }
+        public int getVariantCount() { return variantCount; }
+
+        /**
+         * 이 분기에서 테이블의 CRUD (예: "U", 없는 테이블이면 "")
+         */
+        public String getCrud(String table) {
+            return formatCrud(crud.getOrDefault(table, 0));
+        }
+
+        /**
+         * 조건 표시 (합친 분기들에 공통 조건이 없으면 "(조건 조합)")
+         */
+        public String getConditionText() {
+            if (conditions.isEmpty()) {
+                return variantCount > 1 ? "(조건 조합)" : "(조건 없음)";
+            }
+            return String.join(" AND ", conditions);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.codeflow.parser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL 조각(&lt;sql id="..."&gt;) 목록 + &lt;include refid="..."/&gt; 해석
+ *
+ * 매퍼 파일을 파싱하면서 조각을 등록하고(register), 모든 파일을 읽은 뒤 resolve()로
+ * 문장의 include를 조각 내용으로 바꾸고 조각의 테이블/파라미터를 문장에 더합니다.
+ * 다른 파일/namespace의 조각도 참조할 수 있으므로 해석은 항상 전체 등록 후에 합니다.
+ *
+ * refid 해석 순서:
+ * 1. 같은 namespace의 조각 (refid="commonWhere" → "userDAO.commonWhere")
+ * 2. namespace를 포함한 전체 ID (refid="commonDAO.commonWhere")
+ * 3. 어느 namespace든 id가 같은 조각 (전체 ID 순으로 첫 번째)
+ *
+ * 설계 결정:
+ * - 조각은 처음 참조될 때 1번만 펼치고(expandedText) 테이블/파라미터도 그때 1번만 추출
+ *   → 같은 조각을 쓰는 문장이 많아도 조각 처리는 1번
+ * - 순환 참조(A → B → A)는 펼치는 중인 조각을 다시 만나면 감지하고, 그 include는 펼치지 않고 남김
+ * - FROM/JOIN 바로 뒤의 include는 조각의 첫 이름이 테이블 (FROM &lt;include refid="userTable"/&gt;)
+ * - MyBatis &lt;include&gt;의 &lt;property&gt; 치환(${name})은 하지 않음 (테이블/파라미터 추출 대상 아님)
+ * - 조각 등록은 아카이브 항목 병렬 파싱 중에도 일어나므로 ConcurrentHashMap, 해석은 호출 스레드 1개
+ */
+final class SqlFragments {
+
+    private static final String INCLUDE_TAG = "<include";
+    private static final String INCLUDE_END_TAG = "</include>";
+
+    // 전체 ID(namespace.id) → 조각
+    private final Map<String, Fragment> fragments = new ConcurrentHashMap<>();
+
+    // id → 조각 (namespace 없이 찾을 때, resolve() 시작 시 생성)
+    private Map<String, Fragment> fragmentsById;
+
+    private int resolvedIncludeCount;
+    private int unresolvedIncludeCount;
+    private final List<String> cycles = new ArrayList<>();
+
+    void register(Collection<Fragment> mapperFragments) {
+        for (Fragment fragment : mapperFragments) {
+            fragments.putIfAbsent(fragment.getFullId(), fragment);
+        }
+    }
+
+    int size() {
+        return fragments.size();
+    }
+
+    int getResolvedIncludeCount() {
+        return resolvedIncludeCount;
+    }
+
+    int getUnresolvedIncludeCount() {
+        return unresolvedIncludeCount;
+    }
+
+    /**
+     * 감지한 순환 참조 경로 (예: "userDAO.a → userDAO.b → userDAO.a")
+     */
+    List<String> getCycles() {
+        return cycles;
+    }
+
+    /**
+     * 문장의 include 해석 (쿼리에 조각 내용 삽입 + 조각의 테이블/파라미터 추가)
+     */
+    void resolve(Collection<SqlInfo> statements) {
+        fragmentsById = new HashMap<>();
+        for (Fragment fragment : new TreeMap<>(fragments).values()) {
+            fragmentsById.putIfAbsent(fragment.id, fragment);
+        }
+
+        for (SqlInfo sqlInfo : statements) {
+            String query = sqlInfo.getQuery();
+            if (query == null || !query.contains(INCLUDE_TAG)) {
+                continue;
+            }
+            List<Fragment> included = new ArrayList<>();
+            String expanded = expand(query, sqlInfo.getNamespace(), new ArrayList<>(), included);
+
+            for (Fragment fragment : included) {
+                fragment.tables.forEach(sqlInfo::addTable);
+                fragment.parameters.forEach(sqlInfo::addSqlParameter);
+            }
+            // 조각 테이블의 CRUD는 문장 안 위치로 정해지므로 (INSERT ... SELECT <include/>) 펼친 쿼리를 다시 스캔
+            sqlInfo.recordTableCrud(new SqlLexer(expanded).scan());
+            sqlInfo.setExpandedQuery(expanded);
+        }
+    }
+
+    /**
+     * 텍스트의 include를 조각 내용으로 바꿈
+     *
+     * @param path 지금 펼치는 중인 조각 (순환 참조 감지용)
+     * @param included 직접 포함한 조각 (해석 완료 상태), FROM 뒤 include면 첫 이름을 테이블로 추가한 조각 포함
+     */
+    private String expand(String text, String namespace, List<Fragment> path, List<Fragment> included) {
+        StringBuilder sb = null;
+        int copied = 0;
+        int start = text.indexOf(INCLUDE_TAG);
+        while (start >= 0) {
+            int end = includeEnd(text, start);
+            String refId = attributeValue(text, start, end, "refid");
+            Fragment fragment = refId != null ? find(namespace, refId) : null;
+
+            if (fragment == null) {
+                unresolvedIncludeCount++;
+            } else if (path.contains(fragment)) {
+                cycles.add(cyclePath(path, fragment));
+                fragment = null;
+            } else {
+                resolveFragment(fragment, path);
+                resolvedIncludeCount++;
+            }
+
+            if (fragment != null) {
+                if (sb == null) {
+                    sb = new StringBuilder(text.length() + fragment.expandedText.length());
+                }
+                sb.append(text, copied, start).append(fragment.expandedText);
+                copied = end;
+                included.add(fragment.inTablePosition(isTablePosition(text, start)));
+            }
+            start = text.indexOf(INCLUDE_TAG, end);
+        }
+        if (sb == null) {
+            return text;
+        }
+        return sb.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * 조각 1번만 펼치기 + 테이블/파라미터 추출 (결과는 조각에 저장)
+     */
+    private void resolveFragment(Fragment fragment, List<Fragment> path) {
+        if (fragment.expandedText != null) {
+            return;
+        }
+        path.add(fragment);
+        List<Fragment> nested = new ArrayList<>();
+        String expanded = expand(fragment.text, fragment.namespace, path, nested);
+        path.remove(path.size() - 1);
+
+        SqlLexer lexer = new SqlLexer(expanded).scan();
+        List<String> tables = new ArrayList<>(lexer.getTables());
+        List<String> parameters = new ArrayList<>(lexer.getParameters());
+        // 펼친 텍스트를 스캔했으므로 안쪽 조각의 테이블은 이미 포함, FROM 뒤 include의 첫 이름만 추가
+        for (Fragment inner : nested) {
+            inner.tables.stream().filter(t -> !tables.contains(t)).forEach(tables::add);
+        }
+        fragment.tables = tables;
+        fragment.parameters = parameters;
+        fragment.leadingName = SqlLexer.leadingName(expanded);
+        fragment.expandedText = expanded;
+    }
+
+    private Fragment find(String namespace, String refId) {
+        if (namespace != null && !namespace.isEmpty()) {
+            Fragment local = fragments.get(namespace + "." + refId);
+            if (local != null) {
+                return local;
+            }
+        }
+        Fragment qualified = fragments.get(refId);
+        if (qualified != null) {
+            return qualified;
+        }
+        return fragmentsById.get(refId);
+    }
+
+    private static String cyclePath(List<Fragment> path, Fragment repeated) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = path.indexOf(repeated); i < path.size(); i++) {
+            sb.append(path.get(i).getFullId()).append(" → ");
+        }
+        return sb.append(repeated.getFullId()).toString();
+    }
+
+    /**
+     * include 요소 끝 위치 (&lt;include .../&gt; 또는 &lt;include ...&gt;...&lt;/include&gt;)
+     */
+    private static int includeEnd(String text, int start) {
+        int tagEnd = text.indexOf('>', start);
+        if (tagEnd < 0) {
+            return text.length();
+        }
+        if (text.charAt(tagEnd - 1) == '/') {
+            return tagEnd + 1;
+        }
+        int closeTag = text.indexOf(INCLUDE_END_TAG, tagEnd);
+        return closeTag < 0 ? tagEnd + 1 : closeTag + INCLUDE_END_TAG.length();
+    }
+
+    private static String attributeValue(String text, int start, int end, String name) {
+        String prefix = name + "=\"";
+        int valueStart = text.indexOf(prefix, start);
+        if (valueStart < 0 || valueStart >= end) {
+            return null;
+        }
+        valueStart += prefix.length();
+        int valueEnd = text.indexOf('"', valueStart);
+        return valueEnd < 0 || valueEnd > end ? null : text.substring(valueStart, valueEnd).trim();
+    }
+
+    /**
+     * include 바로 앞 단어가 FROM/JOIN/INTO/UPDATE/USING인지 (조각의 첫 이름이 테이블인 경우)
+     */
+    private static boolean isTablePosition(String text, int includeStart) {
+        int end = includeStart;
+        while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        int start = end;
+        while (start > 0 && Character.isLetter(text.charAt(start - 1))) {
+            start--;
+        }
+        return SqlLexer.isTableKeyword(text, start, end);
+    }
+
+    /**
+     * SQL 조각 1개 (&lt;sql id="..."&gt;)
+     *
+     * text는 파싱 시 1번 추출한 원문(include 태그 포함), 나머지는 resolve()에서 1번 계산하는 값입니다.
+     * 계산 값은 다른 파일의 조각에 따라 달라지므로 파싱 캐시에는 저장하지 않습니다(transient).
+     */
+    static class Fragment {
+        private final String namespace;
+        private final String id;
+        private final String text;
+
+        private transient String expandedText;
+        private transient List<String> tables;
+        private transient List<String> parameters;
+        private transient String leadingName;
+
+        Fragment(String namespace, String id, String text) {
+            this.namespace = namespace;
+            this.id = id;
+            this.text = text;
+        }
+
+        String getFullId() {
+            return namespace != null && !namespace.isEmpty() ? namespace + "." + id : id;
+        }
+
+        String getText() { return text; }
+        String getExpandedText() { return expandedText; }
+        List<String> getTables() { return tables; }
+        List<String> getParameters() { return parameters; }
+
+        /**
+         * FROM 뒤에서 포함했으면 첫 이름을 테이블에 더한 보기 (조각 자체의 결과는 그대로)
+         */
+        Fragment inTablePosition(boolean tablePosition) {
+            if (!tablePosition || leadingName == null || tables.contains(leadingName)) {
+                return this;
+            }
+            Fragment view = new Fragment(namespace, id, text);
+            view.expandedText = expandedText;
+            view.tables = new ArrayList<>(tables.size() + 1);
+            view.tables.add(leadingName);
+            view.tables.addAll(tables);
+            view.parameters = parameters;
+            view.leadingName = leadingName;
+            return view;
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package com.codeflow.parser;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
 
 /**
  * SQL 매퍼 정보
  *
  * iBatis/MyBatis XML에서 추출한 SQL 정보를 저장합니다.
+ * 테이블/파라미터는 setQuery() 시 SqlLexer로 쿼리를 1번 스캔하여 추출합니다.
+ *
+ * 프로젝트 파싱이 끝나면 쿼리 텍스트는 SqlTextStore로 옮기고 저장 위치만 남깁니다 (getQuery() 시 읽음).
  */
 public class SqlInfo {
 
@@ -32,18 +35,22 @@ public class SqlInfo {
         }
     }
 
-    // iBatis: #paramName#, MyBatis: #{paramName}
-    private static final Pattern IBATIS_PARAM_PATTERN = Pattern.compile("#([a-zA-Z_][a-zA-Z0-9_]*)#");
-    private static final Pattern MYBATIS_PARAM_PATTERN = Pattern.compile("#\\{([a-zA-Z_][a-zA-Z0-9_.]*)\\}");
-
     private String fileName;           // User_SQL.xml
+    private String filePath;           // src/main/resources/sqlmap/User_SQL.xml (파싱한 경로, 변경 영향 분석에서 같은 이름 매퍼 구분)
     private String namespace;          // userDAO
     private String sqlId;              // selectUserList
     private SqlType type;              // SELECT, INSERT, UPDATE, DELETE
     private String resultType;         // UserVO, HashMap, int 등
     private List<String> tables;       // [TB_USER, TB_DEPT]
-    private String query;              // 전체 쿼리 (엑셀 출력용)
+    private String query;              // 전체 쿼리 (엑셀 출력용, SqlTextStore로 옮기면 null)
     private List<String> sqlParameters;  // SQL에서 사용하는 파라미터 목록
+    // 테이블별 CRUD 비트 (SqlLexer.CRUD_* 합) - INSERT ... SELECT의 원본 테이블은 R, 대상 테이블은 C
+    private Map<String, Integer> tableCrud;
+
+    // SqlTextStore에 옮긴 쿼리 위치 (파싱 캐시/세션에는 저장하지 않음)
+    private transient SqlTextStore queryStore;
+    private transient long queryOffset;
+    private transient int queryLength;
 
     public SqlInfo() {
         this.tables = new ArrayList<>();
@@ -77,6 +84,14 @@ public class SqlInfo {
         this.fileName = fileName;
     }
 
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
     public String getNamespace() {
         return namespace;
     }
@@ -123,112 +138,83 @@ public class SqlInfo {
         }
     }
 
-    public String getQuery() {
-        return query;
+    /**
+     * 테이블의 CRUD 비트 (1=C, 2=R, 4=U, 8=D의 합)
+     *
+     * 쿼리에서 테이블 위치로 판단한 값이며, 판단하지 못한 테이블(이전 세션 등)이면 0 (호출하는 쪽에서 SQL 타입 사용)
+     */
+    public int getTableCrud(String table) {
+        Integer crud = tableCrud != null ? tableCrud.get(table) : null;
+        return crud != null ? crud : 0;
     }
 
-    public void setQuery(String query) {
-        this.query = query;
-        if (query != null) {
-            // 쿼리에서 테이블 추출
-            if (tables.isEmpty()) {
-                extractTablesFromQuery(query);
-            }
-            // 쿼리에서 파라미터 추출
-            if (sqlParameters.isEmpty()) {
-                extractParametersFromQuery(query);
+    /**
+     * 스캔 결과의 테이블별 CRUD 비트 기록 (include를 펼친 쿼리를 다시 스캔한 경우 포함)
+     */
+    void recordTableCrud(SqlLexer lexer) {
+        for (String table : lexer.getTables()) {
+            int crud = lexer.getCrud(table);
+            if (crud != 0) {
+                if (tableCrud == null) {
+                    tableCrud = new LinkedHashMap<>();
+                }
+                tableCrud.merge(table, crud, (a, b) -> a | b);
             }
         }
     }
 
     /**
-     * SQL 쿼리에서 파라미터 추출 (iBatis: #param#, MyBatis: #{param})
+     * 테이블/파라미터 추출 없이 쿼리 텍스트만 교체 (include를 펼친 쿼리 - 조각의 테이블/파라미터는 따로 추가)
      */
-    private void extractParametersFromQuery(String query) {
-        if (query == null || query.isEmpty()) return;
-
-        Set<String> params = new HashSet<>();
-
-        // iBatis 형식: #paramName#
-        Matcher ibatisMatcher = IBATIS_PARAM_PATTERN.matcher(query);
-        while (ibatisMatcher.find()) {
-            params.add(ibatisMatcher.group(1));
-        }
-
-        // MyBatis 형식: #{paramName} 또는 #{obj.property}
-        Matcher mybatisMatcher = MYBATIS_PARAM_PATTERN.matcher(query);
-        while (mybatisMatcher.find()) {
-            String param = mybatisMatcher.group(1);
-            // obj.property 형식이면 property만 추출
-            if (param.contains(".")) {
-                param = param.substring(param.lastIndexOf('.') + 1);
-            }
-            params.add(param);
-        }
-
-        sqlParameters.addAll(params);
+    void setExpandedQuery(String query) {
+        this.query = query;
+        this.queryStore = null;
     }
 
     /**
-     * SQL 쿼리에서 테이블명 추출
+     * SQL 파라미터 추가 (중복 제외) - include한 SQL 조각의 파라미터 등
      */
-    private void extractTablesFromQuery(String query) {
-        if (query == null || query.isEmpty()) return;
-
-        String upperQuery = query.toUpperCase();
-        String[] tokens = upperQuery.split("\\s+");
-
-        for (int i = 0; i < tokens.length - 1; i++) {
-            String token = tokens[i];
-            String nextToken = tokens[i + 1];
-
-            // FROM, JOIN, INTO, UPDATE 뒤에 오는 테이블명 추출
-            if (token.equals("FROM") || token.equals("JOIN") ||
-                token.equals("INTO") || token.equals("UPDATE")) {
-
-                // 테이블명 정리 (괄호, 별칭 제거)
-                String tableName = cleanTableName(nextToken);
-                if (isValidTableName(tableName)) {
-                    addTable(tableName);
-                }
-            }
-
-            // LEFT/RIGHT/INNER/OUTER JOIN 처리
-            if ((token.equals("LEFT") || token.equals("RIGHT") ||
-                 token.equals("INNER") || token.equals("OUTER")) &&
-                nextToken.equals("JOIN") && i + 2 < tokens.length) {
-
-                String tableName = cleanTableName(tokens[i + 2]);
-                if (isValidTableName(tableName)) {
-                    addTable(tableName);
-                }
-            }
+    public void addSqlParameter(String parameter) {
+        if (parameter != null && !parameter.isEmpty() && !sqlParameters.contains(parameter)) {
+            sqlParameters.add(parameter);
         }
     }
 
-    /**
-     * 테이블명 정리 (괄호, 쉼표 제거)
-     */
-    private String cleanTableName(String name) {
-        if (name == null) return "";
-        return name.replaceAll("[(),]", "").trim();
+    public String getQuery() {
+        if (query == null && queryStore != null) {
+            return queryStore.read(queryOffset, queryLength);
+        }
+        return query;
     }
 
     /**
-     * 유효한 테이블명인지 확인
+     * 쿼리 텍스트를 저장소로 옮기고 위치만 보관 (이후 getQuery()는 저장소에서 읽음)
      */
-    private boolean isValidTableName(String name) {
-        if (name == null || name.isEmpty()) return false;
-        // SQL 키워드 제외
-        String[] keywords = {"SELECT", "WHERE", "AND", "OR", "ON", "SET", "VALUES", "(", ")", ","};
-        for (String keyword : keywords) {
-            if (name.equals(keyword)) return false;
+    void moveQueryTo(SqlTextStore store) throws IOException {
+        if (query == null || query.isEmpty()) {
+            return;
         }
-        // 특수문자로 시작하면 제외
-        if (name.startsWith("(") || name.startsWith("#") || name.startsWith("$")) {
-            return false;
+        byte[] utf8 = query.getBytes(StandardCharsets.UTF_8);
+        queryOffset = store.append(utf8);
+        queryLength = utf8.length;
+        queryStore = store;
+        query = null;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+        this.queryStore = null;
+        if (query != null && !query.isEmpty() && (tables.isEmpty() || sqlParameters.isEmpty())) {
+            // 쿼리를 1번 스캔하여 테이블 + 파라미터 추출 (이미 설정된 목록은 유지)
+            SqlLexer lexer = new SqlLexer(query).scan();
+            if (tables.isEmpty()) {
+                lexer.getTables().forEach(this::addTable);
+                recordTableCrud(lexer);
+            }
+            if (sqlParameters.isEmpty()) {
+                sqlParameters.addAll(lexer.getParameters());
+            }
         }
-        return true;
     }
 
     /**
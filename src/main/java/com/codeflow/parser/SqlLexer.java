@@ -0,0 +1,607 @@
+package com.codeflow.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * SQL 텍스트 1회 스캔 (테이블/파라미터 추출용)
+ *
+ * 쿼리 문자를 처음부터 끝까지 한 번만 읽으면서 다음을 함께 처리합니다.
+ * - 테이블: FROM, JOIN, INTO, UPDATE, DELETE, USING(MERGE), TABLE 뒤의 이름
+ *   (스키마.테이블, 쉼표 조인 "FROM A a, B b", 서브쿼리 안의 FROM 포함)
+ * - 테이블별 CRUD: 테이블 앞 키워드로 판단 (INSERT INTO → C, UPDATE/MERGE INTO → U, DELETE [FROM] → D, 그 외 R)
+ * - 파라미터: #param#, $param$ (iBatis), #{param}, ${param} (MyBatis)
+ * - 건너뜀: 주석(--, 블록 주석), 문자열 리터럴, 동적 태그(&lt;isNotEmpty ...&gt;, &lt;if test="..."&gt;)
+ *   (태그 이름이 알려진 동적 태그일 때만 → A.END_DT&lt;SYSDATE 같은 비교 연산자는 태그가 아님)
+ *
+ * 설계 결정:
+ * - 쿼리 전체를 대문자로 바꾸거나 정규식으로 나누지 않음 → 키워드는 regionMatches로 비교,
+ *   문자열은 테이블/파라미터 이름으로 확정된 것만 만듦
+ * - 키워드 표는 static으로 1번만 만들고, 길이별로 나눠 비교 횟수를 줄임
+ * - 괄호 깊이별로 "쿼리인지", "FROM 목록 안인지"를 기록
+ *   → EXTRACT(YEAR FROM col), TRIM(x FROM col)의 FROM은 함수 인자이므로 무시
+ * - WITH 절의 이름(CTE)은 테이블이 아니므로 마지막에 제외
+ * - 동적 테이블명(${tableName})은 실제 이름을 알 수 없으므로 테이블로 보지 않음
+ */
+final class SqlLexer {
+
+    // 키워드 종류
+    private static final int WORD = 0;      // 키워드가 아닌 이름 (테이블, 별칭, 컬럼)
+    private static final int FROM = 1;
+    private static final int JOIN = 2;
+    private static final int TARGET = 3;    // USING, TABLE - 다음 이름이 테이블
+    private static final int UPDATE = 4;
+    private static final int SELECT = 5;
+    private static final int WITH = 6;
+    private static final int AS = 7;
+    private static final int FOR = 8;       // FOR UPDATE
+    private static final int KEY = 9;       // ON DUPLICATE KEY UPDATE
+    private static final int RESERVED = 10; // 그 외 예약어 (FROM 목록 종료, 테이블명 아님)
+    private static final int INTO = 11;     // 다음 이름이 테이블 (INSERT INTO → C, MERGE INTO → U)
+    private static final int DELETE = 12;   // 다음 이름(DELETE FROM이면 FROM 다음)이 테이블 (D)
+    private static final int INSERT = 13;
+    private static final int MERGE = 14;
+
+    // 테이블별 CRUD 비트 (CrudMatrix와 같은 순서)
+    static final int CRUD_CREATE = 1;
+    static final int CRUD_READ = 2;
+    static final int CRUD_UPDATE = 4;
+    static final int CRUD_DELETE = 8;
+
+    // 길이별 키워드 표 (KEYWORDS[길이] = {키워드...}, KINDS[길이] = {종류...})
+    private static final String[][] KEYWORDS;
+    private static final int[][] KINDS;
+
+    static {
+        Object[][] table = {
+            {"FROM", FROM}, {"JOIN", JOIN},
+            {"INTO", INTO}, {"USING", TARGET}, {"TABLE", TARGET}, {"DELETE", DELETE},
+            {"UPDATE", UPDATE}, {"SELECT", SELECT}, {"WITH", WITH}, {"AS", AS},
+            {"FOR", FOR}, {"KEY", KEY},
+            {"WHERE", RESERVED}, {"ON", RESERVED}, {"AND", RESERVED}, {"OR", RESERVED}, {"NOT", RESERVED},
+            {"SET", RESERVED}, {"VALUES", RESERVED}, {"LEFT", RESERVED}, {"RIGHT", RESERVED},
+            {"INNER", RESERVED}, {"OUTER", RESERVED}, {"FULL", RESERVED}, {"CROSS", RESERVED},
+            {"NATURAL", RESERVED}, {"LATERAL", RESERVED}, {"GROUP", RESERVED}, {"ORDER", RESERVED},
+            {"BY", RESERVED}, {"HAVING", RESERVED}, {"UNION", RESERVED}, {"ALL", RESERVED},
+            {"MINUS", RESERVED}, {"EXCEPT", RESERVED}, {"INTERSECT", RESERVED}, {"START", RESERVED},
+            {"CONNECT", RESERVED}, {"LIMIT", RESERVED}, {"OFFSET", RESERVED}, {"FETCH", RESERVED},
+            {"WHEN", RESERVED}, {"THEN", RESERVED}, {"ELSE", RESERVED}, {"END", RESERVED},
+            {"CASE", RESERVED}, {"MERGE", MERGE}, {"MATCHED", RESERVED}, {"INSERT", INSERT},
+            {"DISTINCT", RESERVED}, {"DUAL", RESERVED}, {"IN", RESERVED}, {"EXISTS", RESERVED},
+            {"IS", RESERVED}, {"NULL", RESERVED}, {"LIKE", RESERVED}, {"BETWEEN", RESERVED},
+            {"OF", RESERVED}, {"NOWAIT", RESERVED}, {"WAIT", RESERVED}, {"SKIP", RESERVED},
+            {"DUPLICATE", RESERVED}, {"RETURNING", RESERVED}, {"WINDOW", RESERVED}, {"RECURSIVE", RESERVED}
+        };
+        int maxLength = 0;
+        for (Object[] entry : table) {
+            maxLength = Math.max(maxLength, ((String) entry[0]).length());
+        }
+        KEYWORDS = new String[maxLength + 1][0];
+        KINDS = new int[maxLength + 1][0];
+        for (Object[] entry : table) {
+            String keyword = (String) entry[0];
+            int length = keyword.length();
+            KEYWORDS[length] = Arrays.copyOf(KEYWORDS[length], KEYWORDS[length].length + 1);
+            KINDS[length] = Arrays.copyOf(KINDS[length], KINDS[length].length + 1);
+            KEYWORDS[length][KEYWORDS[length].length - 1] = keyword;
+            KINDS[length][KINDS[length].length - 1] = (Integer) entry[1];
+        }
+    }
+
+    // 이보다 긴 {..} / #..# 는 파라미터로 보지 않음 (닫는 문자 없는 # 하나로 쿼리 끝까지 찾지 않도록)
+    private static final int MAX_PLACEHOLDER_LENGTH = 200;
+
+    private final String query;
+    private final int length;
+    private int pos;
+
+    // 괄호 깊이별 상태 (0 = 최상위)
+    private int depth;
+    private boolean[] queryAtDepth = new boolean[8];     // SELECT로 시작한 괄호 (서브쿼리)
+    private boolean[] fromListAtDepth = new boolean[8];  // FROM 목록 안 (쉼표 뒤가 테이블)
+
+    private boolean expectTable;
+    private int expectCrud;          // 다음 테이블의 CRUD 비트
+    private int dmlKind;             // 문장의 INSERT/MERGE (INTO의 CRUD 판단)
+    private boolean expectCteName;
+    private boolean inWithClause;
+    private int previousKind = WORD;
+
+    private final List<String> tables = new ArrayList<>();
+    private int[] tableCrud = new int[8];   // tables와 같은 순서의 CRUD 비트
+    private final List<String> parameters = new ArrayList<>();
+    private Set<String> cteNames;
+
+    SqlLexer(String query) {
+        this.query = query;
+        this.length = query.length();
+    }
+
+    /**
+     * 쿼리 스캔 (테이블/파라미터는 처음 나온 순서, 중복 제외)
+     */
+    SqlLexer scan() {
+        resetStatement();
+        while (pos < length) {
+            char c = query.charAt(pos);
+            char next = pos + 1 < length ? query.charAt(pos + 1) : 0;
+            if (c == '-' && next == '-') {
+                skipLineComment();
+            } else if (c == '/' && next == '*') {
+                skipBlockComment();
+            } else if (c == '\'') {
+                skipStringLiteral();
+            } else if (c == '"' || c == '`') {
+                scanQuotedName(c);
+            } else if ((c == '#' || c == '$') && scanPlaceholder(c)) {
+                expectTable = false;  // 동적 테이블명
+            } else if (c == '<' && isDynamicTag()) {
+                skipTag();
+            } else if (isWordStart(c)) {
+                int start = pos;
+                while (pos < length && isWordPart(query.charAt(pos))) {
+                    pos++;
+                }
+                onWord(start, pos, keywordKind(query, start, pos));
+            } else {
+                onSymbol(c);
+                pos++;
+            }
+        }
+        if (cteNames != null) {
+            removeCteNames();
+        }
+        return this;
+    }
+
+    List<String> getTables() {
+        return tables;
+    }
+
+    /**
+     * 테이블의 CRUD 비트 (CRUD_CREATE 등의 합, 스캔하지 않은 테이블이면 0)
+     */
+    int getCrud(String table) {
+        int index = tables.indexOf(table);
+        return index >= 0 ? tableCrud[index] : 0;
+    }
+
+    List<String> getParameters() {
+        return parameters;
+    }
+
+    // ===== 이름/기호 처리 =====
+
+    private void onWord(int start, int end, int kind) {
+        if (expectTable) {
+            expectTable = false;
+            if (kind == WORD) {
+                addTable(start, end, false);
+                previousKind = kind;
+                return;
+            }
+        }
+        if (expectCteName && kind == WORD) {
+            expectCteName = false;
+            if (cteNames == null) {
+                cteNames = new HashSet<>();
+            }
+            cteNames.add(upperName(start, end));
+            previousKind = kind;
+            return;
+        }
+
+        switch (kind) {
+            case FROM:
+                // 함수 인자의 FROM (EXTRACT(YEAR FROM col))은 제외
+                if (queryAtDepth[depth]) {
+                    expectTable = true;
+                    expectCrud = previousKind == DELETE ? CRUD_DELETE : CRUD_READ;
+                    fromListAtDepth[depth] = true;
+                }
+                break;
+            case JOIN:
+            case TARGET:
+                expectTable = true;
+                expectCrud = CRUD_READ;
+                fromListAtDepth[depth] = false;
+                break;
+            case INTO:
+                expectTable = true;
+                expectCrud = dmlKind == INSERT ? CRUD_CREATE : dmlKind == MERGE ? CRUD_UPDATE : CRUD_READ;
+                fromListAtDepth[depth] = false;
+                break;
+            case DELETE:
+                expectTable = true;
+                expectCrud = CRUD_DELETE;
+                fromListAtDepth[depth] = false;
+                break;
+            case INSERT:
+            case MERGE:
+                dmlKind = kind;
+                fromListAtDepth[depth] = false;
+                break;
+            case UPDATE:
+                // SELECT ... FOR UPDATE, ON DUPLICATE KEY UPDATE는 대상 테이블이 아님
+                if (previousKind != FOR && previousKind != KEY) {
+                    expectTable = true;
+                    expectCrud = CRUD_UPDATE;
+                }
+                fromListAtDepth[depth] = false;
+                break;
+            case SELECT:
+                queryAtDepth[depth] = true;
+                fromListAtDepth[depth] = false;
+                if (depth == 0) {
+                    inWithClause = false;
+                }
+                break;
+            case WITH:
+                if (depth == 0) {
+                    inWithClause = true;
+                    expectCteName = true;
+                }
+                break;
+            case WORD:
+            case AS:
+                break;  // 별칭/컬럼명 - FROM 목록 유지
+            default:
+                fromListAtDepth[depth] = false;
+                break;
+        }
+        previousKind = kind;
+    }
+
+    private void onSymbol(char c) {
+        switch (c) {
+            case ',':
+                if (fromListAtDepth[depth]) {
+                    expectTable = true;  // 쉼표 조인
+                    expectCrud = CRUD_READ;
+                } else if (depth == 0 && inWithClause) {
+                    expectCteName = true;
+                }
+                break;
+            case '(':
+                expectTable = false;  // FROM (SELECT ...) 인라인 뷰
+                depth++;
+                if (depth == queryAtDepth.length) {
+                    queryAtDepth = Arrays.copyOf(queryAtDepth, depth * 2);
+                    fromListAtDepth = Arrays.copyOf(fromListAtDepth, depth * 2);
+                }
+                queryAtDepth[depth] = false;
+                fromListAtDepth[depth] = false;
+                break;
+            case ')':
+                expectTable = false;
+                if (depth > 0) {
+                    depth--;
+                }
+                break;
+            case ';':
+                resetStatement();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void resetStatement() {
+        depth = 0;
+        queryAtDepth[0] = true;
+        fromListAtDepth[0] = false;
+        expectTable = false;
+        expectCteName = false;
+        inWithClause = false;
+        previousKind = WORD;
+        dmlKind = WORD;
+    }
+
+    private void addTable(int start, int end, boolean quoted) {
+        // 스키마.테이블. 처럼 끝에 남은 점 제거
+        while (end > start && query.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end <= start) {
+            return;
+        }
+        String name = quoted ? query.substring(start, end) : upperName(start, end);
+        int index = tables.indexOf(name);
+        if (index < 0) {
+            index = tables.size();
+            tables.add(name);
+            if (index == tableCrud.length) {
+                tableCrud = Arrays.copyOf(tableCrud, index * 2);
+            }
+        }
+        tableCrud[index] |= expectCrud;
+    }
+
+    /**
+     * WITH 절 이름 제외 (CRUD 비트도 같은 위치로 당김)
+     */
+    private void removeCteNames() {
+        int kept = 0;
+        for (int i = 0; i < tables.size(); i++) {
+            if (!cteNames.contains(tables.get(i))) {
+                tables.set(kept, tables.get(i));
+                tableCrud[kept++] = tableCrud[i];
+            }
+        }
+        tables.subList(kept, tables.size()).clear();
+    }
+
+    private String upperName(int start, int end) {
+        return query.substring(start, end).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 키워드 종류 (대소문자 무시, 문자열 생성 없음)
+     */
+    private static int keywordKind(String text, int start, int end) {
+        int wordLength = end - start;
+        if (wordLength >= KEYWORDS.length) {
+            return WORD;
+        }
+        String[] candidates = KEYWORDS[wordLength];
+        for (int i = 0; i < candidates.length; i++) {
+            if (text.regionMatches(true, start, candidates[i], 0, wordLength)) {
+                return KINDS[wordLength][i];
+            }
+        }
+        return WORD;
+    }
+
+    /**
+     * text[start, end)가 다음 이름이 테이블인 키워드인지 (FROM, JOIN, INTO, UPDATE, DELETE, USING, TABLE)
+     */
+    static boolean isTableKeyword(String text, int start, int end) {
+        int kind = keywordKind(text, start, end);
+        return kind == FROM || kind == JOIN || kind == TARGET || kind == UPDATE || kind == INTO || kind == DELETE;
+    }
+
+    /**
+     * 텍스트의 첫 이름 (공백/동적 태그 다음, 키워드면 null) - FROM 뒤에 포함된 SQL 조각의 테이블명
+     */
+    static String leadingName(String text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '<') {
+                int tagEnd = text.indexOf('>', i);
+                if (tagEnd < 0) {
+                    return null;
+                }
+                i = tagEnd + 1;
+            } else {
+                break;
+            }
+        }
+        if (i >= length || !isWordStart(text.charAt(i))) {
+            return null;
+        }
+        int start = i;
+        while (i < length && isWordPart(text.charAt(i))) {
+            i++;
+        }
+        int end = i;
+        while (end > start && text.charAt(end - 1) == '.') {
+            end--;
+        }
+        return keywordKind(text, start, i) == WORD ? text.substring(start, end).toUpperCase(Locale.ROOT) : null;
+    }
+
+    // ===== 파라미터 =====
+
+    /**
+     * 현재 위치(# 또는 $)의 파라미터 처리
+     *
+     * @return 파라미터였으면 true (위치는 닫는 문자 다음으로 이동)
+     */
+    private boolean scanPlaceholder(char marker) {
+        int open = pos + 1;
+        if (open >= length) {
+            return false;
+        }
+        if (query.charAt(open) == '{') {
+            // MyBatis: #{name}, #{obj.name}, #{name,jdbcType=VARCHAR}, ${name}
+            int close = indexOf('}', open + 1, open + MAX_PLACEHOLDER_LENGTH);
+            if (close < 0) {
+                return false;
+            }
+            int nameEnd = open + 1;
+            while (nameEnd < close && query.charAt(nameEnd) != ',') {
+                nameEnd++;
+            }
+            addParameter(open + 1, nameEnd);
+            pos = close + 1;
+            return true;
+        }
+
+        // iBatis: #name#, #obj.name#, #name:VARCHAR#, $name$
+        char first = query.charAt(open);
+        if (!Character.isLetter(first) && first != '_') {
+            return false;
+        }
+        int nameEnd = open;
+        while (nameEnd < length && isParameterPart(query.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        int close = nameEnd;
+        if (close < length && query.charAt(close) == ':') {
+            close = indexOf(marker, close, open + MAX_PLACEHOLDER_LENGTH);
+            if (close < 0) {
+                return false;
+            }
+        }
+        if (close >= length || query.charAt(close) != marker) {
+            return false;
+        }
+        addParameter(open, nameEnd);
+        pos = close + 1;
+        return true;
+    }
+
+    /**
+     * 파라미터 이름 추가 (obj.property 형식이면 property만)
+     */
+    private void addParameter(int start, int end) {
+        while (start < end && Character.isWhitespace(query.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(query.charAt(end - 1))) {
+            end--;
+        }
+        int lastDot = query.lastIndexOf('.', end - 1);
+        if (lastDot >= start) {
+            start = lastDot + 1;
+        }
+        if (start >= end || !(Character.isLetter(query.charAt(start)) || query.charAt(start) == '_')) {
+            return;
+        }
+        for (int i = start; i < end; i++) {
+            if (!isParameterPart(query.charAt(i))) {
+                return;  // #{list[0]} 등 식이면 제외
+            }
+        }
+        if (!containsRegion(parameters, start, end)) {
+            parameters.add(query.substring(start, end));
+        }
+    }
+
+    private boolean containsRegion(List<String> values, int start, int end) {
+        int regionLength = end - start;
+        for (String value : values) {
+            if (value.length() == regionLength && query.regionMatches(start, value, 0, regionLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ===== 건너뛰기 =====
+
+    private void skipLineComment() {
+        int end = query.indexOf('\n', pos);
+        pos = end < 0 ? length : end + 1;
+    }
+
+    private void skipBlockComment() {
+        int end = query.indexOf("*/", pos + 2);
+        pos = end < 0 ? length : end + 2;
+    }
+
+    /**
+     * 문자열 리터럴 건너뛰기 ('' 는 따옴표 문자) - LIKE '%${keyword}%' 처럼 안의 파라미터는 추출
+     */
+    private void skipStringLiteral() {
+        pos++;
+        while (pos < length) {
+            char c = query.charAt(pos);
+            if (c == '\'') {
+                if (pos + 1 < length && query.charAt(pos + 1) == '\'') {
+                    pos += 2;
+                    continue;
+                }
+                pos++;
+                return;
+            }
+            if ((c == '#' || c == '$') && scanPlaceholder(c)) {
+                continue;
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * 따옴표로 감싼 이름 ("TB_USER", `tb_user`) - 대소문자 그대로
+     */
+    private void scanQuotedName(char quote) {
+        int start = pos + 1;
+        int end = query.indexOf(quote, start);
+        if (end < 0) {
+            pos = length;
+            return;
+        }
+        pos = end + 1;
+        if (expectTable) {
+            expectTable = false;
+            addTable(start, end, true);
+        }
+        previousKind = WORD;
+    }
+
+    /**
+     * pos의 '&lt;'가 동적 태그의 시작인지 (&lt;이름 ...&gt;, &lt;이름/&gt;, &lt;/이름&gt;, 이름은 SqlBranchAnalyzer의 동적 태그)
+     */
+    private boolean isDynamicTag() {
+        int i = pos + 1;
+        boolean closing = i < length && query.charAt(i) == '/';
+        if (closing) {
+            i++;
+        }
+        int nameStart = i;
+        while (i < length && Character.isLetter(query.charAt(i))) {
+            i++;
+        }
+        if (i == nameStart || i >= length || !SqlBranchAnalyzer.isDynamicTag(query.substring(nameStart, i))) {
+            return false;
+        }
+        if (closing) {
+            while (i < length && Character.isWhitespace(query.charAt(i))) {
+                i++;
+            }
+            return i < length && query.charAt(i) == '>';
+        }
+        char after = query.charAt(i);
+        return (after == '>' || after == '/' || Character.isWhitespace(after)) && query.indexOf('>', i) >= 0;
+    }
+
+    /**
+     * 동적 태그 건너뛰기 (속성값 안의 '>'는 무시: &lt;if test="a &gt; 0"&gt;)
+     */
+    private void skipTag() {
+        pos++;
+        while (pos < length) {
+            char c = query.charAt(pos);
+            if (c == '"') {
+                int end = query.indexOf('"', pos + 1);
+                pos = end < 0 ? length : end + 1;
+                continue;
+            }
+            pos++;
+            if (c == '>') {
+                return;
+            }
+        }
+    }
+
+    private int indexOf(char c, int from, int limit) {
+        int end = Math.min(length, limit);
+        for (int i = from; i < end; i++) {
+            if (query.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWordStart(char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private static boolean isWordPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.';
+    }
+
+    private static boolean isParameterPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.';
+    }
+}
@@ -0,0 +1,246 @@
+package com.codeflow.parser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SQL 쿼리 텍스트 저장소 (임시 파일 + 최근 읽은 쿼리 LRU)
+ *
+ * 파싱이 끝난 SqlInfo의 쿼리 텍스트를 임시 파일에 이어 쓰고, SqlInfo에는 저장소 + 위치(offset, length)만 남깁니다.
+ * 쿼리 텍스트는 엑셀 "SQL 목록" 시트와 테이블 영향도 쿼리 상세에서만 읽으므로, 읽을 때 파일에서 가져옵니다.
+ *
+ * 설계 결정:
+ * - 원본 XML이 아닌 별도 파일에 저장: 쿼리는 XML에서 재구성 + 들여쓰기 정리 + include 펼침을 거친 텍스트라
+ *   원본 위치로는 다시 만들 수 없음 (아카이브 항목도 같은 방식으로 처리)
+ * - 쓰기는 64KB 버퍼에 모았다가 한 번에, 읽기 전에 남은 버퍼를 비움
+ * - 최근 읽은 쿼리는 LRU(기본 256개)에 보관 → 쿼리 상세 화면 전환/전체 쿼리 보기에서 같은 쿼리 반복 읽기 방지
+ * - 저장소를 참조하는 SqlInfo가 모두 사라지면 Cleaner가 파일을 닫고 삭제 (close()로 바로 정리 가능)
+ * - deleteOnExit은 쓰지 않음: 등록한 경로가 JVM 종료까지 남아 데몬/GUI처럼 재분석을 반복하면 계속 쌓임
+ * - 대신 사용 중인 파일은 잠가 두고, 처음 저장소를 만들 때 잠기지 않은 cft-sql-* 파일을 정리
+ *   (강제 종료 등으로 Cleaner가 돌지 못한 이전 실행의 파일, 잠금은 프로세스가 끝나면 OS가 해제)
+ */
+public final class SqlTextStore implements AutoCloseable {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    private static final String FILE_PREFIX = "cft-sql-";
+    private static final String FILE_SUFFIX = ".txt";
+    // 방금 만들어져 아직 잠그지 않은 다른 프로세스의 파일은 건드리지 않도록
+    private static final long SWEEP_MIN_AGE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final AtomicBoolean SWEPT = new AtomicBoolean();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Cleaner.Cleanable cleanable;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    private final Map<Long, String> recent;
+    private long size;
+    private long cacheHitCount;
+    private long loadCount;
+
+    private SqlTextStore(Path file, int cacheSize) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // 사용 중 표시 (다른 프로세스의 정리 대상에서 제외, 채널을 닫으면 해제)
+            channel.tryLock();
+        } catch (IOException | OverlappingFileLockException e) {
+            // 잠금을 지원하지 않는 파일 시스템 - 정리 시 최소 경과 시간으로만 보호
+        }
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.cleanable = CLEANER.register(this, new Cleanup(channel, file));
+    }
+
+    /**
+     * 임시 파일에 쓰는 저장소 생성
+     */
+    public static SqlTextStore createTemp() throws IOException {
+        return createTemp(DEFAULT_CACHE_SIZE);
+    }
+
+    public static SqlTextStore createTemp(int cacheSize) throws IOException {
+        if (SWEPT.compareAndSet(false, true)) {
+            sweepStale(Paths.get(System.getProperty("java.io.tmpdir")));
+        }
+        Path file = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+        return new SqlTextStore(file, Math.max(1, cacheSize));
+    }
+
+    /**
+     * 이전 실행이 남긴 임시 파일 정리 (잠겨 있거나 만든 지 1분이 안 된 파일은 제외)
+     *
+     * @return 삭제한 파일 수
+     */
+    static int sweepStale(Path directory) {
+        int deleted = 0;
+        long cutoff = System.currentTimeMillis() - SWEEP_MIN_AGE_MILLIS;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path candidate : files) {
+                if (isUnused(candidate, cutoff) && deleteQuietly(candidate)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            // 정리는 부가 작업 - 실패해도 저장소 생성은 계속
+        }
+        return deleted;
+    }
+
+    private static boolean isUnused(Path candidate, long cutoff) {
+        try {
+            if (Files.getLastModifiedTime(candidate).toMillis() > cutoff) {
+                return false;
+            }
+            try (FileChannel probe = FileChannel.open(candidate, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock lock = probe.tryLock()) {
+                return lock != null;
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            // 이 JVM의 저장소가 사용 중이거나 (Overlapping) 열 수 없는 파일
+            return false;
+        }
+    }
+
+    private static boolean deleteQuietly(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 텍스트 추가
+     *
+     * @return 저장 위치 (read()에 전달, 길이는 UTF-8 바이트 수)
+     */
+    synchronized long append(byte[] utf8) throws IOException {
+        long offset = size;
+        if (utf8.length > writeBuffer.remaining()) {
+            flush();
+        }
+        if (utf8.length > writeBuffer.capacity()) {
+            writeFully(ByteBuffer.wrap(utf8), offset);
+        } else {
+            writeBuffer.put(utf8);
+        }
+        size += utf8.length;
+        return offset;
+    }
+
+    /**
+     * 저장 위치의 텍스트 읽기 (최근 읽은 쿼리는 LRU에서)
+     */
+    synchronized String read(long offset, int length) {
+        String cached = recent.get(offset);
+        if (cached != null) {
+            cacheHitCount++;
+            return cached;
+        }
+        try {
+            flush();
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("SQL 텍스트 파일이 잘렸습니다: " + file);
+                }
+            }
+            String text = new String(buffer.array(), StandardCharsets.UTF_8);
+            recent.put(offset, text);
+            loadCount++;
+            return text;
+        } catch (IOException e) {
+            throw new UncheckedIOException("SQL 텍스트 읽기 실패: " + file, e);
+        }
+    }
+
+    private void flush() throws IOException {
+        if (writeBuffer.position() == 0) {
+            return;
+        }
+        writeBuffer.flip();
+        writeFully(writeBuffer, size - writeBuffer.remaining());
+        writeBuffer.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * 저장한 텍스트 전체 크기 (UTF-8 바이트)
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * 파일에서 읽은 횟수 (LRU에 없던 경우)
+     */
+    public synchronized long getLoadCount() {
+        return loadCount;
+    }
+
+    public synchronized long getCacheHitCount() {
+        return cacheHitCount;
+    }
+
+    /**
+     * 파일 닫기 + 삭제 (이후 옮긴 쿼리는 읽을 수 없음, 여러 번 호출해도 됨)
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    /**
+     * Cleaner 정리 작업: 파일 닫기 + 삭제 (저장소를 참조하면 수거되지 않으므로 별도 클래스)
+     */
+    private static final class Cleanup implements Runnable {
+        private final FileChannel channel;
+        private final Path file;
+
+        Cleanup(FileChannel channel, Path file) {
+            this.channel = channel;
+            this.file = file;
+        }
+
+        @Override
+        public void run() {
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // 임시 파일 - 다음 실행의 sweepStale에서 다시 시도
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.codeflow.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * JDK Flight Recorder 사용자 정의 이벤트
+ *
+ * 고객 환경에서 분석이 느릴 때 cft.log만으로는 원인을 알기 어려워서,
+ * 분석 파이프라인의 주요 지점을 JFR 이벤트로 남깁니다.
+ * --jfr 옵션으로 녹화한 .jfr 파일은 JDK Mission Control, `jfr print` 등 표준 도구로 분석합니다.
+ *
+ * 이벤트 목록 (카테고리 "Code Flow Tracer"):
+ * - com.codeflow.Phase: 분석 단계 (PerfReport.PhaseTimer와 같은 구간)
+ * - com.codeflow.JavaFileParse: Java 파일 1개 파싱
+ * - com.codeflow.MapperParse: SQL 매퍼 XML 1개 파싱
+ * - com.codeflow.EndpointTrace: 엔드포인트 1개 호출 흐름 추적
+ * - com.codeflow.ExportSheet: 엑셀 시트 1개 생성
+ *
+ * 설계 결정:
+ * - 이벤트는 isEnabled()일 때만 생성 (--jfr 또는 -Dcft.jfr=true) → 녹화하지 않는 실행은 jdk.jfr 클래스(약 100개)를 읽지 않아 시작이 빠름
+ * - JVM 옵션(-XX:StartFlightRecording)으로 녹화할 때는 -Dcft.jfr=true를 함께 지정
+ * - 필드 계산 비용이 있는 값(파일 크기, 노드 수 등)은 shouldCommit()일 때만 계산
+ * - 파일/엔드포인트 단위 이벤트는 개수가 많으므로 스택 트레이스 제외
+ */
+public final class JfrEvents {
+
+    private static final String CATEGORY = "Code Flow Tracer";
+
+    private static volatile boolean enabled = Boolean.getBoolean("cft.jfr");
+
+    private JfrEvents() {
+    }
+
+    /**
+     * JFR 녹화 시작
+     *
+     * JDK 기본 "profile" 설정에 사용자 정의 이벤트를 더해 녹화합니다.
+     * stop() 시점 또는 JVM 종료 시 destination 파일로 저장됩니다 (GUI 모드 대비).
+     *
+     * @param destination 저장할 .jfr 파일 경로
+     */
+    public static Recording startRecording(Path destination) throws IOException, ParseException {
+        enabled = true;
+        Recording recording = new Recording(Configuration.getConfiguration("profile"));
+        recording.setName("Code Flow Tracer");
+        recording.setDestination(destination);
+        recording.setDumpOnExit(true);
+        recording.start();
+        return recording;
+    }
+
+    /**
+     * JFR 녹화 시작 (Main용)
+     *
+     * Recording을 Session으로 감싸 Main의 메서드 시그니처에 jdk.jfr 타입이 드러나지 않게 합니다
+     * (picocli가 Main을 리플렉션으로 훑을 때 jdk.jfr 클래스를 읽지 않도록).
+     */
+    public static Session startSession(Path destination) throws IOException, ParseException {
+        return new Session(startRecording(destination));
+    }
+
+    /**
+     * 사용자 정의 이벤트 생성 여부 (false이면 호출하는 쪽은 이벤트를 만들지 않음)
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 진행 중인 녹화 (close 시 destination 파일로 저장)
+     */
+    public static final class Session implements AutoCloseable {
+        private final Recording recording;
+
+        private Session(Recording recording) {
+            this.recording = recording;
+        }
+
+        public Path getDestination() {
+            return recording.getDestination();
+        }
+
+        @Override
+        public void close() {
+            recording.stop();  // destination 파일로 저장됨
+            recording.close();
+        }
+    }
+
+    @Name("com.codeflow.Phase")
+    @Label("Analysis Phase")
+    @Description("분석 단계 (파일 탐색, 파싱, 인덱싱, 추적, 출력 등)")
+    @Category(CATEGORY)
+    public static class PhaseEvent extends Event {
+        @Label("Phase")
+        public String phase;
+
+        @Label("Items")
+        public long items;
+
+        @Label("Bytes")
+        @DataAmount
+        public long bytes;
+
+        @Label("Failures")
+        public long failures;
+    }
+
+    @Name("com.codeflow.JavaFileParse")
+    @Label("Java File Parse")
+    @Description("Java 소스 파일 1개 파싱")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class JavaFileParseEvent extends Event {
+        @Label("Path")
+        public String path;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+
+        @Label("Success")
+        public boolean success;
+    }
+
+    @Name("com.codeflow.MapperParse")
+    @Label("Mapper XML Parse")
+    @Description("iBatis/MyBatis SQL 매퍼 XML 1개 파싱")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class MapperParseEvent extends Event {
+        @Label("Path")
+        public String path;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+
+        @Label("SQL Count")
+        public int sqlCount;
+
+        @Label("Success")
+        public boolean success;
+    }
+
+    @Name("com.codeflow.EndpointTrace")
+    @Label("Endpoint Trace")
+    @Description("엔드포인트 1개의 호출 흐름 추적")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class EndpointTraceEvent extends Event {
+        @Label("URL")
+        public String url;
+
+        @Label("Controller")
+        public String controller;
+
+        @Label("Node Count")
+        public int nodeCount;
+
+        @Label("Max Depth")
+        public int maxDepth;
+    }
+
+    @Name("com.codeflow.ExportSheet")
+    @Label("Export Sheet")
+    @Description("엑셀 시트 1개 생성")
+    @Category(CATEGORY)
+    public static class ExportSheetEvent extends Event {
+        @Label("Sheet")
+        public String sheet;
+
+        @Label("Rows")
+        public int rows;
+    }
+}
@@ -0,0 +1,541 @@
+package com.codeflow.perf;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 분석 단계별 성능 측정 리포트
+ *
+ * 파일 탐색 / Java 파싱 / XML 파싱 / 인덱싱 / 호출 추적 / 필터링 / 출력 단계마다
+ * 경과 시간(wall), CPU 시간, 처리 개수, 바이트 수, 실패 수, 할당 바이트를 기록하고
+ * 가장 느린 파일 N개와 최대 힙 사용량을 함께 보관합니다.
+ *
+ * 사용 예:
+ * <pre>
+ * try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_JAVA_PARSE)) {
+ *     for (Path file : files) {
+ *         ...
+ *         perfReport.recordFile(phase, file, bytes, elapsedNanos, success);
+ *     }
+ * }
+ * </pre>
+ *
+ * 설계 결정:
+ * - CPU 시간/할당 바이트는 현재 스레드 기준 (ThreadMXBean) - 각 단계는 한 스레드에서 실행됨
+ * - 할당 바이트는 HotSpot 확장(com.sun.management.ThreadMXBean)이 없으면 -1
+ * - 최대 힙은 리포트 생성 시 힙 풀 peak를 초기화하고 완료 시 풀별 peak 합계로 계산 (근사치)
+ * - none()은 아무것도 기록하지 않는 리포트 (측정 비용 0, 기본값)
+ */
+public class PerfReport {
+
+    // 단계 이름 (JSON/화면 표시용)
+    public static final String PHASE_JAVA_DISCOVERY = "java-discovery";
+    public static final String PHASE_JAVA_PARSE = "java-parse";
+    public static final String PHASE_XML_DISCOVERY = "xml-discovery";
+    public static final String PHASE_XML_PARSE = "xml-parse";
+    public static final String PHASE_INDEXING = "indexing";
+    public static final String PHASE_CHANGE_IMPACT = "change-impact";
+    public static final String PHASE_TRACING = "tracing";
+    public static final String PHASE_FILTERING = "filtering";
+    public static final String PHASE_OUTPUT = "output";
+
+    // 카운터 이름 (단계에 속하지 않는 부가 집계)
+    public static final String COUNTER_JAVA_FULL_PARSE = "java-full-parse";
+    public static final String COUNTER_JAVA_LIGHT_PARSE = "java-light-parse";
+    public static final String COUNTER_JAVA_SKIPPED = "java-skipped";
+    public static final String COUNTER_JAVA_DECODE_FAILED = "java-decode-failed";
+    public static final String COUNTER_ARCHIVE_CACHE_HIT = "archive-cache-hit";  // 파싱 캐시에서 가져온 아카이브 항목 수
+    public static final String COUNTER_JAVA_CHARSET_PREFIX = "java-charset-";  // + 문자셋 이름 (파일 수)
+    public static final String COUNTER_PIPELINE_PREFIX = "pipeline-";          // + 큐 이름 + 측정 항목 (AnalysisPipeline)
+    public static final String COUNTER_SQL_FRAGMENTS = "sql-fragments";                  // 등록된 <sql> 조각 수
+    public static final String COUNTER_SQL_INCLUDE_RESOLVED = "sql-include-resolved";    // 펼친 <include> 수
+    public static final String COUNTER_SQL_INCLUDE_UNRESOLVED = "sql-include-unresolved"; // 조각을 찾지 못한 <include> 수
+    public static final String COUNTER_SQL_TEXT_BYTES = "sql-text-bytes";                // 임시 파일로 옮긴 쿼리 텍스트 (UTF-8 바이트)
+    public static final String COUNTER_CRUD_MATRIX_CELLS = "crud-matrix-cells";          // CRUD 매트릭스 셀 수 (엔드포인트 × 테이블)
+    public static final String COUNTER_IMPACT_CHANGED_METHODS = "impact-changed-methods"; // 변경 영향 분석: 바뀐 메서드 수 (DAO 포함)
+    public static final String COUNTER_IMPACT_ENDPOINTS = "impact-endpoints";             // 변경 영향 분석: 영향받는 엔드포인트 수
+    public static final String COUNTER_MODULES = "modules";                    // 멀티 모듈 프로젝트의 모듈 수
+    public static final String COUNTER_MODULE_CACHE_HIT = "module-cache-hit";  // 파싱 캐시에서 가져온 모듈 수
+    public static final String COUNTER_MODULE_PARSED = "module-parsed";        // 파일이 바뀌어 다시 파싱한 모듈 수
+    public static final String COUNTER_SYMBOL_POOL_SIZE = "symbol-pool-size";  // 공유 풀의 서로 다른 식별자 수
+    public static final String COUNTER_SYMBOL_POOL_HITS = "symbol-pool-hits";  // 공유 인스턴스로 바꾼 중복 문자열 수
+
+    private static final int DEFAULT_SLOWEST_FILE_COUNT = 20;
+
+    private final boolean enabled;
+    private final int slowestFileCount;
+    private final long startNanos;
+    private long totalWallNanos = -1;
+    private long peakHeapBytes = -1;
+
+    private final List<PhaseStats> phases = new ArrayList<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+    private final List<QuarantineStats> quarantinedFiles = new ArrayList<>();
+    private final PriorityQueue<FileStats> slowestFiles =
+        new PriorityQueue<>(Comparator.comparingLong(FileStats::getNanos));
+
+    public PerfReport() {
+        this(true, DEFAULT_SLOWEST_FILE_COUNT);
+    }
+
+    public PerfReport(int slowestFileCount) {
+        this(true, slowestFileCount);
+    }
+
+    private PerfReport(boolean enabled, int slowestFileCount) {
+        this.enabled = enabled;
+        this.slowestFileCount = slowestFileCount;
+        this.startNanos = System.nanoTime();
+        if (enabled) {
+            resetHeapPeaks();
+        }
+    }
+
+    /**
+     * 측정하지 않는 리포트 (파서/분석기 기본값)
+     */
+    public static PerfReport none() {
+        return new PerfReport(false, 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ===== 단계 측정 =====
+
+    /**
+     * 단계 측정 시작 (try-with-resources로 종료)
+     */
+    public PhaseTimer startPhase(String name) {
+        return new PhaseTimer(this, name);
+    }
+
+    /**
+     * 파일 1개 처리 결과 기록 (단계 카운트 + 느린 파일 목록)
+     */
+    public synchronized void recordFile(PhaseTimer phase, Path file, long bytes, long nanos, boolean success) {
+        if (!enabled) {
+            return;
+        }
+        phase.addItems(1);
+        phase.addBytes(bytes);
+        if (!success) {
+            phase.addFailures(1);
+        }
+
+        if (slowestFileCount <= 0) {
+            return;
+        }
+        if (slowestFiles.size() < slowestFileCount) {
+            slowestFiles.add(new FileStats(phase.name, file.toString(), bytes, nanos, success));
+        } else if (slowestFiles.peek().getNanos() < nanos) {
+            slowestFiles.poll();
+            slowestFiles.add(new FileStats(phase.name, file.toString(), bytes, nanos, success));
+        }
+    }
+
+    /**
+     * 카운터 증가 (빠른 파싱의 건너뛴 파일 수 등)
+     */
+    public synchronized void addCounter(String name, long delta) {
+        if (!enabled) {
+            return;
+        }
+        counters.merge(name, delta, Long::sum);
+    }
+
+    /**
+     * 파일별 한도를 넘어 격리된 파일 기록 (선언만 파싱 또는 건너뜀)
+     */
+    public synchronized void recordQuarantinedFile(String path, long bytes, String reason, String action) {
+        if (!enabled) {
+            return;
+        }
+        quarantinedFiles.add(new QuarantineStats(path, bytes, reason, action));
+    }
+
+    private synchronized void addPhase(PhaseStats stats) {
+        phases.add(stats);
+    }
+
+    /**
+     * 측정 완료 (전체 시간, 최대 힙 확정)
+     */
+    public synchronized void finish() {
+        if (!enabled) {
+            return;
+        }
+        totalWallNanos = System.nanoTime() - startNanos;
+        peakHeapBytes = readHeapPeak();
+    }
+
+    // ===== 조회 =====
+
+    public synchronized List<PhaseStats> getPhases() {
+        return new ArrayList<>(phases);
+    }
+
+    public synchronized Map<String, Long> getCounters() {
+        return new LinkedHashMap<>(counters);
+    }
+
+    public synchronized List<QuarantineStats> getQuarantinedFiles() {
+        return new ArrayList<>(quarantinedFiles);
+    }
+
+    /**
+     * 느린 파일 목록 (느린 순)
+     */
+    public synchronized List<FileStats> getSlowestFiles() {
+        List<FileStats> result = new ArrayList<>(slowestFiles);
+        result.sort(Comparator.comparingLong(FileStats::getNanos).reversed());
+        return result;
+    }
+
+    public long getTotalWallMillis() {
+        return totalWallNanos < 0 ? -1 : totalWallNanos / 1_000_000;
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    /**
+     * JSON 문자열로 변환 (--perf-report 출력용)
+     */
+    public String toJson() {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        return gson.toJson(toMap());
+    }
+
+    /**
+     * 로그/콘솔용 요약 텍스트
+     */
+    public String toSummaryText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("총 %,d ms, 최대 힙 %s%n", getTotalWallMillis(), formatBytes(peakHeapBytes)));
+        for (PhaseStats phase : getPhases()) {
+            sb.append(String.format("  %-15s wall %,8d ms | cpu %,8d ms | %,d개 | %s | 실패 %d | 할당 %s%n",
+                phase.getName(), phase.getWallMillis(), phase.getCpuMillis(), phase.getItemCount(),
+                formatBytes(phase.getBytes()), phase.getFailureCount(), formatBytes(phase.getAllocatedBytes())));
+        }
+        for (Map.Entry<String, Long> counter : getCounters().entrySet()) {
+            sb.append(String.format("  %-15s %,d%n", counter.getKey(), counter.getValue()));
+        }
+        List<QuarantineStats> quarantined = getQuarantinedFiles();
+        if (!quarantined.isEmpty()) {
+            sb.append(String.format("  격리된 파일 %d개%n", quarantined.size()));
+            for (QuarantineStats file : quarantined) {
+                sb.append(String.format("    %s (%s, %s, %s)%n",
+                    file.getPath(), formatBytes(file.getBytes()), file.getReason(), file.getAction()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * JSON 출력 구조 (일괄 분석 합산 리포트에 프로젝트별로 포함)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("totalWallMillis", getTotalWallMillis());
+        root.put("peakHeapBytes", peakHeapBytes);
+
+        List<Map<String, Object>> phaseList = new ArrayList<>();
+        for (PhaseStats phase : getPhases()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("name", phase.getName());
+            map.put("wallMillis", phase.getWallMillis());
+            map.put("cpuMillis", phase.getCpuMillis());
+            map.put("items", phase.getItemCount());
+            map.put("bytes", phase.getBytes());
+            map.put("failures", phase.getFailureCount());
+            map.put("allocatedBytes", phase.getAllocatedBytes());
+            phaseList.add(map);
+        }
+        root.put("phases", phaseList);
+        root.put("counters", getCounters());
+
+        List<Map<String, Object>> fileList = new ArrayList<>();
+        for (FileStats file : getSlowestFiles()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("phase", file.getPhase());
+            map.put("path", file.getPath());
+            map.put("bytes", file.getBytes());
+            map.put("millis", file.getMillis());
+            map.put("success", file.isSuccess());
+            fileList.add(map);
+        }
+        root.put("slowestFiles", fileList);
+
+        List<Map<String, Object>> quarantineList = new ArrayList<>();
+        for (QuarantineStats file : getQuarantinedFiles()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("path", file.getPath());
+            map.put("bytes", file.getBytes());
+            map.put("reason", file.getReason());
+            map.put("action", file.getAction());
+            quarantineList.add(map);
+        }
+        root.put("quarantinedFiles", quarantineList);
+        return root;
+    }
+
+    /**
+     * 바이트 수를 읽기 쉬운 단위로 변환 (-1은 "-")
+     */
+    public static String formatBytes(long bytes) {
+        if (bytes < 0) return "-";
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+        if (bytes < 1024L * 1024 * 1024) return String.format("%.1f MB", bytes / (1024.0 * 1024));
+        return String.format("%.2f GB", bytes / (1024.0 * 1024 * 1024));
+    }
+
+    // ===== JMX 헬퍼 =====
+
+    private static void resetHeapPeaks() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long readHeapPeak() {
+        long sum = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid() && pool.getPeakUsage() != null) {
+                sum += pool.getPeakUsage().getUsed();
+            }
+        }
+        return sum;
+    }
+
+    private static long currentThreadCpuNanos() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean.isCurrentThreadCpuTimeSupported()) {
+            return bean.getCurrentThreadCpuTime();
+        }
+        return -1;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) bean;
+            if (hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+                return hotspot.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    // ===== 내부 클래스 =====
+
+    /**
+     * 진행 중인 단계 측정
+     *
+     * close() 시점에 경과 시간/CPU/할당 바이트를 계산하여 리포트에 추가합니다.
+     * 리포트 활성화 여부와 관계없이 같은 구간을 JFR 단계 이벤트로도 기록합니다 (녹화 중일 때만).
+     */
+    public static class PhaseTimer implements AutoCloseable {
+        private final PerfReport report;
+        private final String name;
+        private final JfrEvents.PhaseEvent event = JfrEvents.isEnabled() ? new JfrEvents.PhaseEvent() : null;
+        private final long wallStart;
+        private final long cpuStart;
+        private final long allocStart;
+        private long items;
+        private long bytes;
+        private long failures;
+        private long workerCpuNanos;       // 작업 스레드(파이프라인)에서 쓴 CPU
+        private long workerAllocatedBytes; // 작업 스레드(파이프라인)에서 할당한 바이트
+        private boolean closed;
+
+        private PhaseTimer(PerfReport report, String name) {
+            this.report = report;
+            this.name = name;
+            this.wallStart = report.enabled ? System.nanoTime() : 0;
+            this.cpuStart = report.enabled ? currentThreadCpuNanos() : -1;
+            this.allocStart = report.enabled ? currentThreadAllocatedBytes() : -1;
+            if (event != null) {
+                event.begin();
+            }
+        }
+
+        public synchronized void addItems(long count) {
+            items += count;
+        }
+
+        public synchronized void addBytes(long count) {
+            bytes += count;
+        }
+
+        public synchronized void addFailures(long count) {
+            failures += count;
+        }
+
+        /**
+         * 작업 스레드에서 실행하고 그 스레드의 CPU/할당도 이 단계에 합산 (close 전에 끝나야 함)
+         *
+         * 스레드별 측정값이라, 다른 스레드가 처리한 몫은 이렇게 더하지 않으면 단계 측정에서 빠집니다.
+         */
+        public void runOnWorker(Runnable task) {
+            long cpuBefore = report.enabled ? currentThreadCpuNanos() : -1;
+            long allocBefore = report.enabled ? currentThreadAllocatedBytes() : -1;
+            try {
+                task.run();
+            } finally {
+                if (report.enabled) {
+                    long cpuAfter = currentThreadCpuNanos();
+                    long allocAfter = currentThreadAllocatedBytes();
+                    synchronized (this) {
+                        if (cpuBefore >= 0 && cpuAfter >= 0) {
+                            workerCpuNanos += cpuAfter - cpuBefore;
+                        }
+                        if (allocBefore >= 0 && allocAfter >= 0) {
+                            workerAllocatedBytes += allocAfter - allocBefore;
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            commitEvent();
+            if (!report.enabled) {
+                return;
+            }
+
+            long wall = System.nanoTime() - wallStart;
+            long cpuEnd = currentThreadCpuNanos();
+            long allocEnd = currentThreadAllocatedBytes();
+            long cpu = (cpuStart >= 0 && cpuEnd >= 0) ? cpuEnd - cpuStart : -1;
+            long alloc = (allocStart >= 0 && allocEnd >= 0) ? allocEnd - allocStart : -1;
+
+            synchronized (this) {
+                if (cpu >= 0) {
+                    cpu += workerCpuNanos;
+                }
+                if (alloc >= 0) {
+                    alloc += workerAllocatedBytes;
+                }
+                report.addPhase(new PhaseStats(name, wall, cpu, items, bytes, failures, alloc));
+            }
+        }
+
+        private synchronized void commitEvent() {
+            if (event == null) {
+                return;
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = name;
+                event.items = items;
+                event.bytes = bytes;
+                event.failures = failures;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 단계별 측정 결과
+     */
+    public static class PhaseStats {
+        private final String name;
+        private final long wallNanos;
+        private final long cpuNanos;
+        private final long itemCount;
+        private final long bytes;
+        private final long failureCount;
+        private final long allocatedBytes;
+
+        public PhaseStats(String name, long wallNanos, long cpuNanos, long itemCount,
+                          long bytes, long failureCount, long allocatedBytes) {
+            this.name = name;
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+            this.itemCount = itemCount;
+            this.bytes = bytes;
+            this.failureCount = failureCount;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() { return name; }
+        public long getWallNanos() { return wallNanos; }
+        public long getWallMillis() { return wallNanos / 1_000_000; }
+        public long getCpuMillis() { return cpuNanos < 0 ? -1 : cpuNanos / 1_000_000; }
+        public long getItemCount() { return itemCount; }
+        public long getBytes() { return bytes; }
+        public long getFailureCount() { return failureCount; }
+        public long getAllocatedBytes() { return allocatedBytes; }
+    }
+
+    /**
+     * 파일별 처리 시간 (느린 파일 목록용)
+     */
+    public static class FileStats {
+        private final String phase;
+        private final String path;
+        private final long bytes;
+        private final long nanos;
+        private final boolean success;
+
+        public FileStats(String phase, String path, long bytes, long nanos, boolean success) {
+            this.phase = phase;
+            this.path = path;
+            this.bytes = bytes;
+            this.nanos = nanos;
+            this.success = success;
+        }
+
+        public String getPhase() { return phase; }
+        public String getPath() { return path; }
+        public long getBytes() { return bytes; }
+        public long getNanos() { return nanos; }
+        public long getMillis() { return nanos / 1_000_000; }
+        public boolean isSuccess() { return success; }
+    }
+
+    /**
+     * 격리된 파일 (파일별 크기/시간 한도 초과)
+     */
+    public static class QuarantineStats {
+        private final String path;
+        private final long bytes;
+        private final String reason;
+        private final String action;
+
+        public QuarantineStats(String path, long bytes, String reason, String action) {
+            this.path = path;
+            this.bytes = bytes;
+            this.reason = reason;
+            this.action = action;
+        }
+
+        public String getPath() { return path; }
+        public long getBytes() { return bytes; }
+        public String getReason() { return reason; }
+        public String getAction() { return action; }
+    }
+}
@@ -0,0 +1,255 @@
+package com.codeflow.perf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시작 시간 벤치마크 (새 JVM 프로세스의 첫 출력까지 시간, 종료까지 시간)
+ *
+ * 데몬을 쓰지 않는 콘솔 분석은 JVM 기동과 클래스 로딩이 전체 시간의 큰 부분을 차지합니다.
+ * 같은 명령을 설정별로 여러 번 새 프로세스로 실행해 중앙값을 비교합니다.
+ *
+ * 비교 설정:
+ * - CDS 끔: -Xshare:off (JDK 클래스까지 모두 읽고 검증, 최악의 경우)
+ * - 기본: java -jar (JDK 기본 CDS 아카이브, JDK 클래스만 공유)
+ * - AppCDS: gradlew cdsArchive로 만든 동적 아카이브 (애플리케이션/라이브러리 클래스까지 공유)
+ *
+ * 설계 결정:
+ * - 설정을 번갈아 실행 → 디스크 캐시, CPU 클럭 변화가 한 설정에만 몰리지 않음 (설정별 첫 1회는 예열로 버림)
+ * - 첫 출력 = 표준 출력의 첫 바이트 (사용자가 반응을 보는 시점)
+ * - 기본 설정으로 1회 더 실행해 라이브러리별 로드 클래스 수 출력 (-Xlog:class+load) → 어느 기능이 기동을 무겁게 하는지 확인
+ */
+public class StartupBenchmark {
+
+    private static final int DEFAULT_RUNS = 10;
+
+    // 클래스 이름 접두사 → 라이브러리 (먼저 일치하는 항목)
+    private static final Map<String, String> LIBRARIES = new LinkedHashMap<>();
+
+    static {
+        LIBRARIES.put("com.codeflow.", "Code Flow Tracer");
+        LIBRARIES.put("picocli.", "picocli");
+        LIBRARIES.put("com.github.javaparser.", "JavaParser");
+        LIBRARIES.put("org.jdom2.", "JDOM");
+        LIBRARIES.put("com.google.gson.", "Gson");
+        LIBRARIES.put("jdk.jfr.", "JFR");
+        LIBRARIES.put("org.apache.poi.", "POI");
+        LIBRARIES.put("org.apache.xmlbeans.", "POI");
+        LIBRARIES.put("org.openxmlformats.", "POI");
+        LIBRARIES.put("com.formdev.flatlaf.", "FlatLaf");
+        LIBRARIES.put("javax.swing.", "Swing/AWT");
+        LIBRARIES.put("java.awt.", "Swing/AWT");
+        LIBRARIES.put("sun.awt.", "Swing/AWT");
+        LIBRARIES.put("org.slf4j.", "로깅");
+        LIBRARIES.put("ch.qos.logback.", "로깅");
+        LIBRARIES.put("java.", "JDK");
+        LIBRARIES.put("javax.", "JDK");
+        LIBRARIES.put("jdk.", "JDK");
+        LIBRARIES.put("sun.", "JDK");
+        LIBRARIES.put("com.sun.", "JDK");
+    }
+
+    /**
+     * 명령행 실행
+     *
+     * 사용법: StartupBenchmark &lt;jar&gt; &lt;아카이브(.jsa)&gt; [반복 횟수] [분석 옵션...]
+     * 예: StartupBenchmark build/libs/code-flow-tracer.jar build/libs/code-flow-tracer.jsa 10 -p samples --no-color
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.err.println("사용법: StartupBenchmark <jar> <아카이브(.jsa)> [반복 횟수] [분석 옵션...]");
+            System.exit(1);
+        }
+        Path jar = Paths.get(args[0]);
+        Path archive = Paths.get(args[1]);
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+        List<String> appArgs = args.length > 3 ? Arrays.asList(args).subList(3, args.length) : List.of("-p", "samples");
+        if (!Files.isRegularFile(jar)) {
+            System.err.println("오류: JAR 파일이 없습니다 - " + jar + " (gradlew shadowJar 먼저 실행)");
+            System.exit(1);
+        }
+
+        String java = javaExecutable();
+        Map<String, List<String>> configs = new LinkedHashMap<>();
+        configs.put("CDS 끔", command(java, List.of("-Xshare:off"), jar, appArgs));
+        configs.put("기본", command(java, List.of(), jar, appArgs));
+        if (Files.isRegularFile(archive)) {
+            configs.put("AppCDS", command(java, List.of("-XX:SharedArchiveFile=" + archive, "-Xshare:auto",
+                "-Xlog:cds=off", "-Xlog:cds+dynamic=off"), jar, appArgs));
+        } else {
+            System.out.println("AppCDS 아카이브가 없어 제외합니다 - " + archive + " (gradlew cdsArchive)");
+        }
+
+        Map<String, List<Timing>> timings = new LinkedHashMap<>();
+        configs.keySet().forEach(name -> timings.put(name, new ArrayList<>()));
+        Path workingDir = Paths.get("").toAbsolutePath();
+        for (int run = 0; run <= runs; run++) {
+            for (Map.Entry<String, List<String>> config : configs.entrySet()) {
+                Timing timing = measure(config.getValue(), workingDir);
+                if (timing.getExitCode() != 0) {
+                    System.err.println("경고: " + config.getKey() + " 실행이 종료 코드 " + timing.getExitCode() + "로 끝났습니다");
+                }
+                if (run > 0) {
+                    timings.get(config.getKey()).add(timing);
+                }
+            }
+        }
+
+        System.out.printf("시작 시간: java -jar %s %s (%d회 중앙값)%n", jar.getFileName(), String.join(" ", appArgs), runs);
+        System.out.printf("%-10s %12s %12s%n", "설정", "첫 출력(ms)", "종료(ms)");
+        long baseline = -1;
+        for (Map.Entry<String, List<Timing>> entry : timings.entrySet()) {
+            long first = median(entry.getValue(), true);
+            long exit = median(entry.getValue(), false);
+            String change = "";
+            if (baseline > 0 && !entry.getKey().equals("CDS 끔")) {
+                change = String.format("  (기본 대비 %+.0f%%)", (first - baseline) * 100.0 / baseline);
+            }
+            if (entry.getKey().equals("기본")) {
+                baseline = first;
+            }
+            System.out.printf("%-10s %12d %12d%s%n", entry.getKey(), first, exit, change);
+        }
+
+        List<String> classes = loadedClasses(configs.get("기본"), workingDir);
+        System.out.printf("%n로드 클래스 (기본 설정): %,d개%n", classes.size());
+        countByLibrary(classes).forEach((library, count) -> System.out.printf("  %-18s %,6d%n", library, count));
+    }
+
+    /**
+     * 명령 1회 실행 (표준 출력 첫 바이트까지, 종료까지 시간)
+     *
+     * @param command 실행할 명령 (java ... )
+     * @param workingDir 작업 디렉토리
+     */
+    public static Timing measure(List<String> command, Path workingDir) throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(command)
+            .directory(workingDir.toFile())
+            .redirectError(ProcessBuilder.Redirect.DISCARD);
+        long start = System.nanoTime();
+        Process process = builder.start();
+        long firstOutput = -1;
+        try (InputStream in = process.getInputStream()) {
+            if (in.read() >= 0) {
+                firstOutput = System.nanoTime() - start;
+            }
+            // 나머지 출력도 끝까지 읽어야 파이프가 차서 자식 프로세스가 멈추지 않음
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        int exitCode = process.waitFor();
+        long exit = System.nanoTime() - start;
+        return new Timing(firstOutput < 0 ? -1 : firstOutput / 1_000_000, exit / 1_000_000, exitCode);
+    }
+
+    /**
+     * 명령 1회 실행 중 로드된 클래스 이름 (-Xlog:class+load)
+     *
+     * @param command 실행할 명령 (첫 항목은 java 실행 파일)
+     */
+    public static List<String> loadedClasses(List<String> command, Path workingDir) throws IOException, InterruptedException {
+        Path log = Files.createTempFile("cft-classload", ".log");
+        try {
+            List<String> logged = new ArrayList<>(command);
+            // 경로는 따옴표로 감쌈 (Windows 경로의 ':'를 -Xlog 구분자로 읽지 않도록)
+            logged.add(1, "-Xlog:class+load=info:file=\"" + log + "\"");
+            measure(logged, workingDir);
+            List<String> classes = new ArrayList<>();
+            for (String line : Files.readAllLines(log, StandardCharsets.UTF_8)) {
+                int tag = line.indexOf("[class,load] ");
+                if (tag < 0) {
+                    continue;
+                }
+                int nameStart = tag + "[class,load] ".length();
+                int nameEnd = line.indexOf(' ', nameStart);
+                classes.add(nameEnd < 0 ? line.substring(nameStart) : line.substring(nameStart, nameEnd));
+            }
+            return classes;
+        } finally {
+            Files.deleteIfExists(log);
+        }
+    }
+
+    /**
+     * 라이브러리별 클래스 수 (많은 순)
+     */
+    public static Map<String, Integer> countByLibrary(List<String> classes) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String className : classes) {
+            counts.merge(libraryOf(className), 1, Integer::sum);
+        }
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    static String libraryOf(String className) {
+        for (Map.Entry<String, String> entry : LIBRARIES.entrySet()) {
+            if (className.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return "기타";
+    }
+
+    private static List<String> command(String java, List<String> jvmOptions, Path jar, List<String> appArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmOptions);
+        command.add("-Dfile.encoding=UTF-8");
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(appArgs);
+        return command;
+    }
+
+    /**
+     * 벤치마크를 실행 중인 JVM과 같은 java (AppCDS 아카이브는 만든 JDK에서만 사용 가능)
+     */
+    static String javaExecutable() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static long median(List<Timing> timings, boolean firstOutput) {
+        long[] values = timings.stream()
+            .mapToLong(timing -> firstOutput ? timing.getFirstOutputMillis() : timing.getExitMillis())
+            .sorted()
+            .toArray();
+        return values.length == 0 ? -1 : values[values.length / 2];
+    }
+
+    /**
+     * 실행 1회의 측정값
+     */
+    public static class Timing {
+        private final long firstOutputMillis;   // 출력이 없으면 -1
+        private final long exitMillis;
+        private final int exitCode;
+
+        Timing(long firstOutputMillis, long exitMillis, int exitCode) {
+            this.firstOutputMillis = firstOutputMillis;
+            this.exitMillis = exitMillis;
+            this.exitCode = exitCode;
+        }
+
+        public long getFirstOutputMillis() { return firstOutputMillis; }
+        public long getExitMillis() { return exitMillis; }
+        public int getExitCode() { return exitCode; }
+
+        @Override
+        public String toString() {
+            return String.format("첫 출력 %d ms, 종료 %d ms (exit %d)", firstOutputMillis, exitMillis, exitCode);
+        }
+    }
+}
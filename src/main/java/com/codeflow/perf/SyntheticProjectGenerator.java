@@ -0,0 +1,710 @@
+package com.codeflow.perf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 대규모 분석 테스트용 가상 프로젝트 생성기
+ *
+ * samples/ 는 20여 개 파일뿐이라 실제 고객 규모(클래스 1만 개, SQL 4만 개)를 재현할 수 없습니다.
+ * 이 클래스는 전자정부프레임워크/Spring 스타일의 프로젝트를 원하는 크기로 생성합니다.
+ * JMH 벤치마크와 대규모 테스트에서 1x, 10x, 100x 입력으로 사용합니다.
+ *
+ * 생성 구조 (모듈 = 도메인 하나):
+ * <pre>
+ * src/main/java/egovframework/gen/{module}/web/XxxController.java
+ * src/main/java/egovframework/gen/{module}/service/XxxService.java          (인터페이스)
+ * src/main/java/egovframework/gen/{module}/service/impl/XxxServiceImpl.java
+ * src/main/java/egovframework/gen/{module}/service/impl/XxxDAO.java         (iBatis, EgovAbstractDAO)
+ * src/main/java/egovframework/gen/{module}/service/impl/XxxMapper.java      (MyBatis, EgovAbstractMapper)
+ * src/main/java/egovframework/gen/common/service/CommonXxxService.java      (공통 유틸 서비스)
+ * src/main/resources/egovframework/sqlmap/{module}/Xxx_SQL.xml              (iBatis sqlMap)
+ * src/main/resources/egovframework/mapper/{module}/Xxx_SQL.xml              (MyBatis mapper)
+ * </pre>
+ *
+ * 설계 결정:
+ * - JavaSourceParser/IBatisParser가 인식하는 관례만 사용 (@Controller, @Service("xxxService"),
+ *   @Resource 필드 주입, list("ns.id", param) 형태의 SQL 호출)
+ * - 서비스는 depth개의 계층으로 나누고, 각 계층은 다음 계층 서비스를 호출 (호출 깊이 재현)
+ * - 공통 서비스는 여러 서비스에서 호출 (같은 하위 트리가 반복되는 실제 프로젝트 패턴)
+ * - cycles 수만큼 서비스 쌍이 서로를 호출 (순환 참조 처리 검증)
+ * - 같은 Spec이면 항상 같은 파일 생성 (seed 고정 Random)
+ */
+public class SyntheticProjectGenerator {
+
+    private static final String BASE_PACKAGE = "egovframework.gen";
+
+    // 클래스명에 사용할 도메인 단어 (인덱스를 붙여 고유 이름 생성)
+    private static final String[] DOMAINS = {
+        "User", "Order", "Product", "Stock", "Payment", "Delivery", "Dept", "Notice",
+        "Board", "Member", "Code", "Auth", "Menu", "Report", "Contract", "Account"
+    };
+
+    // SQL 유형별 메서드 접두사 (iBatis 호출 메서드, MyBatis 호출 메서드)
+    private static final String[][] SQL_KINDS = {
+        {"select", "List", "list", "selectList"},
+        {"select", "", "select", "selectOne"},
+        {"insert", "", "insert", "insert"},
+        {"update", "", "update", "update"},
+        {"delete", "", "delete", "delete"}
+    };
+
+    private final Spec spec;
+    private final Random random;
+
+    public SyntheticProjectGenerator(Spec spec) {
+        this.spec = spec;
+        this.random = new Random(spec.getSeed());
+    }
+
+    /**
+     * 명령행 실행
+     *
+     * 사용법: SyntheticProjectGenerator &lt;출력 디렉토리&gt; [배율]
+     * 예: SyntheticProjectGenerator build/generated/x10 10
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("사용법: SyntheticProjectGenerator <출력 디렉토리> [배율]");
+            System.exit(1);
+        }
+        int scale = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        Summary summary = new SyntheticProjectGenerator(Spec.scaled(scale)).generate(Paths.get(args[0]));
+        System.out.println(summary);
+    }
+
+    /**
+     * 프로젝트 생성
+     *
+     * @param outputDir 출력 디렉토리 (없으면 생성, 같은 경로의 기존 파일은 덮어씀)
+     * @return 생성 결과 요약
+     */
+    public Summary generate(Path outputDir) throws IOException {
+        Summary summary = new Summary();
+        Path javaRoot = outputDir.resolve("src/main/java").resolve(BASE_PACKAGE.replace('.', '/'));
+        Path resourceRoot = outputDir.resolve("src/main/resources/egovframework");
+
+        // 1. 데이터 접근 계층 (iBatis DAO + MyBatis Mapper)
+        List<DataAccess> dataAccesses = new ArrayList<>();
+        int totalDataAccess = spec.getDaoCount() + spec.getMybatisMapperCount();
+        for (int i = 0; i < totalDataAccess; i++) {
+            boolean mybatis = i >= spec.getDaoCount();
+            DataAccess da = new DataAccess(domainName(i), mybatis);
+            for (int s = 0; s < spec.getSqlPerMapper(); s++) {
+                String[] kind = SQL_KINDS[s % SQL_KINDS.length];
+                da.sqlIds.add(kind[0] + da.domain + kind[1] + (s / SQL_KINDS.length == 0 ? "" : s / SQL_KINDS.length));
+                da.sqlKinds.add(kind);
+            }
+            writeDataAccess(javaRoot, da, summary);
+            writeSqlMapper(resourceRoot, da, summary);
+            dataAccesses.add(da);
+        }
+
+        // 2. 공통 유틸 서비스 (여러 서비스에서 공유)
+        List<ServiceDef> sharedServices = new ArrayList<>();
+        for (int i = 0; i < spec.getSharedServiceCount(); i++) {
+            ServiceDef shared = new ServiceDef("Common" + domainName(i), -1);
+            if (!dataAccesses.isEmpty()) {
+                shared.dependencies.add(pick(dataAccesses));
+            }
+            for (int m = 0; m < spec.getMethodsPerService(); m++) {
+                shared.methods.add("get" + shared.name + "Info" + m);
+            }
+            sharedServices.add(shared);
+        }
+
+        // 3. 업무 서비스 (depth개 계층, 인터페이스 + Impl)
+        List<ServiceDef> services = new ArrayList<>();
+        int depth = Math.max(1, spec.getDepth());
+        for (int i = 0; i < spec.getServiceCount(); i++) {
+            ServiceDef service = new ServiceDef(domainName(i) + "Biz", i % depth);
+            for (int m = 0; m < spec.getMethodsPerService(); m++) {
+                service.methods.add(methodVerb(m) + service.name + m);
+            }
+            services.add(service);
+        }
+        for (int i = 0; i < services.size(); i++) {
+            ServiceDef service = services.get(i);
+            if (!dataAccesses.isEmpty()) {
+                service.dependencies.add(dataAccesses.get(i % dataAccesses.size()));
+            }
+            List<ServiceDef> nextLayer = layer(services, service.layer + 1);
+            for (int m = 0; m < service.methods.size(); m++) {
+                List<Call> calls = new ArrayList<>();
+                for (int f = 0; f < spec.getFanOut(); f++) {
+                    int roll = random.nextInt(10);
+                    if (roll < 4 && !nextLayer.isEmpty()) {
+                        calls.add(service.callService(pick(nextLayer), random));
+                    } else if (roll < 5 && !sharedServices.isEmpty()) {
+                        calls.add(service.callService(pick(sharedServices), random));
+                    } else if (!service.dependencies.isEmpty()) {
+                        calls.add(service.callDataAccess((DataAccess) service.dependencies.get(0), random));
+                    }
+                }
+                service.calls.add(calls);
+            }
+        }
+        // 순환 참조: 서비스 쌍이 첫 번째 메서드에서 서로를 호출
+        for (int c = 0; c < spec.getCycleCount() && services.size() >= 2; c++) {
+            ServiceDef a = services.get((2 * c) % services.size());
+            ServiceDef b = services.get((2 * c + 1) % services.size());
+            a.calls.get(0).add(a.callServiceMethod(b, 0));
+            b.calls.get(0).add(b.callServiceMethod(a, 0));
+        }
+        for (ServiceDef shared : sharedServices) {
+            for (int m = 0; m < shared.methods.size(); m++) {
+                List<Call> calls = new ArrayList<>();
+                if (!shared.dependencies.isEmpty()) {
+                    calls.add(shared.callDataAccess((DataAccess) shared.dependencies.get(0), random));
+                }
+                shared.calls.add(calls);
+            }
+            writeSharedService(javaRoot, shared, summary);
+        }
+        for (ServiceDef service : services) {
+            writeService(javaRoot, service, summary);
+        }
+
+        // 4. Controller (최상위 계층 서비스 호출)
+        List<ServiceDef> topLayer = layer(services, 0);
+        for (int i = 0; i < spec.getControllerCount(); i++) {
+            writeController(javaRoot, domainName(i), i, topLayer, sharedServices, summary);
+        }
+
+        return summary;
+    }
+
+    // ========== Java 파일 생성 ==========
+
+    private void writeController(Path javaRoot, String domain, int index, List<ServiceDef> topLayer,
+                                 List<ServiceDef> sharedServices, Summary summary) throws IOException {
+        String className = domain + "Controller";
+        String module = moduleName(domain);
+        String pkg = BASE_PACKAGE + "." + module + ".web";
+
+        // 엔드포인트별 호출 대상 결정
+        List<ServiceDef> fields = new ArrayList<>();
+        List<Call> calls = new ArrayList<>();
+        for (int e = 0; e < spec.getEndpointsPerController(); e++) {
+            if (topLayer.isEmpty()) {
+                calls.add(null);
+                continue;
+            }
+            ServiceDef target = topLayer.get((index + e) % topLayer.size());
+            if (!fields.contains(target)) {
+                fields.add(target);
+            }
+            calls.add(new Call(target.fieldName(), target.methods.get(e % target.methods.size())));
+        }
+        ServiceDef shared = sharedServices.isEmpty() ? null : sharedServices.get(index % sharedServices.size());
+        if (shared != null) {
+            fields.add(shared);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(pkg).append(";\n\n");
+        for (ServiceDef field : fields) {
+            sb.append("import ").append(field.interfaceFqcn()).append(";\n");
+        }
+        sb.append("import org.springframework.stereotype.Controller;\n")
+          .append("import org.springframework.ui.ModelMap;\n")
+          .append("import org.springframework.web.bind.annotation.GetMapping;\n")
+          .append("import org.springframework.web.bind.annotation.PostMapping;\n")
+          .append("import org.springframework.web.bind.annotation.RequestMapping;\n")
+          .append("import org.springframework.web.bind.annotation.RequestParam;\n\n")
+          .append("import javax.annotation.Resource;\n\n")
+          .append("/**\n * ").append(domain).append(" 관리 Controller (자동 생성)\n */\n")
+          .append("@Controller\n")
+          .append("@RequestMapping(\"/").append(module).append("\")\n")
+          .append("public class ").append(className).append(" {\n");
+        for (ServiceDef field : fields) {
+            appendResourceField(sb, field.interfaceName(), field.fieldName());
+        }
+
+        for (int e = 0; e < calls.size(); e++) {
+            boolean post = e % 3 == 2;
+            String action = post ? "save" + e : "view" + e;
+            sb.append("\n    /**\n     * ").append(domain).append(" 화면 ").append(e).append("\n     */\n")
+              .append("    @").append(post ? "PostMapping" : "GetMapping")
+              .append("(\"/").append(action).append(".do\")\n")
+              .append("    public String ").append(action)
+              .append("(@RequestParam(\"id\") String id, ModelMap model) throws Exception {\n");
+            Call call = calls.get(e);
+            if (call != null) {
+                sb.append("        Object result = ").append(call.scope).append('.').append(call.method).append("(id);\n")
+                  .append("        model.addAttribute(\"result\", result);\n");
+            }
+            if (shared != null && e % 2 == 0) {
+                sb.append("        model.addAttribute(\"info\", ").append(shared.fieldName()).append('.')
+                  .append(shared.methods.get(e % shared.methods.size())).append("(id));\n");
+            }
+            sb.append("        return \"").append(module).append('/').append(action).append("\";\n")
+              .append("    }\n");
+            summary.endpointCount++;
+        }
+        sb.append("}\n");
+
+        writeJava(javaRoot.resolve(module).resolve("web"), className, sb, summary);
+        summary.controllerCount++;
+    }
+
+    private void writeService(Path javaRoot, ServiceDef service, Summary summary) throws IOException {
+        String module = moduleName(service.name);
+        Path serviceDir = javaRoot.resolve(module).resolve("service");
+
+        // 인터페이스
+        StringBuilder api = new StringBuilder();
+        api.append("package ").append(service.interfacePackage()).append(";\n\n")
+           .append("/**\n * ").append(service.name).append(" Service 인터페이스 (자동 생성)\n */\n")
+           .append("public interface ").append(service.interfaceName()).append(" {\n");
+        for (String method : service.methods) {
+            api.append("\n    Object ").append(method).append("(String id) throws Exception;\n");
+        }
+        api.append("}\n");
+        writeJava(serviceDir, service.interfaceName(), api, summary);
+
+        // 구현체
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(service.interfacePackage()).append(".impl;\n\n");
+        appendDependencyImports(sb, service);
+        sb.append("import ").append(service.interfaceFqcn()).append(";\n")
+          .append("import egovframework.rte.fdl.cmmn.EgovAbstractServiceImpl;\n")
+          .append("import org.springframework.stereotype.Service;\n\n")
+          .append("import javax.annotation.Resource;\n\n")
+          .append("/**\n * ").append(service.name).append(" Service 구현체 (자동 생성)\n */\n")
+          .append("@Service(\"").append(service.fieldName()).append("\")\n")
+          .append("public class ").append(service.interfaceName()).append("Impl extends EgovAbstractServiceImpl implements ")
+          .append(service.interfaceName()).append(" {\n");
+        appendDependencyFields(sb, service);
+        appendServiceMethods(sb, service, true);
+        sb.append("}\n");
+        writeJava(serviceDir.resolve("impl"), service.interfaceName() + "Impl", sb, summary);
+        summary.serviceCount++;
+    }
+
+    private void writeSharedService(Path javaRoot, ServiceDef service, Summary summary) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(service.interfacePackage()).append(";\n\n");
+        appendDependencyImports(sb, service);
+        sb.append("import org.springframework.stereotype.Service;\n\n")
+          .append("import javax.annotation.Resource;\n\n")
+          .append("/**\n * ").append(service.name).append(" 공통 Service (자동 생성)\n */\n")
+          .append("@Service(\"").append(service.fieldName()).append("\")\n")
+          .append("public class ").append(service.interfaceName()).append(" {\n");
+        appendDependencyFields(sb, service);
+        appendServiceMethods(sb, service, false);
+        sb.append("}\n");
+        writeJava(javaRoot.resolve("common").resolve("service"), service.interfaceName(), sb, summary);
+        summary.serviceCount++;
+    }
+
+    private void appendDependencyImports(StringBuilder sb, ServiceDef service) {
+        for (Object dependency : service.dependencies) {
+            String fqcn = dependency instanceof DataAccess
+                ? ((DataAccess) dependency).fqcn()
+                : ((ServiceDef) dependency).interfaceFqcn();
+            if (!fqcn.startsWith(service.interfacePackage() + ".impl.")) {
+                sb.append("import ").append(fqcn).append(";\n");
+            }
+        }
+    }
+
+    private void appendDependencyFields(StringBuilder sb, ServiceDef service) {
+        for (Object dependency : service.dependencies) {
+            if (dependency instanceof DataAccess) {
+                DataAccess da = (DataAccess) dependency;
+                appendResourceField(sb, da.className(), da.fieldName());
+            } else {
+                ServiceDef other = (ServiceDef) dependency;
+                appendResourceField(sb, other.interfaceName(), other.fieldName());
+            }
+        }
+    }
+
+    private void appendServiceMethods(StringBuilder sb, ServiceDef service, boolean override) {
+        for (int m = 0; m < service.methods.size(); m++) {
+            sb.append('\n');
+            if (override) {
+                sb.append("    @Override\n");
+            }
+            sb.append("    public Object ").append(service.methods.get(m)).append("(String id) throws Exception {\n")
+              .append("        Object result = null;\n");
+            for (Call call : service.calls.get(m)) {
+                sb.append("        result = ").append(call.scope).append('.').append(call.method).append("(id);\n");
+            }
+            sb.append("        return result;\n")
+              .append("    }\n");
+        }
+    }
+
+    private void writeDataAccess(Path javaRoot, DataAccess da, Summary summary) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        String parent = da.mybatis ? "EgovAbstractMapper" : "EgovAbstractDAO";
+        String parentPackage = da.mybatis ? "egovframework.rte.psl.dataaccess.EgovAbstractMapper"
+                                          : "egovframework.rte.psl.dataaccess.EgovAbstractDAO";
+        sb.append("package ").append(da.packageName()).append(";\n\n")
+          .append("import ").append(parentPackage).append(";\n")
+          .append("import org.springframework.stereotype.Repository;\n\n")
+          .append("/**\n * ").append(da.domain).append(da.mybatis ? " MyBatis Mapper" : " DAO").append(" (자동 생성)\n */\n")
+          .append("@Repository(\"").append(da.fieldName()).append("\")\n")
+          .append("public class ").append(da.className()).append(" extends ").append(parent).append(" {\n");
+        for (int s = 0; s < da.sqlIds.size(); s++) {
+            String[] kind = da.sqlKinds.get(s);
+            String invoke = da.mybatis ? kind[3] : kind[2];
+            sb.append("\n    public Object ").append(da.sqlIds.get(s)).append("(Object param) throws Exception {\n")
+              .append("        return ").append(invoke).append("(\"").append(da.namespace()).append('.')
+              .append(da.sqlIds.get(s)).append("\", param);\n")
+              .append("    }\n");
+        }
+        sb.append("}\n");
+        writeJava(javaRoot.resolve(moduleName(da.domain)).resolve("service").resolve("impl"), da.className(), sb, summary);
+        summary.daoCount++;
+    }
+
+    private void appendResourceField(StringBuilder sb, String type, String name) {
+        sb.append("\n    @Resource(name = \"").append(name).append("\")\n")
+          .append("    private ").append(type).append(' ').append(name).append(";\n");
+    }
+
+    private void writeJava(Path dir, String className, StringBuilder source, Summary summary) throws IOException {
+        Files.createDirectories(dir);
+        byte[] bytes = source.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(dir.resolve(className + ".java"), bytes);
+        summary.javaFileCount++;
+        summary.totalBytes += bytes.length;
+    }
+
+    // ========== SQL 매퍼 XML 생성 ==========
+
+    private void writeSqlMapper(Path resourceRoot, DataAccess da, Summary summary) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        if (da.mybatis) {
+            sb.append("<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" ")
+              .append("\"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n\n")
+              .append("<mapper namespace=\"").append(da.namespace()).append("\">\n");
+        } else {
+            sb.append("<!DOCTYPE sqlMap PUBLIC \"-//iBATIS.com//DTD SQL Map 2.0//EN\" ")
+              .append("\"http://www.ibatis.com/dtd/sql-map-2.dtd\">\n\n")
+              .append("<sqlMap namespace=\"").append(da.namespace()).append("\">\n");
+        }
+
+        for (int s = 0; s < da.sqlIds.size(); s++) {
+            String tag = da.sqlKinds.get(s)[0];
+            String mainTable = tableName(random.nextInt(spec.getTableCount()));
+            sb.append("\n    <!-- ").append(da.domain).append(" SQL ").append(s).append(" -->\n")
+              .append("    <").append(tag).append(" id=\"").append(da.sqlIds.get(s)).append('"');
+            if (tag.equals("select")) {
+                sb.append(da.mybatis ? " resultType=\"egovMap\"" : " resultClass=\"egovMap\"");
+            }
+            sb.append(">\n");
+            appendQuery(sb, tag, mainTable, da.mybatis);
+            sb.append("    </").append(tag).append(">\n");
+            summary.sqlCount++;
+        }
+        sb.append(da.mybatis ? "</mapper>\n" : "</sqlMap>\n");
+
+        Path dir = resourceRoot.resolve(da.mybatis ? "mapper" : "sqlmap").resolve(moduleName(da.domain));
+        Files.createDirectories(dir);
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(dir.resolve(da.domain + "_SQL.xml"), bytes);
+        summary.xmlFileCount++;
+        summary.totalBytes += bytes.length;
+    }
+
+    private void appendQuery(StringBuilder sb, String tag, String table, boolean mybatis) {
+        String param = mybatis ? "#{id}" : "#id#";
+        switch (tag) {
+            case "insert":
+                sb.append("        INSERT INTO ").append(table).append(" (ID, NAME, REG_DATE)\n")
+                  .append("        VALUES (").append(param).append(", 'N/A', SYSDATE)\n");
+                return;
+            case "update":
+                sb.append("        UPDATE ").append(table).append("\n")
+                  .append("           SET MOD_DATE = SYSDATE\n")
+                  .append("         WHERE ID = ").append(param).append('\n');
+                return;
+            case "delete":
+                sb.append("        DELETE FROM ").append(table).append(" WHERE ID = ").append(param).append('\n');
+                return;
+            default:
+                break;
+        }
+
+        // SELECT: 일부는 JOIN과 동적 조건 포함
+        sb.append("        SELECT A.ID, A.NAME, A.REG_DATE\n")
+          .append("          FROM ").append(table).append(" A\n");
+        if (random.nextInt(3) == 0) {
+            String joinTable = tableName(random.nextInt(spec.getTableCount()));
+            sb.append("          LEFT OUTER JOIN ").append(joinTable).append(" B ON A.ID = B.ID\n");
+        }
+        sb.append("         WHERE A.USE_YN = 'Y'\n");
+        if (random.nextBoolean()) {
+            if (mybatis) {
+                sb.append("        <if test=\"id != null and id != ''\">\n")
+                  .append("           AND A.ID = #{id}\n")
+                  .append("        </if>\n");
+            } else {
+                sb.append("        <isNotEmpty property=\"id\">\n")
+                  .append("           AND A.ID = #id#\n")
+                  .append("        </isNotEmpty>\n");
+            }
+        }
+        sb.append("         ORDER BY A.REG_DATE DESC\n");
+    }
+
+    // ========== 이름 규칙 ==========
+
+    private static String domainName(int index) {
+        return DOMAINS[index % DOMAINS.length] + (index / DOMAINS.length + 1);
+    }
+
+    private static String moduleName(String domain) {
+        return domain.toLowerCase();
+    }
+
+    private static String tableName(int index) {
+        return String.format("TB_%s_%03d", DOMAINS[index % DOMAINS.length].toUpperCase(), index);
+    }
+
+    private static String methodVerb(int index) {
+        String[] verbs = {"select", "process", "register", "modify", "remove", "check"};
+        return verbs[index % verbs.length];
+    }
+
+    private static String lowerFirst(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private <T> T pick(List<T> list) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+    private static List<ServiceDef> layer(List<ServiceDef> services, int layer) {
+        List<ServiceDef> result = new ArrayList<>();
+        for (ServiceDef service : services) {
+            if (service.layer == layer) {
+                result.add(service);
+            }
+        }
+        return result;
+    }
+
+    // ========== 내부 모델 ==========
+
+    /**
+     * 메서드 호출 (scope.method(id))
+     */
+    private static class Call {
+        final String scope;
+        final String method;
+
+        Call(String scope, String method) {
+            this.scope = scope;
+            this.method = method;
+        }
+    }
+
+    /**
+     * iBatis DAO 또는 MyBatis Mapper
+     */
+    private static class DataAccess {
+        final String domain;
+        final boolean mybatis;
+        final List<String> sqlIds = new ArrayList<>();
+        final List<String[]> sqlKinds = new ArrayList<>();
+
+        DataAccess(String domain, boolean mybatis) {
+            this.domain = domain;
+            this.mybatis = mybatis;
+        }
+
+        String className() {
+            return domain + (mybatis ? "Mapper" : "DAO");
+        }
+
+        String fieldName() {
+            return lowerFirst(className());
+        }
+
+        String namespace() {
+            return fieldName();
+        }
+
+        String packageName() {
+            return BASE_PACKAGE + "." + moduleName(domain) + ".service.impl";
+        }
+
+        String fqcn() {
+            return packageName() + "." + className();
+        }
+    }
+
+    /**
+     * 업무 서비스 (layer >= 0, 인터페이스 + Impl) 또는 공통 서비스 (layer = -1, 클래스만)
+     */
+    private static class ServiceDef {
+        final String name;
+        final int layer;
+        final List<String> methods = new ArrayList<>();
+        final List<List<Call>> calls = new ArrayList<>();
+        // DataAccess 또는 ServiceDef (필드 주입 대상)
+        final List<Object> dependencies = new ArrayList<>();
+
+        ServiceDef(String name, int layer) {
+            this.name = name;
+            this.layer = layer;
+        }
+
+        boolean isShared() {
+            return layer < 0;
+        }
+
+        String interfaceName() {
+            return name + "Service";
+        }
+
+        String fieldName() {
+            return lowerFirst(interfaceName());
+        }
+
+        String interfacePackage() {
+            return isShared() ? BASE_PACKAGE + ".common.service"
+                              : BASE_PACKAGE + "." + moduleName(name) + ".service";
+        }
+
+        String interfaceFqcn() {
+            return interfacePackage() + "." + interfaceName();
+        }
+
+        Call callService(ServiceDef target, Random random) {
+            return callServiceMethod(target, random.nextInt(target.methods.size()));
+        }
+
+        Call callServiceMethod(ServiceDef target, int methodIndex) {
+            if (!dependencies.contains(target)) {
+                dependencies.add(target);
+            }
+            return new Call(target.fieldName(), target.methods.get(methodIndex));
+        }
+
+        Call callDataAccess(DataAccess target, Random random) {
+            return new Call(target.fieldName(), target.sqlIds.get(random.nextInt(target.sqlIds.size())));
+        }
+    }
+
+    /**
+     * 생성 규모 설정
+     *
+     * 기본값은 1x 규모 (Controller 20개, SQL 약 200개).
+     * scaled(n)은 모든 개수를 n배로 늘리고 fan-out/depth는 유지합니다.
+     */
+    public static class Spec {
+        private int controllerCount = 20;
+        private int endpointsPerController = 5;
+        private int serviceCount = 20;
+        private int methodsPerService = 6;
+        private int daoCount = 15;
+        private int mybatisMapperCount = 5;
+        private int sqlPerMapper = 10;
+        private int tableCount = 30;
+        private int fanOut = 3;
+        private int depth = 3;
+        private int sharedServiceCount = 3;
+        private int cycleCount = 2;
+        private long seed = 42L;
+
+        /**
+         * 기본 규모의 n배 설정
+         */
+        public static Spec scaled(int factor) {
+            if (factor < 1) {
+                throw new IllegalArgumentException("배율은 1 이상이어야 합니다: " + factor);
+            }
+            Spec spec = new Spec();
+            spec.controllerCount *= factor;
+            spec.serviceCount *= factor;
+            spec.daoCount *= factor;
+            spec.mybatisMapperCount *= factor;
+            spec.tableCount *= factor;
+            spec.sharedServiceCount *= factor;
+            spec.cycleCount *= factor;
+            return spec;
+        }
+
+        public int getControllerCount() { return controllerCount; }
+        public void setControllerCount(int controllerCount) { this.controllerCount = controllerCount; }
+
+        public int getEndpointsPerController() { return endpointsPerController; }
+        public void setEndpointsPerController(int endpointsPerController) { this.endpointsPerController = endpointsPerController; }
+
+        public int getServiceCount() { return serviceCount; }
+        public void setServiceCount(int serviceCount) { this.serviceCount = serviceCount; }
+
+        public int getMethodsPerService() { return methodsPerService; }
+        public void setMethodsPerService(int methodsPerService) { this.methodsPerService = methodsPerService; }
+
+        public int getDaoCount() { return daoCount; }
+        public void setDaoCount(int daoCount) { this.daoCount = daoCount; }
+
+        public int getMybatisMapperCount() { return mybatisMapperCount; }
+        public void setMybatisMapperCount(int mybatisMapperCount) { this.mybatisMapperCount = mybatisMapperCount; }
+
+        public int getSqlPerMapper() { return sqlPerMapper; }
+        public void setSqlPerMapper(int sqlPerMapper) { this.sqlPerMapper = sqlPerMapper; }
+
+        public int getTableCount() { return tableCount; }
+        public void setTableCount(int tableCount) { this.tableCount = tableCount; }
+
+        public int getFanOut() { return fanOut; }
+        public void setFanOut(int fanOut) { this.fanOut = fanOut; }
+
+        public int getDepth() { return depth; }
+        public void setDepth(int depth) { this.depth = depth; }
+
+        public int getSharedServiceCount() { return sharedServiceCount; }
+        public void setSharedServiceCount(int sharedServiceCount) { this.sharedServiceCount = sharedServiceCount; }
+
+        public int getCycleCount() { return cycleCount; }
+        public void setCycleCount(int cycleCount) { this.cycleCount = cycleCount; }
+
+        public long getSeed() { return seed; }
+        public void setSeed(long seed) { this.seed = seed; }
+    }
+
+    /**
+     * 생성 결과 요약
+     */
+    public static class Summary {
+        private int javaFileCount;
+        private int xmlFileCount;
+        private int controllerCount;
+        private int serviceCount;
+        private int daoCount;
+        private int endpointCount;
+        private int sqlCount;
+        private long totalBytes;
+
+        public int getJavaFileCount() { return javaFileCount; }
+        public int getXmlFileCount() { return xmlFileCount; }
+        public int getControllerCount() { return controllerCount; }
+        public int getServiceCount() { return serviceCount; }
+        public int getDaoCount() { return daoCount; }
+        public int getEndpointCount() { return endpointCount; }
+        public int getSqlCount() { return sqlCount; }
+        public long getTotalBytes() { return totalBytes; }
+
+        @Override
+        public String toString() {
+            return String.format("Java %,d개, XML %,d개 (%s) - Controller %,d, Service %,d, DAO %,d, 엔드포인트 %,d, SQL %,d",
+                javaFileCount, xmlFileCount, PerfReport.formatBytes(totalBytes),
+                controllerCount, serviceCount, daoCount, endpointCount, sqlCount);
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package com.codeflow.pipeline;
+
+import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.analyzer.FlowResult;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.SqlInfo;
+import com.codeflow.perf.PerfReport;
+import com.codeflow.util.CancellationToken;
+import com.codeflow.util.ProgressListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 단계별 분석 파이프라인 (생산자/소비자)
+ *
+ * parseProject()로 전체 목록을 만든 뒤 분석하는 대신, 단계를 고정 크기 큐로 연결하여 동시에 진행합니다.
+ *
+ * <pre>
+ * 파일 탐색(호출 스레드) → 전달(1) → [read 큐] → 읽기(R) → [parse 큐] → 파싱(P) → [index 큐] → 인덱싱(호출 스레드)
+ * SQL 카탈로그(1): iBatis/MyBatis XML 파싱을 Java 단계와 동시에 진행
+ * → 모두 끝나면 인터페이스 매핑 + 호출 흐름 추적 (FlowAnalyzer.analyzeIndexed)
+ * </pre>
+ *
+ * 설계 결정:
+ * - 큐가 가득 차면 앞 단계가 기다림 (백프레셔), 인덱싱보다 재정렬 창 크기 이상 앞선 파일은 전달하지 않음
+ *   → 읽어 둔 소스/AST와 재정렬 대기 결과는 창 크기(큐 크기, 최소 읽기+파싱 스레드 수)만큼만 메모리에 존재
+ * - 재정렬 창은 전달 단계에서 적용 (파싱 단계에서 기다리면 parse 큐가 가득 찬 읽기 스레드와 서로 기다릴 수 있음)
+ * - 성능 리포트 단계: 탐색은 java-discovery, 읽기~인덱싱은 java-parse, SQL은 IBatisParser의 xml-* 단계
+ * - 단계별 스레드 수를 따로 지정 (읽기는 I/O라 1~2개, 파싱은 CPU 코어 수만큼)
+ * - 스레드마다 작업용 파서(JavaSourceParser.newWorker) 사용, 끝나면 집계를 원래 파서에 합침
+ * - 인덱싱은 파일 경로순으로 (순서 번호로 재정렬) → 순차 처리(parseProject + analyze)와 결과가 같음
+ * - 호출 흐름 추적은 전체 인덱스가 있어야 하므로 마지막에 한 번 실행 (스트리밍 대상 아님)
+ * - 큐마다 깊이/대기 시간을 측정하여 병목 단계를 확인 (getQueueStats, 성능 리포트 카운터)
+ * - 파서/분석기 설정(한도, 캐시, 취소 토큰 등)은 호출하는 쪽에서 각각 지정
+ */
+public class AnalysisPipeline {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    // 인덱싱 단계가 큐를 기다리면서 취소/오류를 확인하는 간격
+    private static final long POLL_MILLIS = 100;
+
+    private final JavaSourceParser parser;
+    private final IBatisParser ibatisParser;
+    private final FlowAnalyzer analyzer;
+
+    private int readThreads = 1;
+    private int parseThreads = defaultParseThreads();
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private CancellationToken cancellationToken = CancellationToken.none();
+    private ProgressListener progressListener = ProgressListener.NONE;
+    private PerfReport perfReport = PerfReport.none();
+
+    // 실행 결과
+    private List<ParsedClass> parsedClasses = new ArrayList<>();
+    private Map<String, SqlInfo> sqlInfoMap = new HashMap<>();
+    private List<StageQueue.QueueStats> queueStats = new ArrayList<>();
+
+    public AnalysisPipeline(JavaSourceParser parser, IBatisParser ibatisParser, FlowAnalyzer analyzer) {
+        this.parser = parser;
+        this.ibatisParser = ibatisParser;
+        this.analyzer = analyzer;
+    }
+
+    /**
+     * 파싱 스레드 기본값 (인덱싱 스레드 몫으로 코어 1개를 남김)
+     */
+    public static int defaultParseThreads() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    public void setReadThreads(int readThreads) {
+        this.readThreads = Math.max(1, readThreads);
+    }
+
+    public void setParseThreads(int parseThreads) {
+        this.parseThreads = Math.max(1, parseThreads);
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public void setPerfReport(PerfReport perfReport) {
+        this.perfReport = perfReport;
+    }
+
+    public int getReadThreads() {
+        return readThreads;
+    }
+
+    public int getParseThreads() {
+        return parseThreads;
+    }
+
+    /**
+     * 파싱된 클래스 (파일 경로순)
+     */
+    public List<ParsedClass> getParsedClasses() {
+        return parsedClasses;
+    }
+
+    public Map<String, SqlInfo> getSqlInfoMap() {
+        return sqlInfoMap;
+    }
+
+    /**
+     * 큐별 측정 결과 (read → parse → index 순)
+     */
+    public List<StageQueue.QueueStats> getQueueStats() {
+        return queueStats;
+    }
+
+    /**
+     * 프로젝트 분석 (파이프라인 실행 → 호출 흐름 추적)
+     *
+     * @throws CancellationException 취소 토큰이 취소된 경우
+     */
+    public FlowResult analyze(Path projectPath) throws IOException {
+        run(projectPath);
+        return analyzer.analyzeIndexed(projectPath);
+    }
+
+    /**
+     * 파이프라인 실행: Java 파싱 + 인덱싱, SQL 카탈로그 생성
+     *
+     * 끝나면 분석기에 인덱스와 SQL 정보가 채워져 있습니다 (analyzeIndexed 호출 가능).
+     */
+    public void run(Path projectPath) throws IOException {
+        StageQueue<Slot<Path>> readQueue = new StageQueue<>("read", queueCapacity);
+        StageQueue<Slot<JavaSourceParser.LoadedFile>> parseQueue = new StageQueue<>("parse", queueCapacity);
+        StageQueue<Slot<ParsedClass>> indexQueue = new StageQueue<>("index", queueCapacity);
+        // 파싱 스레드마다 1개씩은 앞서 나갈 수 있어야 하므로 최소 읽기 + 파싱 스레드 수
+        ReorderWindow window = new ReorderWindow(Math.max(queueCapacity, readThreads + parseThreads));
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicReference<Map<String, SqlInfo>> sqlResult = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        List<JavaSourceParser> workers = new ArrayList<>();
+        List<ParsedClass> indexed = new ArrayList<>();
+        boolean completed = false;
+
+        // SQL 카탈로그: Java 단계와 독립적이므로 처음부터 동시에 진행
+        // (java-parse 단계 밖에서 join → XML 작업은 IBatisParser의 xml-discovery/xml-parse 단계로만 측정)
+        Thread sqlThread = startThread("cft-sql", failure,
+            () -> sqlResult.set(ibatisParser.parseProject(projectPath)));
+        try {
+            // 1. 파일 탐색 (경로순 정렬까지 끝나야 순서 번호를 붙일 수 있으므로 호출 스레드에서 먼저)
+            List<Path> javaFiles;
+            try (PerfReport.PhaseTimer discovery = perfReport.startPhase(PerfReport.PHASE_JAVA_DISCOVERY)) {
+                javaFiles = parser.findJavaFiles(projectPath);
+                discovery.addItems(javaFiles.size());
+            }
+            int totalFiles = javaFiles.size();
+
+            try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_JAVA_PARSE)) {
+                // 순서 번호를 붙여 전달 (재정렬 창을 넘어서면 인덱싱이 따라올 때까지 기다림)
+                threads.add(startThread("cft-feed", failure, () -> {
+                    for (int i = 0; i < totalFiles; i++) {
+                        cancellationToken.throwIfCancelled();
+                        window.await(i);
+                        readQueue.put(new Slot<>(i, javaFiles.get(i), 0));
+                    }
+                    for (int i = 0; i < readThreads; i++) {
+                        readQueue.put(Slot.end());
+                    }
+                }));
+
+                // 2. 읽기 (마지막으로 끝나는 읽기 스레드가 파싱 스레드 수만큼 종료 표시 전달)
+                AtomicInteger activeReaders = new AtomicInteger(readThreads);
+                for (int r = 0; r < readThreads; r++) {
+                    JavaSourceParser worker = parser.newWorker();
+                    workers.add(worker);
+                    threads.add(startThread("cft-read-" + (r + 1), failure, () -> phase.runOnWorker(() ->
+                        runStage(() -> {
+                            for (Slot<Path> slot = readQueue.take(); !slot.isEnd(); slot = readQueue.take()) {
+                                cancellationToken.throwIfCancelled();
+                                long start = System.nanoTime();
+                                JavaSourceParser.LoadedFile file = worker.readFile(projectPath, slot.value);
+                                parseQueue.put(new Slot<>(slot.seq, file, System.nanoTime() - start));
+                            }
+                            if (activeReaders.decrementAndGet() == 0) {
+                                for (int i = 0; i < parseThreads; i++) {
+                                    parseQueue.put(Slot.end());
+                                }
+                            }
+                        }))));
+                }
+
+                // 3. 파싱 (파일마다 결과 1개 - 건너뛰었거나 실패하면 null - 를 전달해야 인덱싱 순서가 이어짐)
+                for (int p = 0; p < parseThreads; p++) {
+                    JavaSourceParser worker = parser.newWorker();
+                    workers.add(worker);
+                    threads.add(startThread("cft-parse-" + (p + 1), failure, () -> phase.runOnWorker(() ->
+                        runStage(() -> {
+                            for (Slot<JavaSourceParser.LoadedFile> slot = parseQueue.take(); !slot.isEnd();
+                                 slot = parseQueue.take()) {
+                                cancellationToken.throwIfCancelled();
+                                // 처리 시간 = 읽기 + 파싱 (큐 대기 제외)
+                                long start = System.nanoTime() - slot.nanos;
+                                ParsedClass parsed = worker.parseRecorded(phase, slot.value, start);
+                                indexQueue.put(new Slot<>(slot.seq, parsed, 0));
+                            }
+                        }))));
+                }
+
+                // 4. 인덱싱 (호출 스레드, 순서 번호로 재정렬하여 경로순으로)
+                analyzer.beginIndex();
+                Map<Integer, Slot<ParsedClass>> pending = new HashMap<>();
+                int next = 0;
+                while (next < totalFiles) {
+                    checkFailure(failure);
+                    cancellationToken.throwIfCancelled();
+
+                    Slot<ParsedClass> slot = indexQueue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (slot == null) {
+                        continue;
+                    }
+                    pending.put(slot.seq, slot);
+                    for (Slot<ParsedClass> ready = pending.remove(next); ready != null; ready = pending.remove(next)) {
+                        if (ready.value != null) {
+                            analyzer.indexClass(ready.value);
+                            indexed.add(ready.value);
+                        }
+                        next++;
+                        progressListener.onProgress(ProgressListener.Phase.JAVA_PARSE, next, totalFiles);
+                    }
+                    window.advance(next);
+                }
+
+                // 작업 스레드의 CPU/집계가 모두 반영된 뒤 단계 종료
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                checkFailure(failure);
+            }
+
+            sqlThread.join();
+            checkFailure(failure);
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("분석이 취소되었습니다");
+        } finally {
+            if (!completed) {
+                // 오류/취소: 큐/재정렬 창에서 기다리는 스레드를 깨워 종료 (파싱 중인 파일은 끝난 뒤 종료)
+                threads.forEach(Thread::interrupt);
+                sqlThread.interrupt();
+                parser.closeArchives();
+            }
+        }
+
+        for (JavaSourceParser worker : workers) {
+            parser.mergeWorker(worker);
+        }
+        parser.finishProject();
+
+        parsedClasses = indexed;
+        sqlInfoMap = sqlResult.get();
+        analyzer.setSqlInfoMap(sqlInfoMap);
+
+        queueStats = List.of(readQueue.getStats(), parseQueue.getStats(), indexQueue.getStats());
+        recordCounters(window);
+    }
+
+    /**
+     * 큐 측정값을 성능 리포트 카운터로 기록 (pipeline-<큐>-max-depth 등)
+     */
+    private void recordCounters(ReorderWindow window) {
+        perfReport.addCounter(PerfReport.COUNTER_PIPELINE_PREFIX + "read-threads", readThreads);
+        perfReport.addCounter(PerfReport.COUNTER_PIPELINE_PREFIX + "parse-threads", parseThreads);
+        perfReport.addCounter(PerfReport.COUNTER_PIPELINE_PREFIX + "reorder-window", window.size);
+        perfReport.addCounter(PerfReport.COUNTER_PIPELINE_PREFIX + "reorder-wait-ms",
+            TimeUnit.NANOSECONDS.toMillis(window.waitNanos));
+        for (StageQueue.QueueStats stats : queueStats) {
+            String prefix = PerfReport.COUNTER_PIPELINE_PREFIX + stats.getName() + "-";
+            perfReport.addCounter(prefix + "max-depth", stats.getMaxDepth());
+            perfReport.addCounter(prefix + "avg-depth", Math.round(stats.getAverageDepth()));
+            perfReport.addCounter(prefix + "put-blocked-ms", stats.getPutBlockedMillis());
+            perfReport.addCounter(prefix + "take-wait-ms", stats.getTakeWaitMillis());
+        }
+    }
+
+    /**
+     * 단계 스레드 시작 (데몬 - 오류로 남은 스레드가 JVM 종료를 막지 않도록)
+     *
+     * 예외는 failure에 담아 인덱싱 단계(호출 스레드)에서 다시 던집니다.
+     */
+    private static Thread startThread(String name, AtomicReference<Throwable> failure, StageTask task) {
+        Thread thread = new Thread(() -> {
+            try {
+                task.run();
+            } catch (InterruptedException e) {
+                // 다른 단계의 오류/취소로 종료
+            } catch (Throwable t) {
+                if (!(t instanceof StageException && t.getCause() instanceof InterruptedException)) {
+                    failure.compareAndSet(null, t);
+                }
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * 검사 예외를 던지는 단계 작업을 Runnable(PhaseTimer.runOnWorker)로 감싸기
+     */
+    private static void runStage(StageTask task) {
+        try {
+            task.run();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new StageException(e);
+        }
+    }
+
+    private static void checkFailure(AtomicReference<Throwable> failure) throws IOException {
+        Throwable t = failure.get();
+        if (t instanceof StageException) {
+            t = t.getCause();
+        }
+        if (t == null) {
+            return;
+        }
+        if (t instanceof IOException) {
+            throw (IOException) t;
+        }
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw new IOException(t);
+    }
+
+    /**
+     * 재정렬 창: 인덱싱이 next번까지 끝났으면 next + size 미만 번호만 전달
+     *
+     * 인덱싱이 기다리는 파일보다 뒤의 결과가 재정렬 버퍼(pending)에 무한히 쌓이지 않도록 합니다.
+     */
+    private static class ReorderWindow {
+        private final int size;
+        private int next = 0;
+        private long waitNanos = 0;
+
+        ReorderWindow(int size) {
+            this.size = size;
+        }
+
+        synchronized void await(int seq) throws InterruptedException {
+            if (seq - next < size) {
+                return;
+            }
+            long start = System.nanoTime();
+            while (seq - next >= size) {
+                wait();
+            }
+            waitNanos += System.nanoTime() - start;
+        }
+
+        synchronized void advance(int next) {
+            if (next > this.next) {
+                this.next = next;
+                notifyAll();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface StageTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * runStage에서 검사 예외를 전달하기 위한 래퍼
+     */
+    private static class StageException extends RuntimeException {
+        StageException(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * 큐 항목 (파일 순서 번호 + 값, seq < 0이면 종료 표시)
+     */
+    private static class Slot<T> {
+        private static final Slot<?> END = new Slot<>(-1, null, 0);
+
+        private final int seq;
+        private final T value;
+        private final long nanos;   // 앞 단계 처리 시간 (읽기 → 파싱 전달용)
+
+        Slot(int seq, T value, long nanos) {
+            this.seq = seq;
+            this.value = value;
+            this.nanos = nanos;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Slot<T> end() {
+            return (Slot<T>) END;
+        }
+
+        boolean isEnd() {
+            return seq < 0;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.codeflow.pipeline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파이프라인 단계 사이의 고정 크기 큐 (깊이/대기 시간 측정)
+ *
+ * 큐가 가득 차면 put()이 막혀서 앞 단계가 뒤 단계 속도에 맞춰집니다 (백프레셔).
+ * 그래서 읽기가 파싱보다 빨라도 읽어 둔 소스가 큐 크기 이상 쌓이지 않습니다.
+ *
+ * 병목 판단:
+ * - put 대기가 길고 평균 깊이가 용량에 가까움 → 뒤 단계(소비자)가 병목
+ * - take 대기가 길고 평균 깊이가 0에 가까움 → 앞 단계(생산자)가 병목
+ *
+ * @param <T> 전달할 항목
+ */
+public class StageQueue<T> {
+
+    private final String name;
+    private final int capacity;
+    private final BlockingQueue<T> queue;
+
+    // 측정값 (여러 스레드에서 갱신하므로 this로 동기화)
+    private long putCount;
+    private long depthSum;          // put 직후 깊이 합 (평균 깊이 계산용)
+    private int maxDepth;
+    private long putBlockedNanos;   // 큐가 가득 차서 생산자가 기다린 시간 합
+    private long takeWaitNanos;     // 큐가 비어서 소비자가 기다린 시간 합
+
+    StageQueue(String name, int capacity) {
+        this.name = name;
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 항목 추가 (가득 차 있으면 자리가 날 때까지 대기)
+     */
+    void put(T item) throws InterruptedException {
+        long blocked = 0;
+        if (!queue.offer(item)) {
+            long start = System.nanoTime();
+            queue.put(item);
+            blocked = System.nanoTime() - start;
+        }
+        int depth = queue.size();
+        synchronized (this) {
+            putCount++;
+            depthSum += depth;
+            maxDepth = Math.max(maxDepth, depth);
+            putBlockedNanos += blocked;
+        }
+    }
+
+    /**
+     * 항목 꺼내기 (비어 있으면 들어올 때까지 대기)
+     */
+    T take() throws InterruptedException {
+        T item = queue.poll();
+        if (item != null) {
+            return item;
+        }
+        long start = System.nanoTime();
+        item = queue.take();
+        addTakeWait(System.nanoTime() - start);
+        return item;
+    }
+
+    /**
+     * 항목 꺼내기 (timeout 동안 없으면 null - 취소/오류 확인용)
+     */
+    T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        T item = queue.poll();
+        if (item != null) {
+            return item;
+        }
+        long start = System.nanoTime();
+        item = queue.poll(timeout, unit);
+        addTakeWait(System.nanoTime() - start);
+        return item;
+    }
+
+    private synchronized void addTakeWait(long nanos) {
+        takeWaitNanos += nanos;
+    }
+
+    synchronized QueueStats getStats() {
+        double averageDepth = putCount == 0 ? 0 : (double) depthSum / putCount;
+        return new QueueStats(name, capacity, putCount, maxDepth, averageDepth,
+            putBlockedNanos / 1_000_000, takeWaitNanos / 1_000_000);
+    }
+
+    /**
+     * 큐 측정 결과
+     */
+    public static class QueueStats {
+        private final String name;
+        private final int capacity;
+        private final long itemCount;
+        private final int maxDepth;
+        private final double averageDepth;
+        private final long putBlockedMillis;
+        private final long takeWaitMillis;
+
+        QueueStats(String name, int capacity, long itemCount, int maxDepth, double averageDepth,
+                   long putBlockedMillis, long takeWaitMillis) {
+            this.name = name;
+            this.capacity = capacity;
+            this.itemCount = itemCount;
+            this.maxDepth = maxDepth;
+            this.averageDepth = averageDepth;
+            this.putBlockedMillis = putBlockedMillis;
+            this.takeWaitMillis = takeWaitMillis;
+        }
+
+        public String getName() { return name; }
+        public int getCapacity() { return capacity; }
+        public long getItemCount() { return itemCount; }
+        public int getMaxDepth() { return maxDepth; }
+        public double getAverageDepth() { return averageDepth; }
+        public long getPutBlockedMillis() { return putBlockedMillis; }
+        public long getTakeWaitMillis() { return takeWaitMillis; }
+
+        @Override
+        public String toString() {
+            return String.format("%-6s 깊이 평균 %.1f / 최대 %d / 용량 %d | 생산자 대기 %,d ms | 소비자 대기 %,d ms | %,d개",
+                name, averageDepth, maxDepth, capacity, putBlockedMillis, takeWaitMillis, itemCount);
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package com.codeflow.session;
 
+import com.codeflow.analyzer.FlowNode;
 import com.codeflow.analyzer.FlowResult;
+import com.codeflow.parser.SqlInfo;
 import com.codeflow.util.CftLogger;
+import com.codeflow.util.SymbolPool;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -44,6 +53,7 @@ public class SessionManager {
         return new GsonBuilder()
                 .setPrettyPrinting()
                 .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+                .registerTypeAdapter(SqlInfo.class, new SqlInfoSerializer())
                 .create();
     }
 
@@ -67,8 +77,7 @@ public class SessionManager {
             }
 
             // JSON으로 직렬화 및 저장
-            String json = gson.toJson(data);
-            Files.writeString(SESSION_FILE, json, StandardCharsets.UTF_8);
+            writeJson(data, SESSION_FILE);
 
             log.info("세션 저장 완료: %s (%d flows)",
                     SESSION_FILE,
@@ -81,6 +90,20 @@ public class SessionManager {
         }
     }
 
+    /**
+     * 세션 데이터를 지정한 파일에 JSON으로 저장
+     *
+     * saveSession()과 같은 형식이며, 세션 디렉토리가 아닌 경로로 내보낼 때 사용합니다.
+     *
+     * @param data 저장할 세션 데이터
+     * @param file 저장할 파일 경로
+     */
+    public void writeJson(SessionData data, Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            gson.toJson(data, writer);
+        }
+    }
+
     /**
      * 세션 불러오기 (분석 결과 포함)
      *
@@ -97,6 +120,11 @@ public class SessionManager {
             SessionData data = gson.fromJson(json, SessionData.class);
 
             if (data != null && data.isValid()) {
+                // 노드마다 따로 만들어진 클래스명/경로/SQL 문자열을 공유 (풀은 불러오기가 끝나면 버림)
+                SymbolPool symbols = new SymbolPool();
+                for (FlowNode flow : data.getFlowResult().getFlows()) {
+                    flow.internSymbols(symbols);
+                }
                 log.info("세션 로드 완료: %s (%d flows)",
                         data.getProjectPath(),
                         data.getFlowResult().getFlows().size());
@@ -235,6 +263,23 @@ public class SessionManager {
         return saveSession(data);
     }
 
+    /**
+     * SqlInfo 직렬화 - 임시 파일(SqlTextStore)로 옮긴 쿼리도 텍스트로 저장
+     * (세션을 불러오는 시점에는 임시 파일이 없으므로, 불러온 SqlInfo는 쿼리를 직접 보관)
+     */
+    private static class SqlInfoSerializer implements JsonSerializer<SqlInfo> {
+        private final Gson plain = new Gson();
+
+        @Override
+        public JsonElement serialize(SqlInfo src, Type typeOfSrc, JsonSerializationContext context) {
+            JsonObject json = plain.toJsonTree(src).getAsJsonObject();
+            if (!json.has("query") && src.getQuery() != null) {
+                json.addProperty("query", src.getQuery());
+            }
+            return json;
+        }
+    }
+
     /**
      * LocalDateTime TypeAdapter for Gson
      */
@@ -6,11 +6,17 @@ import com.codeflow.analyzer.FlowResult;
 import com.codeflow.output.ExcelOutput;
 import com.codeflow.parser.IBatisParser;
 import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ParseCache;
 import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.QuarantinedFile;
 import com.codeflow.parser.SqlInfo;
+import com.codeflow.perf.PerfReport;
 import com.codeflow.session.SessionData;
 import com.codeflow.session.SessionManager;
+import com.codeflow.util.CancellationToken;
 import com.codeflow.util.CftLogger;
+import com.codeflow.util.ProgressListener;
+import com.codeflow.util.SearchIndex;
 
 import com.formdev.flatlaf.FlatDarculaLaf;
 
@@ -28,8 +34,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Code Flow Tracer GUI 메인 프레임
@@ -73,6 +83,22 @@ public class MainFrame extends JFrame {
     private JLabel tableCountLabel;
     private List<String> allTableNames = new ArrayList<>();
 
+    // 목록 검색 (n-gram 인덱스 + 디바운스)
+    // - 인덱스 구축과 검색은 단일 백그라운드 스레드에서 순서대로 실행 (EDT 블로킹 방지)
+    // - 검색 순번(seq)으로 늦게 도착한 이전 검색 결과는 버림
+    private static final int SEARCH_DEBOUNCE_MS = 120;
+    private final ExecutorService searchExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "cft-list-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile SearchIndex endpointSearchIndex = new SearchIndex();
+    private volatile SearchIndex tableSearchIndex = new SearchIndex();
+    private javax.swing.Timer endpointSearchTimer;
+    private javax.swing.Timer tableSearchTimer;
+    private int endpointSearchSeq = 0;   // EDT에서만 접근
+    private int tableSearchSeq = 0;      // EDT에서만 접근
+
     // 분석 요약 패널
     private JPanel summaryPanel;
     private JPanel summaryCardPanel;      // CardLayout으로 전환되는 요약 패널
@@ -121,6 +147,7 @@ public class MainFrame extends JFrame {
     private JTabbedPane resultTabbedPane;
     private ResultPanel resultPanel;
     private TableImpactPanel tableImpactPanel;
+    private PerfReportPanel perfReportPanel;
 
     // 진행 상태
     private JProgressBar progressBar;
@@ -137,10 +164,12 @@ public class MainFrame extends JFrame {
     // 로깅 및 에러 핸들링
     private final CftLogger logger = CftLogger.getInstance();
     private SwingWorker<FlowResult, String> currentWorker;  // 취소용 참조
+    private CancellationToken currentCancellationToken;      // 파서/분석기 내부 취소용
     private javax.swing.Timer analysisTimeoutTimer;          // 타임아웃 타이머
     private boolean isAnalyzing = false;                     // 분석 중 상태
     private long analysisStartTime;                          // 분석 시작 시간 (소요시간 계산용)
     private static final int DEFAULT_TIMEOUT_MINUTES = 5;    // 기본 타임아웃 (5분)
+    private static final long PROGRESS_PUBLISH_INTERVAL_MS = 100;  // 진행 메시지 갱신 간격
 
     // 색상 상수
     private static final Color COLOR_SECTION_LABEL = new Color(78, 201, 176);  // 청록
@@ -257,11 +286,13 @@ public class MainFrame extends JFrame {
         // 결과 패널
         resultPanel = new ResultPanel();
         tableImpactPanel = new TableImpactPanel();
+        perfReportPanel = new PerfReportPanel();
 
-        // 탭 패널 (호출 흐름 + 테이블 영향도)
+        // 탭 패널 (호출 흐름 + 테이블 영향도 + 성능)
         resultTabbedPane = new JTabbedPane();
         resultTabbedPane.addTab("호출 흐름", resultPanel);
         resultTabbedPane.addTab("테이블 영향도", tableImpactPanel);
+        resultTabbedPane.addTab("성능", perfReportPanel);
         resultTabbedPane.setFont(resultTabbedPane.getFont().deriveFont(13f));
 
         // 진행 상태
@@ -287,6 +318,12 @@ public class MainFrame extends JFrame {
         tableList = new JList<>(tableListModel);
         tableList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         tableCountLabel = new JLabel("0개 테이블");
+
+        // 검색 디바운스 타이머 (마지막 입력 후 SEARCH_DEBOUNCE_MS 뒤 1회 실행)
+        endpointSearchTimer = new javax.swing.Timer(SEARCH_DEBOUNCE_MS, e -> filterEndpointList());
+        endpointSearchTimer.setRepeats(false);
+        tableSearchTimer = new javax.swing.Timer(SEARCH_DEBOUNCE_MS, e -> filterTableList());
+        tableSearchTimer.setRepeats(false);
     }
 
     /**
@@ -792,11 +829,11 @@ public class MainFrame extends JFrame {
         // 엔드포인트 검색 필터링
         endpointSearchField.getDocument().addDocumentListener(new DocumentListener() {
             @Override
-            public void insertUpdate(DocumentEvent e) { filterEndpointList(); }
+            public void insertUpdate(DocumentEvent e) { endpointSearchTimer.restart(); }
             @Override
-            public void removeUpdate(DocumentEvent e) { filterEndpointList(); }
+            public void removeUpdate(DocumentEvent e) { endpointSearchTimer.restart(); }
             @Override
-            public void changedUpdate(DocumentEvent e) { filterEndpointList(); }
+            public void changedUpdate(DocumentEvent e) { endpointSearchTimer.restart(); }
         });
 
         // CRUD 타입 체크박스 실시간 필터링
@@ -808,8 +845,8 @@ public class MainFrame extends JFrame {
         // 탭 전환 시 왼쪽 패널, 분석 요약, URL 필터 변경
         resultTabbedPane.addChangeListener(e -> {
             int selectedIndex = resultTabbedPane.getSelectedIndex();
-            if (selectedIndex == 0) {
-                // 호출 흐름 탭 → 엔드포인트 목록, 클래스 통계, URL 필터 표시
+            if (selectedIndex != 1) {
+                // 호출 흐름/성능 탭 → 엔드포인트 목록, 클래스 통계, URL 필터 표시
                 leftCardLayout.show(leftCardPanel, CARD_ENDPOINT);
                 summaryCardLayout.show(summaryCardPanel, SUMMARY_CLASS);
                 urlFilterPanel.setVisible(true);
@@ -851,11 +888,11 @@ public class MainFrame extends JFrame {
         // 테이블 검색 필터링
         tableSearchField.getDocument().addDocumentListener(new DocumentListener() {
             @Override
-            public void insertUpdate(DocumentEvent e) { filterTableList(); }
+            public void insertUpdate(DocumentEvent e) { tableSearchTimer.restart(); }
             @Override
-            public void removeUpdate(DocumentEvent e) { filterTableList(); }
+            public void removeUpdate(DocumentEvent e) { tableSearchTimer.restart(); }
             @Override
-            public void changedUpdate(DocumentEvent e) { filterTableList(); }
+            public void changedUpdate(DocumentEvent e) { tableSearchTimer.restart(); }
         });
     }
 
@@ -1017,9 +1054,13 @@ public class MainFrame extends JFrame {
                 rbNormal.setSelected(true);
                 endpointListModel.clear();  // 왼쪽 엔드포인트 목록 초기화
                 tableListModel.clear();     // 왼쪽 테이블 목록 초기화
+                allEndpoints.clear();
                 allTableNames.clear();
+                rebuildEndpointSearchIndex(new ArrayList<>());
+                rebuildTableSearchIndex(allTableNames);
                 resultPanel.clear();  // 분석 결과 화면도 초기화
                 tableImpactPanel.clear();  // 테이블 영향도 초기화
+                perfReportPanel.clear();   // 성능 리포트 초기화
                 originalResult = null;  // 원본 결과 초기화
                 currentResult = null;  // 분석 결과 객체도 초기화
                 tableCountLabel.setText("0개 테이블");
@@ -1135,6 +1176,7 @@ public class MainFrame extends JFrame {
      */
     private void cancelAnalysis() {
         if (currentWorker != null && !currentWorker.isDone()) {
+            currentCancellationToken.cancel();  // 파서/분석기 루프 즉시 중단
             currentWorker.cancel(true);
             logger.logAnalysisCancelled();
         }
@@ -1195,6 +1237,7 @@ public class MainFrame extends JFrame {
         statusLabel.setText("프로젝트를 분석하고 있습니다...");
         resultPanel.clear();
         tableImpactPanel.clear();
+        perfReportPanel.clear();
 
         // 분석 중 상태 표시 (패널은 유지, 값만 초기화)
         lblTotalClasses.setText("-");
@@ -1206,7 +1249,29 @@ public class MainFrame extends JFrame {
         // 타임아웃 타이머 설정 (기본 5분)
         setupTimeoutTimer();
 
+        // 취소 토큰: 취소 버튼/타임아웃 시 파서/분석기 내부 루프까지 전달
+        CancellationToken cancellationToken = new CancellationToken();
+        currentCancellationToken = cancellationToken;
+
+        // 단계별 성능 측정 (성능 탭, 로그에 표시)
+        PerfReport perfReport = new PerfReport();
+
         currentWorker = new SwingWorker<>() {
+            private long lastPublishTime = 0;
+            // 원본 결과의 테이블 영향도 인덱스 (분기 분석 포함, doInBackground에서 생성 → done()에서 사용)
+            private Map<String, FlowAnalyzer.TableImpact> tableIndex;
+
+            /**
+             * 진행 상황 → 상태 메시지 (파일마다 호출되므로 일정 간격으로만 publish)
+             */
+            private final ProgressListener progressListener = (phase, current, total) -> {
+                long now = System.currentTimeMillis();
+                if (current == total || now - lastPublishTime >= PROGRESS_PUBLISH_INTERVAL_MS) {
+                    lastPublishTime = now;
+                    publish(phase.format(current, total));
+                }
+            };
+
             @Override
             protected FlowResult doInBackground() throws Exception {
                 // 1단계: Java 소스 파싱
@@ -1216,8 +1281,18 @@ public class MainFrame extends JFrame {
                 if (isCancelled()) return null;  // 취소 체크
 
                 JavaSourceParser parser = new JavaSourceParser();
+                parser.setCancellationToken(cancellationToken);
+                parser.setProgressListener(progressListener);
+                parser.setPerfReport(perfReport);
+                parser.setParseCache(ParseCache.forProject(projectPath));
                 List<ParsedClass> parsedClasses = parser.parseProject(projectPath);
                 logger.info("Java 파싱 완료: %d개 클래스", parsedClasses.size());
+                for (QuarantinedFile quarantined : parser.getQuarantinedFiles()) {
+                    logger.warn("격리된 파일: %s", quarantined);
+                }
+                for (Path decodeFailed : parser.getDecodeFailedFiles()) {
+                    logger.warn("인코딩 오류 (대체 문자로 처리): %s", decodeFailed);
+                }
 
                 if (isCancelled()) return null;  // 취소 체크
 
@@ -1226,6 +1301,9 @@ public class MainFrame extends JFrame {
                 logger.info("2/3 단계: XML 파싱 시작");
 
                 IBatisParser ibatisParser = new IBatisParser();
+                ibatisParser.setCancellationToken(cancellationToken);
+                ibatisParser.setProgressListener(progressListener);
+                ibatisParser.setPerfReport(perfReport);
                 Map<String, SqlInfo> sqlInfoMap = ibatisParser.parseProject(projectPath);
                 logger.info("XML 파싱 완료: %d개 SQL", sqlInfoMap.size());
 
@@ -1237,6 +1315,10 @@ public class MainFrame extends JFrame {
 
                 FlowAnalyzer analyzer = new FlowAnalyzer();
                 analyzer.setSqlInfoMap(sqlInfoMap);
+                analyzer.setCancellationToken(cancellationToken);
+                analyzer.setProgressListener(progressListener);
+                analyzer.setPerfReport(perfReport);
+                analyzer.setSymbolPool(parser.getSymbolPool());
 
                 FlowResult result;
                 if (urlPattern != null && !urlPattern.isEmpty()) {
@@ -1247,6 +1329,12 @@ public class MainFrame extends JFrame {
 
                 logger.info("분석 완료: %d개 엔드포인트", result.getFlows().size());
 
+                if (isCancelled()) return null;  // 취소 체크
+
+                // 테이블 영향도 인덱스: 동적 SQL 분기 분석이 문장 수만큼 걸리므로 EDT(done) 대신 여기서 생성
+                publish("테이블 영향도 분석 중...");
+                tableIndex = tableImpactPanel.buildTableIndex(result);
+
                 // 원본 결과 반환 (CRUD 필터링은 UI에서 실시간 적용)
                 return result;
             }
@@ -1287,33 +1375,48 @@ public class MainFrame extends JFrame {
                     currentProjectPath = projectPath;
 
                     // CRUD 필터 적용하여 currentResult 생성
-                    if (!isAllSqlTypesSelected()) {
-                        List<String> sqlTypes = getSelectedSqlTypes();
-                        if (!sqlTypes.isEmpty()) {
-                            FlowAnalyzer analyzer = new FlowAnalyzer();
-                            currentResult = analyzer.filterBySqlType(originalResult, sqlTypes);
+                    try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_FILTERING)) {
+                        if (!isAllSqlTypesSelected()) {
+                            List<String> sqlTypes = getSelectedSqlTypes();
+                            if (!sqlTypes.isEmpty()) {
+                                FlowAnalyzer analyzer = new FlowAnalyzer();
+                                currentResult = analyzer.filterBySqlType(originalResult, sqlTypes);
+                            } else {
+                                currentResult = originalResult;
+                            }
                         } else {
                             currentResult = originalResult;
                         }
-                    } else {
-                        currentResult = originalResult;
+                        phase.addItems(currentResult.getFlows().size());
                     }
 
-                    // 요약 정보 업데이트
-                    updateSummaryPanel(currentResult);
+                    // 화면 출력 (output 단계로 측정)
+                    try (PerfReport.PhaseTimer phase = perfReport.startPhase(PerfReport.PHASE_OUTPUT)) {
+                        // 요약 정보 업데이트
+                        updateSummaryPanel(currentResult);
 
-                    // 엔드포인트 목록 업데이트
-                    updateEndpointList(currentResult);
+                        // 엔드포인트 목록 업데이트
+                        updateEndpointList(currentResult);
 
-                    // 결과 표시
-                    String selectedStyle = getSelectedStyle();
-                    resultPanel.displayResult(currentResult, selectedStyle);
+                        // 결과 표시
+                        String selectedStyle = getSelectedStyle();
+                        resultPanel.displayResult(currentResult, selectedStyle);
 
-                    // 테이블 영향도 업데이트 (먼저 데이터 설정)
-                    tableImpactPanel.updateData(currentResult);
+                        // 테이블 영향도 업데이트 (먼저 데이터 설정, 필터 적용 결과는 분기 분석 캐시로 바로 생성)
+                        if (currentResult == originalResult) {
+                            tableImpactPanel.updateData(currentResult, tableIndex);
+                        } else {
+                            tableImpactPanel.updateData(currentResult);
+                        }
+
+                        // 테이블 목록 업데이트 (데이터 설정 후 호출해야 displayTableAccesses 동작)
+                        updateTableList(currentResult);
+                        phase.addItems(currentResult.getFlows().size());
+                    }
 
-                    // 테이블 목록 업데이트 (데이터 설정 후 호출해야 displayTableAccesses 동작)
-                    updateTableList(currentResult);
+                    // 성능 리포트 표시
+                    perfReport.finish();
+                    perfReportPanel.displayReport(perfReport);
 
                     // 상태 업데이트
                     int totalCount = originalResult.getFlows().size();
@@ -1336,6 +1439,7 @@ public class MainFrame extends JFrame {
 
                     // 로깅: 분석 완료
                     logger.logAnalysisComplete(totalCount, elapsedMillis);
+                    logger.logPerfSummary(perfReport.toSummaryText());
 
                 } catch (java.util.concurrent.CancellationException ex) {
                     // 취소된 경우 (정상)
@@ -1395,6 +1499,7 @@ public class MainFrame extends JFrame {
             if (currentWorker != null && !currentWorker.isDone()) {
                 // 타임아웃 발생
                 logger.logAnalysisTimeout(DEFAULT_TIMEOUT_MINUTES);
+                currentCancellationToken.cancel();
                 currentWorker.cancel(true);
 
                 // UI 업데이트 (EDT에서 실행되므로 안전)
@@ -1700,6 +1805,35 @@ public class MainFrame extends JFrame {
             currentResult = originalResult;
         }
 
+        // 테이블 영향도 인덱스(동적 SQL 분기 분석 포함)는 백그라운드에서 만든 뒤 UI 업데이트
+        final FlowResult restoredResult = originalResult;
+        new SwingWorker<Map<String, FlowAnalyzer.TableImpact>, Void>() {
+            @Override
+            protected Map<String, FlowAnalyzer.TableImpact> doInBackground() {
+                return tableImpactPanel.buildTableIndex(restoredResult);
+            }
+
+            @Override
+            protected void done() {
+                Map<String, FlowAnalyzer.TableImpact> tableIndex;
+                try {
+                    tableIndex = get();
+                } catch (Exception e) {
+                    System.err.println("세션 복원 실패 (테이블 영향도): " + e.getMessage());
+                    return;
+                }
+                if (originalResult != restoredResult) {
+                    return;  // 그 사이 새 분석 시작
+                }
+                showRestoredSession(session, tableIndex);
+            }
+        }.execute();
+    }
+
+    /**
+     * 복원한 세션 결과를 화면에 표시 (선택 상태/탭/스크롤 복원)
+     */
+    private void showRestoredSession(SessionData session, Map<String, FlowAnalyzer.TableImpact> tableIndex) {
         // 저장된 상태 값들
         final int savedTabIndex = session.getSelectedTabIndex();
         final String savedSelectedEndpoint = session.getSelectedEndpoint();
@@ -1707,80 +1841,81 @@ public class MainFrame extends JFrame {
         final boolean savedTableDetailViewActive = session.isTableDetailViewActive();
         final int savedQueryRowIndex = session.getSelectedQueryRowIndex();
 
-        // UI 업데이트
-        SwingUtilities.invokeLater(() -> {
-            // 요약 정보 업데이트
-            updateSummaryPanel(currentResult);
+        // 요약 정보 업데이트
+        updateSummaryPanel(currentResult);
 
-            // 엔드포인트 목록 업데이트
-            updateEndpointList(currentResult);
+        // 엔드포인트 목록 업데이트
+        updateEndpointList(currentResult);
 
-            // 결과 표시 (저장된 스타일 또는 현재 선택된 스타일)
-            String style = session.getOutputStyle();
-            if (style == null || style.isEmpty()) {
-                style = getSelectedStyle();
-            }
-            resultPanel.displayResult(currentResult, style);
+        // 결과 표시 (저장된 스타일 또는 현재 선택된 스타일)
+        String style = session.getOutputStyle();
+        if (style == null || style.isEmpty()) {
+            style = getSelectedStyle();
+        }
+        resultPanel.displayResult(currentResult, style);
 
-            // 테이블 영향도 업데이트 (먼저 데이터 설정)
+        // 테이블 영향도 업데이트 (먼저 데이터 설정, 필터 적용 결과는 분기 분석 캐시로 바로 생성)
+        if (currentResult == originalResult) {
+            tableImpactPanel.updateData(currentResult, tableIndex);
+        } else {
             tableImpactPanel.updateData(currentResult);
+        }
 
-            // 테이블 목록 업데이트 (데이터 설정 후 호출)
-            updateTableList(currentResult);
+        // 테이블 목록 업데이트 (데이터 설정 후 호출)
+        updateTableList(currentResult);
 
-            // 엔드포인트 선택 복원 (호출 흐름 탭)
-            if (savedSelectedEndpoint != null && !savedSelectedEndpoint.isEmpty()) {
-                for (int i = 0; i < endpointListModel.size(); i++) {
-                    if (savedSelectedEndpoint.equals(endpointListModel.get(i))) {
-                        endpointList.setSelectedIndex(i);
-                        endpointList.ensureIndexIsVisible(i);
-                        break;
-                    }
+        // 엔드포인트 선택 복원 (호출 흐름 탭)
+        if (savedSelectedEndpoint != null && !savedSelectedEndpoint.isEmpty()) {
+            for (int i = 0; i < endpointListModel.size(); i++) {
+                if (savedSelectedEndpoint.equals(endpointListModel.get(i))) {
+                    endpointList.setSelectedIndex(i);
+                    endpointList.ensureIndexIsVisible(i);
+                    break;
                 }
             }
+        }
 
-            // 테이블 선택 복원 (테이블 영향도 탭)
-            if (savedSelectedTable != null && !savedSelectedTable.isEmpty()) {
-                for (int i = 0; i < tableListModel.size(); i++) {
-                    if (savedSelectedTable.equals(tableListModel.get(i))) {
-                        tableList.setSelectedIndex(i);
-                        tableList.ensureIndexIsVisible(i);
-                        // 쿼리 상세 화면이 활성화 상태였다면 복원
-                        if (savedTableDetailViewActive && !savedSelectedTable.equals(ALL_TABLES)) {
-                            tableImpactPanel.restoreQueryView(savedQueryRowIndex);
-                        }
-                        break;
+        // 테이블 선택 복원 (테이블 영향도 탭)
+        if (savedSelectedTable != null && !savedSelectedTable.isEmpty()) {
+            for (int i = 0; i < tableListModel.size(); i++) {
+                if (savedSelectedTable.equals(tableListModel.get(i))) {
+                    tableList.setSelectedIndex(i);
+                    tableList.ensureIndexIsVisible(i);
+                    // 쿼리 상세 화면이 활성화 상태였다면 복원
+                    if (savedTableDetailViewActive && !savedSelectedTable.equals(ALL_TABLES)) {
+                        tableImpactPanel.restoreQueryView(savedQueryRowIndex);
                     }
+                    break;
                 }
             }
+        }
 
-            // 탭 선택 복원
-            if (savedTabIndex >= 0 && savedTabIndex < resultTabbedPane.getTabCount()) {
-                resultTabbedPane.setSelectedIndex(savedTabIndex);
-            }
+        // 탭 선택 복원
+        if (savedTabIndex >= 0 && savedTabIndex < resultTabbedPane.getTabCount()) {
+            resultTabbedPane.setSelectedIndex(savedTabIndex);
+        }
 
-            // 상태 업데이트
-            int totalCount = originalResult.getFlows().size();
-            int shownCount = currentResult.getFlows().size();
-            if (totalCount == shownCount) {
-                statusLabel.setText(String.format("이전 세션 복원됨: %d개 URL (%s)",
-                        totalCount, session.getAnalyzedAt().toLocalDate()));
-            } else {
-                statusLabel.setText(String.format("이전 세션 복원됨: %d / %d개 URL (필터 적용)",
-                        shownCount, totalCount));
-            }
+        // 상태 업데이트
+        int totalCount = originalResult.getFlows().size();
+        int shownCount = currentResult.getFlows().size();
+        if (totalCount == shownCount) {
+            statusLabel.setText(String.format("이전 세션 복원됨: %d개 URL (%s)",
+                    totalCount, session.getAnalyzedAt().toLocalDate()));
+        } else {
+            statusLabel.setText(String.format("이전 세션 복원됨: %d / %d개 URL (필터 적용)",
+                    shownCount, totalCount));
+        }
 
-            exportExcelButton.setEnabled(true);
+        exportExcelButton.setEnabled(true);
 
-            // 스크롤 복원은 UI 렌더링 후에 실행 (타이밍 문제 해결)
-            if (savedSelectedEndpoint != null && !savedSelectedEndpoint.isEmpty()) {
-                SwingUtilities.invokeLater(() -> {
-                    resultPanel.scrollToEndpoint(savedSelectedEndpoint);
-                });
-            }
+        // 스크롤 복원은 UI 렌더링 후에 실행 (타이밍 문제 해결)
+        if (savedSelectedEndpoint != null && !savedSelectedEndpoint.isEmpty()) {
+            SwingUtilities.invokeLater(() -> {
+                resultPanel.scrollToEndpoint(savedSelectedEndpoint);
+            });
+        }
 
-            System.out.println("세션 복원 완료: " + currentProjectPath);
-        });
+        System.out.println("세션 복원 완료: " + currentProjectPath);
     }
 
     /**
@@ -1792,20 +1927,23 @@ public class MainFrame extends JFrame {
 
     /**
      * 엔드포인트 목록 업데이트
+     *
+     * 목록 모델은 한 번에 교체하고, 검색 인덱스는 백그라운드에서 구축합니다.
      */
     private void updateEndpointList(FlowResult result) {
         allEndpoints.clear();
-        endpointListModel.clear();
 
+        List<FlowNode> endpointFlows = new ArrayList<>();
         for (FlowNode flow : result.getFlows()) {
             String url = flow.getUrlMapping();
             if (url != null && !url.isEmpty()) {
                 allEndpoints.add(url);
-                endpointListModel.addElement(url);
+                endpointFlows.add(flow);
             }
         }
 
-        endpointCountLabel.setText(allEndpoints.size() + "개 항목");
+        setEndpointListItems(allEndpoints);
+        rebuildEndpointSearchIndex(endpointFlows);
 
         // JSplitPane divider 위치로 패널 표시/숨김 제어
         if (!allEndpoints.isEmpty()) {
@@ -1814,21 +1952,66 @@ public class MainFrame extends JFrame {
     }
 
     /**
-     * 엔드포인트 목록 필터링
+     * 엔드포인트 목록 모델 일괄 교체
+     *
+     * DefaultListModel에 하나씩 addElement하면 항목마다 이벤트가 발생하므로
+     * 새 모델을 채운 후 setModel로 한 번에 교체
      */
-    private void filterEndpointList() {
-        String filter = endpointSearchField.getText().toLowerCase().trim();
-        endpointListModel.clear();
-
-        int count = 0;
-        for (String url : allEndpoints) {
-            if (filter.isEmpty() || url.toLowerCase().contains(filter)) {
-                endpointListModel.addElement(url);
-                count++;
+    private void setEndpointListItems(List<String> items) {
+        DefaultListModel<String> model = new DefaultListModel<>();
+        model.addAll(items);
+        endpointListModel = model;
+        endpointList.setModel(model);
+        endpointCountLabel.setText(items.size() + "개 항목");
+    }
+
+    /**
+     * 엔드포인트 검색 인덱스 재구축 (URL + 호출 트리의 클래스명 + 테이블명)
+     */
+    private void rebuildEndpointSearchIndex(List<FlowNode> endpointFlows) {
+        endpointSearchSeq++;  // 이전 결과 기준으로 진행 중인 검색 무효화
+        searchExecutor.submit(() -> {
+            SearchIndex index = new SearchIndex();
+            for (FlowNode flow : endpointFlows) {
+                Set<String> terms = new LinkedHashSet<>();
+                collectSearchTerms(flow, terms);
+                index.add(flow.getUrlMapping(), terms.toArray(new String[0]));
             }
+            endpointSearchIndex = index;
+        });
+    }
+
+    /**
+     * 호출 트리에서 검색어(클래스명, 테이블명) 수집
+     */
+    private void collectSearchTerms(FlowNode node, Set<String> terms) {
+        terms.add(node.getClassName());
+        SqlInfo sqlInfo = node.getSqlInfo();
+        if (sqlInfo != null) {
+            terms.addAll(sqlInfo.getTables());
+        }
+        for (FlowNode child : node.getChildren()) {
+            collectSearchTerms(child, terms);
         }
+    }
 
-        endpointCountLabel.setText(count + "개 항목");
+    /**
+     * 엔드포인트 목록 필터링
+     *
+     * 검색은 백그라운드 스레드에서 인덱스로 수행하고, 결과만 EDT에서 한 번에 반영
+     */
+    private void filterEndpointList() {
+        String filter = endpointSearchField.getText();
+        int seq = ++endpointSearchSeq;
+        searchExecutor.submit(() -> {
+            List<String> matches = endpointSearchIndex.search(filter);
+            SwingUtilities.invokeLater(() -> {
+                if (seq != endpointSearchSeq) {
+                    return;  // 더 최근 입력이 있으면 버림
+                }
+                setEndpointListItems(matches);
+            });
+        });
     }
 
     private static final String ALL_TABLES = "== 전체 ==";
@@ -1842,6 +2025,7 @@ public class MainFrame extends JFrame {
 
         if (result == null) {
             tableCountLabel.setText("0개 테이블");
+            rebuildTableSearchIndex(allTableNames);
             return;
         }
 
@@ -1852,14 +2036,12 @@ public class MainFrame extends JFrame {
         allTableNames.addAll(tableIndex.keySet());
         allTableNames.sort(String::compareTo);
 
-        // "전체" 옵션 추가
-        tableListModel.addElement(ALL_TABLES);
-
-        for (String tableName : allTableNames) {
-            tableListModel.addElement(tableName);
-        }
-
-        tableCountLabel.setText(allTableNames.size() + "개 테이블");
+        // "전체" 옵션 포함하여 모델 일괄 교체
+        List<String> items = new ArrayList<>();
+        items.add(ALL_TABLES);
+        items.addAll(allTableNames);
+        setTableListItems(items, allTableNames.size());
+        rebuildTableSearchIndex(allTableNames);
 
         // "전체" 기본 선택 및 상세 화면 표시
         if (tableListModel.size() > 0) {
@@ -1869,21 +2051,48 @@ public class MainFrame extends JFrame {
     }
 
     /**
-     * 테이블 목록 필터링
+     * 테이블 목록 모델 일괄 교체
      */
-    private void filterTableList() {
-        String filter = tableSearchField.getText().toUpperCase().trim();
-        tableListModel.clear();
+    private void setTableListItems(List<String> items, int tableCount) {
+        DefaultListModel<String> model = new DefaultListModel<>();
+        model.addAll(items);
+        tableListModel = model;
+        tableList.setModel(model);
+        tableCountLabel.setText(tableCount + "개 테이블");
+    }
 
-        int count = 0;
-        for (String tableName : allTableNames) {
-            if (filter.isEmpty() || tableName.contains(filter)) {
-                tableListModel.addElement(tableName);
-                count++;
+    /**
+     * 테이블 검색 인덱스 재구축
+     */
+    private void rebuildTableSearchIndex(List<String> tableNames) {
+        List<String> snapshot = new ArrayList<>(tableNames);
+        tableSearchSeq++;  // 이전 결과 기준으로 진행 중인 검색 무효화
+        searchExecutor.submit(() -> {
+            SearchIndex index = new SearchIndex();
+            for (String tableName : snapshot) {
+                index.add(tableName);
             }
-        }
+            tableSearchIndex = index;
+        });
+    }
 
-        tableCountLabel.setText(count + "개 테이블");
+    /**
+     * 테이블 목록 필터링
+     *
+     * 검색은 백그라운드 스레드에서 인덱스로 수행하고, 결과만 EDT에서 한 번에 반영
+     */
+    private void filterTableList() {
+        String filter = tableSearchField.getText();
+        int seq = ++tableSearchSeq;
+        searchExecutor.submit(() -> {
+            List<String> matches = tableSearchIndex.search(filter);
+            SwingUtilities.invokeLater(() -> {
+                if (seq != tableSearchSeq) {
+                    return;  // 더 최근 입력이 있으면 버림
+                }
+                setTableListItems(matches, matches.size());
+            });
+        });
     }
 
     /**
@@ -1968,6 +2177,7 @@ public class MainFrame extends JFrame {
 
         if (result == null) {
             tableCountLabel.setText("0개 테이블");
+            rebuildTableSearchIndex(allTableNames);
             return;
         }
 
@@ -1978,14 +2188,12 @@ public class MainFrame extends JFrame {
         allTableNames.addAll(tableIndex.keySet());
         allTableNames.sort(String::compareTo);
 
-        // "전체" 옵션 추가
-        tableListModel.addElement(ALL_TABLES);
-
-        for (String tableName : allTableNames) {
-            tableListModel.addElement(tableName);
-        }
-
-        tableCountLabel.setText(allTableNames.size() + "개 테이블");
+        // "전체" 옵션 포함하여 모델 일괄 교체
+        List<String> items = new ArrayList<>();
+        items.add(ALL_TABLES);
+        items.addAll(allTableNames);
+        setTableListItems(items, allTableNames.size());
+        rebuildTableSearchIndex(allTableNames);
     }
 
     /**
@@ -0,0 +1,139 @@
+package com.codeflow.ui;
+
+import com.codeflow.perf.PerfReport;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+
+/**
+ * 성능 리포트 패널 (가운데 영역 "성능" 탭)
+ *
+ * 마지막 분석의 단계별 측정값(PerfReport)을 표시합니다.
+ * CLI의 --perf-report JSON과 같은 항목을 보여줍니다.
+ *
+ * 구조:
+ * - 상단: 전체 소요 시간 / 최대 힙
+ * - 가운데: 단계별 표 (wall, CPU, 개수, 바이트, 실패, 할당)
+ * - 하단: 가장 느린 파일 목록
+ */
+public class PerfReportPanel extends JPanel {
+
+    // 색상 상수
+    private static final Color COLOR_HEADER = new Color(78, 201, 176);
+
+    private JLabel summaryLabel;
+    private DefaultTableModel phaseTableModel;
+    private DefaultTableModel slowFileTableModel;
+
+    public PerfReportPanel() {
+        setLayout(new BorderLayout());
+        initializeComponents();
+    }
+
+    private void initializeComponents() {
+        // 상단: 요약
+        summaryLabel = new JLabel("분석을 실행하면 단계별 성능 측정 결과가 표시됩니다");
+        summaryLabel.setFont(summaryLabel.getFont().deriveFont(Font.BOLD, 14f));
+        summaryLabel.setForeground(COLOR_HEADER);
+        summaryLabel.setBorder(new EmptyBorder(8, 10, 8, 10));
+        add(summaryLabel, BorderLayout.NORTH);
+
+        // 단계별 표
+        String[] phaseColumns = {"단계", "Wall (ms)", "CPU (ms)", "개수", "크기", "실패", "할당"};
+        phaseTableModel = createReadOnlyModel(phaseColumns);
+        JTable phaseTable = createTable(phaseTableModel);
+        phaseTable.getColumnModel().getColumn(0).setPreferredWidth(150);
+
+        // 느린 파일 표
+        String[] fileColumns = {"단계", "파일", "크기", "시간 (ms)", "결과"};
+        slowFileTableModel = createReadOnlyModel(fileColumns);
+        JTable slowFileTable = createTable(slowFileTableModel);
+        slowFileTable.getColumnModel().getColumn(0).setPreferredWidth(100);
+        slowFileTable.getColumnModel().getColumn(1).setPreferredWidth(500);
+
+        JPanel phasePanel = new JPanel(new BorderLayout(0, 5));
+        phasePanel.setBorder(new EmptyBorder(0, 10, 5, 10));
+        phasePanel.add(createSectionLabel("단계별 측정"), BorderLayout.NORTH);
+        phasePanel.add(new JScrollPane(phaseTable), BorderLayout.CENTER);
+
+        JPanel filePanel = new JPanel(new BorderLayout(0, 5));
+        filePanel.setBorder(new EmptyBorder(5, 10, 10, 10));
+        filePanel.add(createSectionLabel("가장 느린 파일"), BorderLayout.NORTH);
+        filePanel.add(new JScrollPane(slowFileTable), BorderLayout.CENTER);
+
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, phasePanel, filePanel);
+        splitPane.setResizeWeight(0.4);
+        splitPane.setBorder(BorderFactory.createEmptyBorder());
+        add(splitPane, BorderLayout.CENTER);
+    }
+
+    private DefaultTableModel createReadOnlyModel(String[] columns) {
+        return new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+    }
+
+    private JTable createTable(DefaultTableModel model) {
+        JTable table = new JTable(model);
+        table.setFont(new Font("D2Coding", Font.PLAIN, 13));
+        table.setRowHeight(26);
+        table.getTableHeader().setReorderingAllowed(false);
+        return table;
+    }
+
+    private JLabel createSectionLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setFont(label.getFont().deriveFont(12f));
+        label.setForeground(new Color(150, 150, 150));
+        return label;
+    }
+
+    /**
+     * 성능 리포트 표시
+     */
+    public void displayReport(PerfReport report) {
+        clear();
+        if (report == null || !report.isEnabled()) {
+            return;
+        }
+
+        summaryLabel.setText(String.format("전체 %,d ms  |  최대 힙 %s",
+            report.getTotalWallMillis(), PerfReport.formatBytes(report.getPeakHeapBytes())));
+
+        for (PerfReport.PhaseStats phase : report.getPhases()) {
+            phaseTableModel.addRow(new Object[]{
+                phase.getName(),
+                String.format("%,d", phase.getWallMillis()),
+                phase.getCpuMillis() < 0 ? "-" : String.format("%,d", phase.getCpuMillis()),
+                String.format("%,d", phase.getItemCount()),
+                PerfReport.formatBytes(phase.getBytes()),
+                phase.getFailureCount(),
+                PerfReport.formatBytes(phase.getAllocatedBytes())
+            });
+        }
+
+        for (PerfReport.FileStats file : report.getSlowestFiles()) {
+            slowFileTableModel.addRow(new Object[]{
+                file.getPhase(),
+                file.getPath(),
+                PerfReport.formatBytes(file.getBytes()),
+                String.format("%,d", file.getMillis()),
+                file.isSuccess() ? "성공" : "실패"
+            });
+        }
+    }
+
+    /**
+     * 리포트 지우기
+     */
+    public void clear() {
+        summaryLabel.setText("분석을 실행하면 단계별 성능 측정 결과가 표시됩니다");
+        phaseTableModel.setRowCount(0);
+        slowFileTableModel.setRowCount(0);
+    }
+}
@@ -6,74 +6,96 @@ import com.codeflow.parser.ClassType;
 import com.codeflow.parser.SqlInfo;
 
 import javax.swing.*;
-import javax.swing.text.DefaultCaret;
 import java.awt.*;
 import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
- * 분석 결과 표시 패널 (HTML 기반)
+ * 분석 결과 표시 패널 (가상화 리스트 기반)
  *
- * FlowResult를 HTML 형태로 시각화합니다.
- * 드래그 선택 및 복사가 자유롭게 가능합니다.
+ * FlowResult를 CLI 콘솔 스타일 트리로 시각화합니다.
+ *
+ * 설계 결정:
+ * - 이전에는 전체 결과를 하나의 HTML 문자열로 만들어 JEditorPane에 넣었으나,
+ *   엔드포인트가 수천 개가 되면 HTML 생성/레이아웃/스크롤에 수십 초가 걸리고 힙을 크게 차지함
+ * - 결과를 "행(Row)" 목록으로 평탄화하고 JList + 셀 렌더러로 화면에 보이는 행만 그림
+ * - 고정 행 높이(setFixedCellHeight)를 사용하여 행 수와 무관하게 레이아웃 비용이 일정함
+ *   (행 높이는 실제로 선택된 폰트의 FontMetrics로 계산 - D2Coding이 없으면 대체 폰트 기준)
+ * - 행은 FlowNode 참조와 트리 접두사만 보관하고, 색상 세그먼트는 렌더링 시점에 계산
+ * - 여러 행을 선택하여 Ctrl+C로 복사 가능 (JList 기본 TransferHandler)
  */
 public class ResultPanel extends JPanel {
 
-    private JEditorPane resultPane;
+    private JList<Row> resultList;
+    private DefaultListModel<Row> rowModel;
     private JScrollPane scrollPane;
 
     // 레이어별 색상 (다크 테마용 - VS Code 터미널 참고)
-    private static final String COLOR_CONTROLLER = "#4EC9B0";  // 청록 (밝음)
-    private static final String COLOR_SERVICE = "#569CD6";     // 파랑 (밝음)
-    private static final String COLOR_DAO = "#C586C0";         // 보라 (밝음)
-    private static final String COLOR_WARNING = "#F44747";     // 빨강 (밝음)
-    private static final String COLOR_INTERFACE = "#9CDCFE";   // 연한 파랑
-    private static final String COLOR_SUMMARY = "#CCCCCC";     // 밝은 회색
-    private static final String COLOR_WARNING_HEADER = "#DCDCAA"; // 연한 노랑
-    private static final String COLOR_DEFAULT = "#D4D4D4";     // 기본 텍스트
+    private static final Color COLOR_CONTROLLER = new Color(0x4EC9B0);  // 청록 (밝음)
+    private static final Color COLOR_SERVICE = new Color(0x569CD6);     // 파랑 (밝음)
+    private static final Color COLOR_DAO = new Color(0xC586C0);         // 보라 (밝음)
+    private static final Color COLOR_WARNING = new Color(0xF44747);     // 빨강 (밝음)
+    private static final Color COLOR_INTERFACE = new Color(0x9CDCFE);   // 연한 파랑
+    private static final Color COLOR_SUMMARY = new Color(0xCCCCCC);     // 밝은 회색
+    private static final Color COLOR_WARNING_HEADER = new Color(0xDCDCAA); // 연한 노랑
+    private static final Color COLOR_DEFAULT = new Color(0xD4D4D4);     // 기본 텍스트
+    private static final Color COLOR_GET = new Color(0x98C379);         // 밝은 초록 (URL 색상과 구분)
+    private static final Color COLOR_BACKGROUND = new Color(0x1E1E1E);
+    private static final Color COLOR_SELECTION = new Color(0x264F78);
 
     // 출력 스타일
     private String currentStyle = "normal";
 
     // 다중 구현체 경고 정보
-    private Map<String, List<String>> multipleImplWarnings = new java.util.HashMap<>();
+    private Map<String, List<String>> multipleImplWarnings = new HashMap<>();
+
+    // URL → 흐름 구분선 행 인덱스 (scrollToEndpoint에서 텍스트 검색 대신 사용)
+    private final Map<String, Integer> endpointRowIndex = new HashMap<>();
 
     // 폰트 크기 (Ctrl+휠로 조절)
     private int fontSize = 13;
     private static final int MIN_FONT_SIZE = 9;
     private static final int MAX_FONT_SIZE = 24;
 
-    // 현재 결과 캐시 (폰트 크기 변경 시 다시 렌더링용)
-    private FlowResult cachedResult;
+    // 설치된 폰트 중 앞에서부터 사용 (모두 없으면 Font.MONOSPACED), 폰트 목록 조회는 1번만
+    private static final List<String> FONT_CANDIDATES = List.of("D2Coding", "Consolas", "Malgun Gothic");
+    private static final String FONT_FAMILY = resolveFontFamily();
+
+    // 가장 긴 행의 글자 수 (가로 스크롤 폭 계산용, 폰트 변경 시 재사용)
+    private int maxRowChars = 0;
 
     public ResultPanel() {
         setLayout(new BorderLayout());
-        initializePane();
+        initializeList();
     }
 
     /**
-     * 에디터 패널 초기화
+     * 결과 리스트 초기화
      */
-    private void initializePane() {
-        resultPane = new JEditorPane();
-        resultPane.setContentType("text/html");
-        resultPane.setEditable(false);
-        resultPane.putClientProperty(JEditorPane.HONOR_DISPLAY_PROPERTIES, Boolean.TRUE);
-        resultPane.setFont(new Font("Malgun Gothic", Font.PLAIN, fontSize));
-
-        // 커서(|) 완전히 숨기기 - InvisibleCaret 사용
-        resultPane.setCaret(new InvisibleCaret());
-
-        resultPane.setFocusable(true);  // Ctrl+휠 이벤트 수신을 위해 활성화
-
-        scrollPane = new JScrollPane(resultPane);
+    private void initializeList() {
+        rowModel = new DefaultListModel<>();
+        resultList = new JList<>(rowModel);
+        resultList.setCellRenderer(new RowRenderer());
+        resultList.setBackground(COLOR_BACKGROUND);
+        resultList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        resultList.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        resultList.setFocusable(true);  // Ctrl+휠, Ctrl+C 이벤트 수신을 위해 활성화
+        applyFont();
+
+        scrollPane = new JScrollPane(resultList);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());  // 테두리 제거
+        scrollPane.getViewport().setBackground(COLOR_BACKGROUND);
         add(scrollPane, BorderLayout.CENTER);
 
         // Ctrl+마우스휠로 폰트 크기 조절
-        resultPane.addMouseWheelListener(new MouseWheelListener() {
+        resultList.addMouseWheelListener(new MouseWheelListener() {
             @Override
             public void mouseWheelMoved(MouseWheelEvent e) {
                 if (e.isControlDown()) {
@@ -96,15 +118,43 @@ public class ResultPanel extends JPanel {
 
     /**
      * 폰트 크기 변경
+     *
+     * 행 목록은 그대로 두고 폰트와 행 높이만 갱신 (재렌더링 불필요)
      */
     private void changeFontSize(int delta) {
         int newSize = fontSize + delta;
         if (newSize >= MIN_FONT_SIZE && newSize <= MAX_FONT_SIZE) {
             fontSize = newSize;
-            if (cachedResult != null) {
-                displayResult(cachedResult, currentStyle);
+            applyFont();
+        }
+    }
+
+    /**
+     * 사용할 폰트 이름 (없는 이름으로 Font를 만들면 Dialog로 대체되어 고정폭이 깨지므로 설치 여부 확인)
+     */
+    private static String resolveFontFamily() {
+        Set<String> installed = Arrays.stream(GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getAvailableFontFamilyNames()).collect(Collectors.toSet());
+        for (String candidate : FONT_CANDIDATES) {
+            if (installed.contains(candidate)) {
+                return candidate;
             }
         }
+        return Font.MONOSPACED;
+    }
+
+    /**
+     * 현재 폰트 크기를 리스트에 적용하고 고정 행 높이 재계산
+     */
+    private void applyFont() {
+        Font font = new Font(FONT_FAMILY, Font.PLAIN, fontSize);
+        resultList.setFont(font);
+        FontMetrics fm = resultList.getFontMetrics(font);
+        // 기존 HTML 렌더링의 line-height: 1.4와 비슷한 간격
+        resultList.setFixedCellHeight(Math.round(fm.getHeight() * 1.25f));
+        applyCellWidth();
+        resultList.revalidate();
+        resultList.repaint();
     }
 
     // 트리 출력용 문자 (CLI와 동일)
@@ -119,268 +169,235 @@ public class ResultPanel extends JPanel {
     public void displayResult(FlowResult result, String style) {
         this.currentStyle = style != null ? style : "normal";
         this.multipleImplWarnings = result.getMultipleImplWarnings();
-        this.cachedResult = result;  // 폰트 크기 변경 시 다시 렌더링용
+        endpointRowIndex.clear();
 
-        StringBuilder html = new StringBuilder();
-        html.append("<html><head><style>");
-        html.append("body { font-family: 'D2Coding', 'Consolas', 'Malgun Gothic', monospace; font-size: ").append(fontSize).append("px; ");
-        html.append("margin: 10px; background-color: #1E1E1E; color: #D4D4D4; line-height: 1.4; }");
-        html.append("pre { font-family: inherit; margin: 0; white-space: pre-wrap; }");
-        html.append("</style></head><body><pre>");
+        List<Row> rows = new ArrayList<>();
 
         // 다중 구현체 경고
         if (result.hasMultipleImplWarnings()) {
-            appendWarnings(html, result.getMultipleImplWarnings());
-            html.append("\n");  // 경고와 호출 흐름 사이 여백
+            appendWarnings(rows, result.getMultipleImplWarnings());
+            rows.add(blankRow());  // 경고와 호출 흐름 사이 여백
         }
 
         // 호출 흐름 섹션
-        appendFlowsSection(html, result);
+        appendFlowsSection(rows, result);
 
         // 푸터
-        appendFooter(html);
+        appendFooter(rows);
+
+        // 한 번에 모델 교체 (행마다 이벤트가 발생하지 않도록 새 모델 생성)
+        DefaultListModel<Row> newModel = new DefaultListModel<>();
+        newModel.addAll(rows);
+        rowModel = newModel;
+        resultList.setModel(rowModel);
+        updateCellWidth(rows);
+        resultList.ensureIndexIsVisible(0);
+    }
 
-        html.append("</pre></body></html>");
+    /**
+     * 가로 스크롤용 셀 폭 계산
+     *
+     * 모든 행을 FontMetrics로 측정하는 대신 가장 긴 행의 글자 수로 근사
+     */
+    private void updateCellWidth(List<Row> rows) {
+        int maxChars = 0;
+        for (Row row : rows) {
+            maxChars = Math.max(maxChars, row.getApproxLength());
+        }
+        maxRowChars = maxChars;
+        applyCellWidth();
+    }
 
-        resultPane.setText(html.toString());
-        resultPane.setCaretPosition(0);
+    /**
+     * 가장 긴 행 글자 수와 현재 폰트로 고정 셀 폭 설정
+     */
+    private void applyCellWidth() {
+        FontMetrics fm = resultList.getFontMetrics(resultList.getFont());
+        int charWidth = Math.max(fm.charWidth('W'), fm.charWidth('가') / 2);
+        resultList.setFixedCellWidth(Math.max(200, maxRowChars * charWidth + 20));
     }
 
     /**
      * 푸터 추가
      */
-    private void appendFooter(StringBuilder html) {
-        html.append(colorize(repeat("─", 52), COLOR_INTERFACE)).append("\n");
-        html.append(colorize("  Code Flow Tracer v1.0 - 호출 흐름 분석 도구", COLOR_INTERFACE)).append("\n");
+    private void appendFooter(List<Row> rows) {
+        rows.add(textRow(repeat("─", 52), COLOR_INTERFACE));
+        rows.add(textRow("  Code Flow Tracer v1.0 - 호출 흐름 분석 도구", COLOR_INTERFACE));
     }
 
     /**
      * 호출 흐름 섹션
      */
-    private void appendFlowsSection(StringBuilder html, FlowResult result) {
-        html.append(colorize("[ 호출 흐름 ]", COLOR_WARNING_HEADER)).append("\n\n");
+    private void appendFlowsSection(List<Row> rows, FlowResult result) {
+        rows.add(textRow("[ 호출 흐름 ]", COLOR_WARNING_HEADER));
+        rows.add(blankRow());
 
         List<FlowNode> flows = result.getFlows();
         if (flows.isEmpty()) {
-            html.append(colorize("  (분석된 URL이 없습니다)", COLOR_INTERFACE)).append("\n\n");
+            rows.add(textRow("  (분석된 URL이 없습니다)", COLOR_INTERFACE));
+            rows.add(blankRow());
             return;
         }
 
+        String separatorTail = repeat("─", 40);
         for (int i = 0; i < flows.size(); i++) {
             FlowNode flow = flows.get(i);
 
-            // 흐름 번호
-            String flowNum = String.format("─── %d/%d ", i + 1, flows.size()) + repeat("─", 40);
-            html.append(colorize(flowNum, COLOR_INTERFACE)).append("\n");
+            // 흐름 번호 (스크롤 기준 행)
+            String flowNum = String.format("─── %d/%d ", i + 1, flows.size()) + separatorTail;
+            if (flow.getUrlMapping() != null) {
+                endpointRowIndex.putIfAbsent(flow.getUrlMapping(), rows.size());
+            }
+            rows.add(textRow(flowNum, COLOR_INTERFACE));
 
             // URL 정보
             if (flow.isEndpoint() && !"compact".equals(currentStyle)) {
-                html.append(colorize("[" + flow.getHttpMethod() + "]", getHttpMethodColor(flow.getHttpMethod())));
-                html.append(" ");
-                html.append(colorize(flow.getUrlMapping(), "#4EC9B0")).append("\n");
+                rows.add(new Row(RowKind.ENDPOINT, flow, null, false, null, null, null));
             }
 
-            // 트리 출력
-            appendFlowNode(html, flow, "", true);
-            html.append("\n");
+            // 트리 행 추가
+            appendFlowNode(rows, flow, "", true);
+            rows.add(blankRow());
         }
     }
 
     /**
      * 다중 구현체 경고 추가 (트리 형식)
      */
-    private void appendWarnings(StringBuilder html, Map<String, List<String>> warnings) {
-        html.append("\n<b style='color:").append(COLOR_WARNING_HEADER).append("'>");
-        html.append(String.format("[경고] %d개 인터페이스에 다중 구현체 존재 - 확인필요", warnings.size()));
-        html.append("</b>\n\n");
+    private void appendWarnings(List<Row> rows, Map<String, List<String>> warnings) {
+        rows.add(blankRow());
+        rows.add(textRow(String.format("[경고] %d개 인터페이스에 다중 구현체 존재 - 확인필요", warnings.size()),
+                COLOR_WARNING_HEADER, true));
+        rows.add(blankRow());
 
         for (Map.Entry<String, List<String>> entry : warnings.entrySet()) {
             // 인터페이스명 (연결선 없이)
-            html.append("  ");
-            html.append(colorize(escapeHtml(entry.getKey()), COLOR_INTERFACE)).append("\n");
+            rows.add(textRow("  " + entry.getKey(), COLOR_INTERFACE));
 
             // 구현체 목록
             List<String> impls = entry.getValue();
             for (int i = 0; i < impls.size(); i++) {
                 boolean isLastImpl = (i == impls.size() - 1);
                 String implConnector = isLastImpl ? TREE_LAST : TREE_BRANCH;
-                html.append(colorize("  " + implConnector, COLOR_WARNING_HEADER));
-                html.append(colorize(escapeHtml(impls.get(i)), COLOR_WARNING_HEADER)).append("\n");
+                rows.add(textRow("  " + implConnector + impls.get(i), COLOR_WARNING_HEADER));
             }
         }
     }
 
     /**
-     * FlowNode를 HTML로 추가 (CLI 스타일 트리)
+     * FlowNode를 행으로 추가 (CLI 스타일 트리)
+     *
+     * 접두사 문자열은 부모 단위로 한 번만 만들어 형제 노드끼리 공유
      */
-    private void appendFlowNode(StringBuilder html, FlowNode node, String prefix, boolean isLast) {
-        String connector = isLast ? TREE_LAST : TREE_BRANCH;
-
-        ClassType classType = node.getClassType();
-        String color = getColorForClassType(classType);
-
-        // 타입 태그
-        String typeTag = "";
-        if (!"compact".equals(currentStyle) && classType != null) {
-            typeTag = colorize("[" + classType.getDisplayName() + "]", color) + " ";
-        }
-
-        // 클래스.메서드
-        String methodCall = escapeHtml(node.getClassName()) + "." + escapeHtml(node.getMethodName()) + "()";
+    private void appendFlowNode(List<Row> rows, FlowNode node, String prefix, boolean isLast) {
+        rows.add(new Row(RowKind.NODE, node, prefix, isLast, null, null, null));
 
-        html.append(prefix).append(connector);
-        html.append(typeTag);
-        html.append(colorize(methodCall, color));
-
-        // URL 분리 정보 (Controller인 경우): (/order + /detail.do)
-        if (node.isEndpoint() && !"compact".equals(currentStyle)) {
-            String urlBreakdown = formatUrlBreakdown(node);
-            if (!urlBreakdown.isEmpty()) {
-                html.append("  ").append(colorize(urlBreakdown, COLOR_INTERFACE));
-            }
-        }
-
-        // 인터페이스 정보
-        if (node.hasImplementedInterface() && !"compact".equals(currentStyle)) {
-            String primaryInterface = node.getPrimaryInterface();
-            html.append(colorize("  ← " + escapeHtml(primaryInterface), COLOR_INTERFACE));
-
-            // 다중 구현체 경고
-            if (multipleImplWarnings.containsKey(primaryInterface)) {
-                List<String> allImpls = multipleImplWarnings.get(primaryInterface);
-                List<String> otherImpls = new java.util.ArrayList<>();
-                for (String impl : allImpls) {
-                    if (!impl.equals(node.getClassName())) {
-                        otherImpls.add(impl);
-                    }
-                }
-                if (!otherImpls.isEmpty()) {
-                    html.append(colorize("  (외 " + escapeHtml(String.join(", ", otherImpls)) + ")", COLOR_WARNING));
-                }
-            }
-        }
-
-        html.append("\n");
+        String childPrefix = prefix + (isLast ? TREE_SPACE : TREE_VERTICAL);
 
         // SQL 정보 출력 (DAO인 경우)
         if (node.hasSql() && !"compact".equals(currentStyle)) {
-            String sqlPrefix = prefix + (isLast ? TREE_SPACE : TREE_VERTICAL);
-            appendSqlInfo(html, node, sqlPrefix);
+            appendSqlInfo(rows, node, childPrefix);
         }
 
         // 자식 노드 재귀 처리
-        String childPrefix = prefix + (isLast ? TREE_SPACE : TREE_VERTICAL);
         List<FlowNode> children = node.getChildren();
         for (int i = 0; i < children.size(); i++) {
-            appendFlowNode(html, children.get(i), childPrefix, i == children.size() - 1);
+            appendFlowNode(rows, children.get(i), childPrefix, i == children.size() - 1);
         }
     }
 
     /**
      * SQL 정보 출력
      */
-    private void appendSqlInfo(StringBuilder html, FlowNode node, String prefix) {
-        html.append(prefix).append(colorize("→ SQL 정보", COLOR_DAO)).append("\n");
+    private void appendSqlInfo(List<Row> rows, FlowNode node, String prefix) {
+        rows.add(new Row(RowKind.TEXT, null, prefix, false, "→ SQL 정보", null, COLOR_DAO));
 
         SqlInfo sqlInfo = node.getSqlInfo();
         if (sqlInfo != null) {
-            html.append(prefix).append(colorize("  | ", COLOR_INTERFACE));
-            html.append(colorize("파일: ", COLOR_INTERFACE));
-            html.append(colorize(escapeHtml(sqlInfo.getFileName()), "#4EC9B0")).append("\n");
-
-            html.append(prefix).append(colorize("  | ", COLOR_INTERFACE));
-            html.append(colorize("SQL ID: ", COLOR_INTERFACE));
-            html.append(colorize(escapeHtml(sqlInfo.getSqlId()), COLOR_SUMMARY)).append("\n");
+            rows.add(sqlRow(prefix, "파일: ", sqlInfo.getFileName(), COLOR_CONTROLLER));
+            rows.add(sqlRow(prefix, "SQL ID: ", sqlInfo.getSqlId(), COLOR_SUMMARY));
 
             if ("detailed".equals(currentStyle)) {
                 if (sqlInfo.getType() != null) {
-                    html.append(prefix).append(colorize("  | ", COLOR_INTERFACE));
-                    html.append(colorize("타입: ", COLOR_INTERFACE));
-                    html.append(colorize(sqlInfo.getType().name(), COLOR_WARNING_HEADER)).append("\n");
+                    rows.add(sqlRow(prefix, "타입: ", sqlInfo.getType().name(), COLOR_WARNING_HEADER));
                 }
                 String tables = sqlInfo.getTablesAsString();
                 if (!tables.isEmpty()) {
-                    html.append(prefix).append(colorize("  | ", COLOR_INTERFACE));
-                    html.append(colorize("테이블: ", COLOR_INTERFACE));
-                    html.append(colorize(escapeHtml(tables), COLOR_CONTROLLER)).append("\n");
+                    rows.add(sqlRow(prefix, "테이블: ", tables, COLOR_CONTROLLER));
                 }
             }
         } else {
-            html.append(prefix).append(colorize("  | ", COLOR_INTERFACE));
-            html.append(colorize("SQL ID: ", COLOR_INTERFACE));
-            html.append(colorize(escapeHtml(node.getSqlId()), COLOR_SUMMARY)).append("\n");
+            rows.add(sqlRow(prefix, "SQL ID: ", node.getSqlId(), COLOR_SUMMARY));
         }
     }
 
-    // ─────────────────────────────────────────────────────
-    // 유틸리티 메서드
-    // ─────────────────────────────────────────────────────
-
     /**
-     * HTML 색상 적용
+     * NODE 행의 색상 세그먼트 구성
      */
-    private String colorize(String text, String color) {
-        return "<span style='color:" + color + "'>" + text + "</span>";
-    }
+    private void buildNodeSegments(Row row, List<Segment> out) {
+        FlowNode node = row.node;
+        String connector = row.isLast ? TREE_LAST : TREE_BRANCH;
 
-    /**
-     * 문자열 반복
-     */
-    private String repeat(String str, int count) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            sb.append(str);
+        ClassType classType = node.getClassType();
+        Color color = getColorForClassType(classType);
+
+        out.add(new Segment(row.prefix + connector, COLOR_DEFAULT));
+
+        // 타입 태그
+        if (!"compact".equals(currentStyle) && classType != null) {
+            out.add(new Segment("[" + classType.getDisplayName() + "] ", color));
         }
-        return sb.toString();
-    }
 
-    /**
-     * 문자열 가운데 정렬 (한글 폭 고려)
-     */
-    private String center(String text, int width) {
-        int displayWidth = getDisplayWidth(text);
-        if (displayWidth >= width) return text;
-        int padding = (width - displayWidth) / 2;
-        return repeat(" ", padding) + text + repeat(" ", width - displayWidth - padding);
-    }
+        // 클래스.메서드
+        out.add(new Segment(node.getClassName() + "." + node.getMethodName() + "()", color));
 
-    /**
-     * 문자열의 표시 폭 계산 (한글/CJK 문자는 2칸)
-     */
-    private int getDisplayWidth(String text) {
-        int width = 0;
-        for (char c : text.toCharArray()) {
-            if (isWideChar(c)) {
-                width += 2;
-            } else {
-                width += 1;
+        // URL 분리 정보 (Controller인 경우): (/order + /detail.do)
+        if (node.isEndpoint() && !"compact".equals(currentStyle)) {
+            String urlBreakdown = formatUrlBreakdown(node);
+            if (!urlBreakdown.isEmpty()) {
+                out.add(new Segment("  " + urlBreakdown, COLOR_INTERFACE));
+            }
+        }
+
+        // 인터페이스 정보
+        if (node.hasImplementedInterface() && !"compact".equals(currentStyle)) {
+            String primaryInterface = node.getPrimaryInterface();
+            out.add(new Segment("  ← " + primaryInterface, COLOR_INTERFACE));
+
+            // 다중 구현체 경고
+            List<String> allImpls = multipleImplWarnings.get(primaryInterface);
+            if (allImpls != null) {
+                List<String> otherImpls = new ArrayList<>();
+                for (String impl : allImpls) {
+                    if (!impl.equals(node.getClassName())) {
+                        otherImpls.add(impl);
+                    }
+                }
+                if (!otherImpls.isEmpty()) {
+                    out.add(new Segment("  (외 " + String.join(", ", otherImpls) + ")", COLOR_WARNING));
+                }
             }
         }
-        return width;
     }
 
+    // ─────────────────────────────────────────────────────
+    // 유틸리티 메서드
+    // ─────────────────────────────────────────────────────
+
     /**
-     * 넓은 문자 여부 (한글, 한자, 일본어 등)
+     * 문자열 반복
      */
-    private boolean isWideChar(char c) {
-        Character.UnicodeBlock block = Character.UnicodeBlock.of(c);
-        return block == Character.UnicodeBlock.HANGUL_SYLLABLES
-            || block == Character.UnicodeBlock.HANGUL_JAMO
-            || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO
-            || block == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS
-            || block == Character.UnicodeBlock.CJK_COMPATIBILITY_IDEOGRAPHS
-            || block == Character.UnicodeBlock.HIRAGANA
-            || block == Character.UnicodeBlock.KATAKANA
-            || (c >= 0xFF00 && c <= 0xFFEF);
+    private static String repeat(String str, int count) {
+        return str.repeat(Math.max(0, count));
     }
 
     /**
      * HTTP 메서드별 색상
      */
-    private String getHttpMethodColor(String method) {
+    private static Color getHttpMethodColor(String method) {
         if (method == null) return COLOR_INTERFACE;
         switch (method) {
-            case "GET": return "#98C379";  // 밝은 초록 (URL 색상과 구분)
+            case "GET": return COLOR_GET;
             case "POST": return COLOR_WARNING_HEADER;  // 노랑
             case "PUT": return COLOR_SERVICE;  // 파랑
             case "DELETE": return COLOR_WARNING;  // 빨강
@@ -392,7 +409,7 @@ public class ResultPanel extends JPanel {
      * URL 분리 정보 포맷 (클래스 URL + 메서드 URL)
      * 예: (/user + /list.do)
      */
-    private String formatUrlBreakdown(FlowNode node) {
+    private static String formatUrlBreakdown(FlowNode node) {
         String classUrl = node.getClassUrlMapping();
         String methodUrl = node.getMethodUrlMapping();
 
@@ -405,7 +422,7 @@ public class ResultPanel extends JPanel {
     /**
      * ClassType에 맞는 색상 반환
      */
-    private String getColorForClassType(ClassType classType) {
+    private static Color getColorForClassType(ClassType classType) {
         if (classType == null) return COLOR_DEFAULT;
 
         switch (classType) {
@@ -420,56 +437,43 @@ public class ResultPanel extends JPanel {
         }
     }
 
-    /**
-     * HTML 특수문자 이스케이프
-     */
-    private String escapeHtml(String text) {
-        if (text == null) return "";
-        return text.replace("&", "&amp;")
-                   .replace("<", "&lt;")
-                   .replace(">", "&gt;")
-                   .replace("\"", "&quot;");
-    }
-
     /**
      * 결과 지우기
      */
     public void clear() {
-        resultPane.setText("");
+        endpointRowIndex.clear();
+        rowModel = new DefaultListModel<>();
+        resultList.setModel(rowModel);
+        maxRowChars = 0;
+        applyCellWidth();
     }
 
     /**
-     * 특정 엔드포인트로 스크롤 (URL로 검색)
+     * 특정 엔드포인트로 스크롤
+     *
+     * displayResult에서 만든 URL → 행 인덱스 맵으로 바로 찾음 (텍스트 검색 없음)
      * @param url 엔드포인트 URL
      */
     public void scrollToEndpoint(String url) {
         if (url == null || url.isEmpty()) return;
 
-        try {
-            String text = resultPane.getDocument().getText(0, resultPane.getDocument().getLength());
-            // URL 패턴으로 해당 엔드포인트 위치 찾기 (예: "[GET] /order/list.do" 또는 그냥 URL)
-            int pos = text.indexOf("] " + url);
-            if (pos < 0) {
-                pos = text.indexOf(url);
-            }
-
-            if (pos >= 0) {
-                // 해당 섹션의 시작 부분(구분선) 찾기
-                int sectionStart = text.lastIndexOf("───", pos);
-                if (sectionStart >= 0) {
-                    pos = sectionStart;
-                }
-
-                // 해당 위치의 Y 좌표를 구해서 스크롤 뷰포트 상단에 위치시킴
-                Rectangle rect = resultPane.modelToView(pos);
-                if (rect != null) {
-                    JViewport viewport = scrollPane.getViewport();
-                    // 강제로 해당 위치를 뷰포트 상단에 배치
-                    viewport.setViewPosition(new Point(0, rect.y));
+        Integer index = endpointRowIndex.get(url);
+        if (index == null) {
+            // 정확히 일치하는 URL이 없으면 부분 일치로 첫 번째 엔드포인트 선택
+            for (Map.Entry<String, Integer> entry : endpointRowIndex.entrySet()) {
+                if (entry.getKey().contains(url) && (index == null || entry.getValue() < index)) {
+                    index = entry.getValue();
                 }
             }
-        } catch (Exception e) {
-            // 스크롤 실패 시 무시
+        }
+        if (index == null || index >= rowModel.getSize()) return;
+
+        // 해당 행의 Y 좌표를 뷰포트 상단에 위치시킴
+        Rectangle rect = resultList.getCellBounds(index, index);
+        if (rect != null) {
+            JViewport viewport = scrollPane.getViewport();
+            int maxY = Math.max(0, resultList.getHeight() - viewport.getExtentSize().height);
+            viewport.setViewPosition(new Point(0, Math.min(rect.y, maxY)));
         }
     }
 
@@ -477,32 +481,183 @@ public class ResultPanel extends JPanel {
      * 결과 텍스트 반환 (복사용)
      */
     public String getResultAsText() {
-        try {
-            // HTML에서 텍스트만 추출
-            javax.swing.text.Document doc = resultPane.getDocument();
-            return doc.getText(0, doc.getLength());
-        } catch (Exception e) {
-            return "";
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < rowModel.getSize(); i++) {
+            sb.append(rowModel.get(i)).append("\n");
+        }
+        return sb.toString();
+    }
+
+    // ─────────────────────────────────────────────────────
+    // 행 모델 / 렌더러
+    // ─────────────────────────────────────────────────────
+
+    private Row blankRow() {
+        return new Row(RowKind.BLANK, null, null, false, null, null, null);
+    }
+
+    private Row textRow(String text, Color color) {
+        return textRow(text, color, false);
+    }
+
+    private Row textRow(String text, Color color, boolean bold) {
+        return new Row(RowKind.TEXT, null, null, false, text, null, color, bold);
+    }
+
+    private Row sqlRow(String prefix, String label, String value, Color valueColor) {
+        return new Row(RowKind.SQL_LINE, null, prefix, false, label, value, valueColor);
+    }
+
+    private enum RowKind {
+        BLANK,     // 빈 줄
+        TEXT,      // 단색 텍스트 (헤더, 구분선, 경고 등)
+        SQL_LINE,  // SQL 정보 한 줄 (접두사 + "  | " + 라벨 + 값)
+        ENDPOINT,  // [GET] /user/list.do
+        NODE       // 트리 노드 (접두사 + 연결선 + 타입 + 클래스.메서드 ...)
+    }
+
+    /**
+     * 결과 한 줄
+     *
+     * 렌더링에 필요한 최소 정보만 보관하고, 세그먼트는 그릴 때 계산합니다.
+     */
+    private class Row {
+        final RowKind kind;
+        final FlowNode node;
+        final String prefix;
+        final boolean isLast;
+        final String label;
+        final String value;
+        final Color color;
+        final boolean bold;
+
+        Row(RowKind kind, FlowNode node, String prefix, boolean isLast, String label, String value, Color color) {
+            this(kind, node, prefix, isLast, label, value, color, false);
+        }
+
+        Row(RowKind kind, FlowNode node, String prefix, boolean isLast, String label, String value, Color color,
+            boolean bold) {
+            this.kind = kind;
+            this.node = node;
+            this.prefix = prefix;
+            this.isLast = isLast;
+            this.label = label;
+            this.value = value;
+            this.color = color;
+            this.bold = bold;
+        }
+
+        /**
+         * 행을 색상 세그먼트로 분해
+         */
+        void buildSegments(List<Segment> out) {
+            switch (kind) {
+                case TEXT:
+                    if (prefix != null) {
+                        out.add(new Segment(prefix, COLOR_DEFAULT));
+                    }
+                    out.add(new Segment(label, color));
+                    break;
+                case SQL_LINE:
+                    out.add(new Segment(prefix, COLOR_DEFAULT));
+                    out.add(new Segment("  | " + label, COLOR_INTERFACE));
+                    out.add(new Segment(value != null ? value : "", color));
+                    break;
+                case ENDPOINT:
+                    out.add(new Segment("[" + node.getHttpMethod() + "]", getHttpMethodColor(node.getHttpMethod())));
+                    out.add(new Segment(" " + node.getUrlMapping(), COLOR_CONTROLLER));
+                    break;
+                case NODE:
+                    buildNodeSegments(this, out);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        int getApproxLength() {
+            switch (kind) {
+                case BLANK:
+                    return 0;
+                case TEXT:
+                    return (prefix != null ? prefix.length() : 0) + label.length();
+                default:
+                    return toString().length();
+            }
+        }
+
+        @Override
+        public String toString() {
+            // JList 기본 복사(Ctrl+C)와 getResultAsText()에서 사용
+            if (kind == RowKind.BLANK) return "";
+            List<Segment> segments = new ArrayList<>(6);
+            buildSegments(segments);
+            StringBuilder sb = new StringBuilder();
+            for (Segment segment : segments) {
+                sb.append(segment.text);
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * 같은 색상으로 그려지는 텍스트 조각
+     */
+    private static class Segment {
+        final String text;
+        final Color color;
+
+        Segment(String text, Color color) {
+            this.text = text;
+            this.color = color;
         }
     }
 
     /**
-     * 투명 커서 (Caret)
+     * 행 렌더러
      *
-     * 커서(|)를 완전히 숨기면서 텍스트 선택 기능은 유지합니다.
-     * - paint(): 아무것도 그리지 않음 → 커서 숨김
-     * - damage(): repaint 영역 계산 무시 → 성능 최적화
-     * - Highlighter가 선택 영역을 별도로 처리하므로 드래그 선택은 정상 동작
+     * JLabel(HTML) 대신 Graphics.drawString으로 세그먼트를 직접 그려
+     * 보이는 행마다 HTML 파싱이 일어나지 않도록 합니다.
      */
-    private static class InvisibleCaret extends DefaultCaret {
+    private class RowRenderer extends JComponent implements ListCellRenderer<Row> {
+        private final List<Segment> segments = new ArrayList<>(8);
+        private boolean selected;
+        private boolean bold;
+
+        RowRenderer() {
+            setOpaque(true);
+        }
+
         @Override
-        public void paint(Graphics g) {
-            // 아무것도 그리지 않음 - 커서 완전히 숨김
+        public Component getListCellRendererComponent(JList<? extends Row> list, Row value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            segments.clear();
+            if (value != null) {
+                value.buildSegments(segments);
+            }
+            this.selected = isSelected;
+            this.bold = value != null && value.bold;
+            setFont(bold ? list.getFont().deriveFont(Font.BOLD) : list.getFont());
+            return this;
         }
 
         @Override
-        protected synchronized void damage(Rectangle r) {
-            // 그리지 않으므로 damage도 무시
+        protected void paintComponent(Graphics g) {
+            g.setColor(selected ? COLOR_SELECTION : COLOR_BACKGROUND);
+            g.fillRect(0, 0, getWidth(), getHeight());
+
+            Graphics2D g2 = (Graphics2D) g;
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2.setFont(getFont());
+            FontMetrics fm = g2.getFontMetrics();
+            int baseline = (getHeight() - fm.getHeight()) / 2 + fm.getAscent();
+
+            int x = 0;
+            for (Segment segment : segments) {
+                g2.setColor(segment.color != null ? segment.color : COLOR_DEFAULT);
+                g2.drawString(segment.text, x, baseline);
+                x += fm.stringWidth(segment.text);
+            }
         }
     }
 }
@@ -2,6 +2,7 @@ package com.codeflow.ui;
 
 import com.codeflow.analyzer.FlowAnalyzer;
 import com.codeflow.analyzer.FlowResult;
+import com.codeflow.parser.SqlBranchAnalyzer;
 
 import javax.swing.*;
 import javax.swing.RowFilter;
@@ -23,6 +24,9 @@ import java.util.Map;
  * 구조:
  * - 상단: 브레드크럼 (테이블명 > 쿼리)
  * - 가운데: CardLayout (접근 정보 테이블 / 쿼리 상세 뷰)
+ *
+ * 동적 SQL(&lt;isNotEmpty&gt;, &lt;if&gt; 등)의 일부 분기에서만 접근하는 테이블은 "조건" 컬럼에 조건을 표시합니다.
+ * 분기 분석 결과는 문장별로 캐시되어 결과를 다시 표시해도 쿼리를 다시 분석하지 않습니다.
  */
 public class TableImpactPanel extends JPanel {
 
@@ -56,6 +60,7 @@ public class TableImpactPanel extends JPanel {
     private JLabel queryInfoLabel;
 
     // 데이터
+    private final SqlBranchAnalyzer sqlBranchAnalyzer = new SqlBranchAnalyzer();
     private Map<String, FlowAnalyzer.TableImpact> tableIndex;
     private List<FlowAnalyzer.TableAccess> currentAccessList = new ArrayList<>();
     private String currentTableName = null;
@@ -90,8 +95,8 @@ public class TableImpactPanel extends JPanel {
         accessSearchField.setFont(new Font("D2Coding", Font.PLAIN, 13));
         accessSearchField.setToolTipText("URL, XML 파일명, SQL ID로 검색 (실시간)");
 
-        // 접근 정보 테이블 (컬럼: CRUD / URL / XML 파일 / SQL ID)
-        String[] columns = {"CRUD", "URL", "XML 파일", "SQL ID"};
+        // 접근 정보 테이블 (컬럼: CRUD / URL / XML 파일 / SQL ID / 조건)
+        String[] columns = {"CRUD", "URL", "XML 파일", "SQL ID", "조건"};
         accessTableModel = new DefaultTableModel(columns, 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
@@ -108,6 +113,7 @@ public class TableImpactPanel extends JPanel {
         accessTable.getColumnModel().getColumn(1).setPreferredWidth(300);  // URL
         accessTable.getColumnModel().getColumn(2).setPreferredWidth(150);  // XML 파일
         accessTable.getColumnModel().getColumn(3).setPreferredWidth(150);  // SQL ID
+        accessTable.getColumnModel().getColumn(4).setPreferredWidth(200);  // 조건 (동적 SQL 분기)
 
         // 정렬 및 필터링 기능
         accessTableSorter = new TableRowSorter<>(accessTableModel);
@@ -263,16 +269,36 @@ public class TableImpactPanel extends JPanel {
     }
 
     /**
-     * 분석 결과로 데이터 업데이트
+     * 테이블 인덱스 생성 (동적 SQL 분기 분석 포함 - 백그라운드 스레드에서 호출)
+     *
+     * 문장마다 처음 분석할 때 쿼리 텍스트를 임시 파일에서 읽고 분기를 펼치므로 문장 수만큼 오래 걸림 (EDT에서 호출 금지).
+     * 분기 분석 결과는 문장별 캐시에 남으므로, 이 결과의 일부(CRUD 필터 적용)는 updateData(result)로 바로 만들 수 있음.
+     */
+    public Map<String, FlowAnalyzer.TableImpact> buildTableIndex(FlowResult result) {
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSqlBranchAnalyzer(sqlBranchAnalyzer);
+        return analyzer.buildTableIndex(result);
+    }
+
+    /**
+     * 분석 결과로 데이터 업데이트 (호출 스레드에서 인덱스 생성)
+     *
+     * buildTableIndex로 이미 분석한 결과의 일부(CRUD 필터 적용 결과)에만 사용 - 분기 분석은 캐시에서 가져옴
      */
     public void updateData(FlowResult result) {
-        if (result == null) {
+        updateData(result, result != null ? buildTableIndex(result) : null);
+    }
+
+    /**
+     * 분석 결과 + 백그라운드에서 만든 테이블 인덱스로 데이터 업데이트
+     */
+    public void updateData(FlowResult result, Map<String, FlowAnalyzer.TableImpact> tableIndex) {
+        if (result == null || tableIndex == null) {
             clear();
             return;
         }
 
-        FlowAnalyzer analyzer = new FlowAnalyzer();
-        this.tableIndex = analyzer.buildTableIndex(result);
+        this.tableIndex = tableIndex;
 
         // 초기 상태로 설정
         currentTableName = null;
@@ -317,7 +343,8 @@ public class TableImpactPanel extends JPanel {
                         access.getSqlType() != null ? access.getSqlType().name() : "-",
                         access.getUrl() != null ? access.getUrl() : "-",
                         access.getXmlFileName() != null ? access.getXmlFileName() : "-",
-                        access.getSqlId() != null ? access.getSqlId() : "-"
+                        access.getSqlId() != null ? access.getSqlId() : "-",
+                        access.isConditional() ? access.getCondition() : "항상"
                     });
                 }
             }
@@ -342,7 +369,8 @@ public class TableImpactPanel extends JPanel {
                 access.getSqlType() != null ? access.getSqlType().name() : "-",
                 access.getUrl() != null ? access.getUrl() : "-",
                 access.getXmlFileName() != null ? access.getXmlFileName() : "-",
-                access.getSqlId() != null ? access.getSqlId() : "-"
+                access.getSqlId() != null ? access.getSqlId() : "-",
+                access.isConditional() ? access.getCondition() : "항상"
             });
         }
 
@@ -441,6 +469,9 @@ public class TableImpactPanel extends JPanel {
                 sb.append(sqlId);
             }
             sb.append(" */\n");
+            if (access.isConditional()) {
+                sb.append("/* 조건부 접근: ").append(access.getCondition()).append(" */\n");
+            }
             sb.append(query.trim());
             queryTextArea.setText(sb.toString());
         }
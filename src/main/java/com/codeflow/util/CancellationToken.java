@@ -0,0 +1,51 @@
+package com.codeflow.util;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * 협조적 취소 토큰
+ *
+ * GUI의 취소 버튼/타임아웃에서 cancel()을 호출하면,
+ * 파서와 분석기가 파일/엔드포인트 단위로 확인하여 즉시 작업을 중단합니다.
+ *
+ * 설계 결정:
+ * - SwingWorker.cancel(true)는 스레드 인터럽트만 보내므로, 인터럽트를 확인하지 않는
+ *   JavaParser 파싱 루프는 단계가 끝날 때까지 계속 CPU를 사용함
+ * - volatile 플래그 하나로 구현하여 확인 비용을 최소화 (파일마다 호출해도 부담 없음)
+ * - 취소 시 java.util.concurrent.CancellationException을 던져
+ *   SwingWorker의 기존 취소 처리 흐름(catch CancellationException)을 그대로 사용
+ */
+public class CancellationToken {
+
+    private volatile boolean cancelled = false;
+
+    /**
+     * 취소하지 않는 토큰 (CLI 등 취소가 필요 없는 경우 기본값)
+     */
+    public static CancellationToken none() {
+        return new CancellationToken();
+    }
+
+    /**
+     * 취소 요청
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * 취소 요청 여부
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 취소되었으면 CancellationException 발생
+     */
+    public void throwIfCancelled() {
+        if (cancelled) {
+            throw new CancellationException("분석이 취소되었습니다");
+        }
+    }
+}
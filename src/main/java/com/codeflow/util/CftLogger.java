@@ -277,6 +277,18 @@ public class CftLogger {
         info("========================================");
     }
 
+    /**
+     * 단계별 성능 측정 로그 (PerfReport.toSummaryText 결과)
+     */
+    public void logPerfSummary(String summaryText) {
+        info("성능 측정 결과:");
+        for (String line : summaryText.split("\\R")) {
+            if (!line.isEmpty()) {
+                info(line);
+            }
+        }
+    }
+
     /**
      * 분석 실패 로그 (표준 포맷)
      */
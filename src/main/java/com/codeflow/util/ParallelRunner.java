@@ -0,0 +1,83 @@
+package com.codeflow.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 번호로 나뉜 독립 작업의 병렬 처리 (아카이브 항목, 모듈 등)
+ *
+ * 설계 결정:
+ * - 스레드마다 작업 객체(workerFactory)를 하나씩 만들어 스레드 안에서만 사용 (파서처럼 스레드 간 공유 불가한 객체)
+ * - 항목 번호는 공유 카운터로 나눠 가짐 → 오래 걸리는 항목이 있어도 남은 스레드가 나머지를 처리
+ * - 스레드 이름은 호출하는 쪽이 지정 (스레드 덤프/JFR에서 어떤 작업인지 구분: cft-archive-1, cft-module-1 등)
+ * - 데몬 스레드 → 오류로 남은 스레드가 JVM 종료를 막지 않음
+ */
+public final class ParallelRunner {
+
+    private ParallelRunner() {
+    }
+
+    /**
+     * 작업 병렬 처리: 스레드마다 작업 객체를 하나씩 만들고 항목 번호(0 ~ count-1)를 나눠 처리
+     *
+     * 작업 중 예외(취소 포함)는 호출 스레드에서 다시 던집니다.
+     *
+     * @param threadNamePrefix 스레드 이름 접두사 (뒤에 "-번호"가 붙음)
+     * @return 스레드별 작업 객체 (집계를 합치는 용도)
+     */
+    public static <W> List<W> run(String threadNamePrefix, int count, int threads,
+                                  Supplier<W> workerFactory, BiConsumer<W, Integer> task) {
+        int threadCount = Math.max(1, Math.min(threads, count));
+        List<W> workers = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            workers.add(workerFactory.get());
+        }
+        if (count == 0) {
+            return workers;
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        AtomicInteger nextIndex = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (W worker : workers) {
+                futures.add(pool.submit(() -> {
+                    for (int i = nextIndex.getAndIncrement(); i < count; i = nextIndex.getAndIncrement()) {
+                        task.accept(worker, i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("분석이 취소되었습니다");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            pool.shutdownNow();
+        }
+        return workers;
+    }
+}
@@ -0,0 +1,60 @@
+package com.codeflow.util;
+
+/**
+ * 분석 진행 상황 리스너
+ *
+ * 파서와 분석기가 파일/엔드포인트를 하나 처리할 때마다 호출합니다.
+ * 예: "Java 소스 파싱 중... 3,210 / 12,004 파일"
+ *
+ * 호출 빈도가 높으므로 구현체는 가볍게 유지해야 합니다.
+ * (GUI는 일정 간격으로만 화면을 갱신)
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * 아무것도 하지 않는 리스너 (기본값)
+     */
+    ProgressListener NONE = (phase, current, total) -> { };
+
+    /**
+     * 진행 상황 통지
+     *
+     * @param phase 현재 단계
+     * @param current 처리 완료 개수
+     * @param total 전체 개수
+     */
+    void onProgress(Phase phase, int current, int total);
+
+    /**
+     * 분석 단계
+     */
+    enum Phase {
+        JAVA_PARSE("Java 소스 파싱", "파일"),
+        XML_PARSE("iBatis/MyBatis XML 파싱", "파일"),
+        FLOW_ANALYSIS("호출 흐름 분석", "엔드포인트");
+
+        private final String displayName;
+        private final String unit;
+
+        Phase(String displayName, String unit) {
+            this.displayName = displayName;
+            this.unit = unit;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        /**
+         * 진행 메시지 포맷 (예: "Java 소스 파싱 중... 3,210 / 12,004 파일")
+         */
+        public String format(int current, int total) {
+            return String.format("%s 중... %,d / %,d %s", displayName, current, total, unit);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.codeflow.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부분 문자열 검색용 n-gram 인덱스
+ *
+ * GUI의 엔드포인트/테이블 목록 검색에서 사용합니다.
+ * 항목마다 여러 검색어(URL, 클래스명, 테이블명 등)를 등록하고,
+ * 입력한 문자열이 검색어 중 하나에 포함되는 항목을 등록 순서대로 반환합니다.
+ *
+ * 설계 결정:
+ * - 길이 1~3의 모든 n-gram → 항목 번호 목록(posting)을 미리 만들어 둠
+ * - 검색어가 3자 이하면 posting 하나로 바로 결과 확정 (검증 불필요)
+ * - 4자 이상이면 검색어의 trigram posting을 교집합한 후보만 contains로 검증
+ * - 항목 번호는 등록 순서대로 증가하므로 posting은 항상 정렬 상태 (교집합이 선형 시간)
+ * - 대소문자 구분 없음 (Locale.ROOT 소문자로 정규화)
+ *
+ * 스레드 안전성: add()로 구축이 끝난 뒤에는 여러 스레드에서 search()를 호출해도 안전합니다.
+ * 구축과 검색을 동시에 하지 않도록 호출 측에서 보장해야 합니다.
+ */
+public class SearchIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    // 원본 항목 (검색 결과로 반환)
+    private final List<String> items = new ArrayList<>();
+
+    // 항목별 검색 대상 문자열 (소문자, 검색어 사이는 '\n'으로 구분)
+    private final List<String> haystacks = new ArrayList<>();
+
+    // n-gram → 항목 번호 목록
+    private final Map<String, IntList> postings = new HashMap<>();
+
+    /**
+     * 항목 등록
+     *
+     * @param item 검색 결과로 반환될 항목 (예: URL)
+     * @param searchTerms 항목을 찾을 수 있는 검색어 (null은 무시)
+     */
+    public void add(String item, String... searchTerms) {
+        int id = items.size();
+        items.add(item);
+
+        StringBuilder sb = new StringBuilder();
+        appendTerm(sb, item);
+        for (String term : searchTerms) {
+            appendTerm(sb, term);
+        }
+        String haystack = sb.toString();
+        haystacks.add(haystack);
+
+        for (int start = 0; start < haystack.length(); start++) {
+            for (int len = 1; len <= MAX_GRAM && start + len <= haystack.length(); len++) {
+                char last = haystack.charAt(start + len - 1);
+                if (last == '\n') {
+                    break;  // 검색어 경계를 넘는 n-gram은 만들지 않음
+                }
+                postings.computeIfAbsent(haystack.substring(start, start + len), k -> new IntList())
+                        .addIfNew(id);
+            }
+        }
+    }
+
+    private void appendTerm(StringBuilder sb, String term) {
+        if (term == null || term.isEmpty()) {
+            return;
+        }
+        if (sb.length() > 0) {
+            sb.append('\n');
+        }
+        sb.append(term.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 검색
+     *
+     * @param query 검색 문자열 (빈 문자열이면 전체 반환)
+     * @return 검색어가 포함된 항목 (등록 순서 유지)
+     */
+    public List<String> search(String query) {
+        String q = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (q.isEmpty()) {
+            return Collections.unmodifiableList(new ArrayList<>(items));
+        }
+
+        // 짧은 검색어: n-gram posting 자체가 정답
+        if (q.length() <= MAX_GRAM) {
+            IntList posting = postings.get(q);
+            return posting == null ? Collections.emptyList() : toItems(posting.toArray(), false, q);
+        }
+
+        // 긴 검색어: trigram posting 교집합 → contains 검증
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i + MAX_GRAM <= q.length(); i++) {
+            IntList posting = postings.get(q.substring(i, i + MAX_GRAM));
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            lists.add(posting.toArray());
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+        return toItems(candidates, true, q);
+    }
+
+    /**
+     * 등록된 항목 수
+     */
+    public int size() {
+        return items.size();
+    }
+
+    private List<String> toItems(int[] ids, boolean verify, String q) {
+        List<String> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            if (!verify || haystacks.get(id).contains(q)) {
+                result.add(items.get(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 정렬된 두 배열의 교집합
+     */
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 박싱 없는 int 목록 (posting 저장용)
+     */
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        /**
+         * 마지막 값과 다를 때만 추가 (같은 항목 내 중복 n-gram 제거)
+         */
+        void addIfNew(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
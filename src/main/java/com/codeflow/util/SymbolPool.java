@@ -0,0 +1,113 @@
+package com.codeflow.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 식별자 문자열 공유 풀 (분석 1회 단위)
+ *
+ * 클래스명, 메서드명, scope, 타입명, URL 등은 파일마다/노드마다 같은 값이 반복되는데,
+ * JavaParser와 Gson은 매번 새 String을 만듭니다.
+ * 같은 값은 풀에 처음 들어온 인스턴스 하나를 함께 쓰도록 바꿔서 중복 String을 없앱니다.
+ *
+ * 사용 예:
+ * <pre>
+ * SymbolPool symbols = new SymbolPool();
+ * parser.setSymbolPool(symbols);
+ * analyzer.setSymbolPool(symbols);   // 파싱 모델과 FlowNode가 같은 인스턴스 공유
+ * </pre>
+ *
+ * 설계 결정:
+ * - String.intern()은 JVM 전역에 남으므로 사용하지 않음
+ *   → 풀은 파서/분석기가 참조하는 동안만 살아 있고, 분석이 끝나 함께 버려지면 GC 대상 (분석 1회 = 수명)
+ * - 모델 객체에 internSymbols(pool)을 두고 파싱 직후(캐시에서 가져온 결과 포함) 1번 적용
+ *   → 모델의 setter/생성자는 그대로, 파서 내부의 추출 코드도 그대로
+ * - 여러 파싱 스레드가 함께 쓰므로 ConcurrentHashMap (putIfAbsent 1번으로 조회 + 등록)
+ */
+public class SymbolPool {
+
+    private static final SymbolPool NONE = new SymbolPool(false);
+
+    // String 객체 헤더 + byte[] 헤더 (64비트 JVM, 압축 참조 기준 근사값)
+    private static final int STRING_OVERHEAD_BYTES = 24 + 16;
+
+    private final boolean enabled;
+    private final Map<String, String> symbols;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+
+    public SymbolPool() {
+        this(true);
+    }
+
+    private SymbolPool(boolean enabled) {
+        this.enabled = enabled;
+        this.symbols = enabled ? new ConcurrentHashMap<>() : Map.of();
+    }
+
+    /**
+     * 공유하지 않는 풀 (받은 인스턴스를 그대로 반환 - 힙 비교 측정용)
+     */
+    public static SymbolPool none() {
+        return NONE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 같은 값의 공유 인스턴스 반환 (처음 보는 값이면 받은 인스턴스를 등록 후 반환)
+     */
+    public String intern(String value) {
+        if (!enabled || value == null) {
+            return value;
+        }
+        String existing = symbols.putIfAbsent(value, value);
+        if (existing == null) {
+            return value;
+        }
+        if (existing != value) {
+            hitCount.increment();
+            savedBytes.add(STRING_OVERHEAD_BYTES + value.length());
+        }
+        return existing;
+    }
+
+    /**
+     * 목록의 문자열을 공유 인스턴스로 교체 (목록 자체를 수정)
+     */
+    public void internAll(List<String> values) {
+        if (enabled && values != null && !values.isEmpty()) {
+            values.replaceAll(this::intern);
+        }
+    }
+
+    /**
+     * 풀에 등록된 서로 다른 문자열 수
+     */
+    public int size() {
+        return symbols.size();
+    }
+
+    /**
+     * 기존 인스턴스로 바꾼 횟수 (= 없앤 중복 String 수)
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 없앤 중복 String의 대략적인 크기 (Latin-1 문자열 기준)
+     */
+    public long getSavedBytes() {
+        return savedBytes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SymbolPool[%,d개, 중복 제거 %,d회]", size(), getHitCount());
+    }
+}
@@ -0,0 +1,385 @@
+package com.codeflow;
+
+import com.codeflow.analyzer.ChangeImpact;
+import com.codeflow.analyzer.ChangeSet;
+import com.codeflow.analyzer.CrudMatrix;
+import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.analyzer.FlowNode;
+import com.codeflow.analyzer.FlowResult;
+import com.codeflow.output.ExcelOutput;
+import com.codeflow.parser.ClassType;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.SqlInfo;
+import com.codeflow.perf.PerfReport;
+import com.codeflow.perf.SyntheticProjectGenerator;
+import com.codeflow.session.SessionData;
+import com.codeflow.session.SessionManager;
+import com.codeflow.util.SymbolPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대규모 회귀 테스트 (scale 태그)
+ *
+ * 가상 프로젝트(SyntheticProjectGenerator)를 여러 배율로 생성하여
+ * 파싱 → 추적 → 테이블 인덱스 → Excel/JSON 내보내기 전체를 측정합니다.
+ *
+ * 실행: gradlew scaleTest (기본 1x, 5x)
+ *       gradlew scaleTest -PscaleFactors=1,10,100
+ *
+ * 판정 기준:
+ * - 배율별 예산 (BUDGETS): 전체 wall 시간, 최대 힙, 전체 할당량
+ * - 선형성: 단계별 "배율당 할당량/시간"이 작은 배율 대비 크게 늘면 실패 (O(n²) 회귀 탐지)
+ *   할당량은 결정적이라 엄격하게, 시간은 JIT/GC 노이즈를 고려해 느슨하게 비교
+ */
+@Tag("scale")
+@DisplayName("대규모 회귀 테스트")
+class ScaleRegressionTest {
+
+    private static final long MB = 1024L * 1024L;
+
+    // 배율별 예산 (wall ms, 최대 힙, 전체 할당량)
+    // 기준 측정치의 약 2배. 1x는 POI 등 최초 클래스 로딩/JIT 비용이 포함되어 상대적으로 큼
+    // 100x는 scaleTest의 maxHeapSize(2g) 안에서 동작해야 함
+    private static final Map<Integer, Budget> BUDGETS = Map.of(
+        1, new Budget(30_000, 256 * MB, 1_536 * MB),
+        5, new Budget(60_000, 768 * MB, 6_144 * MB),
+        10, new Budget(90_000, 1_024 * MB, 10_240 * MB),
+        100, new Budget(600_000, 1_792 * MB, 81_920 * MB)
+    );
+
+    // 선형성 허용치: 배율당 비용이 작은 배율 대비 몇 배까지 늘어도 되는지
+    private static final double MAX_ALLOC_GROWTH = 2.0;
+    private static final double MAX_TIME_GROWTH = 3.0;
+    // 이보다 짧은 단계는 시간 선형성 판정에서 제외 (측정 노이즈)
+    private static final long MIN_WALL_MILLIS_FOR_TIME_CHECK = 300;
+
+    private static final String PHASE_TABLE_INDEX = "table-index";
+    private static final String PHASE_EXCEL_EXPORT = "excel-export";
+    private static final String PHASE_JSON_EXPORT = "json-export";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("배율별 예산 이내, 단계별 비용이 선형으로 증가")
+    void testScaleBudgets() throws Exception {
+        List<Integer> factors = scaleFactors();
+        Map<Integer, PerfReport> reports = new LinkedHashMap<>();
+
+        for (int factor : factors) {
+            Budget budget = BUDGETS.get(factor);
+            assertNotNull(budget, "예산이 정의되지 않은 배율: " + factor + " (정의됨: " + BUDGETS.keySet() + ")");
+
+            PerfReport report = runPipeline(factor);
+            reports.put(factor, report);
+            System.out.printf("[scale x%d] %s%n", factor, report.toSummaryText());
+
+            long allocated = report.getPhases().stream().mapToLong(PerfReport.PhaseStats::getAllocatedBytes).sum();
+            assertAll("x" + factor + " 예산",
+                () -> assertTrue(report.getTotalWallMillis() <= budget.maxWallMillis,
+                    String.format("wall %,d ms > 예산 %,d ms", report.getTotalWallMillis(), budget.maxWallMillis)),
+                () -> assertTrue(report.getPeakHeapBytes() <= budget.maxPeakHeapBytes,
+                    String.format("최대 힙 %s > 예산 %s", PerfReport.formatBytes(report.getPeakHeapBytes()),
+                        PerfReport.formatBytes(budget.maxPeakHeapBytes))),
+                () -> assertTrue(allocated <= budget.maxAllocatedBytes,
+                    String.format("할당 %s > 예산 %s", PerfReport.formatBytes(allocated),
+                        PerfReport.formatBytes(budget.maxAllocatedBytes))));
+        }
+
+        // 인접한 배율끼리 단계별 선형성 비교
+        List<String> violations = new ArrayList<>();
+        for (int i = 1; i < factors.size(); i++) {
+            int small = factors.get(i - 1);
+            int large = factors.get(i);
+            violations.addAll(checkLinear(small, reports.get(small), large, reports.get(large)));
+        }
+        assertTrue(violations.isEmpty(), "비선형 증가 단계:\n" + String.join("\n", violations));
+    }
+
+    @Test
+    @DisplayName("식별자 공유 풀 - 파싱 모델 + 호출 흐름 트리의 유지 힙 감소")
+    void testSymbolPoolRetainedHeap() throws Exception {
+        // Given: 가장 큰 배율의 가상 프로젝트
+        int factor = scaleFactors().get(scaleFactors().size() - 1);
+        Path projectDir = tempDir.resolve("symbols-x" + factor);
+        new SyntheticProjectGenerator(SyntheticProjectGenerator.Spec.scaled(factor)).generate(projectDir);
+
+        // When: 풀 없이 / 풀 사용 각각 분석 후 결과를 붙잡은 상태에서 힙 사용량 측정
+        long withoutPool = retainedHeap(projectDir, SymbolPool.none());
+        SymbolPool pool = new SymbolPool();
+        long withPool = retainedHeap(projectDir, pool);
+
+        // Then
+        System.out.printf("[symbols x%d] 유지 힙: 풀 없음 %s → 풀 사용 %s (%s, 중복 %,d개 제거, 추정 %s)%n",
+            factor, PerfReport.formatBytes(withoutPool), PerfReport.formatBytes(withPool), pool,
+            pool.getHitCount(), PerfReport.formatBytes(pool.getSavedBytes()));
+        assertTrue(pool.getHitCount() > pool.size(), "중복 식별자가 공유되어야 함: " + pool);
+        assertTrue(withPool < withoutPool,
+            String.format("풀 사용 %s >= 풀 없음 %s", PerfReport.formatBytes(withPool), PerfReport.formatBytes(withoutPool)));
+        deleteRecursively(projectDir);
+    }
+
+    @Test
+    @DisplayName("SQL 텍스트 임시 파일 - 매퍼 파싱 결과 유지 힙 감소")
+    void testLazySqlTextRetainedHeap() throws Exception {
+        // Given: 가장 큰 배율의 가상 프로젝트
+        int factor = scaleFactors().get(scaleFactors().size() - 1);
+        Path projectDir = tempDir.resolve("sqltext-x" + factor);
+        new SyntheticProjectGenerator(SyntheticProjectGenerator.Spec.scaled(factor)).generate(projectDir);
+
+        // When: 쿼리 텍스트 보관 / 임시 파일로 옮김 각각 파싱 후 결과를 붙잡은 상태에서 힙 사용량 측정
+        long eager = retainedSqlHeap(projectDir, false);
+        long lazy = retainedSqlHeap(projectDir, true);
+
+        // Then
+        System.out.printf("[sqltext x%d] 유지 힙: 텍스트 보관 %s → 임시 파일 %s%n",
+            factor, PerfReport.formatBytes(eager), PerfReport.formatBytes(lazy));
+        assertTrue(lazy < eager,
+            String.format("임시 파일 %s >= 텍스트 보관 %s", PerfReport.formatBytes(lazy), PerfReport.formatBytes(eager)));
+        deleteRecursively(projectDir);
+    }
+
+    @Test
+    @DisplayName("변경 영향 분석 - DAO 1개 변경 시 영향받는 엔드포인트만 추적, 결과는 전체 추적과 같음")
+    void testChangeImpactTracesOnlyAffected() throws Exception {
+        // Given: 가장 큰 배율의 가상 프로젝트 + 전체 추적 결과
+        int factor = scaleFactors().get(scaleFactors().size() - 1);
+        Path projectDir = tempDir.resolve("impact-x" + factor);
+        new SyntheticProjectGenerator(SyntheticProjectGenerator.Spec.scaled(factor)).generate(projectDir);
+        List<ParsedClass> classes = new JavaSourceParser().parseProject(projectDir);
+        Map<String, SqlInfo> sqlInfoMap = new IBatisParser().parseProject(projectDir);
+
+        FlowAnalyzer fullAnalyzer = new FlowAnalyzer();
+        fullAnalyzer.setSqlInfoMap(sqlInfoMap);
+        long fullStart = System.nanoTime();
+        FlowResult full = fullAnalyzer.analyze(projectDir, classes);
+        long fullMillis = (System.nanoTime() - fullStart) / 1_000_000;
+
+        ParsedClass dao = classes.stream().filter(c -> c.getClassType() == ClassType.DAO).findFirst().orElseThrow();
+        ChangeSet changes = new ChangeSet();
+        changes.addFile(projectDir.relativize(dao.getFilePath()).toString());
+
+        // When
+        FlowAnalyzer impactAnalyzer = new FlowAnalyzer();
+        impactAnalyzer.setSqlInfoMap(sqlInfoMap);
+        long impactStart = System.nanoTime();
+        impactAnalyzer.beginIndex();
+        classes.forEach(impactAnalyzer::indexClass);
+        ChangeImpact impact = impactAnalyzer.analyzeChangeImpact(projectDir, changes);
+        long impactMillis = (System.nanoTime() - impactStart) / 1_000_000;
+
+        // Then
+        Set<String> expected = new TreeSet<>();
+        for (FlowNode flow : full.getFlows()) {
+            if (containsClass(flow, dao.getClassName())) {
+                expected.add(CrudMatrix.endpointName(flow.getHttpMethod(), flow.getUrlMapping()));
+            }
+        }
+        Set<String> actual = impact.getEndpoints().stream()
+            .map(ChangeImpact.AffectedEndpoint::getName).collect(Collectors.toCollection(TreeSet::new));
+        System.out.printf("[impact x%d] %s: 엔드포인트 %,d개 중 %,d개, 변경 영향 %,d ms (전체 추적 %,d ms)%n",
+            factor, dao.getClassName(), full.getFlows().size(), actual.size(), impactMillis, fullMillis);
+        assertFalse(actual.isEmpty());
+        assertEquals(expected, actual);
+        assertEquals(actual.size(), impact.getFlowResult().getFlows().size());
+        assertTrue(actual.size() < full.getFlows().size(), "영향받지 않는 엔드포인트는 추적하지 않음");
+        deleteRecursively(projectDir);
+    }
+
+    private static boolean containsClass(FlowNode node, String className) {
+        if (className.equals(node.getClassName())) {
+            return true;
+        }
+        for (FlowNode child : node.getChildren()) {
+            if (containsClass(child, className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long retainedSqlHeap(Path projectDir, boolean lazySqlText) throws Exception {
+        long before = usedHeapAfterGc();
+
+        IBatisParser parser = new IBatisParser();
+        parser.setLazySqlText(lazySqlText);
+        Map<String, SqlInfo> sqlMap = parser.parseProject(projectDir);
+
+        long retained = usedHeapAfterGc() - before;
+        assertFalse(sqlMap.isEmpty());
+        return retained;
+    }
+
+    /**
+     * 파싱 + 호출 흐름 분석 결과가 차지하는 힙 (GC 후 사용량 차이, 풀 자체 포함)
+     */
+    private long retainedHeap(Path projectDir, SymbolPool pool) throws Exception {
+        long before = usedHeapAfterGc();
+
+        JavaSourceParser parser = new JavaSourceParser();
+        parser.setSymbolPool(pool);
+        List<ParsedClass> classes = parser.parseProject(projectDir);
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSymbolPool(pool);
+        FlowResult result = analyzer.analyze(projectDir, classes);
+
+        long retained = usedHeapAfterGc() - before;
+        // 측정 시점까지 결과가 살아 있도록 참조
+        assertFalse(classes.isEmpty() || result.getFlows().isEmpty());
+        return retained;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 가상 프로젝트 생성 후 전체 파이프라인 실행 (생성 시간은 측정에서 제외)
+     */
+    private PerfReport runPipeline(int factor) throws Exception {
+        Path projectDir = tempDir.resolve("x" + factor);
+        SyntheticProjectGenerator.Spec spec = SyntheticProjectGenerator.Spec.scaled(factor);
+        SyntheticProjectGenerator.Summary summary = new SyntheticProjectGenerator(spec).generate(projectDir);
+        System.gc();
+
+        PerfReport report = new PerfReport();
+
+        JavaSourceParser parser = new JavaSourceParser();
+        parser.setPerfReport(report);
+        List<ParsedClass> classes = parser.parseProject(projectDir);
+
+        IBatisParser ibatisParser = new IBatisParser();
+        ibatisParser.setPerfReport(report);
+        Map<String, SqlInfo> sqlInfoMap = ibatisParser.parseProject(projectDir);
+
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSqlInfoMap(sqlInfoMap);
+        analyzer.setPerfReport(report);
+        FlowResult result = analyzer.analyze(projectDir, classes);
+
+        try (PerfReport.PhaseTimer phase = report.startPhase(PHASE_TABLE_INDEX)) {
+            phase.addItems(analyzer.buildTableIndex(result).size());
+        }
+
+        Path excelFile = tempDir.resolve("x" + factor + ".xlsx");
+        try (PerfReport.PhaseTimer phase = report.startPhase(PHASE_EXCEL_EXPORT)) {
+            new ExcelOutput().export(result, excelFile);
+            phase.addBytes(Files.size(excelFile));
+        }
+
+        Path jsonFile = tempDir.resolve("x" + factor + ".json");
+        try (PerfReport.PhaseTimer phase = report.startPhase(PHASE_JSON_EXPORT)) {
+            new SessionManager().writeJson(new SessionData(projectDir.toString(), result), jsonFile);
+            phase.addBytes(Files.size(jsonFile));
+        }
+        report.finish();
+
+        // 결과가 정상인지 먼저 확인 (빠르지만 틀린 결과 방지)
+        assertEquals(summary.getJavaFileCount(), classes.size());
+        assertEquals(summary.getSqlCount(), sqlInfoMap.size());
+        assertEquals(summary.getEndpointCount(), result.getFlows().size());
+
+        // 다음 배율 측정에 영향이 없도록 생성 파일 정리
+        deleteRecursively(projectDir);
+        Files.deleteIfExists(excelFile);
+        Files.deleteIfExists(jsonFile);
+        return report;
+    }
+
+    /**
+     * 단계별 배율당 비용 비교
+     */
+    private List<String> checkLinear(int small, PerfReport smallReport, int large, PerfReport largeReport) {
+        Map<String, PerfReport.PhaseStats> smallPhases = smallReport.getPhases().stream()
+            .collect(Collectors.toMap(PerfReport.PhaseStats::getName, p -> p, (a, b) -> a));
+
+        List<String> violations = new ArrayList<>();
+        for (PerfReport.PhaseStats largePhase : largeReport.getPhases()) {
+            PerfReport.PhaseStats smallPhase = smallPhases.get(largePhase.getName());
+            if (smallPhase == null) {
+                continue;
+            }
+
+            double allocGrowth = perUnitGrowth(smallPhase.getAllocatedBytes(), small, largePhase.getAllocatedBytes(), large);
+            if (allocGrowth > MAX_ALLOC_GROWTH) {
+                violations.add(String.format("%s: 할당 x%d %s → x%d %s (배율당 %.1f배)",
+                    largePhase.getName(), small, PerfReport.formatBytes(smallPhase.getAllocatedBytes()),
+                    large, PerfReport.formatBytes(largePhase.getAllocatedBytes()), allocGrowth));
+            }
+
+            if (largePhase.getWallMillis() >= MIN_WALL_MILLIS_FOR_TIME_CHECK) {
+                double timeGrowth = perUnitGrowth(Math.max(1, smallPhase.getWallMillis()), small,
+                                                  largePhase.getWallMillis(), large);
+                if (timeGrowth > MAX_TIME_GROWTH) {
+                    violations.add(String.format("%s: 시간 x%d %,d ms → x%d %,d ms (배율당 %.1f배)",
+                        largePhase.getName(), small, smallPhase.getWallMillis(),
+                        large, largePhase.getWallMillis(), timeGrowth));
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static double perUnitGrowth(long smallValue, int small, long largeValue, int large) {
+        if (smallValue <= 0) {
+            return 0;
+        }
+        return ((double) largeValue / large) / ((double) smallValue / small);
+    }
+
+    private static List<Integer> scaleFactors() {
+        String property = System.getProperty("cft.scale.factors", "1,5");
+        return Arrays.stream(property.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .map(Integer::parseInt)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private static void deleteRecursively(Path dir) throws Exception {
+        try (var paths = Files.walk(dir)) {
+            for (Path path : paths.sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * 배율별 예산
+     */
+    private static class Budget {
+        final long maxWallMillis;
+        final long maxPeakHeapBytes;
+        final long maxAllocatedBytes;
+
+        Budget(long maxWallMillis, long maxPeakHeapBytes, long maxAllocatedBytes) {
+            this.maxWallMillis = maxWallMillis;
+            this.maxPeakHeapBytes = maxPeakHeapBytes;
+            this.maxAllocatedBytes = maxAllocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.codeflow.analyzer;
+
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.ParsedMethod;
+import com.codeflow.parser.ProjectModule;
+import com.codeflow.parser.SqlInfo;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 변경 영향 분석 테스트 (ChangeSet, ChangeImpactAnalyzer)
+ *
+ * samples/ 프로젝트에서 역추적 결과가 전체 추적 결과(흐름 트리에 바뀐 메서드가 있는 엔드포인트)와 같은지 확인합니다.
+ */
+class ChangeImpactTest {
+
+    private final Path samplesPath = Paths.get("samples");
+    private List<ParsedClass> parsedClasses;
+    private Map<String, SqlInfo> sqlInfoMap;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        parsedClasses = new JavaSourceParser().parseProject(samplesPath);
+        sqlInfoMap = new IBatisParser().parseProject(samplesPath);
+    }
+
+    @Test
+    @DisplayName("git diff 파싱 - hunk별 변경 후 줄 범위, 삭제만 있는 hunk는 앞뒤 줄")
+    void testParseDiff() {
+        // Given
+        String diff = "diff --git a/src/UserDAO.java b/src/UserDAO.java\n"
+            + "index 1111..2222 100644\n"
+            + "--- a/src/UserDAO.java\n"
+            + "+++ b/src/UserDAO.java\n"
+            + "@@ -10,2 +10,3 @@ public class UserDAO {\n"
+            + "@@ -40 +41 @@\n"
+            + "@@ -60,3 +61,0 @@\n"
+            + "diff --git a/src/User_SQL.xml b/src/User_SQL.xml\n"
+            + "deleted file mode 100644\n";
+
+        // When
+        ChangeSet changes = ChangeSet.parseDiff(diff);
+
+        // Then
+        assertEquals(Set.of("src/UserDAO.java", "src/User_SQL.xml"), changes.getFiles());
+        assertTrue(changes.touches("src/UserDAO.java", 12, 20));
+        assertTrue(changes.touches("src/UserDAO.java", 41, 41));
+        assertTrue(changes.touches("src/UserDAO.java", 62, 70));
+        assertFalse(changes.touches("src/UserDAO.java", 13, 40));
+        assertTrue(changes.isWholeFile("src/User_SQL.xml"));
+        assertEquals("src/UserDAO.java", changes.match(Paths.get("/work/project/src/UserDAO.java")));
+        assertNull(changes.match(Paths.get("/work/project/src/OtherUserDAO.java")));
+    }
+
+    @Test
+    @DisplayName("git diff 파싱 - 따옴표로 감싼 경로 (C 이스케이프, 8진수 UTF-8 바이트)")
+    void testParseQuotedDiff() {
+        // Given
+        String diff = "diff --git \"a/src/say \\\"hi\\\".java\" \"b/src/say \\\"hi\\\".java\"\n"
+            + "@@ -1 +1 @@\n"
+            + "diff --git \"a/sql/\\355\\225\\234\\tA.xml\" \"b/sql/\\355\\225\\234\\tA.xml\"\n"
+            + "diff --git a/src/한글 b/파일.java b/src/한글 b/파일.java\n";
+
+        // When
+        ChangeSet changes = ChangeSet.parseDiff(diff);
+
+        // Then
+        assertEquals(Set.of("src/say \"hi\".java", "sql/한\tA.xml", "src/한글 b/파일.java"), changes.getFiles());
+        assertTrue(changes.touches("src/say \"hi\".java", 1, 1));
+        assertEquals("a\\b", ChangeSet.unquote("\"a\\\\b\""));
+    }
+
+    @Test
+    @DisplayName("메서드 1개 변경 - 역추적 엔드포인트 = 흐름 트리에 그 메서드가 있는 엔드포인트 (모든 메서드)")
+    void testMatchesFullTracing() throws IOException {
+        // Given: 전체 추적 결과
+        FlowResult full = newAnalyzer().analyze(samplesPath, parsedClasses);
+
+        for (ParsedClass clazz : parsedClasses) {
+            if (clazz.isInterface()) {
+                continue;   // 인터페이스 변경은 구현체로 넘어감 (별도 테스트)
+            }
+            for (ParsedMethod method : clazz.getMethods()) {
+                String signature = clazz.getClassName() + "." + method.getMethodName();
+                ChangeSet changes = new ChangeSet();
+                changes.addLines(clazz.getFilePath().toString(), method.getBeginLine(), method.getEndLine());
+
+                // When
+                ChangeImpact impact = analyzeImpact(changes);
+
+                // Then
+                Set<String> expected = full.getFlows().stream()
+                    .filter(flow -> contains(flow, signature))
+                    .map(flow -> CrudMatrix.endpointName(flow.getHttpMethod(), flow.getUrlMapping()))
+                    .collect(Collectors.toCollection(TreeSet::new));
+                Set<String> actual = impact.getEndpoints().stream()
+                    .map(ChangeImpact.AffectedEndpoint::getName)
+                    .collect(Collectors.toCollection(TreeSet::new));
+                assertEquals(expected, actual, signature);
+                assertEquals(actual.size(), impact.getFlowResult().getFlows().size(), "영향받는 엔드포인트만 추적");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("매퍼 XML 변경 - SQL을 실행하는 DAO → 엔드포인트, 바뀐 SQL의 테이블")
+    void testMapperChange() throws IOException {
+        // Given
+        ChangeSet changes = ChangeSet.fromPaths(samplesPath, List.of("samples/Stock_SQL.xml", "README.md"));
+
+        // When
+        ChangeImpact impact = analyzeImpact(changes);
+
+        // Then
+        assertTrue(impact.getChangedMethods().contains("StockDAO.decreaseStock"));
+        assertTrue(impact.getChangedSqlIds().stream().allMatch(id -> id.startsWith("stockDAO.")), impact.getChangedSqlIds().toString());
+        assertTrue(impact.getTables().contains("TB_STOCK"));
+        assertTrue(impact.getEndpoints().stream().anyMatch(endpoint -> endpoint.getUrl().equals("/order/create.do")));
+        assertFalse(impact.getEndpoints().stream().anyMatch(endpoint -> endpoint.getUrl().startsWith("/user/")));
+        assertEquals(List.of("README.md"), impact.getUnmatchedFiles());
+    }
+
+    @Test
+    @DisplayName("매퍼 XML 줄 범위 - 바뀐 줄이 걸친 SQL만 변경")
+    void testMapperLineRange() throws IOException {
+        // Given: Stock_SQL.xml에서 decreaseStock 태그가 있는 줄만 변경
+        List<String> lines = Files.readAllLines(samplesPath.resolve("Stock_SQL.xml"));
+        int line = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).contains("id=\"decreaseStock\"")) {
+                line = i + 1;
+            }
+        }
+        assertTrue(line > 0);
+        ChangeSet changes = new ChangeSet();
+        changes.addLines("Stock_SQL.xml", line, line);
+
+        // When
+        ChangeImpact impact = analyzeImpact(changes);
+
+        // Then
+        assertEquals(1, impact.getChangedSqlIds().size(), impact.getChangedSqlIds().toString());
+        assertTrue(impact.getChangedSqlIds().get(0).endsWith(".decreaseStock"));
+        assertTrue(impact.getChangedMethods().contains("StockDAO.decreaseStock"));
+    }
+
+    @Test
+    @DisplayName("같은 이름 매퍼 - 경로가 같은 매퍼만 변경, EUC-KR 매퍼도 줄 범위 계산")
+    void testSameNamedMappers(@TempDir Path project) throws IOException {
+        // Given: admin/, shop/에 같은 이름의 User_SQL.xml (admin은 EUC-KR)
+        Files.createDirectories(project.resolve("admin"));
+        Files.createDirectories(project.resolve("shop"));
+        Files.write(project.resolve("admin/User_SQL.xml"), mapper("EUC-KR", "adminUser").getBytes("EUC-KR"));
+        Files.writeString(project.resolve("shop/User_SQL.xml"), mapper("UTF-8", "shopUser"));
+        sqlInfoMap = new IBatisParser().parseProject(project);
+        ChangeSet changes = new ChangeSet();
+        changes.addLines("admin/User_SQL.xml", 5, 5);
+
+        // When
+        FlowAnalyzer analyzer = newAnalyzer();
+        analyzer.beginIndex();
+        ChangeImpact impact = analyzer.analyzeChangeImpact(project, changes);
+
+        // Then: 5번 줄(selectUser)만 변경, shop/User_SQL.xml은 제외
+        assertEquals(List.of("adminUser.selectUser"), impact.getChangedSqlIds());
+        assertTrue(impact.getUnmatchedFiles().isEmpty());
+    }
+
+    @Test
+    @DisplayName("멀티 모듈 - 다른 모듈의 같은 이름 클래스는 별개 (바뀐 모듈의 엔드포인트만)")
+    void testSameClassNameAcrossModules(@TempDir Path project) throws IOException {
+        // Given: :admin, :shop 모듈에 같은 이름의 CodeDAO.selectCodes, :shop의 CodeDAO만 변경
+        List<ParsedClass> classes = new java.util.ArrayList<>();
+        for (String module : List.of("admin", "shop")) {
+            Path dir = project.resolve(module);
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve("CodeController.java"), "package com." + module + ";\n"
+                + "@Controller\npublic class CodeController {\n    private CodeDAO codeDAO;\n"
+                + "    @RequestMapping(\"/" + module + "/codes.do\")\n"
+                + "    public String codes() { codeDAO.selectCodes(); return \"codes\"; }\n}\n");
+            Files.writeString(dir.resolve("CodeDAO.java"), "package com." + module + ";\n"
+                + "@Repository\npublic class CodeDAO {\n    public void selectCodes() { }\n}\n");
+            for (String file : List.of("CodeController.java", "CodeDAO.java")) {
+                ParsedClass clazz = new JavaSourceParser().parseFile(dir.resolve(file));
+                clazz.setModuleName(":" + module);
+                classes.add(clazz);
+            }
+        }
+        ChangeSet changes = ChangeSet.fromPaths(project, List.of("shop/CodeDAO.java"));
+
+        // When
+        FlowAnalyzer analyzer = newAnalyzer();
+        analyzer.setModules(List.of(new ProjectModule(":admin", project.resolve("admin"), List.of()),
+                                    new ProjectModule(":shop", project.resolve("shop"), List.of())));
+        analyzer.beginIndex();
+        classes.forEach(analyzer::indexClass);
+        ChangeImpact impact = analyzer.analyzeChangeImpact(project, changes);
+
+        // Then
+        assertEquals(List.of(":shop/CodeDAO.selectCodes"), impact.getChangedMethods());
+        assertEquals(List.of("/shop/codes.do"),
+            impact.getEndpoints().stream().map(ChangeImpact.AffectedEndpoint::getUrl).collect(Collectors.toList()));
+        assertEquals(":shop/CodeDAO.selectCodes", impact.getEndpoints().get(0).getCause());
+    }
+
+    @Test
+    @DisplayName("git - ref 이후 작업 트리 변경과 새 파일")
+    void testFromGit(@TempDir Path repo) throws Exception {
+        // Given
+        Assumptions.assumeTrue(git(repo, "init", "-q") == 0, "git 없음");
+        Files.writeString(repo.resolve("A.java"), "class A {\n  void a() {}\n  void b() {}\n}\n");
+        git(repo, "add", ".");
+        assertEquals(0, git(repo, "-c", "user.name=t", "-c", "user.email=t@t", "commit", "-q", "-m", "init"));
+        Files.writeString(repo.resolve("A.java"), "class A {\n  void a() {}\n  void b() { b(); }\n}\n");
+        Files.writeString(repo.resolve("B.java"), "class B {}\n");
+
+        // When
+        ChangeSet changes = ChangeSet.fromGit(repo, "HEAD");
+
+        // Then
+        assertEquals(Set.of("A.java", "B.java"), changes.getFiles());
+        assertTrue(changes.touches("A.java", 3, 3));
+        assertFalse(changes.touches("A.java", 2, 2));
+        assertTrue(changes.isWholeFile("B.java"));
+        assertThrows(IOException.class, () -> ChangeSet.fromGit(repo, "no-such-ref"));
+    }
+
+    @Test
+    @DisplayName("git - 한글 경로는 이스케이프 없이 그대로")
+    void testFromGitKoreanPath(@TempDir Path repo) throws Exception {
+        // Given
+        Path file;
+        try {
+            file = repo.resolve("사용자/User_SQL.xml");
+        } catch (InvalidPathException e) {
+            file = null;
+        }
+        Assumptions.assumeTrue(file != null, "파일 시스템 인코딩이 한글 경로를 지원하지 않음");
+        Assumptions.assumeTrue(git(repo, "init", "-q") == 0, "git 없음");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "<sqlMap/>\n");
+        git(repo, "add", ".");
+        assertEquals(0, git(repo, "-c", "user.name=t", "-c", "user.email=t@t", "commit", "-q", "-m", "init"));
+        Files.writeString(file, "<sqlMap>\n</sqlMap>\n");
+        Files.writeString(repo.resolve("사용자/새파일.java"), "class C {}\n");
+
+        // When
+        ChangeSet changes = ChangeSet.fromGit(repo, "HEAD");
+
+        // Then
+        assertEquals(Set.of("사용자/User_SQL.xml", "사용자/새파일.java"), changes.getFiles());
+        assertTrue(changes.touches("사용자/User_SQL.xml", 1, 2));
+    }
+
+    private FlowAnalyzer newAnalyzer() {
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSqlInfoMap(sqlInfoMap);
+        return analyzer;
+    }
+
+    private ChangeImpact analyzeImpact(ChangeSet changes) throws IOException {
+        FlowAnalyzer analyzer = newAnalyzer();
+        analyzer.beginIndex();
+        parsedClasses.forEach(analyzer::indexClass);
+        return analyzer.analyzeChangeImpact(samplesPath, changes);
+    }
+
+    private static String mapper(String encoding, String namespace) {
+        return "<?xml version=\"1.0\" encoding=\"" + encoding + "\"?>\n"
+            + "<sqlMap namespace=\"" + namespace + "\">\n"
+            + "    <!-- 사용자 목록 -->\n"
+            + "    <select id=\"selectUsers\">SELECT * FROM TB_USER</select>\n"
+            + "    <select id=\"selectUser\">SELECT * FROM TB_USER WHERE USER_ID = #userId#</select>\n"
+            + "</sqlMap>\n";
+    }
+
+    private static boolean contains(FlowNode node, String signature) {
+        if (signature.equals(node.getClassName() + "." + node.getMethodName())) {
+            return true;
+        }
+        for (FlowNode child : node.getChildren()) {
+            if (contains(child, signature)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int git(Path repo, String... args) throws Exception {
+        List<String> command = new java.util.ArrayList<>(List.of("git", "-C", repo.toString()));
+        command.addAll(List.of(args));
+        try {
+            return new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start().waitFor();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
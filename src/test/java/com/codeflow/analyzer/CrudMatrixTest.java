@@ -0,0 +1,179 @@
+package com.codeflow.analyzer;
+
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.SqlInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CrudMatrix 테스트
+ *
+ * 셀/행/열 마스크 조회, CSV 출력, 추적 중 만든 매트릭스와 흐름 트리에서 만든 매트릭스가 같은지 확인합니다.
+ */
+class CrudMatrixTest {
+
+    @Test
+    @DisplayName("셀 마스크 - 같은 셀의 SQL 타입은 OR, 테이블명은 대문자로 통일")
+    void testCellMask() {
+        // Given
+        CrudMatrix matrix = new CrudMatrix();
+        int list = matrix.addEndpoint(CrudMatrix.endpointName("GET", "/api/user/list"));
+        int save = matrix.addEndpoint(CrudMatrix.endpointName("POST", "/api/user/save"));
+
+        // When
+        matrix.add(list, sql(SqlInfo.SqlType.SELECT, "TB_USER", "TB_DEPT"));
+        matrix.add(save, sql(SqlInfo.SqlType.SELECT, "tb_user"));
+        matrix.add(save, sql(SqlInfo.SqlType.UPDATE, "TB_USER"));
+        matrix.add(save, sql(SqlInfo.SqlType.INSERT, "TB_USER_LOG"));
+
+        // Then
+        assertEquals(CrudMatrix.READ, matrix.get("GET /api/user/list", "TB_USER"));
+        assertEquals("RU", CrudMatrix.format(matrix.get("POST /api/user/save", "TB_USER")));
+        assertEquals(0, matrix.get("GET /api/user/list", "TB_USER_LOG"));
+        assertEquals(0, matrix.get("GET /api/none", "TB_USER"));
+        assertEquals(4, matrix.getCellCount());
+        assertEquals(3, matrix.getTableCount());
+        assertEquals("", CrudMatrix.format(0));
+        assertEquals("CRUD", CrudMatrix.format(CrudMatrix.CREATE | CrudMatrix.READ | CrudMatrix.UPDATE | CrudMatrix.DELETE));
+    }
+
+    @Test
+    @DisplayName("테이블별 CRUD - INSERT ... SELECT의 원본 테이블은 R, MERGE ... USING의 원본 테이블도 R")
+    void testCrudPerTable() {
+        // Given
+        CrudMatrix matrix = new CrudMatrix();
+        int backup = matrix.addEndpoint(CrudMatrix.endpointName("POST", "/api/user/backup"));
+        SqlInfo insertSelect = new SqlInfo("User_SQL.xml", "user", "insertHistory");
+        insertSelect.setType(SqlInfo.SqlType.INSERT);
+        insertSelect.setQuery("INSERT INTO TB_HIST (id, name) SELECT id, name FROM TB_USER WHERE id = #{id}");
+        SqlInfo merge = new SqlInfo("User_SQL.xml", "user", "mergeStat");
+        merge.setType(SqlInfo.SqlType.UPDATE);
+        merge.setQuery("MERGE INTO TB_STAT s USING TB_ORDER o ON (s.id = o.id) WHEN MATCHED THEN UPDATE SET s.cnt = o.cnt");
+
+        // When
+        matrix.add(backup, insertSelect);
+        matrix.add(backup, merge);
+
+        // Then
+        assertEquals("C", CrudMatrix.format(matrix.get("POST /api/user/backup", "TB_HIST")));
+        assertEquals("R", CrudMatrix.format(matrix.get("POST /api/user/backup", "TB_USER")));
+        assertEquals("R", CrudMatrix.format(matrix.get("POST /api/user/backup", "TB_ORDER")));
+        assertTrue((matrix.get("POST /api/user/backup", "TB_STAT") & CrudMatrix.UPDATE) != 0);
+    }
+
+    @Test
+    @DisplayName("행/열 조회 - 전체 마스크, 셀 수, 순회")
+    void testRowAndColumn() {
+        // Given
+        CrudMatrix matrix = new CrudMatrix();
+        int a = matrix.addEndpoint("GET /a");
+        int b = matrix.addEndpoint("POST /b");
+        matrix.add(a, "TB_ORDER", CrudMatrix.READ);
+        matrix.add(b, "TB_ORDER", CrudMatrix.DELETE);
+        matrix.add(b, "TB_CART", CrudMatrix.CREATE);
+
+        // When
+        int order = matrix.getTableId("tb_order");
+        List<String> visited = new ArrayList<>();
+        matrix.forEachInColumn(order, (endpointId, mask) ->
+            visited.add(matrix.getEndpoint(endpointId) + "=" + CrudMatrix.format(mask)));
+        visited.sort(null);
+
+        // Then
+        assertEquals(CrudMatrix.READ | CrudMatrix.DELETE, matrix.getColumnMask(order));
+        assertEquals(CrudMatrix.CREATE | CrudMatrix.DELETE, matrix.getRowMask(b));
+        assertEquals(2, matrix.getRowSize(b));
+        assertEquals(2, matrix.getColumnSize(order));
+        assertEquals(List.of("GET /a=R", "POST /b=D"), visited);
+    }
+
+    @Test
+    @DisplayName("대량 셀 - 맵 확장 후에도 모든 셀 조회, 밀집 배열보다 작음")
+    void testLargeSparseMatrix() {
+        // Given: 엔드포인트 5,000개 × 테이블 2,000개, 엔드포인트마다 20개 테이블
+        CrudMatrix matrix = new CrudMatrix();
+        Random random = new Random(42);
+        int[][] expected = new int[5_000][];
+        for (int e = 0; e < expected.length; e++) {
+            int endpointId = matrix.addEndpoint("GET /api/" + e);
+            expected[e] = new int[20];
+            for (int i = 0; i < expected[e].length; i++) {
+                expected[e][i] = random.nextInt(2_000);
+                matrix.add(endpointId, "TB_" + expected[e][i], CrudMatrix.READ);
+            }
+        }
+
+        // When / Then
+        for (int e = 0; e < expected.length; e++) {
+            for (int table : expected[e]) {
+                assertEquals(CrudMatrix.READ, matrix.get("GET /api/" + e, "TB_" + table));
+            }
+        }
+        long denseBytes = 5_000L * 2_000 / 2;   // 셀당 4비트 밀집 배열
+        assertTrue(matrix.estimatedBytes() < denseBytes / 1.5, String.valueOf(matrix.estimatedBytes()));
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더는 테이블명(이름순), 셀이 없는 칸은 빈 값, 쉼표가 있는 값은 따옴표")
+    void testWriteCsv() throws Exception {
+        // Given
+        CrudMatrix matrix = new CrudMatrix();
+        int a = matrix.addEndpoint("GET /a,b");
+        int b = matrix.addEndpoint("DELETE /c");
+        matrix.add(a, "TB_Z", CrudMatrix.READ);
+        matrix.add(b, "TB_A", CrudMatrix.DELETE);
+        matrix.addEndpoint("GET /unused");   // 셀이 없는 엔드포인트는 출력 안 함
+
+        // When
+        StringWriter writer = new StringWriter();
+        matrix.writeCsv(writer);
+
+        // Then
+        assertEquals("엔드포인트,TB_A,TB_Z\r\n"
+            + "DELETE /c,D,\r\n"
+            + "\"GET /a,b\",,R\r\n", writer.toString());
+    }
+
+    @Test
+    @DisplayName("샘플 프로젝트 - 추적 중 만든 매트릭스와 흐름 트리에서 다시 만든 매트릭스가 같음")
+    void testTracingMatchesFlows() throws Exception {
+        // Given
+        Path samplesPath = Paths.get("samples");
+        List<ParsedClass> parsedClasses = new JavaSourceParser().parseProject(samplesPath);
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSqlInfoMap(new IBatisParser().parseProject(samplesPath));
+
+        // When
+        FlowResult result = analyzer.analyze(samplesPath, parsedClasses);
+        CrudMatrix traced = result.getCrudMatrix();
+        StringWriter tracedCsv = new StringWriter();
+        traced.writeCsv(tracedCsv);
+        StringWriter rebuiltCsv = new StringWriter();
+        CrudMatrix.fromFlows(result.getFlows()).writeCsv(rebuiltCsv);
+
+        // Then
+        assertTrue(traced.getCellCount() > 0, "샘플에 SQL 연동 DAO가 있어야 함");
+        assertEquals(rebuiltCsv.toString(), tracedCsv.toString());
+    }
+
+    private static SqlInfo sql(SqlInfo.SqlType type, String... tables) {
+        SqlInfo sqlInfo = new SqlInfo();
+        sqlInfo.setType(type);
+        sqlInfo.setQuery("/* test */");
+        for (String table : tables) {
+            sqlInfo.addTable(table);
+        }
+        return sqlInfo;
+    }
+}
@@ -3,13 +3,17 @@ package com.codeflow.analyzer;
 import com.codeflow.parser.ClassType;
 import com.codeflow.parser.JavaSourceParser;
 import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.ProjectModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -270,4 +274,91 @@ class FlowAnalyzerTest {
 
         System.out.println(summary);
     }
+
+    @Test
+    @DisplayName("멀티 모듈 - 같은 이름 클래스는 호출하는 모듈 → 의존 모듈 순으로 찾음")
+    void testSameClassNameAcrossModules(@TempDir Path tempDir) throws IOException {
+        // Given: :admin → :common 의존, CodeDAO는 :admin/:shop에, UserDAO는 :common/:shop에 (:shop이 나중에 인덱싱)
+        Path admin = writeSource(tempDir, "admin/AdminController.java", """
+            package com.admin;
+            @Controller
+            public class AdminController {
+                private CodeDAO codeDAO;
+                private UserDAO userDAO;
+                @RequestMapping("/admin/codes.do")
+                public String codes() {
+                    codeDAO.selectAdminCodes();
+                    userDAO.selectUser();
+                    return "codes";
+                }
+            }
+            """).getParent();
+        writeSource(tempDir, "admin/CodeDAO.java", "package com.admin;\n@Repository\npublic class CodeDAO { public void selectAdminCodes() { } }");
+        writeSource(tempDir, "common/UserDAO.java", "package com.common;\n@Repository\npublic class UserDAO { public void selectUser() { } }");
+        writeSource(tempDir, "shop/CodeDAO.java", "package com.shop;\n@Repository\npublic class CodeDAO { public void selectShopCodes() { } }");
+        writeSource(tempDir, "shop/UserDAO.java", "package com.shop;\n@Repository\npublic class UserDAO { public void selectShopUser() { } }");
+
+        List<ProjectModule> modules = List.of(
+            new ProjectModule(":admin", admin, List.of(":common")),
+            new ProjectModule(":common", tempDir.resolve("common"), List.of()),
+            new ProjectModule(":shop", tempDir.resolve("shop"), List.of()));
+        List<ParsedClass> parsedClasses = new ArrayList<>();
+        for (String file : List.of("admin/AdminController.java", "admin/CodeDAO.java", "common/UserDAO.java",
+                                   "shop/CodeDAO.java", "shop/UserDAO.java")) {
+            ParsedClass clazz = parser.parseFile(tempDir.resolve(file));
+            clazz.setModuleName(":" + file.substring(0, file.indexOf('/')));
+            parsedClasses.add(clazz);
+        }
+
+        // When
+        analyzer.setModules(modules);
+        FlowResult result = analyzer.analyze(tempDir, parsedClasses);
+
+        // Then: 이름만으로는 :shop 클래스지만, :admin에서 보이는 클래스로 추적
+        FlowNode controller = result.getFlows().get(0);
+        assertEquals(2, controller.getChildren().size());
+        FlowNode codeDao = controller.getChildren().get(0);
+        FlowNode userDao = controller.getChildren().get(1);
+        assertEquals("selectAdminCodes", codeDao.getMethodName());
+        assertTrue(codeDao.getFilePath().contains("admin"), codeDao.getFilePath());
+        assertEquals(":admin", codeDao.getModuleName());
+        assertEquals("selectUser", userDao.getMethodName());
+        assertTrue(userDao.getFilePath().contains("common"), userDao.getFilePath());
+    }
+
+    @Test
+    @DisplayName("같은 분석기로 다시 추적 - 미매핑 호출 수가 누적되지 않음")
+    void testUnmappedCountNotAccumulated(@TempDir Path tempDir) throws IOException {
+        // Given: 소스가 없는 OrderService를 호출하는 Controller
+        writeSource(tempDir, "OrderController.java", """
+            package com.shop;
+            @Controller
+            public class OrderController {
+                private OrderService orderService;
+                @RequestMapping("/order/save.do")
+                public String save() {
+                    orderService.saveOrder();
+                    return "order";
+                }
+            }
+            """);
+        List<ParsedClass> parsedClasses = parser.parseProject(tempDir);
+
+        // When: 같은 분석기로 3번 추적 (데몬의 요청 반복과 같음)
+        int first = analyzer.analyze(tempDir, parsedClasses).getUnmappedCallCount();
+        int second = analyzer.analyzeIndexed(tempDir).getUnmappedCallCount();
+        int third = analyzer.analyze(tempDir, parsedClasses).getUnmappedCallCount();
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(first, second);
+        assertEquals(first, third);
+    }
+
+    private Path writeSource(Path root, String relativePath, String content) throws IOException {
+        Path file = root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        return file;
+    }
 }
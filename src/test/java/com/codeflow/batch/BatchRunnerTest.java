@@ -0,0 +1,143 @@
+package com.codeflow.batch;
+
+import com.codeflow.Main;
+import com.codeflow.parser.ParseCache;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 일괄 분석 테스트 (BatchManifest, BatchRunner, BatchContext)
+ *
+ * samples/를 여러 항목으로 나눈 목록을 한 JVM에서 실행하고, 프로젝트별 출력과 합산 리포트를 확인합니다.
+ */
+class BatchRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final Path samplesPath = Paths.get("samples").toAbsolutePath();
+
+    @Test
+    @DisplayName("목록 파싱 - 따옴표, 주석, 프로젝트 이름 중복 시 번호, 상대 경로 기준은 목록 폴더")
+    void testManifestParse() throws IOException {
+        // Given
+        List<String> lines = List.of(
+            "# 야간 분석",
+            "",
+            "-p ../order-api -u \"/api/order/*\" --excel",
+            "--path=../order-api --list-tables",
+            "-p '../legacy admin' --table TB_USER",
+            "--list-tables",
+            "-p . --list-tables");
+
+        // When
+        BatchManifest manifest = BatchManifest.parse(lines, tempDir);
+
+        // Then
+        assertEquals(5, manifest.size());
+        BatchManifest.Entry first = manifest.getEntries().get(0);
+        assertEquals(List.of("-p", "../order-api", "-u", "/api/order/*", "--excel"), first.getArgs());
+        assertEquals("order-api", first.getName());
+        assertEquals(3, first.getLineNumber());
+        assertEquals(tempDir, first.getWorkingDir());
+        assertEquals("order-api-2", manifest.getEntries().get(1).getName());
+        assertEquals("legacy_admin", manifest.getEntries().get(2).getName());
+        assertEquals("project-4", manifest.getEntries().get(3).getName());
+        assertEquals(tempDir.getFileName().toString(), manifest.getEntries().get(4).getName(),
+            "현재 폴더가 아닌 목록 폴더 기준");
+        assertThrows(IOException.class, () -> BatchManifest.parse(List.of("-p \"unclosed"), tempDir));
+    }
+
+    @Test
+    @DisplayName("일괄 실행 - 프로젝트별 console.txt, 상대 경로 출력, 실패 항목은 나머지에 영향 없음, 합산 리포트")
+    void testRunBatch() throws Exception {
+        // Given
+        Path manifestPath = writeManifest(
+            "-p " + samplesPath + " -u /user/* --no-color",
+            "-p " + samplesPath + " --list-tables --crud-matrix out/crud.csv",
+            "-p missing-project");
+        BatchContext context = new BatchContext(ParseCache.none(), 1);
+        BatchRunner runner = new BatchRunner(context, Main::runBatchEntry, tempDir.resolve("output"));
+        runner.setConcurrency(1);
+        runner.setPerfEnabled(true);
+        runner.setProgress(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+
+        // When
+        BatchRunner.BatchResult result = runner.run(BatchManifest.load(manifestPath));
+
+        // Then: 목록 순서, 종료 코드
+        List<BatchRunner.ProjectResult> projects = result.getProjects();
+        assertEquals(List.of("samples", "samples-2", "missing-project"),
+            List.of(projects.get(0).getName(), projects.get(1).getName(), projects.get(2).getName()));
+        assertEquals(List.of(0, 0, 1), List.of(projects.get(0).getExitCode(), projects.get(1).getExitCode(),
+            projects.get(2).getExitCode()));
+        assertEquals(1, result.getFailureCount());
+
+        // Then: 프로젝트별 출력
+        String flows = Files.readString(projects.get(0).getConsoleFile());
+        assertTrue(flows.contains("/user/list.do"), flows);
+        assertFalse(flows.contains("/order/create.do"), flows);
+        assertTrue(Files.readString(projects.get(1).getConsoleFile()).contains("TB_STOCK"));
+        assertTrue(Files.isRegularFile(tempDir.resolve("out/crud.csv")), "상대 경로는 목록 파일 폴더 기준");
+        assertTrue(Files.readString(projects.get(2).getConsoleFile()).contains("missing-project"));
+
+        // Then: 공유 자원, 합산 리포트
+        assertEquals(1, context.getReusedParserCount(), "스레드 1개 → 두 번째 프로젝트는 파서 재사용");
+        assertTrue(context.getSymbolPool().getHitCount() > 0);
+        JsonObject json = JsonParser.parseString(result.toPerfJson()).getAsJsonObject();
+        assertEquals(3, json.get("projectCount").getAsInt());
+        assertEquals(3, json.getAsJsonArray("projects").size());
+        assertTrue(json.getAsJsonArray("projects").get(0).getAsJsonObject().has("report"));
+    }
+
+    @Test
+    @DisplayName("동시 실행 - 프로젝트별 출력이 순차 실행과 같음")
+    void testConcurrentMatchesSequential() throws Exception {
+        // Given: 같은 프로젝트를 필터만 바꿔 4번
+        Path manifestPath = writeManifest(
+            "-p " + samplesPath + " -u /user/* --no-color",
+            "-p " + samplesPath + " -u /order/* --no-color",
+            "-p " + samplesPath + " --table TB_STOCK --no-color",
+            "-p " + samplesPath + " --list-tables --style detailed");
+
+        // When
+        List<String> sequential = consoleOutputs(manifestPath, 1, "seq");
+        List<String> concurrent = consoleOutputs(manifestPath, 4, "par");
+
+        // Then
+        assertEquals(sequential, concurrent);
+    }
+
+    private List<String> consoleOutputs(Path manifestPath, int concurrency, String outputName) throws Exception {
+        BatchRunner runner = new BatchRunner(new BatchContext(ParseCache.none(), 1), Main::runBatchEntry,
+            tempDir.resolve(outputName));
+        runner.setConcurrency(concurrency);
+        runner.setProgress(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        List<String> outputs = new ArrayList<>();
+        for (BatchRunner.ProjectResult project : runner.run(BatchManifest.load(manifestPath)).getProjects()) {
+            assertEquals(0, project.getExitCode(), project.getName());
+            // 분석 시각 줄은 실행마다 다름
+            outputs.add(Files.readString(project.getConsoleFile()).replaceAll("분석 시간: .*", ""));
+        }
+        return outputs;
+    }
+
+    private Path writeManifest(String... lines) throws IOException {
+        return Files.write(tempDir.resolve("projects.txt"), List.of(lines), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,205 @@
+package com.codeflow.daemon;
+
+import com.codeflow.Main;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 데몬 모드 테스트 (ProjectModel, ProjectWatcher, DaemonServer, DaemonClient)
+ *
+ * samples/ 복사본을 메모리에 올린 데몬에 클라이언트로 명령을 보내고, 파일 변경이 반영되는지 확인합니다.
+ */
+class DaemonServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path projectPath;
+    private ProjectModel model;
+    private DaemonServer server;
+    private DaemonClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        projectPath = tempDir.resolve("project");
+        Files.createDirectories(projectPath);
+        try (Stream<Path> files = Files.list(Paths.get("samples"))) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, projectPath.resolve(file.getFileName().toString()));
+            }
+        }
+        model = new ProjectModel(projectPath, new JavaSourceParser(), new IBatisParser());
+        model.load();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("흐름/테이블/호출 경로/내보내기 명령 - 메모리의 모델로 처리, 상대 경로는 클라이언트 기준")
+    void testQueries() throws IOException {
+        // Given
+        startServer(null);
+
+        // When
+        Response flows = run("-u", "/user/*", "--no-color");
+        Response tables = run("--list-tables");
+        Response callers = run("--callers", "StockDAO.decreaseStock");
+        Response export = run("--crud-matrix", "out/crud.csv", "--list-tables");
+        Response wrongProject = run("-p", tempDir.resolve("other").toString());
+
+        // Then
+        assertEquals(0, flows.exitCode, flows.output);
+        assertTrue(flows.output.contains("/user/list.do"), flows.output);
+        assertFalse(flows.output.contains("/order/create.do"), flows.output);
+        assertTrue(tables.output.contains("TB_STOCK"), tables.output);
+        assertTrue(callers.output.contains("/order/create.do"), callers.output);
+        assertTrue(callers.output.contains("→ StockDAO.decreaseStock"), callers.output);
+        assertEquals(0, export.exitCode, export.output);
+        assertTrue(Files.isRegularFile(tempDir.resolve("out/crud.csv")), export.output);
+        assertEquals(1, wrongProject.exitCode);
+    }
+
+    @Test
+    @DisplayName("점진적 새로 고침 - 새 Controller 추가/삭제 시 엔드포인트 반영, 관련 없는 파일은 무시")
+    void testRefresh() throws IOException {
+        // Given
+        int endpoints = model.getResult().getFlows().size();
+        long generation = model.getGeneration();
+        Path added = projectPath.resolve("AdminController.java");
+        Files.writeString(added, Files.readString(projectPath.resolve("UserController.java"))
+            .replace("class UserController", "class AdminController")
+            .replace("@RequestMapping(\"/user\")", "@RequestMapping(\"/admin\")"));
+
+        // When / Then: 추가
+        assertTrue(model.refresh(List.of(added)));
+        assertEquals(generation + 1, model.getGeneration());
+        assertTrue(model.getResult().getFlows().size() > endpoints);
+        assertTrue(model.getResult().getFlows().stream().anyMatch(flow -> flow.getUrlMapping().startsWith("/admin/")));
+
+        // When / Then: 관련 없는 파일
+        Path readme = Files.writeString(projectPath.resolve("README.md"), "# test");
+        assertFalse(model.refresh(List.of(readme)));
+
+        // When / Then: 삭제
+        Files.delete(added);
+        assertTrue(model.refresh(List.of(added)));
+        assertEquals(endpoints, model.getResult().getFlows().size());
+    }
+
+    @Test
+    @DisplayName("새로 고침 - 삭제한 클래스의 식별자는 식별자 풀에 남지 않음")
+    void testSymbolPoolRebuiltOnRefresh() throws IOException {
+        // Given
+        JavaSourceParser parser = new JavaSourceParser();
+        ProjectModel pooled = new ProjectModel(projectPath, parser, new IBatisParser());
+        pooled.load();
+        int loadedSize = parser.getSymbolPool().size();
+        Path added = projectPath.resolve("LegacyArchiveController.java");
+        Files.writeString(added, Files.readString(projectPath.resolve("UserController.java"))
+            .replace("class UserController", "class LegacyArchiveController")
+            .replace("@RequestMapping(\"/user\")", "@RequestMapping(\"/legacy-archive\")"));
+
+        // When: 추가 후 삭제
+        pooled.refresh(List.of(added));
+        int addedSize = parser.getSymbolPool().size();
+        Files.delete(added);
+        pooled.refresh(List.of(added));
+
+        // Then: 삭제 후에는 처음 load와 같은 크기
+        assertTrue(addedSize > loadedSize, addedSize + " > " + loadedSize);
+        assertEquals(loadedSize, parser.getSymbolPool().size());
+    }
+
+    @Test
+    @DisplayName("파일 감시 - 요청 전에 바뀐 매퍼 XML을 반영")
+    void testWatcher() throws Exception {
+        // Given
+        startServer(new ProjectWatcher(projectPath));
+        assertFalse(run("--list-tables").output.contains("TB_STOCK_ARCHIVE"));
+        Path mapper = projectPath.resolve("Stock_SQL.xml");
+        Files.writeString(mapper, Files.readString(mapper).replace("FROM TB_STOCK", "FROM TB_STOCK_ARCHIVE"));
+
+        // When: 감시 이벤트는 비동기 → 반영될 때까지 재시도
+        String output = "";
+        for (int i = 0; i < 50 && !output.contains("TB_STOCK_ARCHIVE"); i++) {
+            Thread.sleep(100);
+            output = run("--list-tables").output;
+        }
+
+        // Then
+        assertTrue(output.contains("TB_STOCK_ARCHIVE"), output);
+        assertTrue(model.getGeneration() > 1);
+    }
+
+    @Test
+    @DisplayName("토큰 없는 요청은 거부, 상태 조회와 종료")
+    void testTokenAndShutdown() throws Exception {
+        // Given
+        startServer(null);
+        HttpURLConnection connection = (HttpURLConnection)
+            new URL("http://127.0.0.1:" + server.getPort() + "/status").openConnection();
+
+        // When / Then: 토큰 없음
+        assertEquals(403, connection.getResponseCode());
+        connection.disconnect();
+
+        // When / Then: 상태
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        assertEquals(0, client.status(new PrintStream(buffer, true, StandardCharsets.UTF_8), System.err));
+        assertTrue(buffer.toString(StandardCharsets.UTF_8).contains("\"classes\":" + model.getClassCount()));
+
+        // When / Then: 종료 후 토큰 파일 삭제
+        Path tokenFile = DaemonServer.tokenFile(server.getPort());
+        assertEquals(0, client.shutdown(System.out, System.err));
+        server.awaitShutdown();
+        assertFalse(Files.exists(tokenFile));
+        server = null;
+    }
+
+    private void startServer(ProjectWatcher watcher) throws IOException {
+        server = new DaemonServer(model, watcher, Main::runDaemonCommand, 0);
+        server.start();
+        client = new DaemonClient(server.getPort());
+    }
+
+    private Response run(String... args) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        int exitCode = client.run(List.of(args), tempDir, out, out);
+        return new Response(exitCode, buffer.toString(StandardCharsets.UTF_8));
+    }
+
+    private static class Response {
+        private final int exitCode;
+        private final String output;
+
+        Response(int exitCode, String output) {
+            this.exitCode = exitCode;
+            this.output = output;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.codeflow.parser;
+
+import com.codeflow.perf.PerfReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IBatisParser 테스트
+ *
+ * SQL 조각(&lt;sql&gt;)과 &lt;include refid&gt; 해석을 확인합니다.
+ */
+class IBatisParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("다른 namespace의 조각 - 쿼리에 펼치고 조각의 테이블/파라미터를 문장에 추가")
+    void testCrossNamespaceInclude() throws Exception {
+        // Given
+        writeMapper("common.xml", "common",
+            "<sql id=\"activeFilter\">AND use_yn = 'Y' AND dept_id IN (SELECT id FROM TB_DEPT WHERE code = #{deptCode})</sql>");
+        writeMapper("user.xml", "user",
+            "<select id=\"selectUsers\">SELECT * FROM TB_USER WHERE name = #{name} "
+                + "<include refid=\"common.activeFilter\"/></select>");
+
+        // When
+        Map<String, SqlInfo> sqlMap = new IBatisParser().parseProject(tempDir);
+
+        // Then
+        SqlInfo sqlInfo = sqlMap.get("user.selectUsers");
+        assertEquals(List.of("TB_USER", "TB_DEPT"), sqlInfo.getTables());
+        assertEquals(List.of("name", "deptCode"), sqlInfo.getSqlParameters());
+        assertTrue(sqlInfo.getQuery().contains("use_yn = 'Y'"), sqlInfo.getQuery());
+        assertFalse(sqlInfo.getQuery().contains("<include"), sqlInfo.getQuery());
+    }
+
+    @Test
+    @DisplayName("FROM 뒤 include - 조각의 첫 이름을 테이블로, 같은 namespace 조각 우선")
+    void testIncludeInTablePosition() throws Exception {
+        // Given
+        writeMapper("other.xml", "other", "<sql id=\"orderTable\">TB_OTHER_ORDER</sql>");
+        writeMapper("order.xml", "order",
+            "<sql id=\"orderTable\">TB_ORDER</sql>"
+                + "<select id=\"selectOrders\">SELECT * FROM <include refid=\"orderTable\"/> WHERE id = #{id}</select>"
+                + "<update id=\"updateOrder\">UPDATE <include refid=\"orderTable\"/> SET amount = #{amount}</update>");
+
+        // When
+        Map<String, SqlInfo> sqlMap = new IBatisParser().parseProject(tempDir);
+
+        // Then
+        assertEquals(List.of("TB_ORDER"), sqlMap.get("order.selectOrders").getTables());
+        assertEquals(List.of("TB_ORDER"), sqlMap.get("order.updateOrder").getTables());
+        assertEquals(List.of("amount"), sqlMap.get("order.updateOrder").getSqlParameters());
+    }
+
+    @Test
+    @DisplayName("중첩 조각 + 여러 문장에서 재사용 - 조각은 1번 펼치고 모든 문장에 같은 결과")
+    void testNestedFragmentReused() throws Exception {
+        // Given
+        StringBuilder body = new StringBuilder()
+            .append("<sql id=\"columns\">id, name</sql>")
+            .append("<sql id=\"base\">SELECT <include refid=\"columns\"/> FROM TB_CODE</sql>");
+        for (int i = 0; i < 20; i++) {
+            body.append("<select id=\"select").append(i).append("\">")
+                .append("<include refid=\"base\"/> WHERE group_id = #{group").append(i).append("}</select>");
+        }
+        writeMapper("code.xml", "code", body.toString());
+        PerfReport perfReport = new PerfReport();
+        IBatisParser parser = new IBatisParser();
+        parser.setPerfReport(perfReport);
+
+        // When
+        Map<String, SqlInfo> sqlMap = parser.parseProject(tempDir);
+
+        // Then
+        for (int i = 0; i < 20; i++) {
+            SqlInfo sqlInfo = sqlMap.get("code.select" + i);
+            assertEquals(List.of("TB_CODE"), sqlInfo.getTables());
+            assertEquals(List.of("group" + i), sqlInfo.getSqlParameters());
+            assertTrue(sqlInfo.getQuery().startsWith("SELECT id, name FROM TB_CODE"), sqlInfo.getQuery());
+        }
+        Map<String, Long> counters = perfReport.getCounters();
+        assertEquals(2L, counters.get(PerfReport.COUNTER_SQL_FRAGMENTS));
+        // 문장 20개의 include + 조각 안의 include 1번 (base는 1번만 펼침)
+        assertEquals(21L, counters.get(PerfReport.COUNTER_SQL_INCLUDE_RESOLVED));
+    }
+
+    @Test
+    @DisplayName("순환 참조 / 없는 refid - 멈추지 않고 해당 include만 남김")
+    void testCycleAndUnresolved() throws Exception {
+        // Given
+        writeMapper("loop.xml", "loop",
+            "<sql id=\"a\">FROM TB_A <include refid=\"b\"/></sql>"
+                + "<sql id=\"b\">JOIN TB_B <include refid=\"a\"/></sql>"
+                + "<select id=\"selectLoop\">SELECT * <include refid=\"a\"/></select>"
+                + "<select id=\"selectMissing\">SELECT * FROM TB_C <include refid=\"missing\"/></select>");
+        PerfReport perfReport = new PerfReport();
+        IBatisParser parser = new IBatisParser();
+        parser.setPerfReport(perfReport);
+
+        // When
+        Map<String, SqlInfo> sqlMap = parser.parseProject(tempDir);
+
+        // Then
+        assertEquals(List.of("TB_A", "TB_B"), sqlMap.get("loop.selectLoop").getTables());
+        assertEquals(List.of("TB_C"), sqlMap.get("loop.selectMissing").getTables());
+        assertTrue(sqlMap.get("loop.selectMissing").getQuery().contains("refid=\"missing\""));
+        assertEquals(1L, perfReport.getCounters().get(PerfReport.COUNTER_SQL_INCLUDE_UNRESOLVED));
+    }
+
+    private void writeMapper(String fileName, String namespace, String body) throws Exception {
+        Files.writeString(tempDir.resolve(fileName),
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<mapper namespace=\"" + namespace + "\">\n" + body + "\n</mapper>\n");
+    }
+}
@@ -0,0 +1,83 @@
+package com.codeflow.parser;
+
+import com.github.javaparser.JavaParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JavaFilePreScanner 테스트
+ */
+class JavaFilePreScannerTest {
+
+    @Test
+    @DisplayName("분류 - Controller/Service/DAO 표식이 있으면 FULL, 없으면 LIGHT")
+    void testClassifyFullAndLight() {
+        assertEquals(JavaFilePreScanner.Category.FULL,
+            classify("src/main/java/a/UserController.java", "@Controller public class UserController {}"));
+        assertEquals(JavaFilePreScanner.Category.FULL,
+            classify("src/main/java/a/Helper.java", "public class Helper { @Resource private Object x; }"));
+        assertEquals(JavaFilePreScanner.Category.FULL,
+            classify("src/main/java/a/Helper.java", "public class Helper { private UserDAO userDAO; }"));
+        assertEquals(JavaFilePreScanner.Category.LIGHT,
+            classify("src/main/java/a/UserVO.java", "public class UserVO { private String name; }"));
+        assertEquals(JavaFilePreScanner.Category.LIGHT,
+            classify("src/main/java/a/StringUtil.java", "public class StringUtil { static boolean isEmpty(String s) { return s == null; } }"));
+    }
+
+    @Test
+    @DisplayName("분류 - 테스트 소스, package-info는 SKIP")
+    void testClassifySkip() {
+        assertEquals(JavaFilePreScanner.Category.SKIP,
+            classify("src/test/java/a/UserServiceTest.java", "@Service class X {}"));
+        assertEquals(JavaFilePreScanner.Category.SKIP,
+            classify("module/src/main/java/a/Check.java", "import org.junit.jupiter.api.Test; class Check {}"));
+        assertEquals(JavaFilePreScanner.Category.SKIP,
+            classify("src/main/java/a/package-info.java", "package a;"));
+    }
+
+    @Test
+    @DisplayName("본문 비우기 - 선언은 유지, 문자열/주석 안의 중괄호는 무시")
+    void testStripMethodBodies() {
+        // Given
+        String source = String.join("\n",
+            "@Anno({\"a\", \"b\"})",
+            "public class Util {",
+            "    private int[] codes = {1, 2};",
+            "    public static String wrap(String s) {",
+            "        if (s == null) { return \"{\"; }",
+            "        char c = '}'; // }",
+            "        return \"\"\"",
+            "            }\"\"\" + s;",
+            "    }",
+            "    /* { */ public int size() { return 0; }",
+            "}");
+
+        // When
+        String stripped = JavaFilePreScanner.stripMethodBodies(source);
+
+        // Then
+        assertEquals(String.join("\n",
+            "@Anno({\"a\", \"b\"})",
+            "public class Util {",
+            "    private int[] codes = {};",
+            "    public static String wrap(String s) {",
+            "",
+            "",
+            "",
+            "",
+            "}",
+            "    /* { */ public int size() {}",
+            "}"), stripped);
+        assertTrue(new JavaParser().parse(stripped).isSuccessful());
+        assertEquals(source.split("\n").length, stripped.split("\n").length, "줄 수 유지");
+    }
+
+    private static JavaFilePreScanner.Category classify(String path, String content) {
+        return JavaFilePreScanner.classify(Path.of(path), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
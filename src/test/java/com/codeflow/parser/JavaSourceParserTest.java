@@ -1,11 +1,20 @@
 package com.codeflow.parser;
 
+import com.codeflow.perf.PerfReport;
+import com.codeflow.util.CancellationToken;
+import com.codeflow.util.ProgressListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -183,4 +192,245 @@ class JavaSourceParserTest {
         assertEquals(2, getCount, "GET 메서드 2개여야 함");
         assertEquals(3, postCount, "POST 메서드 3개여야 함");
     }
+
+    @Test
+    @DisplayName("진행 상황 통지 - 파일마다 현재/전체 개수 전달")
+    void testProgressListener() throws Exception {
+        List<int[]> progress = new ArrayList<>();
+        parser.setProgressListener((phase, current, total) -> {
+            assertEquals(ProgressListener.Phase.JAVA_PARSE, phase);
+            progress.add(new int[]{current, total});
+        });
+
+        parser.parseProject(samplesPath);
+
+        assertFalse(progress.isEmpty(), "진행 통지가 있어야 함");
+        int total = progress.get(0)[1];
+        assertEquals(total, progress.size(), "파일마다 한 번씩 통지");
+        assertEquals(total, progress.get(progress.size() - 1)[0], "마지막 통지는 current == total");
+    }
+
+    @Test
+    @DisplayName("취소 토큰 - 파싱 도중 취소하면 CancellationException")
+    void testCancellation() {
+        CancellationToken token = new CancellationToken();
+        List<Integer> parsedCounts = new ArrayList<>();
+        parser.setCancellationToken(token);
+        parser.setProgressListener((phase, current, total) -> {
+            parsedCounts.add(current);
+            if (current == 2) {
+                token.cancel();  // 2번째 파일 처리 후 취소
+            }
+        });
+
+        assertThrows(CancellationException.class, () -> parser.parseProject(samplesPath));
+        assertEquals(2, parsedCounts.size(), "취소 이후 파일은 처리하지 않음");
+    }
+
+    @Test
+    @DisplayName("메서드 호출 추출 - 소스 순서, scope/인자 문자열, 파라미터 사용 필드")
+    void testMethodCallExtraction(@TempDir Path tempDir) throws Exception {
+        // Given: if/else, 체이닝, 중첩 호출이 섞인 메서드
+        Path source = tempDir.resolve("SampleServiceImpl.java");
+        Files.writeString(source, String.join("\n",
+            "@Service(\"sampleService\")",
+            "public class SampleServiceImpl {",
+            "    public Object process(SampleVO vo, Map<String, Object> params) throws Exception {",
+            "        if (vo.getUseYn() != null) {",
+            "            thenDAO.select(vo.getId(), params.get(\"mode\"));",
+            "        } else {",
+            "            elseDAO.insert(\"ns.insertSample\", this.defaultValue, 10);",
+            "        }",
+            "        return getSqlMapClientTemplate().queryForList(\"ns.selectSample\", params);",
+            "    }",
+            "}"));
+
+        // When
+        ParsedClass parsed = parser.parseFile(source);
+
+        // Then: 호출은 소스 순서대로 (then 블록이 else 블록보다 먼저)
+        ParsedMethod method = parsed.getMethods().get(0);
+        List<String> calls = new ArrayList<>();
+        for (MethodCall call : method.getMethodCalls()) {
+            calls.add(call.getScope() + "#" + call.getMethodName() + call.getArguments());
+        }
+        assertEquals(List.of(
+            "vo#getUseYn[]",
+            "thenDAO#select[vo.id, params.get()]",
+            "vo#getId[]",
+            "params#get[\"mode\"]",
+            "elseDAO#insert[\"ns.insertSample\", this.defaultValue, 10]",
+            "getSqlMapClientTemplate()#queryForList[\"ns.selectSample\", params]",
+            "#getSqlMapClientTemplate[]"), calls);
+        assertEquals(List.of("ns.insertSample", "ns.selectSample"), method.getSqlIds());
+
+        // 파라미터 사용 필드 (VO getter, Map 키)
+        assertEquals(List.of("useYn", "id"), method.getParameters().get(0).getUsedFields());
+        assertEquals(List.of("mode"), method.getParameters().get(1).getUsedFields());
+    }
+
+    @Test
+    @DisplayName("빠른 파싱 - 테스트 소스 건너뜀, VO는 선언만, Controller는 기본 모드와 동일")
+    void testFastMode(@TempDir Path tempDir) throws Exception {
+        // Given: 샘플 Controller + VO + 테스트 소스
+        Path mainDir = Files.createDirectories(tempDir.resolve("src/main/java/sample"));
+        Path testDir = Files.createDirectories(tempDir.resolve("src/test/java/sample"));
+        Files.copy(samplesPath.resolve("UserController.java"), mainDir.resolve("UserController.java"));
+        Files.writeString(mainDir.resolve("UserVO.java"), String.join("\n",
+            "package sample;",
+            "public class UserVO {",
+            "    private String name;",
+            "    public String getName() { return name.trim(); }",
+            "    public void setName(String name) { this.name = name; }",
+            "}"));
+        Files.writeString(testDir.resolve("UserControllerTest.java"),
+            "package sample; class UserControllerTest { void test() { new UserController(); } }");
+
+        JavaSourceParser fastParser = new JavaSourceParser();
+        fastParser.setFastMode(true);
+        PerfReport report = new PerfReport();
+        fastParser.setPerfReport(report);
+
+        // When
+        List<ParsedClass> fastClasses = fastParser.parseProject(tempDir);
+        ParsedClass normalController = parser.parseFile(mainDir.resolve("UserController.java"));
+
+        // Then: 파일 분류
+        assertEquals(2, fastClasses.size());
+        assertEquals(1, fastParser.getFullParseCount());
+        assertEquals(1, fastParser.getLightParseCount());
+        assertEquals(1, fastParser.getSkippedFileCount());
+        assertEquals(1L, report.getCounters().get(PerfReport.COUNTER_JAVA_SKIPPED));
+
+        // VO: 메서드 선언은 유지, 본문 호출은 추출하지 않음
+        ParsedClass vo = fastClasses.stream()
+            .filter(c -> c.getClassName().equals("UserVO")).findFirst().orElseThrow();
+        assertEquals(2, vo.getMethods().size());
+        assertTrue(vo.getMethods().get(0).getMethodCalls().isEmpty());
+
+        // Controller: 기본 모드와 같은 URL/호출
+        ParsedClass fastController = fastClasses.stream()
+            .filter(c -> c.getClassName().equals("UserController")).findFirst().orElseThrow();
+        assertEquals(normalController.getMethods().size(), fastController.getMethods().size());
+        for (int i = 0; i < normalController.getMethods().size(); i++) {
+            ParsedMethod expected = normalController.getMethods().get(i);
+            ParsedMethod actual = fastController.getMethods().get(i);
+            assertEquals(expected.getUrlMapping(), actual.getUrlMapping());
+            assertEquals(expected.getMethodCalls().size(), actual.getMethodCalls().size());
+        }
+    }
+
+    @Test
+    @DisplayName("크기 한도 초과 - 읽지 않고 격리, 다음 실행에서는 다시 시도하지 않음")
+    void testQuarantineBySize(@TempDir Path tempDir) throws Exception {
+        // Given: 한도(1KB)보다 큰 Controller
+        Path projectDir = Files.createDirectories(tempDir.resolve("project"));
+        Path cacheDir = tempDir.resolve("cache");
+        Files.copy(samplesPath.resolve("UserController.java"), projectDir.resolve("UserController.java"));
+        Files.copy(samplesPath.resolve("UserDAO.java"), projectDir.resolve("UserDAO.java"));
+        long controllerSize = Files.size(projectDir.resolve("UserController.java"));
+        assertTrue(controllerSize > 1024 && Files.size(projectDir.resolve("UserDAO.java")) < controllerSize);
+
+        parser.setMaxFileBytes(controllerSize - 1);
+        parser.setParseCache(new ParseCache(cacheDir));
+        PerfReport report = new PerfReport();
+        parser.setPerfReport(report);
+
+        // When
+        List<ParsedClass> classes = parser.parseProject(projectDir);
+
+        // Then: 나머지 파일은 그대로, Controller는 읽지 않고 건너뜀 (문자셋 집계에도 없음)
+        assertEquals(List.of("UserDAO"), classes.stream().map(ParsedClass::getClassName).collect(Collectors.toList()));
+        assertEquals(1, report.getCounters().entrySet().stream()
+            .filter(e -> e.getKey().startsWith(PerfReport.COUNTER_JAVA_CHARSET_PREFIX))
+            .mapToLong(e -> e.getValue()).sum());
+
+        assertEquals(1, parser.getQuarantinedFiles().size());
+        QuarantinedFile quarantined = parser.getQuarantinedFiles().get(0);
+        assertEquals("UserController.java", quarantined.getRelativePath());
+        assertEquals(QuarantinedFile.Reason.TOO_LARGE, quarantined.getReason());
+        assertEquals(QuarantinedFile.Action.SKIPPED, quarantined.getAction());
+        assertEquals(1, report.getQuarantinedFiles().size());
+        assertTrue(report.toJson().contains("quarantinedFiles"));
+
+        // 다음 실행: 한도를 없애도 캐시된 격리 목록을 따름
+        JavaSourceParser nextRun = new JavaSourceParser();
+        nextRun.setMaxFileBytes(0);
+        nextRun.setParseCache(new ParseCache(cacheDir));
+        nextRun.parseProject(projectDir);
+        assertEquals(1, nextRun.getQuarantinedFiles().size());
+
+        // 파일이 바뀌면 다시 시도 → 한도가 없으므로 정상 파싱되고 격리 해제
+        Files.writeString(projectDir.resolve("UserController.java"),
+            Files.readString(projectDir.resolve("UserController.java")) + "\n// changed\n");
+        JavaSourceParser changedRun = new JavaSourceParser();
+        changedRun.setMaxFileBytes(0);
+        ParseCache cache = new ParseCache(cacheDir);
+        changedRun.setParseCache(cache);
+        List<ParsedClass> reparsed = changedRun.parseProject(projectDir);
+        assertTrue(changedRun.getQuarantinedFiles().isEmpty());
+        assertTrue(new ParseCache(cacheDir).getQuarantinedFiles().isEmpty());
+        assertTrue(reparsed.stream().filter(c -> c.getClassName().equals("UserController"))
+            .flatMap(c -> c.getMethods().stream()).anyMatch(m -> !m.getMethodCalls().isEmpty()));
+    }
+
+    @Test
+    @DisplayName("시간 한도 초과 - 파싱을 중단하고 격리, 나머지 파일은 계속")
+    void testQuarantineByTime(@TempDir Path tempDir) throws Exception {
+        // Given: 메서드 5,000개짜리 생성 파일 (수 ms 안에는 파싱할 수 없는 크기)
+        StringBuilder big = new StringBuilder("public class GeneratedTable {\n");
+        for (int i = 0; i < 5000; i++) {
+            big.append("    public int value").append(i).append("(int x) { return x * ").append(i)
+               .append(" + helper(x, \"").append(i).append("\"); }\n");
+        }
+        big.append("}\n");
+        Files.writeString(tempDir.resolve("GeneratedTable.java"), big.toString());
+        Files.writeString(tempDir.resolve("UserDAO.java"),
+            "@Repository public class UserDAO { public Object select() { return list(\"user.select\"); } }");
+
+        parser.setMaxFileBytes(0);
+        parser.setMaxParseMillis(1);
+
+        // When
+        List<ParsedClass> classes = parser.parseProject(tempDir);
+
+        // Then
+        assertEquals(1, parser.getQuarantinedFiles().size());
+        QuarantinedFile quarantined = parser.getQuarantinedFiles().get(0);
+        assertEquals("GeneratedTable.java", quarantined.getRelativePath());
+        assertEquals(QuarantinedFile.Reason.TIMEOUT, quarantined.getReason());
+        assertTrue(classes.stream().anyMatch(c -> c.getClassName().equals("UserDAO")));
+    }
+
+    @Test
+    @DisplayName("UTF-8/MS949 혼합 프로젝트 - 파일별 문자셋 감지로 한글 URL/SQL ID 정상 파싱")
+    void testMixedEncodingProject(@TempDir Path tempDir) throws Exception {
+        // Given: 같은 내용을 UTF-8, MS949로 각각 저장
+        String template = String.join("\n",
+            "// 한글 주석: 사용자 관리",
+            "@Controller",
+            "public class %sController {",
+            "    @RequestMapping(\"/사용자/목록.do\")",
+            "    public String list() { return %sDAO.select(\"사용자.목록\"); }",
+            "}");
+        Files.writeString(tempDir.resolve("Utf8Controller.java"), String.format(template, "Utf8", "utf8"));
+        Files.write(tempDir.resolve("LegacyController.java"),
+            String.format(template, "Legacy", "legacy").getBytes(java.nio.charset.Charset.forName("MS949")));
+        PerfReport report = new PerfReport();
+        parser.setPerfReport(report);
+
+        // When
+        List<ParsedClass> classes = parser.parseProject(tempDir);
+
+        // Then
+        assertEquals(2, classes.size());
+        for (ParsedClass parsed : classes) {
+            ParsedMethod method = parsed.getMethods().get(0);
+            assertEquals("/사용자/목록.do", method.getUrlMapping(), parsed.getClassName());
+            assertEquals(List.of("사용자.목록"), method.getSqlIds(), parsed.getClassName());
+        }
+        assertTrue(parser.getDecodeFailedFiles().isEmpty());
+        assertEquals(1L, report.getCounters().get(PerfReport.COUNTER_JAVA_CHARSET_PREFIX + "UTF-8"));
+        assertEquals(1L, report.getCounters().get(PerfReport.COUNTER_JAVA_CHARSET_PREFIX + "x-windows-949"));
+    }
 }
@@ -0,0 +1,114 @@
+package com.codeflow.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ModuleDiscovery 테스트
+ *
+ * 임시 폴더에 Gradle/Maven 멀티 모듈 구성을 만들어 모듈과 의존 관계를 읽는지 확인합니다.
+ */
+class ModuleDiscoveryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Gradle - include, projectDir 지정, project() 의존 (주석은 무시)")
+    void testGradleModules() throws Exception {
+        // Given
+        write("settings.gradle", """
+            rootProject.name = 'shop'
+            include ':common', 'order:api'
+            include(
+                ':admin'
+            )
+            // include ':legacy'
+            project(':admin').projectDir = file('apps/admin-web')
+            """);
+        write("common/build.gradle", "dependencies { }");
+        write("order/api/build.gradle", "dependencies { implementation project(':common') }");
+        write("apps/admin-web/build.gradle", """
+            dependencies {
+                implementation project(path: ':order:api')
+                implementation project(':common')
+                implementation project(':admin')
+            }
+            """);
+        Files.createDirectories(tempDir.resolve("legacy"));
+
+        // When
+        List<ProjectModule> modules = ModuleDiscovery.discover(tempDir);
+        Map<String, ProjectModule> byName = byName(modules);
+
+        // Then: 루트 + 포함한 모듈 + 중간 경로(:order), 폴더 경로순
+        assertEquals(List.of(":", ":admin", ":common", ":order", ":order:api"),
+            modules.stream().map(ProjectModule::getName).collect(Collectors.toList()));
+        assertEquals(tempDir.resolve("apps/admin-web").toAbsolutePath().normalize(), byName.get(":admin").getDirectory());
+        assertEquals(List.of(":order:api", ":common"), byName.get(":admin").getDependencies(), "자기 자신은 제외, 선언 순서");
+        assertEquals(List.of(":common"), byName.get(":order:api").getDependencies());
+        assertFalse(byName.containsKey(":legacy"), "주석 처리한 include는 제외");
+    }
+
+    @Test
+    @DisplayName("Maven - <modules>를 따라 내려가며 탐색, 모듈 artifactId 의존만 기록")
+    void testMavenModules() throws Exception {
+        // Given
+        write("pom.xml", pom("shop-parent", "<modules><module>core</module><module>web</module></modules>", ""));
+        write("core/pom.xml", pom("shop-core", "", "<dependency><artifactId>commons-lang3</artifactId></dependency>"));
+        write("web/pom.xml", pom("shop-web", "", "<dependency><artifactId>shop-core</artifactId></dependency>"));
+
+        // When
+        List<ProjectModule> modules = ModuleDiscovery.discover(tempDir);
+        Map<String, ProjectModule> byName = byName(modules);
+
+        // Then
+        assertEquals(List.of("shop-parent", "shop-core", "shop-web"),
+            modules.stream().map(ProjectModule::getName).collect(Collectors.toList()));
+        assertEquals(List.of("shop-core"), byName.get("shop-web").getDependencies());
+        assertTrue(byName.get("shop-core").getDependencies().isEmpty(), "외부 라이브러리는 모듈 의존이 아님");
+    }
+
+    @Test
+    @DisplayName("빌드 파일 없음 - 루트 1개, 파일은 가장 깊은 모듈에 속함")
+    void testSingleModuleAndFindModule() throws Exception {
+        // Given
+        List<ProjectModule> single = ModuleDiscovery.discover(tempDir);
+        ProjectModule root = new ProjectModule(":", tempDir, List.of());
+        ProjectModule api = new ProjectModule(":api", tempDir.resolve("api"), List.of());
+
+        // Then
+        assertEquals(1, single.size());
+        assertEquals(tempDir.toAbsolutePath().normalize(), single.get(0).getDirectory());
+        assertEquals(api, ModuleDiscovery.findModule(List.of(root, api), tempDir.resolve("api/src/A.java")));
+        assertEquals(root, ModuleDiscovery.findModule(List.of(root, api), tempDir.resolve("apix/src/B.java")));
+        assertTrue(ModuleDiscovery.isBuildFile(tempDir.resolve("api/build.gradle.kts")));
+        assertFalse(ModuleDiscovery.isBuildFile(tempDir.resolve("api/src/A.java")));
+    }
+
+    private static Map<String, ProjectModule> byName(List<ProjectModule> modules) {
+        return modules.stream().collect(Collectors.toMap(ProjectModule::getName, module -> module));
+    }
+
+    private static String pom(String artifactId, String modules, String dependencies) {
+        return "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">"
+            + "<artifactId>" + artifactId + "</artifactId>" + modules
+            + "<dependencies>" + dependencies + "</dependencies></project>";
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
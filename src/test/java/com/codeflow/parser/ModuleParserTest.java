@@ -0,0 +1,141 @@
+package com.codeflow.parser;
+
+import com.codeflow.util.CancellationToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ModuleParser 테스트
+ *
+ * 임시 폴더의 Gradle 멀티 모듈 프로젝트로 모듈 이름 기록과 모듈 단위 캐시를 확인합니다.
+ */
+class ModuleParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("모듈별 파싱 - 모듈 이름 기록, 모듈 순서 → 파일 경로순")
+    void testParseModules() throws Exception {
+        // Given
+        Path project = createProject();
+        List<ProjectModule> modules = ModuleDiscovery.discover(project);
+
+        // When
+        ModuleParser moduleParser = new ModuleParser(new JavaSourceParser(), ParseCache.none());
+        moduleParser.setThreads(2);
+        List<ParsedClass> classes = moduleParser.parse(project, modules);
+
+        // Then
+        assertEquals(List.of(":admin/com.admin.AdminController", ":admin/com.admin.CodeDAO", ":shop/com.shop.CodeDAO"),
+            classes.stream().map(ParsedClass::getQualifiedName).collect(Collectors.toList()));
+        assertEquals(2, moduleParser.getParsedModuleCount());
+    }
+
+    @Test
+    @DisplayName("모듈 캐시 - 두 번째 실행은 캐시 사용, 파일이 바뀐 모듈만 다시 파싱")
+    void testModuleCache() throws Exception {
+        // Given: 첫 실행으로 캐시 저장
+        Path project = createProject();
+        Path cacheDir = tempDir.resolve("cache");
+        List<ProjectModule> modules = ModuleDiscovery.discover(project);
+        List<ParsedClass> first = new ModuleParser(new JavaSourceParser(), new ParseCache(cacheDir)).parse(project, modules);
+
+        // When: 바뀐 파일 없이 다시 실행
+        ModuleParser unchanged = new ModuleParser(new JavaSourceParser(), new ParseCache(cacheDir));
+        List<ParsedClass> second = unchanged.parse(project, modules);
+
+        // Then
+        assertEquals(2, unchanged.getCachedModuleCount());
+        assertEquals(0, unchanged.getParsedModuleCount());
+        assertEquals(first.stream().map(ParsedClass::getQualifiedName).collect(Collectors.toList()),
+            second.stream().map(ParsedClass::getQualifiedName).collect(Collectors.toList()));
+        assertEquals(":shop", second.get(2).getModuleName());
+
+        // When: :shop 모듈 파일만 수정
+        Path shopDao = project.resolve("shop/src/com/shop/CodeDAO.java");
+        Files.writeString(shopDao, daoSource("com.shop", "selectShopCodes", "selectShopNames"));
+        Files.setLastModifiedTime(shopDao, FileTime.fromMillis(Files.getLastModifiedTime(shopDao).toMillis() + 5_000));
+        ModuleParser changed = new ModuleParser(new JavaSourceParser(), new ParseCache(cacheDir));
+        List<ParsedClass> third = changed.parse(project, modules);
+
+        // Then: :admin은 캐시, :shop만 다시 파싱
+        assertEquals(1, changed.getCachedModuleCount());
+        assertEquals(1, changed.getParsedModuleCount());
+        assertEquals(2, third.get(2).getMethods().size());
+    }
+
+    @Test
+    @DisplayName("취소 - 모듈 파싱 중 취소 토큰 확인, 캐시에 저장하지 않음")
+    void testCancel() throws Exception {
+        // Given: 취소된 토큰을 가진 파서
+        Path project = createProject();
+        Path cacheDir = tempDir.resolve("cache");
+        List<ProjectModule> modules = ModuleDiscovery.discover(project);
+        JavaSourceParser parser = new JavaSourceParser();
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        parser.setCancellationToken(token);
+
+        // When & Then
+        assertThrows(CancellationException.class,
+            () -> new ModuleParser(parser, new ParseCache(cacheDir)).parse(project, modules));
+
+        // Then: 다음 실행은 모든 모듈을 다시 파싱
+        ModuleParser next = new ModuleParser(new JavaSourceParser(), new ParseCache(cacheDir));
+        next.parse(project, modules);
+        assertEquals(2, next.getParsedModuleCount());
+    }
+
+    /**
+     * :admin, :shop 모듈에 같은 이름의 CodeDAO가 있는 프로젝트
+     */
+    private Path createProject() throws IOException {
+        Path project = tempDir.resolve("project");
+        write(project, "settings.gradle", "include ':admin', ':shop'");
+        write(project, "admin/build.gradle", "");
+        write(project, "shop/build.gradle", "");
+        write(project, "admin/src/com/admin/AdminController.java", """
+            package com.admin;
+
+            @Controller
+            public class AdminController {
+                private CodeDAO codeDAO;
+
+                @RequestMapping("/admin/codes.do")
+                public String codes() {
+                    codeDAO.selectAdminCodes();
+                    return "codes";
+                }
+            }
+            """);
+        write(project, "admin/src/com/admin/CodeDAO.java", daoSource("com.admin", "selectAdminCodes"));
+        write(project, "shop/src/com/shop/CodeDAO.java", daoSource("com.shop", "selectShopCodes"));
+        return project;
+    }
+
+    static String daoSource(String packageName, String... methods) {
+        StringBuilder sb = new StringBuilder("package " + packageName + ";\n\n@Repository\npublic class CodeDAO {\n");
+        for (String method : methods) {
+            sb.append("    public void ").append(method).append("() { }\n");
+        }
+        return sb.append("}\n").toString();
+    }
+
+    static void write(Path root, String relativePath, String content) throws IOException {
+        Path file = root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,161 @@
+package com.codeflow.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParseCache 테스트
+ */
+class ParseCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("격리 목록 저장/불러오기 - 크기와 수정 시각이 같을 때만 일치")
+    void testQuarantineRoundTrip() throws Exception {
+        // Given
+        ParseCache cache = new ParseCache(tempDir);
+        cache.putQuarantined(new QuarantinedFile("src/Big.java", 100, 1000,
+            QuarantinedFile.Reason.TIMEOUT, QuarantinedFile.Action.SKIPPED));
+
+        // When
+        cache.save();
+        ParseCache loaded = new ParseCache(tempDir);
+
+        // Then
+        QuarantinedFile entry = loaded.findQuarantined("src/Big.java", 100, 1000);
+        assertNotNull(entry);
+        assertEquals(QuarantinedFile.Reason.TIMEOUT, entry.getReason());
+        assertEquals(QuarantinedFile.Action.SKIPPED, entry.getAction());
+        assertNull(loaded.findQuarantined("src/Big.java", 101, 1000), "크기가 바뀌면 다시 시도");
+        assertNull(loaded.findQuarantined("src/Big.java", 100, 2000), "수정 시각이 바뀌면 다시 시도");
+    }
+
+    @Test
+    @DisplayName("아카이브 항목 저장/불러오기 - 아카이브 해시 + 항목 이름으로 조회")
+    void testArchiveEntryRoundTrip() throws Exception {
+        // Given
+        ParsedClass parsed = new ParsedClass();
+        parsed.setFilePath(Path.of("lib/user-sources.jar!/com/example/UserDAO.java"));
+        parsed.setClassName("UserDAO");
+        parsed.setClassType(ClassType.DAO);
+        ParseCache cache = new ParseCache(tempDir);
+        cache.putArchiveEntry("abc123", "com/example/UserDAO.java", parsed);
+
+        // When
+        cache.save();
+        ParseCache loaded = new ParseCache(tempDir);
+
+        // Then
+        ParsedClass entry = loaded.findArchiveEntry("abc123", "com/example/UserDAO.java", ParsedClass.class);
+        assertNotNull(entry);
+        assertEquals("UserDAO", entry.getClassName());
+        assertEquals(ClassType.DAO, entry.getClassType());
+        assertEquals(parsed.getFilePath(), entry.getFilePath());
+        assertTrue(Files.exists(tempDir.resolve("archives").resolve("abc123-v" + ParseCache.FORMAT_VERSION + ".json")));
+        assertNull(loaded.findArchiveEntry("def456", "com/example/UserDAO.java", ParsedClass.class),
+            "아카이브가 바뀌면(해시가 다르면) 다시 파싱");
+    }
+
+    @Test
+    @DisplayName("아카이브 캐시 형식 버전 - 버전이 다른 파일은 없는 것으로 봄")
+    void testArchiveVersionMismatch() throws Exception {
+        // Given: 현재 파일 이름이지만 다른 형식 버전으로 저장된 캐시
+        Path file = tempDir.resolve("archives").resolve("abc123-v" + ParseCache.FORMAT_VERSION + ".json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "{\"version\": " + (ParseCache.FORMAT_VERSION + 1)
+            + ", \"entries\": {\"com/example/UserDAO.java\": {\"className\": \"UserDAO\"}}}");
+
+        // When
+        ParseCache cache = new ParseCache(tempDir);
+
+        // Then
+        assertNull(cache.findArchiveEntry("abc123", "com/example/UserDAO.java", ParsedClass.class));
+    }
+
+    @Test
+    @DisplayName("모듈 캐시 - 지문과 형식 버전이 같을 때만 사용")
+    void testModuleVersionMismatch() throws Exception {
+        // Given
+        ParsedClass parsed = new ParsedClass();
+        parsed.setClassName("CodeDAO");
+        ParseCache cache = new ParseCache(tempDir);
+        cache.putModule(":shop", "fp1", new ParsedClass[]{parsed});
+        cache.save();
+
+        // Then: 같은 지문 → 사용, 다른 지문 → 없음
+        ParsedClass[] cached = new ParseCache(tempDir).findModule(":shop", "fp1", ParsedClass[].class);
+        assertEquals("CodeDAO", cached[0].getClassName());
+        assertNull(new ParseCache(tempDir).findModule(":shop", "fp2", ParsedClass[].class));
+
+        // When: 다른 형식 버전으로 저장된 파일
+        Path file;
+        try (java.util.stream.Stream<Path> files = Files.list(tempDir.resolve("modules"))) {
+            file = files.findFirst().orElseThrow();
+        }
+        Files.writeString(file, Files.readString(file).replaceFirst("\"version\": \\d+",
+            "\"version\": " + (ParseCache.FORMAT_VERSION + 1)));
+
+        // Then
+        assertNull(new ParseCache(tempDir).findModule(":shop", "fp1", ParsedClass[].class));
+    }
+
+    @Test
+    @DisplayName("공용 아카이브 캐시 - 프로젝트 캐시끼리 아카이브 항목 공유, 격리 목록은 프로젝트별")
+    void testSharedArchiveCache() throws Exception {
+        // Given: 같은 공용 캐시를 쓰는 프로젝트 캐시 2개
+        ParseCache shared = new ParseCache(tempDir.resolve("shared"));
+        ParseCache projectA = new ParseCache(tempDir.resolve("a"));
+        ParseCache projectB = new ParseCache(tempDir.resolve("b"));
+        projectA.setArchiveCache(shared);
+        projectB.setArchiveCache(shared);
+        ParsedClass parsed = new ParsedClass();
+        parsed.setClassName("CommonDAO");
+
+        // When
+        projectA.putArchiveEntry("lib123", "com/common/CommonDAO.java", parsed);
+        projectA.putQuarantined(new QuarantinedFile("Big.java", 1, 1,
+            QuarantinedFile.Reason.TOO_LARGE, QuarantinedFile.Action.LIGHT));
+        projectA.save();
+        shared.save();
+
+        // Then
+        ParsedClass entry = projectB.findArchiveEntry("lib123", "com/common/CommonDAO.java", ParsedClass.class);
+        assertNotNull(entry);
+        assertEquals("CommonDAO", entry.getClassName());
+        assertTrue(Files.exists(tempDir.resolve("shared/archives/lib123-v" + ParseCache.FORMAT_VERSION + ".json")));
+        assertFalse(Files.exists(tempDir.resolve("a/archives/lib123-v" + ParseCache.FORMAT_VERSION + ".json")));
+        assertTrue(projectB.getQuarantinedFiles().isEmpty());
+    }
+
+    @Test
+    @DisplayName("깨진 캐시 파일 - 빈 캐시로 시작")
+    void testCorruptCacheIgnored() throws Exception {
+        Files.writeString(tempDir.resolve("quarantine.json"), "{ not json");
+
+        ParseCache cache = new ParseCache(tempDir);
+
+        assertTrue(cache.getQuarantinedFiles().isEmpty());
+    }
+
+    @Test
+    @DisplayName("none() / 프로젝트 기본 캐시 - 저장 위치")
+    void testCacheLocation() throws Exception {
+        ParseCache none = ParseCache.none();
+        none.putQuarantined(new QuarantinedFile("A.java", 1, 1,
+            QuarantinedFile.Reason.TOO_LARGE, QuarantinedFile.Action.LIGHT));
+        none.save();  // 아무것도 쓰지 않음
+        assertNull(none.getCacheDir());
+
+        // 같은 프로젝트 → 같은 폴더, 다른 프로젝트 → 다른 폴더
+        assertEquals(ParseCache.projectKey(tempDir), ParseCache.projectKey(tempDir.resolve(".")));
+        assertNotEquals(ParseCache.projectKey(tempDir), ParseCache.projectKey(tempDir.resolve("other")));
+    }
+}
@@ -0,0 +1,132 @@
+package com.codeflow.parser;
+
+import com.codeflow.perf.PerfReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SourceArchive 테스트
+ *
+ * samples/ 폴더를 -sources.jar로 묶어, 압축을 풀지 않고 폴더와 같은 결과를 얻는지 확인합니다.
+ */
+class SourceArchiveTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("아카이브 파싱 - 폴더와 같은 클래스/SQL, 경로는 아카이브!/항목")
+    void testParseArchive() throws Exception {
+        // Given
+        Path samplesPath = Paths.get("samples");
+        Path archive = zipDirectory(samplesPath, tempDir.resolve("samples-sources.jar"), "com/example/");
+
+        // When
+        List<ParsedClass> fromArchive = new JavaSourceParser().parseProject(archive);
+        Map<String, SqlInfo> sqlFromArchive = new IBatisParser().parseProject(archive);
+
+        // Then
+        assertEquals(classNames(new JavaSourceParser().parseProject(samplesPath)), classNames(fromArchive));
+        assertEquals(new IBatisParser().parseProject(samplesPath).keySet(), sqlFromArchive.keySet());
+        assertTrue(fromArchive.get(0).getFilePath().toString().contains("samples-sources.jar!/com/example/"),
+            fromArchive.get(0).getFilePath().toString());
+    }
+
+    @Test
+    @DisplayName("파싱 캐시 - 같은 아카이브는 두 번째부터 캐시에서 가져옴")
+    void testArchiveEntriesCached() throws Exception {
+        // Given
+        Path archive = zipDirectory(Paths.get("samples"), tempDir.resolve("samples-sources.jar"), "");
+        Path cacheDir = tempDir.resolve("cache");
+        List<ParsedClass> first = parseWithCache(archive, cacheDir, new PerfReport());
+        Map<String, SqlInfo> firstSql = parseSqlWithCache(archive, cacheDir, new PerfReport());
+
+        // When: 새 캐시 인스턴스 (저장된 파일에서 불러오기)
+        PerfReport perfReport = new PerfReport();
+        List<ParsedClass> second = parseWithCache(archive, cacheDir, perfReport);
+        Map<String, SqlInfo> secondSql = parseSqlWithCache(archive, cacheDir, perfReport);
+
+        // Then
+        assertEquals(classNames(first), classNames(second));
+        assertEquals(first.get(0).getFilePath(), second.get(0).getFilePath());
+        assertEquals(firstSql.keySet(), secondSql.keySet());
+        assertEquals(firstSql.values().iterator().next().getQuery(),
+            secondSql.get(firstSql.keySet().iterator().next()).getQuery());
+        long javaEntries = first.size();
+        assertTrue(perfReport.getCounters().get(PerfReport.COUNTER_ARCHIVE_CACHE_HIT) >= javaEntries,
+            perfReport.getCounters().toString());
+    }
+
+    @Test
+    @DisplayName("폴더 안의 아카이브 - setScanArchives(true)일 때만 포함")
+    void testScanNestedArchives() throws Exception {
+        // Given: 폴더에 소스 1개 + 아카이브 1개
+        Path project = tempDir.resolve("project");
+        Files.createDirectories(project.resolve("lib"));
+        Files.copy(Paths.get("samples/UserController.java"), project.resolve("UserController.java"));
+        zipDirectory(Paths.get("samples"), project.resolve("lib/dao-sources.jar"), "");
+
+        // When
+        JavaSourceParser plain = new JavaSourceParser();
+        JavaSourceParser scanning = new JavaSourceParser();
+        scanning.setScanArchives(true);
+        scanning.setArchiveThreads(3);
+
+        // Then
+        assertEquals(1, plain.parseProject(project).size());
+        List<ParsedClass> withArchives = scanning.parseProject(project);
+        assertEquals(classNames(new JavaSourceParser().parseProject(Paths.get("samples"))).size() + 1,
+            withArchives.size());
+        assertTrue(withArchives.stream().anyMatch(c -> c.getFilePath().toString().contains("dao-sources.jar!/")));
+    }
+
+    private List<ParsedClass> parseWithCache(Path archive, Path cacheDir, PerfReport perfReport) throws IOException {
+        JavaSourceParser parser = new JavaSourceParser();
+        parser.setParseCache(new ParseCache(cacheDir));
+        parser.setPerfReport(perfReport);
+        return parser.parseProject(archive);
+    }
+
+    private Map<String, SqlInfo> parseSqlWithCache(Path archive, Path cacheDir, PerfReport perfReport)
+            throws IOException {
+        IBatisParser parser = new IBatisParser();
+        parser.setParseCache(new ParseCache(cacheDir));
+        parser.setPerfReport(perfReport);
+        return parser.parseProject(archive);
+    }
+
+    private static List<String> classNames(List<ParsedClass> classes) {
+        return classes.stream().map(ParsedClass::getClassName).sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * 폴더의 파일을 prefix 아래에 넣은 zip 생성
+     */
+    private static Path zipDirectory(Path directory, Path zipFile, String prefix) throws IOException {
+        try (OutputStream out = Files.newOutputStream(zipFile);
+             ZipOutputStream zip = new ZipOutputStream(out);
+             Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.sorted().collect(Collectors.toList())) {
+                zip.putNextEntry(new ZipEntry(prefix + file.getFileName()));
+                zip.write(Files.readAllBytes(file));
+                zip.closeEntry();
+            }
+        }
+        return zipFile;
+    }
+}
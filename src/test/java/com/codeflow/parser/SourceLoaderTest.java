@@ -0,0 +1,106 @@
+package com.codeflow.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SourceLoader 테스트
+ */
+class SourceLoaderTest {
+
+    private static final String KOREAN_SOURCE = "// 사용자 관리\nclass A { String s = \"한글\"; }\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("문자셋 감지 - UTF-8, UTF-8 BOM, UTF-16 BOM, MS949")
+    void testCharsetDetection() throws Exception {
+        // Given
+        Charset ms949 = Charset.forName("MS949");
+        byte[] utf8 = KOREAN_SOURCE.getBytes(StandardCharsets.UTF_8);
+        byte[] utf8Bom = concat(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}, utf8);
+        byte[] utf16Bom = concat(new byte[]{(byte) 0xFE, (byte) 0xFF}, KOREAN_SOURCE.getBytes(StandardCharsets.UTF_16BE));
+        byte[] legacy = KOREAN_SOURCE.getBytes(ms949);
+        SourceLoader loader = new SourceLoader();
+
+        // When & Then
+        assertLoaded(loader, write("Utf8.java", utf8), StandardCharsets.UTF_8, false);
+        assertLoaded(loader, write("Utf8Bom.java", utf8Bom), StandardCharsets.UTF_8, true);
+        assertLoaded(loader, write("Utf16.java", utf16Bom), StandardCharsets.UTF_16BE, true);
+        assertLoaded(loader, write("Legacy.java", legacy), ms949, false);
+    }
+
+    @Test
+    @DisplayName("대체 문자셋으로도 디코딩 실패 - 대체 문자로 바꾸고 실패 표시")
+    void testDecodeFailure() throws Exception {
+        // Given: UTF-8도 아니고 US-ASCII로도 해석할 수 없는 바이트
+        Path file = write("Broken.java", new byte[]{'c', 'l', 'a', 's', 's', ' ', (byte) 0xC3, 'X'});
+        SourceLoader loader = new SourceLoader();
+        loader.setFallbackCharset(StandardCharsets.US_ASCII);
+
+        // When
+        SourceLoader.Source source = loader.load(file);
+
+        // Then
+        assertTrue(source.isDecodeFailed());
+        assertEquals("class �X", source.getText().toString());
+    }
+
+    @Test
+    @DisplayName("큰 파일도 힙 버퍼로 읽음 (매핑하지 않아 읽은 뒤 바로 삭제 가능), 작은 파일은 버퍼 재사용")
+    void testHeapBuffers() throws Exception {
+        // Given
+        String large = "x".repeat(512 * 1024) + "한글";
+        Path largeFile = write("Large.java", large.getBytes(StandardCharsets.UTF_8));
+        Path smallFile = write("Small.java", KOREAN_SOURCE.getBytes(StandardCharsets.UTF_8));
+        SourceLoader loader = new SourceLoader();
+
+        // When & Then
+        SourceLoader.Source largeSource = loader.load(largeFile);
+        assertFalse(largeSource.getBytes().isDirect(), "매핑/다이렉트 버퍼가 아님");
+        assertEquals(large, largeSource.getText().toString());
+        Files.delete(largeFile);
+
+        SourceLoader.Source small = loader.load(smallFile);
+        assertEquals(KOREAN_SOURCE, small.getText().toString());
+        assertEquals(Files.size(smallFile), small.getSize());
+    }
+
+    @Test
+    @DisplayName("UTF-8 유효성 검사 - 과잉 표현/잘린 문자/서로게이트는 무효")
+    void testUtf8Validation() {
+        assertTrue(SourceLoader.isValidUtf8(ByteBuffer.wrap("abc 한글 😀".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(SourceLoader.isValidUtf8(ByteBuffer.wrap(new byte[]{(byte) 0xC0, (byte) 0xAF})));
+        assertFalse(SourceLoader.isValidUtf8(ByteBuffer.wrap(new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0x80})));
+        assertFalse(SourceLoader.isValidUtf8(ByteBuffer.wrap(new byte[]{'a', (byte) 0xE2, (byte) 0x82})));
+    }
+
+    private void assertLoaded(SourceLoader loader, Path file, Charset expectedCharset, boolean bom) throws Exception {
+        SourceLoader.Source source = loader.load(file);
+        assertEquals(expectedCharset, source.getCharset(), file.toString());
+        assertEquals(bom, source.hasBom(), file.toString());
+        assertFalse(source.isDecodeFailed(), file.toString());
+        assertEquals(KOREAN_SOURCE, source.getText().toString(), file.toString());
+    }
+
+    private Path write(String name, byte[] content) throws Exception {
+        return Files.write(tempDir.resolve(name), content);
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] result = new byte[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
@@ -0,0 +1,152 @@
+package com.codeflow.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SqlBranchAnalyzer 테스트
+ *
+ * 동적 SQL 조건 태그별 분기에서 접근 테이블이 항상/조건부로 나뉘는지 확인합니다.
+ */
+class SqlBranchAnalyzerTest {
+
+    private final SqlBranchAnalyzer analyzer = new SqlBranchAnalyzer();
+
+    @Test
+    @DisplayName("iBatis 조건 태그 - 한 분기에서만 접근하는 테이블은 조건부")
+    void testIBatisConditionalTable() {
+        // Given
+        String query = "UPDATE TB_USER SET name = #name# WHERE id = #id#\n"
+            + "<isEqual property=\"auditYn\" compareValue=\"Y\">\n"
+            + "  ; INSERT INTO TB_AUDIT (user_id) VALUES (#id#)\n"
+            + "</isEqual>";
+
+        // When
+        SqlBranchAnalyzer.SqlBranches branches = analyzer.analyze(query, SqlInfo.SqlType.UPDATE);
+
+        // Then
+        assertTrue(branches.hasConditionalTables());
+        assertEquals(List.of("TB_USER"), branches.getAlwaysTables());
+        assertEquals(List.of("TB_AUDIT"), branches.getConditionalTables());
+        assertEquals("isEqual(auditYn, Y)", branches.getCondition("TB_AUDIT"));
+        assertNull(branches.getCondition("TB_USER"));
+        assertFalse(branches.isTruncated());
+        assertEquals("U", branches.getCrud("TB_USER"));
+        assertEquals("C", branches.getCrud("TB_AUDIT"));
+        assertEquals(SqlInfo.SqlType.INSERT, branches.getSqlType("TB_AUDIT"));
+    }
+
+    @Test
+    @DisplayName("테이블별 CRUD - INSERT INTO → C, UPDATE/MERGE INTO → U, DELETE FROM → D, 그 외 R")
+    void testCrudPerTable() {
+        // Given
+        String query = "INSERT INTO TB_ORDER_BAK SELECT * FROM TB_ORDER o JOIN TB_USER u ON o.user_id = u.id;\n"
+            + "DELETE FROM TB_ORDER WHERE id IN (SELECT id FROM TB_ORDER_BAK);\n"
+            + "MERGE INTO TB_STOCK s USING TB_STOCK_IN i ON (s.id = i.id)"
+            + " WHEN MATCHED THEN UPDATE SET s.qty = s.qty + i.qty;\n"
+            + "DELETE TB_CART WHERE user_id = #userId#";
+
+        // When
+        SqlBranchAnalyzer.SqlBranches branches = analyzer.analyze(query, SqlInfo.SqlType.INSERT);
+
+        // Then
+        assertEquals("CR", branches.getCrud("TB_ORDER_BAK"));
+        assertEquals("RD", branches.getCrud("TB_ORDER"));
+        assertEquals("R", branches.getCrud("TB_USER"));
+        assertEquals("U", branches.getCrud("TB_STOCK"));
+        assertEquals("R", branches.getCrud("TB_STOCK_IN"));
+        assertEquals("D", branches.getCrud("TB_CART"));
+        assertEquals(SqlInfo.SqlType.INSERT, branches.getSqlType("TB_ORDER_BAK"), "문장 타입이 CRUD에 있으면 문장 타입");
+        assertEquals(SqlInfo.SqlType.DELETE, branches.getSqlType("TB_ORDER"));
+        assertEquals(SqlInfo.SqlType.SELECT, branches.getSqlType("TB_USER"));
+        assertEquals(SqlInfo.SqlType.INSERT, branches.getSqlType("TB_UNKNOWN"), "분기에 없는 테이블은 문장 타입");
+    }
+
+    @Test
+    @DisplayName("MyBatis choose - when/otherwise마다 다른 테이블, 테이블 구성이 같은 분기는 합침")
+    void testMyBatisChoose() {
+        // Given
+        String query = "SELECT * FROM\n"
+            + "<choose>\n"
+            + "  <when test=\"type == 'A'\">TB_ORDER_A</when>\n"
+            + "  <when test=\"type == 'B'\">TB_ORDER_B</when>\n"
+            + "  <otherwise>TB_ORDER</otherwise>\n"
+            + "</choose>\n"
+            + "<where><if test=\"id != null\">id = #{id}</if><if test=\"name != null\">AND name = #{name}</if></where>";
+
+        // When
+        SqlBranchAnalyzer.SqlBranches branches = analyzer.analyze(query, SqlInfo.SqlType.SELECT);
+
+        // Then: 3 × 2 × 2 = 12개 분기, 테이블 구성은 3가지
+        assertEquals(12, branches.getVariantCount());
+        assertEquals(3, branches.getBranches().size());
+        assertTrue(branches.getAlwaysTables().isEmpty());
+        assertEquals(List.of("TB_ORDER_A", "TB_ORDER_B", "TB_ORDER"), branches.getConditionalTables());
+        // 테이블과 상관없는 if 조건은 합친 분기에서 빠짐
+        assertEquals("when(type == 'B')", branches.getCondition("TB_ORDER_B"));
+    }
+
+    @Test
+    @DisplayName("조건 태그 없음 / 반복 태그 - 분기 1개, 모든 테이블 항상")
+    void testNoBranches() {
+        // Given
+        String query = "DELETE FROM TB_CART WHERE id IN "
+            + "<foreach collection=\"ids\" item=\"id\" open=\"(\" close=\")\" separator=\",\">#{id}</foreach>";
+
+        // When
+        SqlBranchAnalyzer.SqlBranches branches = analyzer.analyze(query, SqlInfo.SqlType.DELETE);
+
+        // Then
+        assertFalse(branches.hasConditionalTables());
+        assertEquals(List.of("TB_CART"), branches.getAlwaysTables());
+        assertEquals("(조건 없음)", branches.getBranches().get(0).getConditionText());
+    }
+
+    @Test
+    @DisplayName("예산 초과 - 조건 1개씩만 뒤집어 분석 (분기 수 제한), 조건부 테이블은 찾음")
+    void testBudgetExceeded() {
+        // Given: if 20개 (전체 조합 2^20) + 그중 하나에서만 TB_HISTORY 조인
+        StringBuilder query = new StringBuilder("SELECT * FROM TB_MAIN m WHERE 1 = 1\n");
+        for (int i = 0; i < 20; i++) {
+            if (i == 7) {
+                query.append("<if test=\"withHistory\">AND m.id IN (SELECT id FROM TB_HISTORY)</if>\n");
+            } else {
+                query.append("<if test=\"p").append(i).append(" != null\">AND c").append(i).append(" = #{p")
+                    .append(i).append("}</if>\n");
+            }
+        }
+        analyzer.setMaxBranches(32);
+
+        // When
+        SqlBranchAnalyzer.SqlBranches branches = analyzer.analyze(query.toString(), SqlInfo.SqlType.SELECT);
+
+        // Then
+        assertTrue(branches.isTruncated());
+        assertTrue(branches.getVariantCount() <= 32, String.valueOf(branches.getVariantCount()));
+        assertEquals(List.of("TB_MAIN"), branches.getAlwaysTables());
+        assertEquals(List.of("TB_HISTORY"), branches.getConditionalTables());
+    }
+
+    @Test
+    @DisplayName("문장별 캐시 - 같은 SqlInfo는 다시 분석하지 않음")
+    void testCachePerStatement() {
+        // Given
+        SqlInfo sqlInfo = new SqlInfo("Order_SQL.xml", "order", "updateOrder");
+        sqlInfo.setType(SqlInfo.SqlType.UPDATE);
+        sqlInfo.setQuery("UPDATE TB_ORDER SET status = #{status}"
+            + "<if test=\"log\">; INSERT INTO TB_ORDER_LOG VALUES (#{id})</if>");
+
+        // When
+        SqlBranchAnalyzer.SqlBranches first = analyzer.analyze(sqlInfo);
+        SqlBranchAnalyzer.SqlBranches second = analyzer.analyze(sqlInfo);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, analyzer.getCacheHitCount());
+        assertEquals("if(log)", second.getCondition("TB_ORDER_LOG"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.codeflow.parser;
+
+import org.jdom2.input.SAXBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SqlInfo 테스트
+ *
+ * setQuery() 시 쿼리 1회 스캔(SqlLexer)으로 추출한 테이블/파라미터를 확인합니다.
+ */
+class SqlInfoTest {
+
+    @Test
+    @DisplayName("기본 DML - FROM/JOIN/INTO/UPDATE/DELETE 대상 테이블 (대문자, 중복 제외)")
+    void testBasicStatements() {
+        assertEquals(List.of("TB_USER", "TB_DEPT"), tablesOf(
+            "SELECT u.id, d.name FROM tb_user u LEFT OUTER JOIN TB_DEPT d ON u.dept_id = d.id "
+                + "WHERE u.id IN (SELECT user_id FROM TB_USER)"));
+        assertEquals(List.of("TB_ORDER"), tablesOf("INSERT INTO TB_ORDER(id, amount) VALUES (#id#, #amount#)"));
+        assertEquals(List.of("TB_ORDER"), tablesOf("UPDATE TB_ORDER SET amount = #{amount} WHERE id = #{id}"));
+        assertEquals(List.of("TB_ORDER"), tablesOf("DELETE FROM TB_ORDER WHERE id = #{id}"));
+    }
+
+    @Test
+    @DisplayName("스키마 + 쉼표 조인 + 인라인 뷰 - 모든 테이블 추출")
+    void testCommaJoinsAndSubqueries() {
+        assertEquals(List.of("APP.TB_USER", "TB_DEPT", "TB_ROLE", "TB_AUTH"), tablesOf(
+            "SELECT * FROM app.tb_user u, TB_DEPT d,\n"
+                + "  (SELECT role_id FROM TB_ROLE r, TB_AUTH a WHERE r.id = a.role_id) x\n"
+                + "WHERE u.dept_id = d.id, ORDER BY u.id"));
+    }
+
+    @Test
+    @DisplayName("MERGE / CTE / 함수 인자의 FROM / FOR UPDATE - 테이블이 아닌 이름 제외")
+    void testNonTableNames() {
+        assertEquals(List.of("TB_STOCK", "TB_STOCK_TMP"), tablesOf(
+            "MERGE INTO TB_STOCK s USING TB_STOCK_TMP t ON (s.id = t.id) "
+                + "WHEN MATCHED THEN UPDATE SET s.qty = t.qty "
+                + "WHEN NOT MATCHED THEN INSERT (id, qty) VALUES (t.id, t.qty)"));
+        assertEquals(List.of("TB_ORDER"), tablesOf(
+            "WITH recent AS (SELECT * FROM TB_ORDER WHERE reg_dt > SYSDATE - 7) "
+                + "SELECT EXTRACT(YEAR FROM r.reg_dt), TRIM(LEADING '0' FROM r.code) FROM recent r"));
+        assertEquals(List.of("TB_SEQ"), tablesOf("SELECT seq FROM TB_SEQ WHERE id = 1 FOR UPDATE NOWAIT"));
+        assertTrue(tablesOf("SELECT SYSDATE FROM DUAL").isEmpty());
+        assertTrue(tablesOf("SELECT * FROM ${tableName} WHERE id = #{id}").isEmpty());
+    }
+
+    @Test
+    @DisplayName("주석/문자열/동적 태그 - 안의 키워드는 무시, 태그 사이의 테이블은 추출")
+    void testCommentsLiteralsAndTags() {
+        String query = "SELECT * -- FROM TB_COMMENT\n"
+            + "/* JOIN TB_BLOCK */ FROM\n"
+            + "<isEqual property=\"type\" compareValue=\"A\">TB_A</isEqual>\n"
+            + "WHERE name = 'FROM TB_LITERAL' <if test=\"count > 0\">AND cnt = #{count}</if>";
+        SqlInfo sqlInfo = new SqlInfo();
+        sqlInfo.setQuery(query);
+
+        assertEquals(List.of("TB_A"), sqlInfo.getTables());
+        assertEquals(List.of("count"), sqlInfo.getSqlParameters());
+    }
+
+    @Test
+    @DisplayName("공백 없는 비교 연산자 '<' - 태그로 보지 않고 뒤의 테이블도 추출")
+    void testLessThanWithoutSpaces() {
+        assertEquals(List.of("TB_A", "TB_B"), tablesOf(
+            "SELECT * FROM TB_A A WHERE A.END_DT<SYSDATE AND EXISTS (SELECT 1 FROM TB_B B WHERE B.ID = A.ID)"));
+        assertEquals(List.of("TB_A", "TB_B"), tablesOf(
+            "SELECT * FROM TB_A A WHERE A.CNT</*주석*/10 AND A.ID IN (SELECT ID FROM TB_B)"));
+    }
+
+    @Test
+    @DisplayName("CDATA/&lt; 디코딩 결과의 '<' - 태그 사이의 테이블과 함께 모두 추출")
+    void testDecodedLessThanFromXml() throws Exception {
+        // Given: 매퍼 XML의 CDATA와 &lt;는 JDOM이 '<'로 디코딩
+        String xml = "<select id=\"s\">SELECT * FROM TB_A A WHERE <![CDATA[A.AMT<B.LIMIT_AMT]]> "
+            + "AND A.END_DT&lt;SYSDATE AND EXISTS (SELECT 1 FROM TB_B B)</select>";
+        String decoded = new SAXBuilder().build(new StringReader(xml)).getRootElement().getText();
+        assertTrue(decoded.contains("A.AMT<B.LIMIT_AMT") && decoded.contains("A.END_DT<SYSDATE"), decoded);
+
+        // When: IBatisParser처럼 동적 태그가 텍스트로 함께 들어간 쿼리
+        List<String> tables = tablesOf(decoded
+            + " <isNotEmpty property=\"x\">AND A.ID IN (SELECT ID FROM TB_C)</isNotEmpty>");
+
+        // Then
+        assertEquals(List.of("TB_A", "TB_B", "TB_C"), tables);
+    }
+
+    @Test
+    @DisplayName("파라미터 - iBatis/MyBatis 형식, 속성 경로, jdbcType, 문자열 안, 처음 나온 순서")
+    void testParameters() {
+        SqlInfo sqlInfo = new SqlInfo();
+        sqlInfo.setQuery("SELECT * FROM TB_USER WHERE id = #userId# AND type = #type:VARCHAR# "
+            + "AND dept = #{dept.deptId, jdbcType=VARCHAR} AND name LIKE '%${keyword}%' "
+            + "AND grade = $grade$ AND id = #userId# AND rownum <= #{list[0]}");
+
+        assertEquals(List.of("userId", "type", "deptId", "keyword", "grade"), sqlInfo.getSqlParameters());
+        assertEquals("userId, type, deptId, keyword, grade", sqlInfo.getSqlParametersAsString());
+    }
+
+    @Test
+    @DisplayName("이미 설정된 테이블 목록은 유지")
+    void testKeepsExistingTables() {
+        SqlInfo sqlInfo = new SqlInfo();
+        sqlInfo.addTable("TB_FIXED");
+        sqlInfo.setQuery("SELECT * FROM TB_USER WHERE id = #{id}");
+
+        assertEquals(List.of("TB_FIXED"), sqlInfo.getTables());
+        assertEquals(List.of("id"), sqlInfo.getSqlParameters());
+    }
+
+    private static List<String> tablesOf(String query) {
+        SqlInfo sqlInfo = new SqlInfo();
+        sqlInfo.setQuery(query);
+        return sqlInfo.getTables();
+    }
+}
@@ -0,0 +1,177 @@
+package com.codeflow.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SqlTextStore 테스트
+ *
+ * 쿼리 텍스트를 임시 파일로 옮긴 뒤 getQuery()로 같은 텍스트를 읽는지, LRU가 반복 읽기를 줄이는지 확인합니다.
+ */
+class SqlTextStoreTest {
+
+    @Test
+    @DisplayName("옮긴 쿼리 - 같은 텍스트 읽기 (한글, 쓰기 버퍼보다 긴 쿼리 포함), 테이블/파라미터 유지")
+    void testMoveAndRead() throws Exception {
+        // Given
+        SqlTextStore store = SqlTextStore.createTemp();
+        List<SqlInfo> sqlInfos = new ArrayList<>();
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String query = "SELECT /* 사용자 조회 " + i + " */ * FROM TB_USER_" + i + " WHERE id = #{id" + i + "}";
+            if (i == 250) {
+                query += " AND memo = '" + "가".repeat(40_000) + "'";
+            }
+            SqlInfo sqlInfo = new SqlInfo("User_SQL.xml", "user", "select" + i);
+            sqlInfo.setQuery(query);
+            sqlInfos.add(sqlInfo);
+            queries.add(query);
+        }
+
+        // When
+        for (SqlInfo sqlInfo : sqlInfos) {
+            sqlInfo.moveQueryTo(store);
+        }
+
+        // Then: 역순으로 읽어도 원래 텍스트
+        for (int i = sqlInfos.size() - 1; i >= 0; i--) {
+            SqlInfo sqlInfo = sqlInfos.get(i);
+            assertEquals(queries.get(i), sqlInfo.getQuery());
+            assertEquals(List.of("TB_USER_" + i), sqlInfo.getTables());
+            assertEquals(List.of("id" + i), sqlInfo.getSqlParameters());
+        }
+        assertTrue(store.getSize() > 120_000, "한글은 UTF-8 3바이트");
+    }
+
+    @Test
+    @DisplayName("LRU - 최근 읽은 쿼리는 파일에서 다시 읽지 않음, 용량을 넘으면 오래된 것부터 제외")
+    void testRecentCache() throws Exception {
+        // Given: LRU 2개
+        SqlTextStore store = SqlTextStore.createTemp(2);
+        SqlInfo[] sqlInfos = new SqlInfo[3];
+        for (int i = 0; i < sqlInfos.length; i++) {
+            sqlInfos[i] = new SqlInfo();
+            sqlInfos[i].setQuery("SELECT * FROM TB_" + i);
+            sqlInfos[i].moveQueryTo(store);
+        }
+
+        // When
+        sqlInfos[0].getQuery();
+        sqlInfos[0].getQuery();
+        sqlInfos[1].getQuery();
+        sqlInfos[2].getQuery();   // 0번 제외
+        sqlInfos[0].getQuery();
+
+        // Then
+        assertEquals(1, store.getCacheHitCount());
+        assertEquals(4, store.getLoadCount());
+    }
+
+    @Test
+    @DisplayName("setQuery - 옮긴 뒤 다시 설정하면 새 텍스트 사용")
+    void testSetQueryAfterMove() throws Exception {
+        // Given
+        SqlTextStore store = SqlTextStore.createTemp();
+        SqlInfo sqlInfo = new SqlInfo();
+        sqlInfo.setQuery("SELECT * FROM TB_OLD");
+        sqlInfo.moveQueryTo(store);
+
+        // When
+        sqlInfo.setQuery("SELECT * FROM TB_NEW");
+
+        // Then
+        assertEquals("SELECT * FROM TB_NEW", sqlInfo.getQuery());
+    }
+
+    @Test
+    @DisplayName("close - 임시 파일 삭제, 이후 읽기는 실패")
+    void testClose() throws Exception {
+        // Given
+        SqlTextStore store = SqlTextStore.createTemp();
+        SqlInfo sqlInfo = new SqlInfo();
+        sqlInfo.setQuery("SELECT * FROM TB_CLOSE");
+        sqlInfo.moveQueryTo(store);
+        assertTrue(Files.exists(store.getFile()));
+
+        // When
+        store.close();
+        store.close();
+
+        // Then
+        assertFalse(Files.exists(store.getFile()));
+        assertThrows(UncheckedIOException.class, sqlInfo::getQuery);
+    }
+
+    @Test
+    @DisplayName("sweepStale - 잠기지 않은 오래된 파일만 삭제 (사용 중/방금 만든 파일 유지)")
+    void testSweepStale(@TempDir Path tempDir) throws Exception {
+        // Given: 이전 실행이 남긴 파일, 방금 만든 파일, 관련 없는 파일
+        FileTime old = FileTime.fromMillis(System.currentTimeMillis() - 10 * 60_000);
+        Path stale = Files.writeString(tempDir.resolve("cft-sql-1.txt"), "SELECT 1");
+        Files.setLastModifiedTime(stale, old);
+        Path fresh = Files.writeString(tempDir.resolve("cft-sql-2.txt"), "SELECT 2");
+        Path other = Files.writeString(tempDir.resolve("other.txt"), "keep");
+        Files.setLastModifiedTime(other, old);
+
+        // When
+        int deleted = SqlTextStore.sweepStale(tempDir);
+
+        // Then
+        assertEquals(1, deleted);
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(fresh));
+        assertTrue(Files.exists(other));
+    }
+
+    @Test
+    @DisplayName("sweepStale - 이 JVM에서 사용 중인 저장소 파일은 오래되어도 유지")
+    void testSweepKeepsOpenStore() throws Exception {
+        // Given: 만든 지 오래된 것처럼 수정 시각을 되돌린 저장소
+        SqlTextStore store = SqlTextStore.createTemp();
+        SqlInfo sqlInfo = new SqlInfo();
+        sqlInfo.setQuery("SELECT * FROM TB_OPEN");
+        sqlInfo.moveQueryTo(store);
+        sqlInfo.getQuery();
+        Files.setLastModifiedTime(store.getFile(), FileTime.fromMillis(System.currentTimeMillis() - 10 * 60_000));
+
+        // When
+        SqlTextStore.sweepStale(store.getFile().getParent());
+
+        // Then
+        assertTrue(Files.exists(store.getFile()));
+        assertEquals("SELECT * FROM TB_OPEN", sqlInfo.getQuery());
+        store.close();
+    }
+
+    @Test
+    @DisplayName("IBatisParser - 기본은 파싱 후 임시 파일로 옮김, setLazySqlText(false)면 그대로 보관")
+    void testParserMovesQueries(@TempDir Path tempDir) throws Exception {
+        // Given
+        Files.writeString(tempDir.resolve("order.xml"),
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<mapper namespace=\"order\">\n"
+                + "<select id=\"selectOrder\">SELECT * FROM TB_ORDER WHERE id = #{id}</select>\n"
+                + "</mapper>\n");
+        IBatisParser eager = new IBatisParser();
+        eager.setLazySqlText(false);
+
+        // When
+        Map<String, SqlInfo> lazySql = new IBatisParser().parseProject(tempDir);
+        Map<String, SqlInfo> eagerSql = eager.parseProject(tempDir);
+
+        // Then
+        assertEquals(eagerSql.get("order.selectOrder").getQuery(), lazySql.get("order.selectOrder").getQuery());
+        assertEquals(List.of("TB_ORDER"), lazySql.get("order.selectOrder").getTables());
+    }
+}
@@ -0,0 +1,74 @@
+package com.codeflow.perf;
+
+import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JfrEvents 테스트
+ *
+ * 샘플 분석 중 녹화한 JFR 파일에 사용자 정의 이벤트가 기록되는지 확인합니다.
+ */
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("샘플 분석 녹화 - 단계/파일/매퍼/엔드포인트 이벤트 기록")
+    void testPipelineEventsRecorded() throws Exception {
+        // Given
+        Path samplesPath = Paths.get("samples");
+        Path jfrFile = tempDir.resolve("test.jfr");
+
+        // When: PerfReport 비활성 상태에서도 JFR 이벤트는 기록되어야 함
+        Recording recording = JfrEvents.startRecording(jfrFile);
+        try {
+            IBatisParser ibatisParser = new IBatisParser();
+            FlowAnalyzer analyzer = new FlowAnalyzer();
+            analyzer.setSqlInfoMap(ibatisParser.parseProject(samplesPath));
+            analyzer.analyze(samplesPath, new JavaSourceParser().parseProject(samplesPath));
+        } finally {
+            recording.stop();
+            recording.close();
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(jfrFile).stream()
+            .filter(e -> e.getEventType().getName().startsWith("com.codeflow."))
+            .collect(Collectors.toList());
+        Map<String, Long> counts = events.stream()
+            .collect(Collectors.groupingBy(e -> e.getEventType().getName(), Collectors.counting()));
+
+        assertTrue(counts.getOrDefault("com.codeflow.Phase", 0L) >= 6, "단계 이벤트: " + counts);
+        assertTrue(counts.getOrDefault("com.codeflow.JavaFileParse", 0L) > 0, "파일 이벤트: " + counts);
+        assertTrue(counts.getOrDefault("com.codeflow.MapperParse", 0L) > 0, "매퍼 이벤트: " + counts);
+        assertTrue(counts.getOrDefault("com.codeflow.EndpointTrace", 0L) > 0, "엔드포인트 이벤트: " + counts);
+
+        RecordedEvent trace = events.stream()
+            .filter(e -> e.getEventType().getName().equals("com.codeflow.EndpointTrace"))
+            .findFirst().orElseThrow();
+        assertNotNull(trace.getString("url"));
+        assertTrue(trace.getInt("nodeCount") >= 1);
+
+        RecordedEvent mapper = events.stream()
+            .filter(e -> e.getEventType().getName().equals("com.codeflow.MapperParse"))
+            .findFirst().orElseThrow();
+        assertTrue(mapper.getString("path").endsWith(".xml"));
+        assertTrue(mapper.getLong("bytes") > 0);
+    }
+}
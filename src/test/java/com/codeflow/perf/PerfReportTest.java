@@ -0,0 +1,104 @@
+package com.codeflow.perf;
+
+import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PerfReport 테스트
+ *
+ * 단계 측정, 느린 파일 목록, JSON 변환을 테스트합니다.
+ */
+class PerfReportTest {
+
+    @Test
+    @DisplayName("단계 측정 - 개수/바이트/실패 집계")
+    void testPhaseAggregation() {
+        // Given
+        PerfReport report = new PerfReport(2);
+
+        // When
+        try (PerfReport.PhaseTimer phase = report.startPhase(PerfReport.PHASE_JAVA_PARSE)) {
+            report.recordFile(phase, Paths.get("A.java"), 100, 3_000_000, true);
+            report.recordFile(phase, Paths.get("B.java"), 200, 1_000_000, false);
+            report.recordFile(phase, Paths.get("C.java"), 300, 5_000_000, true);
+        }
+        report.finish();
+
+        // Then
+        List<PerfReport.PhaseStats> phases = report.getPhases();
+        assertEquals(1, phases.size());
+        PerfReport.PhaseStats stats = phases.get(0);
+        assertEquals(PerfReport.PHASE_JAVA_PARSE, stats.getName());
+        assertEquals(3, stats.getItemCount());
+        assertEquals(600, stats.getBytes());
+        assertEquals(1, stats.getFailureCount());
+
+        // 느린 파일 2개만 유지 (느린 순)
+        List<String> slowest = report.getSlowestFiles().stream()
+            .map(PerfReport.FileStats::getPath)
+            .collect(Collectors.toList());
+        assertEquals(List.of("C.java", "A.java"), slowest);
+        assertTrue(report.getTotalWallMillis() >= 0);
+    }
+
+    @Test
+    @DisplayName("none() - 아무것도 기록하지 않음")
+    void testDisabledReport() {
+        PerfReport report = PerfReport.none();
+
+        try (PerfReport.PhaseTimer phase = report.startPhase(PerfReport.PHASE_TRACING)) {
+            report.recordFile(phase, Paths.get("A.java"), 100, 1_000, true);
+        }
+        report.finish();
+
+        assertFalse(report.isEnabled());
+        assertTrue(report.getPhases().isEmpty());
+        assertTrue(report.getSlowestFiles().isEmpty());
+    }
+
+    @Test
+    @DisplayName("샘플 분석 - 파서/분석기 단계가 모두 기록되고 JSON으로 변환")
+    void testPipelinePhasesAndJson() throws Exception {
+        // Given
+        Path samplesPath = Paths.get("samples");
+        PerfReport report = new PerfReport();
+
+        // When
+        JavaSourceParser parser = new JavaSourceParser();
+        parser.setPerfReport(report);
+        IBatisParser ibatisParser = new IBatisParser();
+        ibatisParser.setPerfReport(report);
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSqlInfoMap(ibatisParser.parseProject(samplesPath));
+        analyzer.setPerfReport(report);
+        analyzer.analyze(samplesPath, parser.parseProject(samplesPath));
+        report.finish();
+
+        // Then
+        List<String> phaseNames = report.getPhases().stream()
+            .map(PerfReport.PhaseStats::getName)
+            .collect(Collectors.toList());
+        assertTrue(phaseNames.containsAll(List.of(
+            PerfReport.PHASE_JAVA_DISCOVERY, PerfReport.PHASE_JAVA_PARSE,
+            PerfReport.PHASE_XML_DISCOVERY, PerfReport.PHASE_XML_PARSE,
+            PerfReport.PHASE_INDEXING, PerfReport.PHASE_TRACING)), "단계 목록: " + phaseNames);
+
+        JsonObject json = JsonParser.parseString(report.toJson()).getAsJsonObject();
+        assertTrue(json.has("totalWallMillis"));
+        assertTrue(json.has("peakHeapBytes"));
+        assertEquals(report.getPhases().size(), json.getAsJsonArray("phases").size());
+        assertFalse(json.getAsJsonArray("slowestFiles").isEmpty(), "느린 파일 목록이 있어야 함");
+    }
+}
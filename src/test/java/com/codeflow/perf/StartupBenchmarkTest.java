@@ -0,0 +1,58 @@
+package com.codeflow.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StartupBenchmark 테스트
+ *
+ * 새 JVM으로 CLI를 실행해 시간 측정과, 콘솔 분석이 쓰지 않는 기능의 클래스를 읽지 않는지 확인합니다.
+ */
+class StartupBenchmarkTest {
+
+    private final Path workingDir = Paths.get("").toAbsolutePath();
+
+    @Test
+    @DisplayName("측정 - 첫 출력 시간은 종료 시간 이하, 종료 코드 기록")
+    void testMeasure() throws Exception {
+        // When
+        StartupBenchmark.Timing timing = StartupBenchmark.measure(mainCommand("-V"), workingDir);
+
+        // Then
+        assertEquals(0, timing.getExitCode());
+        assertTrue(timing.getFirstOutputMillis() >= 0, timing.toString());
+        assertTrue(timing.getFirstOutputMillis() <= timing.getExitMillis(), timing.toString());
+    }
+
+    @Test
+    @DisplayName("콘솔 분석 - 엑셀(POI), GUI(FlatLaf/Swing), JSON(Gson), JFR 클래스를 읽지 않음")
+    void testConsoleRunLoadsOnlyNeededLibraries() throws Exception {
+        // When
+        List<String> classes = StartupBenchmark.loadedClasses(
+            mainCommand("-p", "samples", "--no-color", "--no-parse-cache"), workingDir);
+        Map<String, Integer> counts = StartupBenchmark.countByLibrary(classes);
+
+        // Then
+        assertTrue(counts.getOrDefault("JavaParser", 0) > 0, counts.toString());
+        assertTrue(counts.getOrDefault("Code Flow Tracer", 0) > 0, counts.toString());
+        for (String unused : List.of("POI", "FlatLaf", "Swing/AWT", "Gson", "JFR")) {
+            assertFalse(counts.containsKey(unused), unused + " 클래스 로드: " + classes.stream()
+                .filter(name -> StartupBenchmark.libraryOf(name).equals(unused)).limit(5).toList());
+        }
+    }
+
+    private List<String> mainCommand(String... args) {
+        List<String> command = new ArrayList<>(List.of(StartupBenchmark.javaExecutable(),
+            "-cp", System.getProperty("java.class.path"), "-Dfile.encoding=UTF-8", "com.codeflow.Main"));
+        command.addAll(List.of(args));
+        return command;
+    }
+}
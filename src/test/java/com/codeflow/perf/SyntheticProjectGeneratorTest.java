@@ -0,0 +1,111 @@
+package com.codeflow.perf;
+
+import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.analyzer.FlowNode;
+import com.codeflow.analyzer.FlowResult;
+import com.codeflow.parser.ClassType;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.SqlInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SyntheticProjectGenerator 테스트
+ *
+ * 생성된 프로젝트를 실제 파서/분석기로 분석하여 관례가 인식되는지 확인합니다.
+ */
+class SyntheticProjectGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("1x 프로젝트 - 파서/분석기가 모든 Controller, SQL을 인식")
+    void testGeneratedProjectIsAnalyzable() throws Exception {
+        // Given
+        SyntheticProjectGenerator.Spec spec = SyntheticProjectGenerator.Spec.scaled(1);
+        SyntheticProjectGenerator.Summary summary = new SyntheticProjectGenerator(spec).generate(tempDir);
+
+        // When
+        List<ParsedClass> classes = new JavaSourceParser().parseProject(tempDir);
+        Map<String, SqlInfo> sqlInfoMap = new IBatisParser().parseProject(tempDir);
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSqlInfoMap(sqlInfoMap);
+        FlowResult result = analyzer.analyze(tempDir, classes);
+
+        // Then
+        assertEquals(summary.getJavaFileCount(), classes.size());
+        assertEquals(summary.getSqlCount(), sqlInfoMap.size());
+        assertEquals(spec.getControllerCount(), result.getControllerCount());
+        assertEquals(spec.getControllerCount() * spec.getEndpointsPerController(), result.getEndpointCount());
+        assertEquals(summary.getEndpointCount(), result.getFlows().size());
+
+        // 모든 SQL에서 테이블이 추출되어야 함
+        for (SqlInfo sqlInfo : sqlInfoMap.values()) {
+            assertFalse(sqlInfo.getTables().isEmpty(), "테이블 누락: " + sqlInfo.getFullSqlId());
+        }
+
+        // 호출 흐름이 Controller → Service → DAO(SQL)까지 이어져야 함
+        long flowsWithSql = result.getFlows().stream().filter(this::reachesSql).count();
+        assertTrue(flowsWithSql > result.getFlows().size() / 2,
+            "SQL까지 도달한 흐름: " + flowsWithSql + " / " + result.getFlows().size());
+        assertEquals(0, result.getUnmappedCallCount(), "모든 호출이 해석되어야 함");
+    }
+
+    @Test
+    @DisplayName("같은 Spec - 항상 같은 파일 생성")
+    void testDeterministic() throws Exception {
+        // Given
+        SyntheticProjectGenerator.Spec spec = SyntheticProjectGenerator.Spec.scaled(1);
+        spec.setControllerCount(3);
+        spec.setServiceCount(4);
+
+        // When
+        new SyntheticProjectGenerator(spec).generate(tempDir.resolve("a"));
+        new SyntheticProjectGenerator(spec).generate(tempDir.resolve("b"));
+
+        // Then
+        Path relative = Path.of("src/main/resources/egovframework/sqlmap/user1/User1_SQL.xml");
+        assertEquals(Files.readString(tempDir.resolve("a").resolve(relative)),
+                     Files.readString(tempDir.resolve("b").resolve(relative)));
+        Path service = Path.of("src/main/java/egovframework/gen/user1biz/service/impl/User1BizServiceImpl.java");
+        assertEquals(Files.readString(tempDir.resolve("a").resolve(service)),
+                     Files.readString(tempDir.resolve("b").resolve(service)));
+    }
+
+    @Test
+    @DisplayName("배율 적용 - 개수는 n배, fan-out/depth는 유지")
+    void testScaledSpec() {
+        SyntheticProjectGenerator.Spec base = SyntheticProjectGenerator.Spec.scaled(1);
+        SyntheticProjectGenerator.Spec x10 = SyntheticProjectGenerator.Spec.scaled(10);
+
+        assertEquals(base.getControllerCount() * 10, x10.getControllerCount());
+        assertEquals(base.getDaoCount() * 10, x10.getDaoCount());
+        assertEquals(base.getMybatisMapperCount() * 10, x10.getMybatisMapperCount());
+        assertEquals(base.getFanOut(), x10.getFanOut());
+        assertEquals(base.getDepth(), x10.getDepth());
+        assertThrows(IllegalArgumentException.class, () -> SyntheticProjectGenerator.Spec.scaled(0));
+    }
+
+    private boolean reachesSql(FlowNode node) {
+        if (node.getClassType() == ClassType.DAO && node.hasSqlInfo()) {
+            return true;
+        }
+        for (FlowNode child : node.getChildren()) {
+            if (reachesSql(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,122 @@
+package com.codeflow.pipeline;
+
+import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.analyzer.FlowResult;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.ParsedClass;
+import com.codeflow.perf.PerfReport;
+import com.codeflow.perf.SyntheticProjectGenerator;
+import com.codeflow.util.CancellationToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AnalysisPipeline 테스트
+ *
+ * 파이프라인 결과가 순차 처리(parseProject + analyze)와 같은지, 큐 측정값이 기록되는지 확인합니다.
+ */
+class AnalysisPipelineTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("샘플 프로젝트 - 파이프라인과 순차 처리 결과 동일")
+    void testSameResultAsSequential() throws Exception {
+        // Given
+        Path samplesPath = Paths.get("samples");
+        FlowResult expected = analyzeSequential(samplesPath);
+
+        // When
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        AnalysisPipeline pipeline = new AnalysisPipeline(new JavaSourceParser(), new IBatisParser(), analyzer);
+        pipeline.setParseThreads(4);
+        FlowResult actual = pipeline.analyze(samplesPath);
+
+        // Then
+        assertEquals(expected.getTotalClasses(), actual.getTotalClasses());
+        assertEquals(expected.getEndpointCount(), actual.getEndpointCount());
+        assertEquals(treeWithoutTime(expected), treeWithoutTime(actual));
+        assertFalse(pipeline.getSqlInfoMap().isEmpty(), "SQL 카탈로그가 함께 만들어져야 함");
+    }
+
+    @Test
+    @DisplayName("큐 용량 1 + 다중 스레드 - 백프레셔가 걸려도 경로순 결과 유지, 큐 측정값 기록")
+    void testBackpressureKeepsOrder() throws Exception {
+        // Given: 파일 수가 큐 용량보다 훨씬 많은 프로젝트
+        new SyntheticProjectGenerator(SyntheticProjectGenerator.Spec.scaled(1)).generate(tempDir);
+        JavaSourceParser sequentialParser = new JavaSourceParser();
+        List<ParsedClass> sequentialClasses = sequentialParser.parseProject(tempDir);
+
+        PerfReport perfReport = new PerfReport();
+        AnalysisPipeline pipeline = new AnalysisPipeline(new JavaSourceParser(), new IBatisParser(), new FlowAnalyzer());
+        pipeline.setReadThreads(2);
+        pipeline.setParseThreads(3);
+        pipeline.setQueueCapacity(1);
+        pipeline.setPerfReport(perfReport);
+
+        // When
+        pipeline.run(tempDir);
+
+        // Then: 같은 클래스가 같은 순서로 인덱싱됨
+        assertEquals(filePaths(sequentialClasses), filePaths(pipeline.getParsedClasses()));
+
+        List<StageQueue.QueueStats> stats = pipeline.getQueueStats();
+        assertEquals(List.of("read", "parse", "index"),
+            stats.stream().map(StageQueue.QueueStats::getName).collect(Collectors.toList()));
+        for (StageQueue.QueueStats queue : stats) {
+            assertTrue(queue.getItemCount() >= sequentialClasses.size(), queue.toString());
+            assertTrue(queue.getMaxDepth() <= 1, "용량을 넘으면 안 됨: " + queue);
+        }
+
+        Map<String, Long> counters = perfReport.getCounters();
+        assertEquals(3L, counters.get("pipeline-parse-threads"));
+        assertTrue(counters.containsKey("pipeline-index-max-depth"), counters.toString());
+        assertTrue(counters.containsKey("pipeline-read-put-blocked-ms"), counters.toString());
+        assertEquals(5L, counters.get("pipeline-reorder-window"), "창 크기 = max(큐 용량, 읽기 + 파싱 스레드)");
+        assertTrue(counters.containsKey("pipeline-reorder-wait-ms"), counters.toString());
+    }
+
+    @Test
+    @DisplayName("취소 토큰 - 파이프라인 중단 후 CancellationException")
+    void testCancellation() {
+        // Given
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        AnalysisPipeline pipeline = new AnalysisPipeline(new JavaSourceParser(), new IBatisParser(), new FlowAnalyzer());
+        pipeline.setCancellationToken(token);
+
+        // When & Then
+        assertThrows(CancellationException.class, () -> pipeline.run(Paths.get("samples")));
+    }
+
+    private FlowResult analyzeSequential(Path projectPath) throws Exception {
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSqlInfoMap(new IBatisParser().parseProject(projectPath));
+        return analyzer.analyze(projectPath, new JavaSourceParser().parseProject(projectPath));
+    }
+
+    /**
+     * 결과 트리 (분석 시간 줄 제외)
+     */
+    private static String treeWithoutTime(FlowResult result) {
+        return result.toTreeString().lines()
+            .filter(line -> !line.startsWith("분석 시간"))
+            .collect(Collectors.joining("\n"));
+    }
+
+    private static List<String> filePaths(List<ParsedClass> classes) {
+        return classes.stream().map(ParsedClass::getFilePath).map(Path::toString).collect(Collectors.toList());
+    }
+}
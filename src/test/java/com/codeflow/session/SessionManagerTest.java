@@ -3,6 +3,8 @@ package com.codeflow.session;
 import com.codeflow.analyzer.FlowNode;
 import com.codeflow.analyzer.FlowResult;
 import com.codeflow.parser.ClassType;
+import com.codeflow.parser.IBatisParser;
+import com.codeflow.parser.SqlInfo;
 import org.junit.jupiter.api.*;
 
 import java.io.IOException;
@@ -229,6 +231,34 @@ class SessionManagerTest {
         assertEquals("UserDAO", loadedChild2.getClassName());
     }
 
+    @Test
+    @DisplayName("임시 파일로 옮긴 SQL 쿼리 - 세션에 텍스트로 저장, 불러온 뒤에도 쿼리 유지")
+    void testLazySqlQuerySerialization() throws Exception {
+        // Given: 파싱 후 쿼리가 임시 파일로 옮겨진 SqlInfo
+        Path mapperDir = Files.createTempDirectory("cft-session-sql");
+        Path mapper = Files.writeString(mapperDir.resolve("user.xml"),
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<mapper namespace=\"user\"><select id=\"selectUser\">SELECT * FROM TB_USER WHERE id = #{id}</select></mapper>");
+        SqlInfo sqlInfo = new IBatisParser().parseProject(mapperDir).get("user.selectUser");
+        Files.delete(mapper);
+        Files.delete(mapperDir);
+
+        FlowNode dao = new FlowNode("UserDAO", "selectUser", ClassType.DAO);
+        dao.setSqlInfo(sqlInfo);
+        FlowResult flowResult = new FlowResult("C:/test");
+        flowResult.addFlow(dao);
+
+        // When: 저장 후 로드
+        sessionManager.saveSession(new SessionData("C:/test", flowResult));
+        SessionData loaded = sessionManager.loadSession();
+
+        // Then
+        FlowNode loadedDao = loaded.getFlowResult().getFlows().get(0);
+        assertEquals("SELECT * FROM TB_USER WHERE id = #{id}", loadedDao.getSqlInfo().getQuery());
+        assertEquals("SELECT * FROM TB_USER WHERE id = #{id}", loadedDao.getSqlQuery());
+        assertEquals(List.of("TB_USER"), loadedDao.getSqlInfo().getTables());
+    }
+
     // ==================== logSizeMB 테스트 ====================
 
     @Test
@@ -0,0 +1,85 @@
+package com.codeflow.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SearchIndex 테스트
+ *
+ * n-gram 인덱스 검색 결과가 단순 contains 검색과 같은지 확인합니다.
+ */
+class SearchIndexTest {
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        index.add("/user/list.do", "UserController", "UserServiceImpl", "TB_USER");
+        index.add("/user/detail.do", "UserController", "UserDAO", "TB_USER", "TB_DEPT");
+        index.add("/order/list.do", "OrderController", "OrderDAO", "TB_ORDER", "TB_CUSTOMER");
+    }
+
+    @Test
+    @DisplayName("빈 검색어 - 전체 항목을 등록 순서대로 반환")
+    void testEmptyQuery() {
+        assertEquals(List.of("/user/list.do", "/user/detail.do", "/order/list.do"), index.search(""));
+        assertEquals(3, index.search(null).size());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("짧은 검색어(3자 이하) - n-gram으로 바로 조회")
+    void testShortQuery() {
+        assertEquals(List.of("/user/list.do", "/order/list.do"), index.search("lis"));
+        assertEquals(List.of("/order/list.do"), index.search("or"));
+        assertTrue(index.search("zz").isEmpty());
+    }
+
+    @Test
+    @DisplayName("긴 검색어 - URL, 클래스명, 테이블명 모두 검색 (대소문자 무시)")
+    void testLongQuery() {
+        assertEquals(List.of("/user/detail.do"), index.search("detail"));
+        assertEquals(List.of("/user/detail.do"), index.search("userdao"));
+        assertEquals(List.of("/order/list.do"), index.search("tb_customer"));
+        assertEquals(List.of("/user/list.do", "/user/detail.do"), index.search("  TB_USER "));
+    }
+
+    @Test
+    @DisplayName("trigram은 모두 있지만 실제로는 포함되지 않는 경우 제외")
+    void testCandidateVerification() {
+        // "userorder"의 trigram은 각각 다른 위치에 존재할 수 있지만 연속 문자열은 없음
+        assertTrue(index.search("userorder").isEmpty());
+        // 검색어 경계를 넘는 문자열은 매칭되지 않음
+        assertTrue(index.search("list.douser").isEmpty());
+    }
+
+    @Test
+    @DisplayName("다수 항목 - contains 검색과 결과 동일")
+    void testMatchesLinearScan() {
+        SearchIndex large = new SearchIndex();
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String url = "/module" + (i % 37) + "/item" + i + ".do";
+            urls.add(url);
+            large.add(url, "Controller" + (i % 11));
+        }
+
+        for (String query : List.of("item1", "module3/", "7.do", "controller10", "m")) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < urls.size(); i++) {
+                String url = urls.get(i);
+                if (url.contains(query) || ("controller" + (i % 11)).contains(query)) {
+                    expected.add(url);
+                }
+            }
+            assertEquals(expected, large.search(query), "검색어: " + query);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.codeflow.util;
+
+import com.codeflow.analyzer.FlowAnalyzer;
+import com.codeflow.analyzer.FlowNode;
+import com.codeflow.analyzer.FlowResult;
+import com.codeflow.parser.JavaSourceParser;
+import com.codeflow.parser.MethodCall;
+import com.codeflow.parser.ParsedClass;
+import com.codeflow.parser.ParsedMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SymbolPool 테스트
+ *
+ * 같은 값의 문자열이 하나의 인스턴스로 합쳐지는지, 파싱 모델과 FlowNode가 풀을 공유하는지 확인합니다.
+ */
+class SymbolPoolTest {
+
+    @Test
+    @DisplayName("같은 값 - 처음 등록한 인스턴스 반환, 중복 제거 횟수 집계")
+    void testIntern() {
+        // Given
+        SymbolPool pool = new SymbolPool();
+        String first = new String("userService");
+        String second = new String("userService");
+
+        // When
+        String pooledFirst = pool.intern(first);
+        String pooledSecond = pool.intern(second);
+
+        // Then
+        assertSame(first, pooledFirst);
+        assertSame(first, pooledSecond);
+        assertNull(pool.intern(null));
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.getHitCount());
+        assertTrue(pool.getSavedBytes() > 0);
+
+        // 같은 인스턴스를 다시 넣으면 중복 제거로 세지 않음
+        pool.intern(first);
+        assertEquals(1, pool.getHitCount());
+    }
+
+    @Test
+    @DisplayName("목록 - 요소를 공유 인스턴스로 교체")
+    void testInternAll() {
+        // Given
+        SymbolPool pool = new SymbolPool();
+        String name = pool.intern("userId");
+        List<String> values = new ArrayList<>(List.of(new String("userId"), "userName"));
+
+        // When
+        pool.internAll(values);
+
+        // Then
+        assertSame(name, values.get(0));
+        assertEquals(List.of("userId", "userName"), values);
+    }
+
+    @Test
+    @DisplayName("none() - 공유하지 않고 받은 인스턴스 그대로 반환")
+    void testNone() {
+        // Given
+        SymbolPool pool = SymbolPool.none();
+        String first = new String("UserDAO");
+        String second = new String("UserDAO");
+
+        // When & Then
+        assertSame(first, pool.intern(first));
+        assertSame(second, pool.intern(second));
+        assertFalse(pool.isEnabled());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    @DisplayName("샘플 프로젝트 - 파싱 모델과 FlowNode의 같은 식별자가 하나의 인스턴스")
+    void testSharedAcrossParseAndAnalysis() throws Exception {
+        // Given
+        Path samplesPath = Paths.get("samples");
+        SymbolPool pool = new SymbolPool();
+        JavaSourceParser parser = new JavaSourceParser();
+        parser.setSymbolPool(pool);
+        FlowAnalyzer analyzer = new FlowAnalyzer();
+        analyzer.setSymbolPool(pool);
+
+        // When
+        List<ParsedClass> classes = parser.parseProject(samplesPath);
+        FlowResult result = analyzer.analyze(samplesPath, classes);
+
+        // Then: 메서드 호출의 scope/메서드명이 값별로 하나의 인스턴스
+        Map<String, String> seen = new HashMap<>();
+        for (ParsedClass clazz : classes) {
+            assertSame(pool.intern(clazz.getClassName()), clazz.getClassName());
+            for (ParsedMethod method : clazz.getMethods()) {
+                for (MethodCall call : method.getMethodCalls()) {
+                    assertSame(seen.computeIfAbsent(call.getScope(), k -> call.getScope()), call.getScope());
+                    assertSame(seen.computeIfAbsent(call.getMethodName(), k -> call.getMethodName()),
+                        call.getMethodName());
+                }
+            }
+        }
+
+        // FlowNode 파일 경로도 같은 클래스면 같은 인스턴스
+        Map<String, String> filePaths = new HashMap<>();
+        for (FlowNode flow : result.getFlows()) {
+            collectFilePaths(flow, filePaths);
+        }
+        assertFalse(filePaths.isEmpty());
+        assertTrue(pool.getHitCount() > 0, pool.toString());
+    }
+
+    private static void collectFilePaths(FlowNode node, Map<String, String> filePaths) {
+        if (node.getFilePath() != null) {
+            assertSame(filePaths.computeIfAbsent(node.getFilePath(), k -> node.getFilePath()), node.getFilePath());
+        }
+        for (FlowNode child : node.getChildren()) {
+            collectFilePaths(child, filePaths);
+        }
+    }
+}